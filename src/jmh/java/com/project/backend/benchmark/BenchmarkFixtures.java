@@ -0,0 +1,126 @@
+package com.project.backend.benchmark;
+
+import com.project.backend.domain.common.recurrence.enums.MonthlyType;
+import com.project.backend.domain.common.recurrence.enums.RecurrenceEndType;
+import com.project.backend.domain.common.recurrence.enums.RecurrenceFrequency;
+import com.project.backend.domain.event.entity.RecurrenceGroup;
+import com.project.backend.domain.event.factory.EndConditionFactory;
+import com.project.backend.domain.event.factory.GeneratorFactory;
+import com.project.backend.domain.event.strategy.endcondition.DefaultEndCondition;
+import com.project.backend.domain.event.strategy.endcondition.EndByCountCondition;
+import com.project.backend.domain.event.strategy.endcondition.EndByDateCondition;
+import com.project.backend.domain.event.strategy.endcondition.NeverEndCondition;
+import com.project.backend.domain.event.strategy.generator.*;
+import com.project.backend.domain.event.strategy.generator.monthlyrule.DayOfMonthRule;
+import com.project.backend.domain.event.strategy.generator.monthlyrule.DayOfWeekRule;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크 공통 준비 객체
+ * - 스프링 컨텍스트 없이 생성기/종료 조건/반복 규칙을 직접 만든다.
+ * - 엔티티 id는 DB가 채우는 값이므로 리플렉션으로 넣는다.
+ */
+final class BenchmarkFixtures {
+
+    // 반복 시작 기준 시간 (월요일 09:00)
+    static final LocalDateTime ANCHOR = LocalDateTime.of(2021, 1, 4, 9, 0);
+    static final LocalDate FAR_END_DATE = LocalDate.of(2100, 12, 31);
+
+    private BenchmarkFixtures() {
+    }
+
+    static GeneratorFactory generatorFactory() {
+        return new GeneratorFactory(
+                new DefaultGenerator(),
+                new DailyGenerator(),
+                new WeeklyGenerator(),
+                new MonthlyGenerator(new DayOfMonthRule(), new DayOfWeekRule()),
+                new YearlyGenerator()
+        );
+    }
+
+    static EndConditionFactory endConditionFactory() {
+        return new EndConditionFactory(
+                new DefaultEndCondition(),
+                new NeverEndCondition(),
+                new EndByDateCondition(),
+                new EndByCountCondition()
+        );
+    }
+
+    static RecurrenceGroup rule(String pattern) {
+        return rule(pattern, RecurrenceEndType.END_BY_DATE, FAR_END_DATE, null);
+    }
+
+    /**
+     * @param pattern DAILY, WEEKLY, MONTHLY_DAY_OF_MONTH, MONTHLY_DAY_OF_WEEK, YEARLY
+     */
+    static RecurrenceGroup rule(String pattern, RecurrenceEndType endType, LocalDate endDate, Integer occurrenceCount) {
+        return switch (pattern) {
+            case "DAILY" -> RecurrenceGroup.create(null, RecurrenceFrequency.DAILY, 1,
+                    null, null, null, null, null, null,
+                    endType, endDate, occurrenceCount, 0);
+            case "WEEKLY" -> RecurrenceGroup.create(null, RecurrenceFrequency.WEEKLY, 1,
+                    "MONDAY,WEDNESDAY,FRIDAY", null, null, null, null, null,
+                    endType, endDate, occurrenceCount, 0);
+            case "MONTHLY_DAY_OF_MONTH" -> RecurrenceGroup.create(null, RecurrenceFrequency.MONTHLY, 1,
+                    null, MonthlyType.DAY_OF_MONTH, "1,15,31", null, null, null,
+                    endType, endDate, occurrenceCount, 0);
+            case "MONTHLY_DAY_OF_WEEK" -> RecurrenceGroup.create(null, RecurrenceFrequency.MONTHLY, 1,
+                    null, MonthlyType.DAY_OF_WEEK, null, 2, "TUESDAY,THURSDAY", null,
+                    endType, endDate, occurrenceCount, 0);
+            case "YEARLY" -> RecurrenceGroup.create(null, RecurrenceFrequency.YEARLY, 1,
+                    null, null, "10,20", null, null, 3,
+                    endType, endDate, occurrenceCount, 0);
+            default -> throw new IllegalArgumentException(pattern);
+        };
+    }
+
+    /**
+     * 엔티티의 id 필드를 채운다. (상위 클래스까지 탐색)
+     */
+    static <T> T withId(T entity, long id) {
+        for (Class<?> type = entity.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField("id");
+                field.setAccessible(true);
+                field.set(entity, id);
+                return entity;
+            } catch (NoSuchFieldException e) {
+                // 상위 클래스에서 계속 탐색
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException("id 필드가 없음: " + entity.getClass());
+    }
+
+    /**
+     * 지정한 메서드만 응답하는 Repository 대역 (그 외 메서드는 UnsupportedOperationException)
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stubRepository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "toString" -> type.getSimpleName() + "Stub";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> {
+                        Function<Object[], Object> answer = answers.get(method.getName());
+                        if (answer == null) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        yield answer.apply(args);
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.backend.benchmark;
+
+import com.project.backend.domain.common.recurrence.enums.RecurrenceEndType;
+import com.project.backend.domain.event.factory.EndConditionFactory;
+import com.project.backend.domain.event.strategy.endcondition.EndCondition;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
+import com.project.backend.global.recurrence.RecurrenceRule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static com.project.backend.benchmark.BenchmarkFixtures.ANCHOR;
+
+/**
+ * 매일 반복하는 일정의 occurrence마다 종료 조건을 평가하는 비용
+ * - raw: 엔티티 규칙 그대로 (END_BY_DATE는 매번 종료 시각 계산)
+ * - compiled: CompiledRecurrenceRule (미리 계산된 종료 시각 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EndConditionBenchmark {
+
+    @Param({"NEVER", "END_BY_DATE", "END_BY_COUNT"})
+    private RecurrenceEndType endType;
+
+    // 1주 ~ 5년
+    @Param({"7", "30", "365", "1825"})
+    private int seriesAgeDays;
+
+    private EndConditionFactory endConditionFactory;
+    private RecurrenceRule rawRule;
+    private RecurrenceRule compiledRule;
+    private LocalDateTime[] times;
+
+    @Setup
+    public void setUp() {
+        endConditionFactory = BenchmarkFixtures.endConditionFactory();
+        rawRule = BenchmarkFixtures.rule(
+                "DAILY",
+                endType,
+                endType == RecurrenceEndType.END_BY_DATE ? ANCHOR.toLocalDate().plusDays(seriesAgeDays) : null,
+                endType == RecurrenceEndType.END_BY_COUNT ? seriesAgeDays : null
+        );
+        compiledRule = CompiledRecurrenceRule.compile(rawRule);
+
+        times = new LocalDateTime[seriesAgeDays];
+        for (int i = 0; i < seriesAgeDays; i++) {
+            times[i] = ANCHOR.plusDays(i);
+        }
+    }
+
+    @Benchmark
+    public void raw(Blackhole bh) {
+        evaluate(rawRule, bh);
+    }
+
+    @Benchmark
+    public void compiled(Blackhole bh) {
+        evaluate(compiledRule, bh);
+    }
+
+    private void evaluate(RecurrenceRule rule, Blackhole bh) {
+        EndCondition endCondition = endConditionFactory.getEndCondition(rule);
+        for (int i = 0; i < times.length; i++) {
+            bh.consume(endCondition.includes(times[i], i + 1, rule));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.backend.benchmark;
+
+import com.project.backend.domain.event.factory.GeneratorFactory;
+import com.project.backend.domain.event.strategy.generator.Generator;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static com.project.backend.benchmark.BenchmarkFixtures.ANCHOR;
+
+/**
+ * 반복 시작 후 seriesAgeDays가 지난 시점까지 이동하는 비용 (반복 주기별)
+ * - nextUntilAge: next()를 순차 호출 (seek 도입 이전 방식)
+ * - seekToAge: Generator.seek()으로 바로 이동
+ * - factoryLookup: GeneratorFactory의 전략 선택
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeneratorBenchmark {
+
+    @Param({"DAILY", "WEEKLY", "MONTHLY_DAY_OF_MONTH", "MONTHLY_DAY_OF_WEEK", "YEARLY"})
+    private String pattern;
+
+    // 1주 ~ 5년
+    @Param({"7", "30", "365", "1825"})
+    private int seriesAgeDays;
+
+    private GeneratorFactory generatorFactory;
+    private Generator generator;
+    private CompiledRecurrenceRule rule;
+    private LocalDateTime target;
+
+    @Setup
+    public void setUp() {
+        generatorFactory = BenchmarkFixtures.generatorFactory();
+        rule = CompiledRecurrenceRule.compile(BenchmarkFixtures.rule(pattern));
+        generator = generatorFactory.getGenerator(rule);
+        target = ANCHOR.plusDays(seriesAgeDays);
+    }
+
+    @Benchmark
+    public void nextUntilAge(Blackhole bh) {
+        LocalDateTime current = ANCHOR;
+        while (current != null && current.isBefore(target)) {
+            current = generator.next(current, rule);
+        }
+        bh.consume(current);
+    }
+
+    @Benchmark
+    public void seekToAge(Blackhole bh) {
+        bh.consume(generator.seek(ANCHOR, target, rule));
+    }
+
+    @Benchmark
+    public Generator factoryLookup() {
+        return generatorFactory.getGenerator(rule);
+    }
+}
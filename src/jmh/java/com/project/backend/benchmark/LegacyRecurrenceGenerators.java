@@ -0,0 +1,108 @@
+package com.project.backend.benchmark;
+
+import com.project.backend.global.recurrence.RecurrenceRule;
+import com.project.backend.global.recurrence.util.RecurrenceUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 컴파일된 규칙 도입 이전의 생성기 (RecurrenceGeneratorBenchmark 비교 기준)
+ * - 이전 WeeklyGenerator / DayOfMonthRule / DayOfWeekRule / YearlyGenerator의 next()를 그대로 옮겼다.
+ * - next() 호출마다 문자열 규칙을 파싱해 리스트로 만든다.
+ */
+final class LegacyRecurrenceGenerators {
+
+    private LegacyRecurrenceGenerators() {
+    }
+
+    static LocalDateTime next(LocalDateTime current, RecurrenceRule rule) {
+        return switch (rule.getFrequency()) {
+            case WEEKLY -> weekly(current, rule);
+            case MONTHLY -> switch (rule.getMonthlyType()) {
+                case DAY_OF_MONTH -> dayOfMonth(current, rule);
+                case DAY_OF_WEEK -> dayOfWeek(current, rule);
+            };
+            case YEARLY -> yearly(current, rule);
+            default -> throw new IllegalArgumentException("지원하지 않는 반복 주기: " + rule.getFrequency());
+        };
+    }
+
+    // =============== private ===================
+
+    private static LocalDateTime weekly(LocalDateTime current, RecurrenceRule rule) {
+        List<DayOfWeek> targetDays = RecurrenceUtils.parseDaysOfWeek(rule.getDaysOfWeek());
+        if (targetDays.isEmpty()) {
+            targetDays = List.of(current.getDayOfWeek());
+        }
+
+        DayOfWeek baseDayOfWeek = current.getDayOfWeek();
+        DayOfWeek nextTargetDay = RecurrenceUtils.findNextTarget(baseDayOfWeek, targetDays);
+        int diff = (nextTargetDay.getValue() - baseDayOfWeek.getValue() + 7) % 7;
+        if (diff == 0) {
+            diff = 7;
+        }
+        return current.plusDays(diff);
+    }
+
+    private static LocalDateTime dayOfMonth(LocalDateTime current, RecurrenceRule rule) {
+        int interval = rule.getIntervalValue();
+        List<Integer> targetDays = RecurrenceUtils.parseDaysOfMonth(rule.getDaysOfMonth());
+        if (targetDays.isEmpty()) {
+            targetDays = List.of(current.getDayOfMonth());
+        }
+
+        int baseDay = current.getDayOfMonth();
+        while (true) {
+            int nextTarget = RecurrenceUtils.findNextTarget(baseDay, targetDays);
+            int lastDay = current.toLocalDate().lengthOfMonth();
+            if (nextTarget > baseDay && nextTarget <= lastDay) {
+                return current.withDayOfMonth(nextTarget);
+            }
+            current = current.plusMonths(interval).withDayOfMonth(1);
+            baseDay = 0;
+        }
+    }
+
+    private static LocalDateTime dayOfWeek(LocalDateTime current, RecurrenceRule rule) {
+        int interval = rule.getIntervalValue();
+        int weekOfMonth = rule.getWeekOfMonth();
+        List<DayOfWeek> targetDays = RecurrenceUtils.parseDaysOfWeek(rule.getDayOfWeekInMonth());
+
+        YearMonth baseMonth = YearMonth.from(current);
+        int step = 1;
+        while (true) {
+            YearMonth targetMonth = baseMonth.plusMonths((long) interval * step);
+            Optional<LocalDate> date =
+                    RecurrenceUtils.calculateMonthlyNthOrdinalWeekday(targetMonth, weekOfMonth, targetDays);
+            if (date.isPresent()) {
+                return LocalDateTime.of(date.get(), current.toLocalTime());
+            }
+            step++;
+        }
+    }
+
+    private static LocalDateTime yearly(LocalDateTime current, RecurrenceRule rule) {
+        int monthOfYear = rule.getMonthOfYear() != null ? rule.getMonthOfYear() : current.getMonthValue();
+        List<Integer> targetDays = RecurrenceUtils.parseDaysOfMonth(rule.getDaysOfMonth());
+        if (targetDays == null || targetDays.isEmpty()) {
+            return current.plusYears(rule.getIntervalValue() != null ? rule.getIntervalValue() : 1);
+        }
+
+        int baseDay = current.getDayOfMonth();
+        int baseMonth = current.getMonthValue();
+        if (baseMonth < monthOfYear) {
+            current = current.withMonth(monthOfYear).withDayOfMonth(1).minusDays(1);
+            baseDay = current.getDayOfMonth();
+        } else if (baseDay == targetDays.getLast()) {
+            current = current.plusYears(rule.getIntervalValue() != null ? rule.getIntervalValue() : 1);
+        }
+
+        int nextTarget = RecurrenceUtils.findNextTarget(baseDay, targetDays);
+        return current.withMonth(monthOfYear).withDayOfMonth(nextTarget);
+    }
+}
@@ -0,0 +1,125 @@
+package com.project.backend.benchmark;
+
+import com.project.backend.domain.common.recurrence.enums.ExceptionType;
+import com.project.backend.domain.event.entity.Event;
+import com.project.backend.domain.event.entity.RecurrenceException;
+import com.project.backend.domain.event.entity.RecurrenceGroup;
+import com.project.backend.domain.event.factory.GeneratorFactory;
+import com.project.backend.domain.event.repository.RecurrenceExceptionRepository;
+import com.project.backend.domain.event.strategy.generator.Generator;
+import com.project.backend.domain.occurrence.service.EventExceptionIndex;
+import com.project.backend.domain.occurrence.service.OccurrenceExpansionEngine;
+import com.project.backend.domain.todo.repository.TodoRecurrenceExceptionRepository;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
+import com.project.backend.global.recurrence.CompiledRecurrenceRuleCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static com.project.backend.benchmark.BenchmarkFixtures.ANCHOR;
+
+/**
+ * 캘린더 한 달 조회 시 반복 일정 확장 비용
+ * - 메모리에 만든 일정/반복 그룹/예외를 OccurrenceExpansionEngine에 넣어 측정 (DB 없음)
+ * - 조회 구간은 반복 시작 후 seriesAgeDays가 지난 시점부터 한 달
+ * - exceptionDensity 비율만큼의 occurrence에 예외(SKIP, 제자리 OVERRIDE, 이동된 OVERRIDE)를 만든다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OccurrenceExpansionBenchmark {
+
+    // 한 회원이 가진 반복 일정 수
+    private static final int SERIES_COUNT = 50;
+
+    @Param({"DAILY", "WEEKLY", "MONTHLY_DAY_OF_MONTH"})
+    private String pattern;
+
+    // 1주 ~ 5년
+    @Param({"7", "30", "365", "1825"})
+    private int seriesAgeDays;
+
+    @Param({"0.0", "0.05", "0.25"})
+    private double exceptionDensity;
+
+    private OccurrenceExpansionEngine engine;
+    private List<Event> events;
+    private List<RecurrenceException> exceptions;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    @Setup
+    public void setUp() {
+        from = ANCHOR.plusDays(seriesAgeDays);
+        to = from.plusMonths(1);
+
+        GeneratorFactory generatorFactory = BenchmarkFixtures.generatorFactory();
+        Random random = new Random(42);
+        events = new ArrayList<>();
+        exceptions = new ArrayList<>();
+
+        for (int i = 0; i < SERIES_COUNT; i++) {
+            RecurrenceGroup group = BenchmarkFixtures.withId(BenchmarkFixtures.rule(pattern), i + 1L);
+            LocalDateTime start = ANCHOR.plusMinutes(i * 10L);
+            Event event = BenchmarkFixtures.withId(
+                    Event.createRecurring(null, "event-" + i, start, start.plusHours(1), 60,
+                            false, group.getFrequency(), group, null),
+                    i + 1L);
+            group.attachEvent(event);
+            events.add(event);
+
+            // 시작부터 조회 구간 끝까지의 occurrence 중 일부에 예외 생성
+            CompiledRecurrenceRule rule = CompiledRecurrenceRule.compile(group);
+            Generator generator = generatorFactory.getGenerator(rule);
+            for (LocalDateTime time = start; time != null && !time.isAfter(to); time = generator.next(time, rule)) {
+                if (random.nextDouble() < exceptionDensity) {
+                    exceptions.add(createException(group, time, random.nextInt(3)));
+                }
+            }
+        }
+
+        RecurrenceExceptionRepository exceptionRepository = BenchmarkFixtures.stubRepository(
+                RecurrenceExceptionRepository.class,
+                Map.of("findAllByRecurrenceGroupIdIn", args -> exceptions));
+        TodoRecurrenceExceptionRepository todoExceptionRepository = BenchmarkFixtures.stubRepository(
+                TodoRecurrenceExceptionRepository.class,
+                Map.of("findByTodoRecurrenceGroupIdIn", args -> List.of()));
+
+        engine = new OccurrenceExpansionEngine(
+                generatorFactory,
+                BenchmarkFixtures.endConditionFactory(),
+                new CompiledRecurrenceRuleCache(),
+                exceptionRepository,
+                todoExceptionRepository
+        );
+    }
+
+    @Benchmark
+    public void expandMonth(Blackhole bh) {
+        engine.expandEvents(events, from, to).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public EventExceptionIndex buildExceptionIndex() {
+        return EventExceptionIndex.of(exceptions);
+    }
+
+    // 0: SKIP, 1: 제자리 OVERRIDE (제목만 변경), 2: 2시간 뒤로 이동된 OVERRIDE
+    private static RecurrenceException createException(RecurrenceGroup group, LocalDateTime time, int kind) {
+        RecurrenceException.RecurrenceExceptionBuilder builder = RecurrenceException.builder()
+                .recurrenceGroup(group)
+                .exceptionDate(time);
+
+        return switch (kind) {
+            case 0 -> builder.exceptionType(ExceptionType.SKIP).build();
+            case 1 -> builder.exceptionType(ExceptionType.OVERRIDE).title("override").build();
+            default -> builder.exceptionType(ExceptionType.OVERRIDE)
+                    .startTime(time.plusHours(2))
+                    .endTime(time.plusHours(3))
+                    .build();
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package com.project.backend.benchmark;
+
+import com.project.backend.domain.suggestion.enums.Category;
+import com.project.backend.domain.suggestion.generation.candidate.SuggestionCandidate;
+import com.project.backend.domain.suggestion.generation.detector.RecurrencePatternDetector;
+import com.project.backend.domain.suggestion.generation.detector.util.RecurrencePreprocessor;
+import com.project.backend.domain.suggestion.generation.detector.vo.RecurrencePreprocessResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.project.backend.benchmark.BenchmarkFixtures.ANCHOR;
+
+/**
+ * 제안 생성 시 같은 제목의 일정 이력으로 반복 패턴을 찾는 비용
+ * - 이력은 seriesAgeDays 동안 pattern 간격으로 만든 뒤 섞어서 전달 (전처리에서 정렬)
+ * - preprocess: RecurrencePreprocessor, detect: RecurrencePatternDetector, pipeline: 둘을 연속 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecurrenceDetectionBenchmark {
+
+    @Param({"INTERVAL_3", "WEEKLY_SET", "MONTHLY_DAY"})
+    private String pattern;
+
+    // 1주 ~ 5년
+    @Param({"7", "30", "365", "1825"})
+    private int seriesAgeDays;
+
+    private RecurrencePatternDetector detector;
+    private List<SuggestionCandidate> candidates;
+    private RecurrencePreprocessResult preprocessed;
+
+    @Setup
+    public void setUp() {
+        detector = new RecurrencePatternDetector();
+        candidates = createHistory(pattern, seriesAgeDays);
+        preprocessed = RecurrencePreprocessor.preprocess(candidates);
+    }
+
+    @Benchmark
+    public RecurrencePreprocessResult preprocess() {
+        return RecurrencePreprocessor.preprocess(candidates);
+    }
+
+    @Benchmark
+    public void detect(Blackhole bh) {
+        bh.consume(detector.detect(preprocessed));
+    }
+
+    @Benchmark
+    public void pipeline(Blackhole bh) {
+        bh.consume(detector.detect(RecurrencePreprocessor.preprocess(candidates)));
+    }
+
+    private static List<SuggestionCandidate> createHistory(String pattern, int seriesAgeDays) {
+        List<SuggestionCandidate> history = new ArrayList<>();
+        LocalDateTime end = ANCHOR.plusDays(seriesAgeDays);
+
+        for (LocalDateTime time = ANCHOR; !time.isAfter(end); time = nextTime(pattern, time)) {
+            history.add(new SuggestionCandidate(
+                    (long) history.size() + 1, "study", null, time, false,
+                    null, null, Category.EVENT, null, null));
+        }
+
+        Collections.shuffle(history, new Random(42));
+        return history;
+    }
+
+    private static LocalDateTime nextTime(String pattern, LocalDateTime time) {
+        return switch (pattern) {
+            case "INTERVAL_3" -> time.plusDays(3);
+            // 월, 목 반복
+            case "WEEKLY_SET" -> time.plusDays(time.getDayOfWeek().getValue() == 1 ? 3 : 4);
+            case "MONTHLY_DAY" -> time.plusMonths(1);
+            default -> throw new IllegalArgumentException(pattern);
+        };
+    }
+}
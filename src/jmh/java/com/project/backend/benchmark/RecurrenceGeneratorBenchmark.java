@@ -0,0 +1,58 @@
+package com.project.backend.benchmark;
+
+import com.project.backend.domain.event.factory.GeneratorFactory;
+import com.project.backend.domain.event.strategy.generator.Generator;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
+import com.project.backend.global.recurrence.RecurrenceRule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컴파일된 규칙 도입 전후 생성기 비교
+ * - legacy: 이전 생성기(LegacyRecurrenceGenerators)로 RecurrenceGroup 엔티티의 문자열 규칙을 매 next() 마다 파싱
+ * - compiled: 현재 생성기에 CompiledRecurrenceRule을 한 번 만들어 재사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecurrenceGeneratorBenchmark {
+
+    // 1년치 일정 전개를 가정
+    private static final int STEPS = 365;
+
+    @Param({"WEEKLY", "MONTHLY_DAY_OF_MONTH", "MONTHLY_DAY_OF_WEEK", "YEARLY"})
+    private String pattern;
+
+    private GeneratorFactory generatorFactory;
+    private RecurrenceRule rule;
+    private CompiledRecurrenceRule compiledRule;
+
+    @Setup
+    public void setUp() {
+        generatorFactory = BenchmarkFixtures.generatorFactory();
+        rule = BenchmarkFixtures.rule(pattern);
+        compiledRule = CompiledRecurrenceRule.compile(rule);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        LocalDateTime current = BenchmarkFixtures.ANCHOR;
+        for (int i = 0; i < STEPS; i++) {
+            current = LegacyRecurrenceGenerators.next(current, rule);
+            bh.consume(current);
+        }
+    }
+
+    @Benchmark
+    public void compiled(Blackhole bh) {
+        Generator generator = generatorFactory.getGenerator(compiledRule);
+        LocalDateTime current = BenchmarkFixtures.ANCHOR;
+        for (int i = 0; i < STEPS; i++) {
+            current = generator.next(current, compiledRule);
+            bh.consume(current);
+        }
+    }
+}
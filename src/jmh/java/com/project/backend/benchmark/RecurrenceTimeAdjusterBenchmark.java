@@ -0,0 +1,79 @@
+package com.project.backend.benchmark;
+
+import com.project.backend.domain.common.recurrence.enums.MonthlyType;
+import com.project.backend.domain.common.recurrence.enums.RecurrenceEndType;
+import com.project.backend.domain.common.recurrence.enums.RecurrenceFrequency;
+import com.project.backend.domain.event.converter.RecurrenceGroupSpec;
+import com.project.backend.domain.event.service.RecurrenceTimeAdjuster;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.project.backend.benchmark.BenchmarkFixtures.ANCHOR;
+
+/**
+ * 1년 동안 매일 다른 시작 시간으로 RecurrenceTimeAdjuster.adjust()를 호출하는 비용 (반복 주기별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecurrenceTimeAdjusterBenchmark {
+
+    private static final int DAYS = 365;
+
+    @Param({"WEEKLY", "MONTHLY_DAY_OF_MONTH", "MONTHLY_DAY_OF_WEEK", "YEARLY"})
+    private String pattern;
+
+    private RecurrenceGroupSpec spec;
+    private LocalDateTime[] starts;
+
+    @Setup
+    public void setUp() {
+        spec = createSpec(pattern);
+        starts = new LocalDateTime[DAYS];
+        for (int i = 0; i < DAYS; i++) {
+            starts[i] = ANCHOR.plusDays(i);
+        }
+    }
+
+    @Benchmark
+    public void adjust(Blackhole bh) {
+        for (LocalDateTime start : starts) {
+            bh.consume(RecurrenceTimeAdjuster.adjust(start, start.plusHours(1), spec));
+        }
+    }
+
+    private static RecurrenceGroupSpec createSpec(String pattern) {
+        RecurrenceGroupSpec.RecurrenceGroupSpecBuilder builder = RecurrenceGroupSpec.builder()
+                .interval(1)
+                .endType(RecurrenceEndType.NEVER);
+
+        return switch (pattern) {
+            case "WEEKLY" -> builder
+                    .frequency(RecurrenceFrequency.WEEKLY)
+                    .daysOfWeek(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY))
+                    .build();
+            case "MONTHLY_DAY_OF_MONTH" -> builder
+                    .frequency(RecurrenceFrequency.MONTHLY)
+                    .monthlyType(MonthlyType.DAY_OF_MONTH)
+                    .daysOfMonth(List.of(1, 15, 31))
+                    .build();
+            case "MONTHLY_DAY_OF_WEEK" -> builder
+                    .frequency(RecurrenceFrequency.MONTHLY)
+                    .monthlyType(MonthlyType.DAY_OF_WEEK)
+                    .weekOfMonth(2)
+                    .dayOfWeekInMonth(List.of(DayOfWeek.TUESDAY))
+                    .build();
+            case "YEARLY" -> builder
+                    .frequency(RecurrenceFrequency.YEARLY)
+                    .monthOfYear(3)
+                    .daysOfMonth(List.of(10, 20))
+                    .build();
+            default -> throw new IllegalArgumentException(pattern);
+        };
+    }
+}
@@ -0,0 +1,250 @@
+package com.project.backend.benchmark;
+
+import com.project.backend.domain.reminder.enums.LifecycleStatus;
+import com.project.backend.domain.setting.enums.ReminderTiming;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리마인더 폴링 조회(ReminderRepository.findVisibleReminders) 지연 시간 (MySQL, 대량 데이터)
+ * - Testcontainers로 MySQL을 띄우고 reminder를 rows개 채운 뒤, 임의 회원/시각으로 폴링 쿼리를 실행한다. (Docker 필요)
+ * - 테이블은 조회에 쓰이는 컬럼과 인덱스만 엔티티(Reminder, Event, Todo, 반복 예외)와 같게 만든다.
+ *   (member 테이블과 외래 키는 만들지 않음, 외래 키 인덱스는 idx_reminder_member_status_time이 대신함)
+ * - 데이터 분포: 회원당 rows / members개, 발생 시간은 1년에 고르게 분산, ACTIVE 80% / INACTIVE 10% / TERMINATED 10%,
+ *   일정/할 일 절반씩, 그중 10%가 반복이고 반복 대상 리마인더의 20%에 예외가 있음
+ * - 실행: ./gradlew jmh -PjmhIncludes=ReminderPollBenchmark
+ *   (데이터 수를 바꿀 때: ./gradlew jmhJar 후 java -jar build/libs/*-jmh.jar ReminderPollBenchmark -p rows=1000000)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReminderPollBenchmark {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final int MINUTES_PER_YEAR = 365 * 24 * 60;
+    private static final int SEED_BATCH = 1_000_000;
+
+    // ReminderRepository.TITLE_PROJECTION_QUERY + findVisibleReminders를 Hibernate가 만드는 SQL과 같은 형태로 작성
+    private static final String POLL_SQL =
+            "SELECT r.id, r.target_type, r.occurrence_time, COALESCE(ex.title, tex.title, r.title) " +
+            "FROM reminder r " +
+            "LEFT JOIN event e ON r.target_type = 'EVENT' AND e.id = r.target_id " +
+            "LEFT JOIN recurrence_exception ex ON ex.recurrence_group_id = e.recurrence_group_id " +
+            "AND ex.exception_date = r.occurrence_time " +
+            "LEFT JOIN todo t ON r.target_type = 'TODO' AND t.id = r.target_id " +
+            "LEFT JOIN todo_recurrence_exception tex ON tex.todo_recurrence_group_id = t.todo_recurrence_group_id " +
+            "AND tex.exception_date = CAST(r.occurrence_time AS DATE) " +
+            "WHERE r.member_id = ? AND r.lifecycle_status = ? " +
+            "AND r.occurrence_time >= ? AND r.occurrence_time <= ? " +
+            "ORDER BY r.occurrence_time";
+
+    @Param({"10000000"})
+    private int rows;
+
+    @Param({"100000"})
+    private int members;
+
+    @Param({"ONE_HOUR", "ONE_DAY"})
+    private ReminderTiming timing;
+
+    private MySQLContainer mysql;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        mysql = new MySQLContainer("mysql:8.0")
+                .withCommand("--innodb-buffer-pool-size=1G");
+        mysql.start();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            createTables(statement);
+            seed(connection, statement);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+
+    @Benchmark
+    public void poll(Session session, Blackhole bh) throws SQLException {
+        session.poll(bh);
+    }
+
+    // 여러 회원이 동시에 폴링하는 경우
+    @Benchmark
+    @Threads(8)
+    public void pollConcurrently(Session session, Blackhole bh) throws SQLException {
+        session.poll(bh);
+    }
+
+    /**
+     * 스레드별 커넥션과 PreparedStatement (커넥션 풀에서 하나를 빌려 쓰는 것과 같음)
+     */
+    @State(Scope.Thread)
+    public static class Session {
+
+        private Connection connection;
+        private PreparedStatement statement;
+        private int members;
+        private int windowMinutes;
+
+        @Setup(Level.Trial)
+        public void open(ReminderPollBenchmark benchmark) throws SQLException {
+            connection = benchmark.connect();
+            statement = connection.prepareStatement(POLL_SQL);
+            members = benchmark.members;
+            windowMinutes = benchmark.timing.getMinutes();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            statement.close();
+            connection.close();
+        }
+
+        private void poll(Blackhole bh) throws SQLException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            LocalDateTime now = BASE.plusMinutes(random.nextInt(MINUTES_PER_YEAR));
+
+            statement.setLong(1, random.nextInt(members) + 1L);
+            statement.setString(2, LifecycleStatus.ACTIVE.name());
+            statement.setTimestamp(3, Timestamp.valueOf(now));
+            statement.setTimestamp(4, Timestamp.valueOf(now.plusMinutes(windowMinutes)));
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    bh.consume(resultSet.getLong(1));
+                    bh.consume(resultSet.getString(4));
+                }
+            }
+        }
+    }
+
+    // =============== private ===================
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+    }
+
+    private static void createTables(Statement statement) throws SQLException {
+        statement.execute("CREATE TABLE seq (n INT PRIMARY KEY)");
+        statement.execute("""
+                CREATE TABLE reminder (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    created_at DATETIME(6) NOT NULL,
+                    updated_at DATETIME(6),
+                    title VARCHAR(255) NOT NULL,
+                    occurrence_time DATETIME(6) NOT NULL,
+                    target_type ENUM('EVENT','TODO') NOT NULL,
+                    target_id BIGINT NOT NULL,
+                    recurrence_exception_id BIGINT,
+                    reminder_status ENUM('PENDING','SHOWN','DISMISSED') NOT NULL,
+                    lifecycle_status ENUM('ACTIVE','INACTIVE','TERMINATED') NOT NULL,
+                    role ENUM('BASE','OVERRIDE') NOT NULL,
+                    member_id BIGINT NOT NULL
+                )""");
+        statement.execute("""
+                CREATE TABLE event (
+                    id BIGINT PRIMARY KEY,
+                    recurrence_group_id BIGINT,
+                    KEY idx_event_recurrence_group (recurrence_group_id)
+                )""");
+        statement.execute("""
+                CREATE TABLE todo (
+                    id BIGINT PRIMARY KEY,
+                    todo_recurrence_group_id BIGINT,
+                    KEY idx_todo_recurrence_group (todo_recurrence_group_id)
+                )""");
+        statement.execute("""
+                CREATE TABLE recurrence_exception (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    recurrence_group_id BIGINT NOT NULL,
+                    exception_date DATETIME(6) NOT NULL,
+                    exception_type VARCHAR(10) NOT NULL,
+                    title VARCHAR(100),
+                    UNIQUE KEY uk_recurrence_exception (recurrence_group_id, exception_date)
+                )""");
+        statement.execute("""
+                CREATE TABLE todo_recurrence_exception (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    todo_recurrence_group_id BIGINT NOT NULL,
+                    exception_date DATE NOT NULL,
+                    exception_type VARCHAR(10) NOT NULL,
+                    title VARCHAR(100),
+                    UNIQUE KEY uk_todo_recurrence_exception (todo_recurrence_group_id, exception_date)
+                )""");
+    }
+
+    // 숫자 테이블(seq)을 만들고 SEED_BATCH개씩 INSERT ... SELECT로 채운 뒤 인덱스를 만든다 (행마다 인덱스를 갱신하는 것보다 빠름)
+    private void seed(Connection connection, Statement statement) throws SQLException {
+        statement.execute("CREATE TABLE digits (d INT PRIMARY KEY)");
+        statement.execute("INSERT INTO digits VALUES (0),(1),(2),(3),(4),(5),(6),(7),(8),(9)");
+
+        StringBuilder number = new StringBuilder("d0.d");
+        StringBuilder from = new StringBuilder("digits d0");
+        long scale = 10;
+        for (int i = 1; scale < rows; i++, scale *= 10) {
+            number.append(" + ").append(scale).append(" * d").append(i).append(".d");
+            from.append(" CROSS JOIN digits d").append(i);
+        }
+        statement.execute("INSERT INTO seq SELECT " + number + " AS n FROM " + from + " HAVING n < " + rows);
+
+        // n이 짝수면 일정, 홀수면 할 일 (대상 id = n / 2 + 1), 10%는 반복 (반복 그룹 id = 대상 id)
+        statement.execute("INSERT INTO event SELECT n DIV 2 + 1, IF(MOD(n DIV 2, 10) = 0, n DIV 2 + 1, NULL) " +
+                "FROM seq WHERE MOD(n, 2) = 0");
+        statement.execute("INSERT INTO todo SELECT n DIV 2 + 1, IF(MOD(n DIV 2, 10) = 0, n DIV 2 + 1, NULL) " +
+                "FROM seq WHERE MOD(n, 2) = 1");
+
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO reminder (created_at, updated_at, title, occurrence_time, target_type, target_id,
+                                      reminder_status, lifecycle_status, role, member_id)
+                SELECT NOW(6), NOW(6), CONCAT('reminder-', n),
+                       TIMESTAMP(?) + INTERVAL MOD(n * 7919, ?) MINUTE,
+                       IF(MOD(n, 2) = 0, 'EVENT', 'TODO'), n DIV 2 + 1,
+                       'PENDING', ELT(MOD(n, 10) + 1, 'ACTIVE', 'ACTIVE', 'ACTIVE', 'ACTIVE', 'ACTIVE',
+                                                       'ACTIVE', 'ACTIVE', 'ACTIVE', 'INACTIVE', 'TERMINATED'),
+                       'BASE', MOD(n, ?) + 1
+                FROM seq WHERE n >= ? AND n < ?""")) {
+            for (int start = 0; start < rows; start += SEED_BATCH) {
+                insert.setTimestamp(1, Timestamp.valueOf(BASE));
+                insert.setInt(2, MINUTES_PER_YEAR);
+                insert.setInt(3, members);
+                insert.setInt(4, start);
+                insert.setInt(5, Math.min(start + SEED_BATCH, rows));
+                insert.executeUpdate();
+            }
+        }
+
+        statement.execute("ALTER TABLE reminder " +
+                "ADD INDEX idx_reminder_member_status_time (member_id, lifecycle_status, occurrence_time), " +
+                "ADD INDEX idx_reminder_target_role (target_type, target_id, role), " +
+                "ADD INDEX idx_reminder_status_time (lifecycle_status, occurrence_time)");
+
+        // 반복 대상 리마인더의 20%에 해당 occurrence 예외 (제목 변경)
+        statement.execute("INSERT INTO recurrence_exception (recurrence_group_id, exception_date, exception_type, title) " +
+                "SELECT e.recurrence_group_id, r.occurrence_time, 'OVERRIDE', CONCAT('exception-', r.id) " +
+                "FROM reminder r JOIN event e ON r.target_type = 'EVENT' AND e.id = r.target_id " +
+                "WHERE e.recurrence_group_id IS NOT NULL AND MOD(r.id, 5) = 0");
+        statement.execute("INSERT INTO todo_recurrence_exception (todo_recurrence_group_id, exception_date, exception_type, title) " +
+                "SELECT t.todo_recurrence_group_id, DATE(r.occurrence_time), 'OVERRIDE', CONCAT('exception-', r.id) " +
+                "FROM reminder r JOIN todo t ON r.target_type = 'TODO' AND t.id = r.target_id " +
+                "WHERE t.todo_recurrence_group_id IS NOT NULL AND MOD(r.id, 5) = 0");
+
+        statement.execute("ANALYZE TABLE reminder, event, todo, recurrence_exception, todo_recurrence_exception");
+    }
+}
@@ -0,0 +1,163 @@
+package com.project.backend.domain.briefing.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.backend.domain.briefing.dto.response.BriefingResDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 회원별 일일 브리핑 스냅샷 캐시 (Redis)
+ * - key: (memberId, 날짜), 값에는 만들 당시의 회원 버전 번호를 함께 저장한다.
+ * - 일정/할 일 변경이 커밋되면 회원 버전 번호를 1 증가시키고, 버전이 다른 스냅샷은 사용하지 않는다.
+ *   (스냅샷을 만드는 도중 커밋된 변경이 있어도 오래된 스냅샷이 남지 않음)
+ * - 버전 번호와 스냅샷은 MGET 한 번으로 함께 조회한다.
+ * - Redis를 사용할 수 없으면 캐시를 거치지 않고 바로 브리핑을 만든다.
+ */
+@Slf4j
+@Component
+public class BriefingSnapshotCache {
+
+    private static final String VERSION_KEY_PREFIX  = "briefing:ver:";
+    private static final String SNAPSHOT_KEY_PREFIX = "briefing:snapshot:";
+    private static final Duration TTL               = Duration.ofDays(2);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+
+    public BriefingSnapshotCache(
+            RedisTemplate<String, Object> redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+
+        this.hitCounter = Counter.builder("briefing.snapshot.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("briefing.snapshot.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("briefing.snapshot.invalidations")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원의 해당 날짜 브리핑 스냅샷을 조회하고, 없거나 오래됐으면 loader로 만들어 저장한다.
+     */
+    public BriefingResDTO.BriefingRes getOrLoad(
+            Long memberId,
+            LocalDate date,
+            Supplier<BriefingResDTO.BriefingRes> loader
+    ) {
+        Lookup lookup = lookup(memberId, date);
+
+        if (lookup != null && lookup.snapshot() != null) {
+            hitCounter.increment();
+            return lookup.snapshot().briefing();
+        }
+
+        missCounter.increment();
+        BriefingResDTO.BriefingRes loaded = loader.get();
+
+        // 버전 번호를 알 수 없으면 오래된 스냅샷을 남길 수 있으므로 저장하지 않음
+        if (lookup != null) {
+            write(memberId, date, new Snapshot(lookup.version(), loaded));
+        }
+        return loaded;
+    }
+
+    /**
+     * 스냅샷이 없거나 오래된 경우에만 loader로 다시 만들어 저장한다.
+     * @return 새로 만들었으면 true
+     */
+    public boolean refresh(Long memberId, LocalDate date, Supplier<BriefingResDTO.BriefingRes> loader) {
+        Lookup lookup = lookup(memberId, date);
+        if (lookup == null || lookup.snapshot() != null) {
+            return false;
+        }
+
+        write(memberId, date, new Snapshot(lookup.version(), loader.get()));
+        return true;
+    }
+
+    /**
+     * 회원들의 버전 번호를 올려 기존 스냅샷을 모두 무효화한다.
+     */
+    public void invalidate(Collection<Long> memberIds) {
+        for (Long memberId : memberIds) {
+            invalidationCounter.increment();
+            try {
+                redisTemplate.opsForValue().increment(versionKey(memberId));
+            } catch (Exception e) {
+                log.error("[BriefingSnapshotCache] 버전 번호 증가 실패 - memberId: {}", memberId, e);
+            }
+        }
+        log.debug("[BriefingSnapshotCache] 무효화 완료 - memberIds: {}", memberIds);
+    }
+
+    // =============== private ===================
+
+    // 현재 버전 번호와, 그 버전으로 만든 스냅샷 (조회에 실패하면 null)
+    private Lookup lookup(Long memberId, LocalDate date) {
+        try {
+            List<Object> values = redisTemplate.opsForValue()
+                    .multiGet(List.of(versionKey(memberId), snapshotKey(memberId, date)));
+            if (values == null) return null;
+
+            Object rawVersion = values.get(0);
+            Object rawSnapshot = values.get(1);
+            long version = rawVersion != null ? Long.parseLong((String) rawVersion) : 0L;
+
+            Snapshot snapshot = rawSnapshot != null
+                    ? objectMapper.readValue((String) rawSnapshot, Snapshot.class)
+                    : null;
+            if (snapshot != null && snapshot.version() != version) {
+                snapshot = null;
+            }
+            return new Lookup(version, snapshot);
+        } catch (Exception e) {
+            log.warn("[BriefingSnapshotCache] 스냅샷 조회 실패, 캐시 미사용 - memberId: {}, date: {}",
+                    memberId, date, e);
+            return null;
+        }
+    }
+
+    private void write(Long memberId, LocalDate date, Snapshot snapshot) {
+        try {
+            redisTemplate.opsForValue()
+                    .set(snapshotKey(memberId, date), objectMapper.writeValueAsString(snapshot), TTL);
+        } catch (Exception e) {
+            log.error("[BriefingSnapshotCache] 스냅샷 저장 실패 - memberId: {}, date: {}", memberId, date, e);
+        }
+    }
+
+    // 버전 번호 키는 만료시키지 않는다. (만료되어 0부터 다시 시작하면 이전 스냅샷의 버전과 겹칠 수 있음)
+    private String versionKey(Long memberId) {
+        return VERSION_KEY_PREFIX + memberId;
+    }
+
+    // briefing:snapshot:{memberId}:2026-01-05
+    private String snapshotKey(Long memberId, LocalDate date) {
+        return SNAPSHOT_KEY_PREFIX + memberId + ":" + date;
+    }
+
+    record Snapshot(long version, BriefingResDTO.BriefingRes briefing) {
+    }
+
+    private record Lookup(long version, Snapshot snapshot) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.backend.domain.briefing.cache;
+
+import com.project.backend.domain.occurrence.vo.CalendarCacheInvalidateEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 일정/할 일 변경(캘린더 캐시 무효화 이벤트)이 커밋되면 해당 회원들의 브리핑 스냅샷을 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BriefingSnapshotInvalidateEventListener {
+
+    private final BriefingSnapshotCache briefingSnapshotCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(CalendarCacheInvalidateEvent event) {
+        briefingSnapshotCache.invalidate(event.memberIds());
+    }
+}
@@ -0,0 +1,118 @@
+package com.project.backend.domain.briefing.scheduler;
+
+import com.project.backend.domain.briefing.cache.BriefingSnapshotCache;
+import com.project.backend.domain.briefing.service.BriefingGenerator;
+import com.project.backend.domain.setting.repository.SettingRepository;
+import com.project.backend.global.scheduler.ShardedJobRunner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 브리핑 시간이 다가오는 회원의 브리핑을 미리 만들어 스냅샷으로 저장
+ * - 10분마다 브리핑 시간이 [지금, 지금 + LEAD_TIME) 안에 있는 회원을 대상으로 한다.
+ *   (한 회원이 여러 번 대상이 되어도 최신 스냅샷이 있으면 다시 만들지 않음)
+ * - 회원 id를 CHUNK_SIZE개씩 나눠 briefingExecutor에서 병렬로 처리한다.
+ * - 여러 인스턴스가 같은 회원의 브리핑을 중복으로 만들지 않도록 주기마다 한 인스턴스에서만 실행한다.
+ */
+@Slf4j
+@Component
+public class BriefingPrecomputeScheduler {
+
+    private static final Duration LEAD_TIME = Duration.ofMinutes(30);
+    private static final int CHUNK_SIZE     = 100;
+    // 10분 cron 주기보다 짧게 잡아 다음 실행 시점에는 lease가 만료되어 있도록 함
+    private static final Duration PERIOD    = Duration.ofMinutes(9);
+
+    private final SettingRepository settingRepository;
+    private final BriefingGenerator briefingGenerator;
+    private final BriefingSnapshotCache briefingSnapshotCache;
+    private final Executor briefingExecutor;
+    private final ShardedJobRunner shardedJobRunner;
+
+    @Value("${spring.scheduler.briefing.enabled:true}")
+    private boolean enabled;
+
+    public BriefingPrecomputeScheduler(
+            SettingRepository settingRepository,
+            BriefingGenerator briefingGenerator,
+            BriefingSnapshotCache briefingSnapshotCache,
+            @Qualifier("briefingExecutor") Executor briefingExecutor,
+            ShardedJobRunner shardedJobRunner
+    ) {
+        this.settingRepository = settingRepository;
+        this.briefingGenerator = briefingGenerator;
+        this.briefingSnapshotCache = briefingSnapshotCache;
+        this.briefingExecutor = briefingExecutor;
+        this.shardedJobRunner = shardedJobRunner;
+    }
+
+    @Scheduled(cron = "0 */10 * * * *")
+    public void precompute() {
+        if (!enabled) {
+            log.debug("브리핑 미리 만들기 스케줄러가 비활성화 상태입니다");
+            return;
+        }
+
+        shardedJobRunner.runOncePerPeriod("briefing-precompute", PERIOD, this::precomputeUpcoming);
+    }
+
+    // =============== private ===================
+
+    private void precomputeUpcoming() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowEnd = now.plus(LEAD_TIME);
+
+        // 자정을 넘기는 구간은 오늘 남은 시간과 내일 새벽으로 나눠 각 날짜의 브리핑을 만든다
+        if (windowEnd.toLocalDate().isAfter(now.toLocalDate())) {
+            precompute(now.toLocalDate(), now.toLocalTime(), LocalTime.MAX);
+            precompute(windowEnd.toLocalDate(), LocalTime.MIDNIGHT, windowEnd.toLocalTime());
+            return;
+        }
+        precompute(now.toLocalDate(), now.toLocalTime(), windowEnd.toLocalTime());
+    }
+
+    private void precompute(LocalDate date, LocalTime from, LocalTime to) {
+        List<Long> memberIds = settingRepository.findBriefingMemberIdsByBriefingTimeBetween(from, to);
+        if (memberIds.isEmpty()) return;
+
+        log.info("[Briefing Scheduler] : 브리핑 미리 만들기 시작 | date = {} | memberCnt = {}", date, memberIds.size());
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < memberIds.size(); i += CHUNK_SIZE) {
+            List<Long> chunk = memberIds.subList(i, Math.min(i + CHUNK_SIZE, memberIds.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> precomputeChunk(chunk, date), briefingExecutor));
+        }
+
+        int built = futures.stream()
+                .mapToInt(CompletableFuture::join)
+                .sum();
+
+        log.info("[Briefing Scheduler] : 브리핑 미리 만들기 종료 | date = {} | built = {}", date, built);
+    }
+
+    private int precomputeChunk(List<Long> memberIds, LocalDate date) {
+        int built = 0;
+        for (Long memberId : memberIds) {
+            try {
+                if (briefingSnapshotCache.refresh(memberId, date, () -> briefingGenerator.generate(memberId, date))) {
+                    built++;
+                }
+            } catch (Exception e) {
+                log.warn("[Briefing Scheduler] : 실패 | memberId = {} | failed = {}", memberId, e.getMessage());
+            }
+        }
+        return built;
+    }
+}
@@ -0,0 +1,119 @@
+package com.project.backend.domain.briefing.service;
+
+import com.project.backend.domain.briefing.converter.BriefingConverter;
+import com.project.backend.domain.briefing.dto.response.BriefingResDTO;
+import com.project.backend.domain.briefing.enums.BriefingReason;
+import com.project.backend.domain.event.entity.Event;
+import com.project.backend.domain.event.entity.RecurrenceException;
+import com.project.backend.domain.event.enums.InviteStatus;
+import com.project.backend.domain.event.repository.EventParticipantRepository;
+import com.project.backend.domain.event.repository.EventRepository;
+import com.project.backend.domain.occurrence.dto.EventOccurrence;
+import com.project.backend.domain.occurrence.dto.TodayOccurrenceResult;
+import com.project.backend.domain.occurrence.dto.TodoOccurrence;
+import com.project.backend.domain.occurrence.service.OccurrenceExpansionEngine;
+import com.project.backend.domain.reminder.enums.TargetType;
+import com.project.backend.domain.todo.entity.Todo;
+import com.project.backend.domain.todo.repository.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 특정 날짜의 브리핑 생성
+ * - 그 날 시작하는 단일 일정/할 일과 그 날까지 진행 중인 반복 그룹만 조회한다. (지난 단일 일정은 조회하지 않음)
+ * - 반복 예외는 OccurrenceExpansionEngine에서 한 번에 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BriefingGenerator {
+
+    private final EventRepository eventRepository;
+    private final EventParticipantRepository eventParticipantRepository;
+    private final TodoRepository todoRepository;
+    private final OccurrenceExpansionEngine occurrenceExpansionEngine;
+
+    /**
+     * 회원의 해당 날짜 브리핑 (AVAILABLE 또는 NOT_EVENT_TODAY)
+     */
+    @Transactional(readOnly = true)
+    public BriefingResDTO.BriefingRes generate(Long memberId, LocalDate date) {
+        List<BriefingResDTO.BriefInfoRes> eventBrief = toEventBriefs(memberId, date);
+        List<BriefingResDTO.BriefInfoRes> todoBrief = toTodoBriefs(memberId, date);
+
+        if (eventBrief.isEmpty() && todoBrief.isEmpty()) {
+            return BriefingConverter.toBriefingRes(date, BriefingReason.NOT_EVENT_TODAY);
+        }
+
+        List<BriefingResDTO.BriefInfoRes> briefInfo =
+                Stream.concat(eventBrief.stream(), todoBrief.stream())
+                        .sorted(Comparator.comparing(BriefingResDTO.BriefInfoRes::startTime))
+                        .toList();
+
+        return BriefingConverter.toBriefingRes(
+                date,
+                BriefingReason.AVAILABLE,
+                briefInfo,
+                eventBrief.size(),
+                todoBrief.size()
+        );
+    }
+
+    // =============== private ===================
+
+    private List<BriefingResDTO.BriefInfoRes> toEventBriefs(Long memberId, LocalDate date) {
+        LocalDateTime startOfDay = date.atStartOfDay();
+        LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
+
+        // 소유 일정 + 공유받은 확정 일정 (id 기준 중복 제거)
+        Map<Long, Event> events = new LinkedHashMap<>();
+        eventRepository.findBriefingCandidates(memberId, date, startOfDay, endOfDay)
+                .forEach(event -> events.putIfAbsent(event.getId(), event));
+        eventParticipantRepository.findSharedBriefingCandidates(
+                        memberId, date, startOfDay, endOfDay, InviteStatus.ACCEPTED)
+                .forEach(event -> events.putIfAbsent(event.getId(), event));
+
+        if (events.isEmpty()) return List.of();
+
+        // 오늘 시작하는 occurrence (일정당 첫 번째)
+        Set<Long> seen = new HashSet<>();
+        return occurrenceExpansionEngine.expandEvents(events.values(), startOfDay, endOfDay)
+                .filter(occurrence -> occurrence.startTime().toLocalDate().isEqual(date))
+                .filter(occurrence -> seen.add(occurrence.event().getId()))
+                .map(this::toTodayOccurrenceResult)
+                .map(BriefingConverter::toBriefInfoRes)
+                .toList();
+    }
+
+    private List<BriefingResDTO.BriefInfoRes> toTodoBriefs(Long memberId, LocalDate date) {
+        List<Todo> todos = todoRepository.findBriefingCandidates(
+                memberId, date, date.plusDays(1).atStartOfDay());
+
+        if (todos.isEmpty()) return List.of();
+
+        // 오늘 날짜의 occurrence (SKIP 제외, OVERRIDE 적용)
+        Set<Long> seen = new HashSet<>();
+        return occurrenceExpansionEngine.expandTodos(todos, date, date)
+                .filter(occurrence -> seen.add(occurrence.todo().getId()))
+                .map(this::toTodayOccurrenceResult)
+                .map(BriefingConverter::toBriefInfoRes)
+                .toList();
+    }
+
+    private TodayOccurrenceResult toTodayOccurrenceResult(EventOccurrence occurrence) {
+        RecurrenceException ex = occurrence.exception();
+        String title = ex != null && ex.getTitle() != null ? ex.getTitle() : occurrence.event().getTitle();
+
+        return TodayOccurrenceResult.of(title, occurrence.startTime().toLocalTime(), TargetType.EVENT);
+    }
+
+    private TodayOccurrenceResult toTodayOccurrenceResult(TodoOccurrence occurrence) {
+        return TodayOccurrenceResult.of(occurrence.title(), occurrence.startTime().toLocalTime(), TargetType.TODO);
+    }
+}
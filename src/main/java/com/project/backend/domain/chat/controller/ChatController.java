@@ -7,11 +7,14 @@ import com.project.backend.global.apiPayload.CustomResponse;
 import com.project.backend.global.security.userdetails.CustomUserDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,4 +28,10 @@ public class ChatController implements ChatDocs {
                                                           @Valid @RequestBody ChatReqDTO.SendReq reqDTO) {
         return CustomResponse.onSuccess("챗봇 응답 성공", chatService.sendMessage(customUserDetails.getId(), reqDTO));
     }
+
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamMessage(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                                       @Valid @RequestBody ChatReqDTO.SendReq reqDTO) {
+        return chatService.streamMessage(customUserDetails.getId(), reqDTO);
+    }
 }
@@ -14,7 +14,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import reactor.core.publisher.Flux;
 
 @Tag(name = "채팅 API", description = "AI 어시스턴트 Calio와의 대화 API")
 public interface ChatDocs {
@@ -178,4 +180,40 @@ public interface ChatDocs {
             @org.springframework.web.bind.annotation.RequestBody
             @Valid ChatReqDTO.SendReq reqDTO
     );
+
+    @Operation(
+            summary = "채팅 메시지 전송 (SSE 스트리밍)",
+            description = """
+                    채팅 메시지 전송 API와 같은 요청을 처리하되, AI 응답 문장을 생성되는 대로 Server-Sent Events로 전송합니다.
+
+                    **이벤트 종류**
+                    - `token` : 응답 문장 조각 (도착 순서대로 이어 붙여 표시)
+                    - `done` : 최종 결과. `data`는 채팅 메시지 전송 API의 `result`와 같은 형식이며, `reply`가 최종 응답 문장입니다.
+                      (일정 변경 결과 안내처럼 `token` 없이 `done`만 오는 경우도 있으므로 최종 표시는 `reply` 기준)
+                    - `error` : 응답 생성 실패. `data`는 `CHAT_502` 실패 응답이며 이후 스트림이 종료됩니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "스트리밍 시작",
+                    content = @Content(mediaType = "text/event-stream")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "메시지가 비어 있음",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CustomResponse.class)
+                    )
+            )
+    })
+    Flux<ServerSentEvent<Object>> streamMessage(
+            @AuthenticationPrincipal
+            @Parameter(hidden = true)
+            CustomUserDetails customUserDetails,
+
+            @org.springframework.web.bind.annotation.RequestBody
+            @Valid ChatReqDTO.SendReq reqDTO
+    );
 }
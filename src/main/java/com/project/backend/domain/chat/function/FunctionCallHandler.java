@@ -21,6 +21,7 @@ import com.project.backend.domain.todo.service.command.TodoCommandService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -44,6 +45,8 @@ public class FunctionCallHandler {
     // ─────────────────────────────────────────────────────
     // 진입점
     // ─────────────────────────────────────────────────────
+    // 채팅 트랜잭션이 있으면 참여하고, 스트리밍 응답처럼 트랜잭션 밖에서 호출되면 함수 실행 단위로 커밋
+    @Transactional
     public ScheduleActionResult handle(String functionName, String argsJson, Long memberId) {
         log.debug("FunctionCallHandler - function: {}, memberId: {}", functionName, memberId);
         Map<String, Object> args = parseArgs(argsJson);
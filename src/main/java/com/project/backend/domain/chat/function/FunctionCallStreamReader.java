@@ -0,0 +1,108 @@
+package com.project.backend.domain.chat.function;
+
+import com.project.backend.domain.nlp.client.FunctionCallDelta;
+import com.project.backend.domain.nlp.client.FunctionCallResponse;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 스트리밍 Function Calling 응답 조각을 모아 FunctionCallResponse로 만든다. (응답 1회당 하나씩 생성)
+ * - 사용자에게 보여줄 문장(일반 텍스트, respondToUser의 message, askForClarification의 question)은
+ *   arguments JSON이 완성되기 전이라도 도착한 만큼 꺼내 반환한다.
+ * - 일정/할 일 CRUD 함수의 arguments는 사용자에게 보여주지 않는다.
+ * - 이스케이프 시퀀스(줄바꿈, 유니코드 등)가 조각 경계에서 잘리면 다음 조각이 올 때까지 기다린다.
+ */
+public class FunctionCallStreamReader {
+
+    private final StringBuilder textContent = new StringBuilder();
+    private final StringBuilder arguments = new StringBuilder();
+    private String toolCallId;
+    private String functionName;
+
+    private Pattern visibleFieldStart;
+    private int position = -1;   // arguments에서 다음에 읽을 위치 (-1이면 아직 필드 값 시작을 찾지 못함)
+    private boolean fieldClosed;
+
+    /**
+     * 조각을 추가하고, 이번 조각으로 새로 보여줄 수 있게 된 문장을 반환 (없으면 빈 문자열)
+     */
+    public String accept(FunctionCallDelta delta) {
+        if (delta.toolCallId() != null) toolCallId = delta.toolCallId();
+        if (delta.functionName() != null) {
+            functionName = delta.functionName();
+            visibleFieldStart = visibleFieldStart(functionName);
+        }
+
+        StringBuilder visible = new StringBuilder();
+        if (delta.textContent() != null) {
+            textContent.append(delta.textContent());
+            visible.append(delta.textContent());
+        }
+        if (delta.argumentsDelta() != null) {
+            arguments.append(delta.argumentsDelta());
+            visible.append(readVisibleField());
+        }
+        return visible.toString();
+    }
+
+    public FunctionCallResponse toResponse() {
+        if (functionName == null) {
+            return new FunctionCallResponse(textContent.toString(), null, null, null);
+        }
+        return new FunctionCallResponse(null, functionName, toolCallId, arguments.toString());
+    }
+
+    // =============== private ===================
+
+    private static Pattern visibleFieldStart(String functionName) {
+        String field = switch (functionName) {
+            case "respondToUser" -> "message";
+            case "askForClarification" -> "question";
+            default -> null;
+        };
+        return field != null ? Pattern.compile("\"" + field + "\"\\s*:\\s*\"") : null;
+    }
+
+    private String readVisibleField() {
+        if (visibleFieldStart == null || fieldClosed) return "";
+        if (position < 0) {
+            Matcher matcher = visibleFieldStart.matcher(arguments);
+            if (!matcher.find()) return "";
+            position = matcher.end();
+        }
+
+        StringBuilder out = new StringBuilder();
+        while (position < arguments.length()) {
+            char c = arguments.charAt(position);
+            if (c == '"') {
+                fieldClosed = true;
+                break;
+            }
+            if (c != '\\') {
+                out.append(c);
+                position++;
+                continue;
+            }
+
+            if (position + 1 >= arguments.length()) break;
+            char escaped = arguments.charAt(position + 1);
+            if (escaped == 'u') {
+                if (position + 6 > arguments.length()) break;
+                out.append((char) Integer.parseInt(arguments.substring(position + 2, position + 6), 16));
+                position += 6;
+                continue;
+            }
+            out.append(switch (escaped) {
+                case 'n' -> '\n';
+                case 't' -> '\t';
+                case 'r' -> '\r';
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                default -> escaped;   // \" \\ \/
+            });
+            position += 2;
+        }
+        return out.toString();
+    }
+}
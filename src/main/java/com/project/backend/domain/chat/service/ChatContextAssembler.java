@@ -0,0 +1,176 @@
+package com.project.backend.domain.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 1차 LLM 호출 전에 필요한 컨텍스트를 병렬로 준비
+ * - 서로 의존하지 않는 단계(MySQL RAG, Qdrant RAG, Redis 대화 기록)를 chatContextExecutor(가상 스레드)에서 동시에 실행한다.
+ *   (1차 LLM 호출까지의 시간이 단계 합계가 아니라 가장 느린 단계 시간이 됨)
+ * - 단계마다 제한 시간을 두고, 실패하거나 제한 시간을 넘기면 해당 컨텍스트 없이 진행한다.
+ *   (제한 시간을 넘긴 단계는 인터럽트해 실행 중인 작업을 취소)
+ * - executor가 가득 차 단계가 거절되면 기다리지 않고 바로 해당 컨텍스트 없이 진행한다.
+ */
+@Slf4j
+@Component
+public class ChatContextAssembler {
+
+    private static final int RECENT_HISTORY_COUNT = 10;
+
+    // 날짜 범위 추출(LLM) + 일정 조회
+    private static final Duration SCHEDULE_TIMEOUT     = Duration.ofSeconds(8);
+    // 임베딩 + Qdrant 검색
+    private static final Duration VECTOR_TIMEOUT       = Duration.ofSeconds(5);
+    // Redis 대화 기록/컨텍스트 조회
+    private static final Duration CONVERSATION_TIMEOUT = Duration.ofSeconds(2);
+
+    private final DateRangeExtractor dateRangeExtractor;
+    private final ScheduleContextBuilder scheduleContextBuilder;
+    private final VectorContextBuilder vectorContextBuilder;
+    private final ConversationHistoryService conversationHistoryService;
+    private final Executor chatContextExecutor;
+
+    private final Timer assembleTimer;
+    private final MeterRegistry meterRegistry;
+
+    public ChatContextAssembler(
+            DateRangeExtractor dateRangeExtractor,
+            ScheduleContextBuilder scheduleContextBuilder,
+            VectorContextBuilder vectorContextBuilder,
+            ConversationHistoryService conversationHistoryService,
+            @Qualifier("chatContextExecutor") Executor chatContextExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.dateRangeExtractor = dateRangeExtractor;
+        this.scheduleContextBuilder = scheduleContextBuilder;
+        this.vectorContextBuilder = vectorContextBuilder;
+        this.conversationHistoryService = conversationHistoryService;
+        this.chatContextExecutor = chatContextExecutor;
+        this.meterRegistry = meterRegistry;
+
+        this.assembleTimer = Timer.builder("chat.context.duration")
+                .register(meterRegistry);
+    }
+
+    public ChatContext assemble(Long memberId, String message) {
+        long startedAt = System.nanoTime();
+
+        // 1. MySQL RAG (날짜 범위 추출 후 해당 기간 일정 조회)
+        CompletableFuture<String> mysqlContext = stage("schedule", SCHEDULE_TIMEOUT, () -> null,
+                () -> dateRangeExtractor.extract(message)
+                        .map(range -> scheduleContextBuilder.build(memberId, range))
+                        .orElse(null));
+
+        // 2. Qdrant RAG
+        CompletableFuture<String> vectorContext = stage("vector", VECTOR_TIMEOUT, () -> null,
+                () -> vectorContextBuilder.build(memberId, message));
+
+        // 3. Redis 대화 기록 (요약본 + 최근 10개) 및 대기/최근 작업 컨텍스트
+        CompletableFuture<Map<String, String>> pendingCtx = stage("pending", CONVERSATION_TIMEOUT, Map::of,
+                () -> conversationHistoryService.getPendingContext(memberId));
+        CompletableFuture<Map<String, String>> lastActionCtx = stage("last-action", CONVERSATION_TIMEOUT, Map::of,
+                () -> conversationHistoryService.getLastActionContext(memberId));
+        CompletableFuture<List<Map<String, Object>>> history = stage("history", CONVERSATION_TIMEOUT, ArrayList::new,
+                () -> buildHistoryWithSummary(memberId));
+
+        ChatContext context = new ChatContext(
+                mergeContexts(mysqlContext.join(), vectorContext.join()),
+                pendingCtx.join(),
+                lastActionCtx.join(),
+                history.join()
+        );
+
+        assembleTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return context;
+    }
+
+    // =============== private ===================
+
+    private <T> CompletableFuture<T> stage(String name, Duration timeout, Supplier<T> fallback, Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // CompletableFuture.cancel은 실행 중인 작업을 멈추지 않으므로 FutureTask로 실행해 인터럽트할 수 있게 함
+        FutureTask<Void> running = new FutureTask<>(() -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }, null);
+
+        try {
+            chatContextExecutor.execute(running);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(fallback(name, fallback, e));
+        }
+
+        return result
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((value, e) -> {
+                    if (e != null) running.cancel(true);
+                })
+                .exceptionally(e -> fallback(name, fallback, e));
+    }
+
+    private <T> T fallback(String name, Supplier<T> fallback, Throwable cause) {
+        Counter.builder("chat.context.fallbacks")
+                .tag("stage", name)
+                .register(meterRegistry)
+                .increment();
+        log.warn("[ChatContext] {} 단계 실패, 해당 컨텍스트 없이 진행: {}", name, cause.toString());
+        return fallback.get();
+    }
+
+    // 요약본 + 최근 N개 구조로 히스토리 구성
+    // 요약본이 있으면 system 메시지로 첫 번째 원소에 추가해 LLM이 높은 우선순위로 처리하도록 함
+    private List<Map<String, Object>> buildHistoryWithSummary(Long memberId) {
+        List<Map<String, Object>> result = new ArrayList<>();
+
+        String summary = conversationHistoryService.getSummary(memberId);
+        if (summary != null && !summary.isBlank()) {
+            Map<String, Object> summaryMsg = new HashMap<>();
+            summaryMsg.put("role", "system");
+            summaryMsg.put("content", "[이전 대화 요약]\n" + summary);
+            result.add(summaryMsg);
+        }
+
+        for (Map<String, String> h : conversationHistoryService.getRecentHistory(memberId, RECENT_HISTORY_COUNT)) {
+            Map<String, Object> m = new HashMap<>();
+            m.put("role", h.get("role"));
+            m.put("content", h.get("content"));
+            result.add(m);
+        }
+        return result;
+    }
+
+    private String mergeContexts(String mysqlContext, String vectorContext) {
+        if (mysqlContext == null && vectorContext == null) return null;
+        if (mysqlContext == null) return "[의미 유사 일정]\n" + vectorContext;
+        if (vectorContext == null) return mysqlContext;
+        return mysqlContext + "\n\n[의미 유사 일정]\n" + vectorContext;
+    }
+
+    /**
+     * @param scheduleContext MySQL/Qdrant RAG를 합친 일정 컨텍스트 (없으면 null)
+     * @param history         요약본 + 최근 대화 (이후 메시지를 추가하므로 수정 가능한 리스트)
+     */
+    public record ChatContext(
+            String scheduleContext,
+            Map<String, String> pendingCtx,
+            Map<String, String> lastActionCtx,
+            List<Map<String, Object>> history
+    ) {
+    }
+}
@@ -2,7 +2,11 @@ package com.project.backend.domain.chat.service;
 
 import com.project.backend.domain.chat.dto.request.ChatReqDTO;
 import com.project.backend.domain.chat.dto.response.ChatResDTO;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
 
 public interface ChatService {
     ChatResDTO.SendRes sendMessage(Long memberId, ChatReqDTO.SendReq reqDTO);
+
+    Flux<ServerSentEvent<Object>> streamMessage(Long memberId, ChatReqDTO.SendReq reqDTO);
 }
@@ -9,18 +9,27 @@ import com.project.backend.domain.chat.enums.ScheduleType;
 import com.project.backend.domain.chat.exception.ChatErrorCode;
 import com.project.backend.domain.chat.exception.ChatException;
 import com.project.backend.domain.chat.function.FunctionCallHandler;
+import com.project.backend.domain.chat.function.FunctionCallStreamReader;
 import com.project.backend.domain.chat.function.FunctionDefinitionBuilder;
 import com.project.backend.domain.chat.function.ScheduleActionResult;
 import com.project.backend.domain.nlp.client.FunctionCallResponse;
 import com.project.backend.domain.nlp.client.LlmClient;
+import com.project.backend.global.apiPayload.CustomResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 import java.util.*;
+import java.util.concurrent.Callable;
 
 @Slf4j
 @Service
@@ -29,15 +38,12 @@ import java.util.*;
 public class ChatServiceImpl implements ChatService {
 
     private static final int HISTORY_THRESHOLD = 20;
-    private static final int RECENT_HISTORY_COUNT = 10;
 
     private final LlmClient llmClient;
     private final ChatPromptTemplate chatPromptTemplate;
     private final ConversationHistoryService conversationHistoryService;
     private final ConversationSummaryService conversationSummaryService;
-    private final DateRangeExtractor dateRangeExtractor;
-    private final ScheduleContextBuilder scheduleContextBuilder;
-    private final VectorContextBuilder vectorContextBuilder;
+    private final ChatContextAssembler chatContextAssembler;
     private final FunctionDefinitionBuilder functionDefinitionBuilder;
     private final FunctionCallHandler functionCallHandler;
     private final ObjectMapper objectMapper;
@@ -47,125 +53,176 @@ public class ChatServiceImpl implements ChatService {
         try {
             String message = reqDTO.message();
 
-            // 1. MySQL RAG
-            String mysqlContext = dateRangeExtractor.extract(message)
-                    .map(range -> scheduleContextBuilder.build(memberId, range))
-                    .orElse(null);
-
-            // 2. Qdrant RAG (실패해도 채팅 동작 유지)
-            String vectorContext = null;
-            try {
-                vectorContext = vectorContextBuilder.build(memberId, message);
-            } catch (Exception e) {
-                log.warn("Qdrant RAG 실패, MySQL RAG만으로 진행: {}", e.getMessage());
+            // 1~3. MySQL RAG, Qdrant RAG, 히스토리(요약본 + 최근 10개)를 병렬로 준비 (실패한 단계는 제외하고 진행)
+            ChatTurn turn = prepareTurn(memberId, message);
+
+            // 4. 1차 LLM 호출 (Function Calling)
+            FunctionCallResponse llmRes = llmClient.chatWithFunctions(turn.systemPrompt(), turn.messages(), turn.tools());
+
+            // 5. 응답 분기 (CRUD 함수 호출이면 실행 후 2차 LLM 호출로 응답 문장 생성)
+            if (!llmRes.isFunctionCall()) {
+                return completeTurn(memberId, message, llmRes, null);
             }
+            ScheduleActionResult result = applyFunctionCall(memberId, turn, llmRes);
+            FunctionCallResponse secondRes = llmClient.chatWithFunctions(turn.systemPrompt(), turn.messages(), turn.tools());
+            return completeTurn(memberId, message, secondRes, result);
 
-            Map<String, String> pendingCtx    = conversationHistoryService.getPendingContext(memberId);
-            Map<String, String> lastActionCtx = conversationHistoryService.getLastActionContext(memberId);
-            String scheduleContext = mergeContexts(mysqlContext, vectorContext);
-            String systemPrompt    = chatPromptTemplate.getSystemPrompt(scheduleContext, pendingCtx, lastActionCtx);
-            List<Map<String, Object>> tools = functionDefinitionBuilder.build();
+        } catch (Exception e) {
+            log.error("챗봇 응답 생성 실패", e);
+            throw new ChatException(ChatErrorCode.CHAT_API_ERROR);
+        }
+    }
 
-            // 3. 요약본 + 최근 10개 구조로 히스토리 구성
-            List<Map<String, Object>> messages = buildHistoryWithSummary(memberId);
-            String llmMessage = chatPromptTemplate.replaceRelativeDates(message);
-            messages.add(Map.of("role", "user", "content", llmMessage));
+    /**
+     * sendMessage와 같은 처리를 LLM 스트리밍으로 수행
+     * - 응답 문장은 token 이벤트로 도착하는 대로 전송하고, 마지막에 done 이벤트로 SendRes를 전송한다.
+     * - LLM 응답을 기다리는 동안 스레드를 점유하지 않고, DB/Redis 작업만 boundedElastic에서 실행한다.
+     * - 전체 요청을 하나의 트랜잭션으로 묶지 않으므로 일정/할 일 변경은 FunctionCallHandler의 트랜잭션에서 커밋된다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<ServerSentEvent<Object>> streamMessage(Long memberId, ChatReqDTO.SendReq reqDTO) {
+        String message = reqDTO.message();
+
+        return blocking(() -> prepareTurn(memberId, message))
+                .flatMapMany(turn -> {
+                    FunctionCallStreamReader first = new FunctionCallStreamReader();
+                    return streamTokens(turn, first).concatWith(Flux.defer(() -> {
+                        FunctionCallResponse llmRes = first.toResponse();
+                        if (!llmRes.isFunctionCall()) {
+                            return blocking(() -> completeTurn(memberId, message, llmRes, null)).map(this::doneEvent).flux();
+                        }
 
-            // 4. 1차 LLM 호출 (Function Calling)
-            FunctionCallResponse llmRes = llmClient.chatWithFunctions(systemPrompt, messages, tools);
+                        return blocking(() -> applyFunctionCall(memberId, turn, llmRes))
+                                .flatMapMany(result -> {
+                                    FunctionCallStreamReader second = new FunctionCallStreamReader();
+                                    return streamTokens(turn, second).concatWith(
+                                            blocking(() -> completeTurn(memberId, message, second.toResponse(), result))
+                                                    .map(this::doneEvent));
+                                });
+                    }));
+                })
+                .onErrorResume(e -> {
+                    log.error("챗봇 스트리밍 응답 생성 실패", e);
+                    ChatErrorCode code = ChatErrorCode.CHAT_API_ERROR;
+                    return Flux.just(ServerSentEvent.<Object>builder(CustomResponse.onFailure(code.getCode(), code.getMessage()))
+                            .event("error")
+                            .build());
+                });
+    }
 
-            // 5. 응답 분기
-            String reply;
-            ActionType action         = ActionType.NONE;
-            Long scheduleId           = null;
-            Long recurrenceGroupId    = null;
-            ScheduleType scheduleType = null;
+    // =============== private ===================
 
-            if (llmRes.isClarification()) {
-                reply  = parseClarificationQuestion(llmRes.functionArguments());
-                action = ActionType.CLARIFYING;
-                savePendingContextIfPresent(memberId, llmRes.functionArguments());
+    private ChatTurn prepareTurn(Long memberId, String message) {
+        ChatContextAssembler.ChatContext context = chatContextAssembler.assemble(memberId, message);
 
-            } else {
-                conversationHistoryService.clearPendingContext(memberId);
-
-                if (llmRes.isFunctionCall()) {
-                    ScheduleActionResult result = functionCallHandler.handle(
-                            llmRes.functionName(), llmRes.functionArguments(), memberId);
-
-                    messages.add(buildAssistantToolCallMessage(llmRes));
-                    messages.add(Map.of(
-                            "role", "tool",
-                            "tool_call_id", llmRes.toolCallId(),
-                            "content", result.summary()
-                    ));
-
-                    FunctionCallResponse secondRes = llmClient.chatWithFunctions(systemPrompt, messages, tools);
-                    reply = secondRes.isRespondToUser()
-                            ? parseRespondToUserMessage(secondRes.functionArguments())
-                            : result.summary();
-
-                    action            = result.action();
-                    scheduleId        = result.scheduleId();
-                    recurrenceGroupId = result.recurrenceGroupId();
-                    scheduleType      = result.scheduleType();
-
-                    if (result.scheduleId() != null && result.scheduleType() != null) {
-                        if (result.action() == ActionType.CLARIFYING) {
-                            conversationHistoryService.savePendingContext(
-                                    memberId, result.scheduleId(), result.scheduleType().name());
-                        } else {
-                            conversationHistoryService.saveLastActionContext(
-                                    memberId, result.scheduleId(), result.scheduleType().name());
-                        }
-                    }
+        String systemPrompt = chatPromptTemplate.getSystemPrompt(
+                context.scheduleContext(), context.pendingCtx(), context.lastActionCtx());
+        List<Map<String, Object>> tools = functionDefinitionBuilder.build();
 
-                } else if (llmRes.isRespondToUser()) {
-                    reply = parseRespondToUserMessage(llmRes.functionArguments());
+        List<Map<String, Object>> messages = context.history();
+        String llmMessage = chatPromptTemplate.replaceRelativeDates(message);
+        messages.add(Map.of("role", "user", "content", llmMessage));
 
-                } else {
-                    reply = llmRes.textContent();
-                }
-            }
+        return new ChatTurn(systemPrompt, messages, tools);
+    }
 
-            // 6. Redis 히스토리 저장
-            conversationHistoryService.saveMessage(memberId, "user", message);
-            if (action != ActionType.CLARIFYING) {
-                conversationHistoryService.saveMessage(memberId, "assistant", reply);
-            }
+    // CRUD 함수 실행 후 결과를 2차 호출용 메시지로 추가하고, 처리한 일정을 다음 턴 컨텍스트로 저장
+    private ScheduleActionResult applyFunctionCall(Long memberId, ChatTurn turn, FunctionCallResponse llmRes) {
+        conversationHistoryService.clearPendingContext(memberId);
 
-            // 7. 임계값 초과 시 요약 트리거 (JPA 커밋 후 비동기 실행)
-            if (conversationHistoryService.getHistorySize(memberId) > HISTORY_THRESHOLD) {
-                afterCommit(() -> conversationSummaryService.triggerSummaryAsync(memberId));
-            }
+        ScheduleActionResult result = functionCallHandler.handle(
+                llmRes.functionName(), llmRes.functionArguments(), memberId);
 
-            return ChatConverter.toSendResDTO(reply, action, scheduleId, recurrenceGroupId, scheduleType);
+        turn.messages().add(buildAssistantToolCallMessage(llmRes));
+        turn.messages().add(Map.of(
+                "role", "tool",
+                "tool_call_id", llmRes.toolCallId(),
+                "content", result.summary()
+        ));
 
-        } catch (Exception e) {
-            log.error("챗봇 응답 생성 실패", e);
-            throw new ChatException(ChatErrorCode.CHAT_API_ERROR);
+        if (result.scheduleId() != null && result.scheduleType() != null) {
+            if (result.action() == ActionType.CLARIFYING) {
+                conversationHistoryService.savePendingContext(
+                        memberId, result.scheduleId(), result.scheduleType().name());
+            } else {
+                conversationHistoryService.saveLastActionContext(
+                        memberId, result.scheduleId(), result.scheduleType().name());
+            }
         }
+        return result;
     }
 
-    // 요약본 + 최근 N개 구조로 히스토리 구성
-    // 요약본이 있으면 system 메시지로 첫 번째 원소에 추가해 LLM이 높은 우선순위로 처리하도록 함
-    private List<Map<String, Object>> buildHistoryWithSummary(Long memberId) {
-        List<Map<String, Object>> result = new ArrayList<>();
-
-        String summary = conversationHistoryService.getSummary(memberId);
-        if (summary != null && !summary.isBlank()) {
-            Map<String, Object> summaryMsg = new HashMap<>();
-            summaryMsg.put("role", "system");
-            summaryMsg.put("content", "[이전 대화 요약]\n" + summary);
-            result.add(summaryMsg);
+    /**
+     * 최종 LLM 응답으로 답변을 만들고 히스토리 저장
+     * @param result CRUD 함수를 실행했으면 그 결과 (아니면 null)
+     */
+    private ChatResDTO.SendRes completeTurn(Long memberId, String message,
+                                            FunctionCallResponse llmRes, ScheduleActionResult result) {
+        String reply;
+        ActionType action         = ActionType.NONE;
+        Long scheduleId           = null;
+        Long recurrenceGroupId    = null;
+        ScheduleType scheduleType = null;
+
+        if (result != null) {
+            reply = llmRes.isRespondToUser()
+                    ? parseRespondToUserMessage(llmRes.functionArguments())
+                    : result.summary();
+
+            action            = result.action();
+            scheduleId        = result.scheduleId();
+            recurrenceGroupId = result.recurrenceGroupId();
+            scheduleType      = result.scheduleType();
+
+        } else if (llmRes.isClarification()) {
+            reply  = parseClarificationQuestion(llmRes.functionArguments());
+            action = ActionType.CLARIFYING;
+            savePendingContextIfPresent(memberId, llmRes.functionArguments());
+
+        } else {
+            conversationHistoryService.clearPendingContext(memberId);
+            reply = llmRes.isRespondToUser()
+                    ? parseRespondToUserMessage(llmRes.functionArguments())
+                    : llmRes.textContent();
         }
 
-        result.addAll(convertHistory(
-                conversationHistoryService.getRecentHistory(memberId, RECENT_HISTORY_COUNT)));
-        return result;
+        // 6. Redis 히스토리 저장
+        conversationHistoryService.saveMessage(memberId, "user", message);
+        if (action != ActionType.CLARIFYING) {
+            conversationHistoryService.saveMessage(memberId, "assistant", reply);
+        }
+
+        // 7. 임계값 초과 시 요약 트리거 (JPA 커밋 후 비동기 실행)
+        if (conversationHistoryService.getHistorySize(memberId) > HISTORY_THRESHOLD) {
+            afterCommit(() -> conversationSummaryService.triggerSummaryAsync(memberId));
+        }
+
+        return ChatConverter.toSendResDTO(reply, action, scheduleId, recurrenceGroupId, scheduleType);
+    }
+
+    private Flux<ServerSentEvent<Object>> streamTokens(ChatTurn turn, FunctionCallStreamReader reader) {
+        return llmClient.streamWithFunctions(turn.systemPrompt(), turn.messages(), turn.tools())
+                .map(reader::accept)
+                .filter(token -> !token.isEmpty())
+                .map(token -> ServerSentEvent.<Object>builder(token).event("token").build());
+    }
+
+    private ServerSentEvent<Object> doneEvent(ChatResDTO.SendRes res) {
+        return ServerSentEvent.<Object>builder(res).event("done").build();
+    }
+
+    // DB/Redis 작업은 LLM 응답을 받는 스레드(event loop)가 아닌 별도 스레드에서 실행
+    private static <T> Mono<T> blocking(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(Schedulers.boundedElastic());
     }
 
+    // 트랜잭션 밖(스트리밍 응답)에서는 바로 실행
     private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
@@ -225,21 +282,10 @@ public class ChatServiceImpl implements ChatService {
         }
     }
 
-    private List<Map<String, Object>> convertHistory(List<Map<String, String>> history) {
-        List<Map<String, Object>> result = new ArrayList<>();
-        for (Map<String, String> h : history) {
-            Map<String, Object> m = new HashMap<>();
-            m.put("role", h.get("role"));
-            m.put("content", h.get("content"));
-            result.add(m);
-        }
-        return result;
-    }
-
-    private String mergeContexts(String mysqlContext, String vectorContext) {
-        if (mysqlContext == null && vectorContext == null) return null;
-        if (mysqlContext == null) return "[의미 유사 일정]\n" + vectorContext;
-        if (vectorContext == null) return mysqlContext;
-        return mysqlContext + "\n\n[의미 유사 일정]\n" + vectorContext;
+    private record ChatTurn(
+            String systemPrompt,
+            List<Map<String, Object>> messages,   // 함수 실행 결과를 이어 붙이므로 수정 가능한 리스트
+            List<Map<String, Object>> tools
+    ) {
     }
 }
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.backend.domain.chat.dto.DateRange;
 import com.project.backend.domain.nlp.client.LlmClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,19 +23,29 @@ import java.time.temporal.TemporalAdjusters;
 import java.util.Locale;
 import java.util.Optional;
 
+/**
+ * 채팅 메시지에서 일정 조회 기간 추출
+ * - 먼저 KoreanDateRangeParser로 처리하고, 규칙으로 확신할 수 없는 메시지만 LLM으로 추출한다.
+ * - 처리 경로별 건수를 chat.date_range.extractions{source}로 기록한다. (rule / llm 비율로 절약한 LLM 호출 확인)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class DateRangeExtractor {
 
+    private final KoreanDateRangeParser koreanDateRangeParser;
     private final LlmClient llmClient;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     @Value("classpath:prompts/date-range-extract-prompt.txt")
     private Resource promptResource;
 
     private String promptTemplate;
 
+    private Counter ruleCounter;
+    private Counter llmCounter;
+
     // 파일을 매 요청마다 읽지 않고 서버 시작 시 한 번만 읽어 메모리에 올려두는 용도임
     @PostConstruct
     public void init() {
@@ -44,11 +56,27 @@ public class DateRangeExtractor {
             log.error("날짜 파싱 프롬프트 로드 실패", e);
             throw new IllegalStateException("날짜 파싱 프롬프트를 로드할 수 없습니다", e);
         }
+
+        ruleCounter = Counter.builder("chat.date_range.extractions")
+                .tag("source", "rule")
+                .register(meterRegistry);
+        llmCounter = Counter.builder("chat.date_range.extractions")
+                .tag("source", "llm")
+                .register(meterRegistry);
     }
 
     public Optional<DateRange> extract(String message) {
+        LocalDate today = LocalDate.now();
+
+        KoreanDateRangeParser.ParseResult parsed = koreanDateRangeParser.parse(message, today);
+        if (parsed.confident()) {
+            ruleCounter.increment();
+            return Optional.ofNullable(parsed.range());
+        }
+
+        llmCounter.increment();
         try {
-            String systemPrompt = buildSystemPrompt(LocalDate.now());
+            String systemPrompt = buildSystemPrompt(today);
             String raw = llmClient.chat(systemPrompt, message);
             return parseResponse(raw);
         } catch (Exception e) {
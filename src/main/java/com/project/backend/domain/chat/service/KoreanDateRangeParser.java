@@ -0,0 +1,230 @@
+package com.project.backend.domain.chat.service;
+
+import com.project.backend.domain.chat.dto.DateRange;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 규칙 기반 한국어 날짜 표현 파서
+ * - 자주 쓰는 표현(오늘/내일, 이번 주/다음 달, 요일, 3월 15일, 3일 동안 등)을 LLM 호출 없이 DateRange로 변환한다.
+ * - 규칙을 우선순위 순서로 적용하고, 매칭된 부분은 지워서 뒤 규칙이 다시 매칭하지 않도록 한다.
+ * - 여러 표현이 있으면("내일부터 금요일까지" 등) 가장 이른 시작 ~ 가장 늦은 끝으로 합친다.
+ * - 규칙으로 처리하지 못한 날짜성 표현이 남아 있으면 확신할 수 없으므로 uncertain을 반환한다. (호출 측에서 LLM으로 처리)
+ */
+@Component
+public class KoreanDateRangeParser {
+
+    private static final String WEEKDAYS = "월화수목금토일";
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59);
+    private static final char MASK = '\u0000';
+
+    // 기간 표현: 3일, 2주, 1개월, 하루, 일주일, 한 달 등
+    private static final String AMOUNT =
+            "(?<amount>\\d+\\s*(?:주일|일|주|개월|달)|하루|이틀|사흘|나흘|일주일|보름|한\\s*주|한\\s*달|두\\s*달)";
+    // "상담 주제"의 "담 주" 등 단어 중간은 매칭하지 않음
+    private static final String WEEK_OFFSET  = "(?<![가-힣])(?<offset>이번|다다음|다음|담|지난|저번)";
+    private static final String MONTH_OFFSET = "(?<![가-힣])(?<offset>이번|다다음|다음|지난|저번)";
+    // "이번 주제", "다음 주문", "다음 달력" 등 주/달 뒤에 단어가 이어지면 매칭하지 않음 (조사만 허용)
+    private static final String WORD_END = "(?=$|[^가-힣]|에|엔|은|는|도|의|까지|부터|안|내|중|동안|쯤)";
+
+    // 규칙으로 처리하지 못했을 때 남아 있으면 LLM에 맡겨야 하는 표현
+    private static final Pattern TEMPORAL_HINT = Pattern.compile(
+            "\\d+\\s*(?:년|월|일|주|달|개월)|어제|그제|그저께|모레|글피|요일|주말|평일|이번|다음|지난|저번|담주"
+                    + "|올해|내년|작년|월초|월말|연초|연말|초순|중순|하순|분기|며칠|연휴|크리스마스|설날|추석");
+
+    private final List<Rule> rules = List.of(
+            // 2026년 3월 15일, 2026-03-15
+            new Rule("(?<y>\\d{4})\\s*년\\s*(?<m>\\d{1,2})\\s*월\\s*(?<d>\\d{1,2})\\s*일",
+                    (m, today) -> day(date(m, "y", "m", "d"))),
+            new Rule("(?<!\\d)(?<y>\\d{4})[-./](?<m>\\d{1,2})[-./](?<d>\\d{1,2})(?!\\d)",
+                    (m, today) -> day(date(m, "y", "m", "d"))),
+            // 2026년 3월
+            new Rule("(?<y>\\d{4})\\s*년\\s*(?<m>\\d{1,2})\\s*월(?!\\s*\\d)",
+                    (m, today) -> month(LocalDate.of(number(m, "y"), number(m, "m"), 1))),
+            // 3월 15일, 3/15 (올해 기준)
+            new Rule("(?<m>\\d{1,2})\\s*월\\s*(?<d>\\d{1,2})\\s*일",
+                    (m, today) -> day(today.withMonth(number(m, "m")).withDayOfMonth(number(m, "d")))),
+            new Rule("(?<![\\d/])(?<m>\\d{1,2})/(?<d>\\d{1,2})(?![\\d/])",
+                    (m, today) -> day(today.withMonth(number(m, "m")).withDayOfMonth(number(m, "d")))),
+            // 3일 동안, 일주일 내에, 앞으로 2주 → 오늘 ~ 오늘+N
+            new Rule("(?:앞으로\\s*)?" + AMOUNT + "\\s*(?:이내|내에|내|안에|안|동안|간)",
+                    (m, today) -> range(today, today.plus(period(m)))),
+            new Rule("앞으로\\s*" + AMOUNT,
+                    (m, today) -> range(today, today.plus(period(m)))),
+            // 3일 후, 2주 뒤, 하루 전
+            new Rule(AMOUNT + "\\s*(?<dir>후|뒤|전)",
+                    (m, today) -> day("전".equals(m.group("dir")) ? today.minus(period(m)) : today.plus(period(m)))),
+            // 다음 주 화요일
+            new Rule(WEEK_OFFSET + "\\s*주\\s*(?<dow>[월화수목금토일])요일",
+                    (m, today) -> day(monday(today, m).plusDays(WEEKDAYS.indexOf(m.group("dow"))))),
+            // 이번 주말
+            new Rule(WEEK_OFFSET + "?\\s*주말" + WORD_END,
+                    (m, today) -> range(monday(today, m).plusDays(5), monday(today, m).plusDays(6))),
+            // 이번 주, 담주
+            new Rule(WEEK_OFFSET + "\\s*주" + WORD_END,
+                    (m, today) -> range(monday(today, m), monday(today, m).plusDays(6))),
+            // 이번 달, 이달
+            new Rule(MONTH_OFFSET + "\\s*달" + WORD_END,
+                    (m, today) -> month(today.withDayOfMonth(1).plusMonths(offset(m)))),
+            new Rule("(?<![가-힣])이달" + WORD_END,
+                    (m, today) -> month(today.withDayOfMonth(1))),
+            // 3월 (올해 기준)
+            new Rule("(?<!\\d)(?<m>\\d{1,2})\\s*월(?!\\s*\\d)",
+                    (m, today) -> month(LocalDate.of(today.getYear(), number(m, "m"), 1))),
+            // 올해, 내년, 작년
+            new Rule("(?<year>올해|금년|내년|작년)",
+                    (m, today) -> year(today.getYear() + switch (m.group("year")) {
+                        case "내년" -> 1;
+                        case "작년" -> -1;
+                        default -> 0;
+                    })),
+            // 오늘, 내일, 모레 등 (내일모레를 내일보다 먼저 처리)
+            new Rule("내일\\s*모레", (m, today) -> day(today.plusDays(2))),
+            new Rule("오늘", (m, today) -> day(today)),
+            new Rule("내일", (m, today) -> day(today.plusDays(1))),
+            new Rule("모레", (m, today) -> day(today.plusDays(2))),
+            new Rule("글피", (m, today) -> day(today.plusDays(3))),
+            new Rule("어제", (m, today) -> day(today.minusDays(1))),
+            new Rule("그저께|그제", (m, today) -> day(today.minusDays(2))),
+            // 금요일 → 오늘 이후 가장 가까운 금요일
+            new Rule("(?<dow>[월화수목금토일])요일",
+                    (m, today) -> day(today.with(TemporalAdjusters.nextOrSame(
+                            DayOfWeek.of(WEEKDAYS.indexOf(m.group("dow")) + 1))))),
+            // 15일 (이번 달 기준)
+            new Rule("(?<!\\d)(?<d>\\d{1,2})\\s*일",
+                    (m, today) -> day(today.withDayOfMonth(number(m, "d"))))
+    );
+
+    public ParseResult parse(String message, LocalDate today) {
+        StringBuilder remaining = new StringBuilder(message);
+        DateRange merged = null;
+
+        try {
+            for (Rule rule : rules) {
+                Matcher matcher = rule.pattern().matcher(remaining);
+                while (matcher.find()) {
+                    DateRange range = rule.resolver().resolve(matcher, today);
+                    merged = merge(merged, range);
+                    for (int i = matcher.start(); i < matcher.end(); i++) {
+                        remaining.setCharAt(i, MASK);
+                    }
+                }
+            }
+        } catch (DateTimeException | NumberFormatException e) {
+            // 2월 30일 등 존재하지 않는 날짜
+            return ParseResult.uncertain();
+        }
+
+        if (TEMPORAL_HINT.matcher(remaining).find()) {
+            return ParseResult.uncertain();
+        }
+        return merged != null ? ParseResult.matched(merged) : ParseResult.noDate();
+    }
+
+    // =============== private ===================
+
+    private static DateRange merge(DateRange current, DateRange next) {
+        if (current == null) return next;
+        return new DateRange(
+                current.start().isBefore(next.start()) ? current.start() : next.start(),
+                current.end().isAfter(next.end()) ? current.end() : next.end());
+    }
+
+    private static DateRange day(LocalDate date) {
+        return range(date, date);
+    }
+
+    private static DateRange month(LocalDate first) {
+        return range(first, first.with(TemporalAdjusters.lastDayOfMonth()));
+    }
+
+    private static DateRange year(int year) {
+        return range(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+    }
+
+    private static DateRange range(LocalDate start, LocalDate end) {
+        return new DateRange(start.atStartOfDay(), end.atTime(END_OF_DAY));
+    }
+
+    private static LocalDate monday(LocalDate today, Matcher m) {
+        return today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).plusWeeks(offset(m));
+    }
+
+    private static int offset(Matcher m) {
+        String offset = m.group("offset");
+        if (offset == null) return 0;
+        return switch (offset) {
+            case "다음", "담" -> 1;
+            case "다다음" -> 2;
+            case "지난", "저번" -> -1;
+            default -> 0;
+        };
+    }
+
+    private static Period period(Matcher m) {
+        String amount = m.group("amount").replaceAll("\\s+", "");
+        return switch (amount) {
+            case "하루" -> Period.ofDays(1);
+            case "이틀" -> Period.ofDays(2);
+            case "사흘" -> Period.ofDays(3);
+            case "나흘" -> Period.ofDays(4);
+            case "일주일", "한주" -> Period.ofWeeks(1);
+            case "보름" -> Period.ofDays(15);
+            case "한달" -> Period.ofMonths(1);
+            case "두달" -> Period.ofMonths(2);
+            default -> {
+                int n = Integer.parseInt(amount.replaceAll("\\D", ""));
+                if (amount.endsWith("개월") || amount.endsWith("달")) yield Period.ofMonths(n);
+                if (amount.endsWith("주") || amount.endsWith("주일")) yield Period.ofWeeks(n);
+                yield Period.ofDays(n);
+            }
+        };
+    }
+
+    private static LocalDate date(Matcher m, String year, String month, String day) {
+        return LocalDate.of(number(m, year), number(m, month), number(m, day));
+    }
+
+    private static int number(Matcher m, String group) {
+        return Integer.parseInt(m.group(group));
+    }
+
+    @FunctionalInterface
+    private interface Resolver {
+        DateRange resolve(Matcher matcher, LocalDate today);
+    }
+
+    private record Rule(Pattern pattern, Resolver resolver) {
+        private Rule(String regex, Resolver resolver) {
+            this(Pattern.compile(regex), resolver);
+        }
+    }
+
+    /**
+     * @param confident false면 규칙으로 확신할 수 없는 메시지 (LLM으로 처리)
+     * @param range     confident일 때 추출한 기간 (날짜 표현이 없으면 null)
+     */
+    public record ParseResult(boolean confident, DateRange range) {
+
+        static ParseResult matched(DateRange range) {
+            return new ParseResult(true, range);
+        }
+
+        static ParseResult noDate() {
+            return new ParseResult(true, null);
+        }
+
+        static ParseResult uncertain() {
+            return new ParseResult(false, null);
+        }
+    }
+}
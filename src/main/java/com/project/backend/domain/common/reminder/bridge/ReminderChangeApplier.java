@@ -0,0 +1,57 @@
+package com.project.backend.domain.common.reminder.bridge;
+
+import com.project.backend.domain.reminder.dto.PlanChanged;
+import com.project.backend.domain.reminder.dto.RecurrenceExceptionChanged;
+import com.project.backend.domain.reminder.dto.ReminderChange;
+import com.project.backend.domain.reminder.dto.ReminderDeleted;
+import com.project.backend.domain.reminder.entity.ReminderChangeFailure;
+import com.project.backend.domain.reminder.handler.ExceptionReminderHandler;
+import com.project.backend.domain.reminder.handler.PlanReminderHandler;
+import com.project.backend.domain.reminder.handler.ReminderDeletedHandler;
+import com.project.backend.domain.reminder.repository.ReminderChangeFailureRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 한 일정/할 일에 모인 리마인더 변경을 하나의 트랜잭션으로 적용
+ * (중간에 실패하면 전부 롤백되므로 같은 변경 목록을 다시 적용해도 중복되지 않는다)
+ * - 항상 새 트랜잭션에서 적용한다. executor 큐가 차서 커밋한 스레드의 afterCommit에서 실행되더라도
+ *   이미 커밋된 요청 트랜잭션에 참여해 쓰기가 반영되지 않는 일이 없도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReminderChangeApplier {
+
+    private final PlanReminderHandler planReminderHandler;
+    private final ExceptionReminderHandler exceptionReminderHandler;
+    private final ReminderDeletedHandler reminderDeletedHandler;
+    private final ReminderChangeFailureRepository reminderChangeFailureRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void apply(List<ReminderChange> changes) {
+        changes.forEach(this::applyOne);
+    }
+
+    /**
+     * 저장되어 있던 변경을 다시 적용하고, 같은 트랜잭션에서 저장된 변경을 삭제
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void replay(List<ReminderChange> changes, List<ReminderChangeFailure> failures) {
+        changes.forEach(this::applyOne);
+        reminderChangeFailureRepository.deleteAllInBatch(failures);
+    }
+
+    // =============== private ===================
+
+    private void applyOne(ReminderChange change) {
+        switch (change) {
+            case PlanChanged pc -> planReminderHandler.handle(pc);
+            case RecurrenceExceptionChanged rec -> exceptionReminderHandler.handle(rec);
+            case ReminderDeleted rd -> reminderDeletedHandler.handle(rd);
+        }
+    }
+}
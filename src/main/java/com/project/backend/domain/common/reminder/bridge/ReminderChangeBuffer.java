@@ -0,0 +1,207 @@
+package com.project.backend.domain.common.reminder.bridge;
+
+import com.project.backend.domain.reminder.dto.ReminderChange;
+import com.project.backend.domain.reminder.enums.TargetType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * 트랜잭션 단위 리마인더 변경 버퍼
+ * - 쓰기 트랜잭션 안에서 발생한 리마인더 변경을 모아 두었다가, 커밋 이후 일정/할 일별로 묶어 reminderChangeExecutor에서 적용한다.
+ *   (사용자 요청 트랜잭션에서 리마인더 쿼리를 실행하지 않으므로 쓰기 요청 지연이 줄어든다)
+ * - 같은 일정/할 일의 변경은 발생한 순서대로 하나의 트랜잭션에서 적용하고, 실패하면 MAX_ATTEMPTS회까지 다시 시도한다.
+ * - 서로 다른 트랜잭션의 변경도 같은 일정/할 일이면 커밋 순서대로 하나씩 적용한다.
+ *   (일정/할 일별 대기열을 두고, 대기열마다 한 번에 하나의 작업만 executor에서 실행)
+ * - 재시도 후에도 실패한 변경은 버리지 않고 ReminderChangeFailureStore에 저장해 복구 스케줄러가 다시 적용한다.
+ *   저장된 변경이 남은 일정/할 일의 이후 변경도 그 뒤에 저장해 순서를 지킨다. (복구를 포기한 DEAD_LETTER 변경은 제외)
+ * - 롤백된 트랜잭션의 변경은 적용하지 않는다.
+ * - 트랜잭션 밖에서 호출되면 바로 executor에 제출한다.
+ */
+@Slf4j
+@Component
+public class ReminderChangeBuffer {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+
+    private final ReminderChangeApplier reminderChangeApplier;
+    private final ReminderChangeFailureStore reminderChangeFailureStore;
+    private final Executor reminderChangeExecutor;
+
+    // 적용 중인 일정/할 일 → 그 뒤에 커밋된 변경 묶음 (키가 있으면 이미 실행 중인 작업이 이어서 처리)
+    private final Map<TargetKey, Deque<List<ReminderChange>>> lanes = new HashMap<>();
+
+    private final Counter appliedCounter;
+    private final Counter retryCounter;
+    private final Counter parkedCounter;
+    private final Counter failureCounter;
+
+    public ReminderChangeBuffer(
+            ReminderChangeApplier reminderChangeApplier,
+            ReminderChangeFailureStore reminderChangeFailureStore,
+            @Qualifier("reminderChangeExecutor") Executor reminderChangeExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.reminderChangeApplier = reminderChangeApplier;
+        this.reminderChangeFailureStore = reminderChangeFailureStore;
+        this.reminderChangeExecutor = reminderChangeExecutor;
+
+        this.appliedCounter = Counter.builder("reminder.change.groups")
+                .tag("result", "applied")
+                .register(meterRegistry);
+        this.parkedCounter = Counter.builder("reminder.change.groups")
+                .tag("result", "parked")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("reminder.change.groups")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("reminder.change.retries")
+                .register(meterRegistry);
+    }
+
+    public void add(TargetType targetType, Long targetId, ReminderChange change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(List.of(new Change(new TargetKey(targetType, targetId), change)));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Change> pending = (List<Change>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Change> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ReminderChangeBuffer.this);
+                }
+            });
+            pending = changes;
+        }
+        pending.add(new Change(new TargetKey(targetType, targetId), change));
+    }
+
+    // =============== private ===================
+
+    private void submit(List<Change> changes) {
+        Map<TargetKey, List<ReminderChange>> byTarget = new LinkedHashMap<>();
+        for (Change change : changes) {
+            byTarget.computeIfAbsent(change.target(), key -> new ArrayList<>()).add(change.change());
+        }
+
+        byTarget.forEach(this::enqueue);
+    }
+
+    private void enqueue(TargetKey target, List<ReminderChange> changes) {
+        synchronized (lanes) {
+            Deque<List<ReminderChange>> queue = lanes.get(target);
+            if (queue != null) {
+                queue.add(changes);
+                return;
+            }
+            lanes.put(target, new ArrayDeque<>());
+        }
+        reminderChangeExecutor.execute(() -> drain(target, changes));
+    }
+
+    // 대기열이 빌 때까지 같은 일정/할 일의 변경 묶음을 순서대로 적용
+    private void drain(TargetKey target, List<ReminderChange> first) {
+        List<ReminderChange> changes = first;
+        while (changes != null) {
+            apply(target, changes);
+            synchronized (lanes) {
+                changes = lanes.get(target).poll();
+                if (changes == null) {
+                    lanes.remove(target);
+                }
+            }
+        }
+    }
+
+    private void apply(TargetKey target, List<ReminderChange> changes) {
+        if (hasParked(target)) {
+            park(target, changes, null);
+            return;
+        }
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                reminderChangeApplier.apply(changes);
+                appliedCounter.increment();
+                return;
+            } catch (Exception e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    park(target, changes, e);
+                    return;
+                }
+                retryCounter.increment();
+                log.warn("[ReminderChangeBuffer] 리마인더 변경 재시도 - target: {}, attempt: {}, cause: {}",
+                        target, attempt, e.getMessage());
+                if (!sleep(RETRY_BACKOFF_MILLIS * attempt)) {
+                    park(target, changes, e);
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean hasParked(TargetKey target) {
+        try {
+            return reminderChangeFailureStore.hasParked(target.targetType(), target.targetId());
+        } catch (Exception e) {
+            // 확인할 수 없으면 바로 적용을 시도 (적용도 실패하면 저장 단계에서 다시 처리)
+            log.warn("[ReminderChangeBuffer] 저장된 변경 확인 실패 - target: {}, cause: {}", target, e.getMessage());
+            return false;
+        }
+    }
+
+    private void park(TargetKey target, List<ReminderChange> changes, Exception cause) {
+        try {
+            reminderChangeFailureStore.park(target.targetType(), target.targetId(), changes);
+            parkedCounter.increment();
+            if (cause != null) {
+                log.error("[ReminderChangeBuffer] 리마인더 변경 적용 실패, 복구 대상으로 저장 - target: {}, changes: {}",
+                        target, changes.size(), cause);
+            }
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.error("[ReminderChangeBuffer] 리마인더 변경 저장 실패, 변경 유실 - target: {}, changes: {}",
+                    target, changes, e);
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record TargetKey(TargetType targetType, Long targetId) {
+    }
+
+    private record Change(TargetKey target, ReminderChange change) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.project.backend.domain.common.reminder.bridge;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.backend.domain.reminder.dto.ReminderChange;
+import com.project.backend.domain.reminder.entity.ReminderChangeFailure;
+import com.project.backend.domain.reminder.enums.ReminderChangeFailureStatus;
+import com.project.backend.domain.reminder.enums.ReminderChangeKind;
+import com.project.backend.domain.reminder.enums.TargetType;
+import com.project.backend.domain.reminder.repository.ReminderChangeFailureRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 적용하지 못한 리마인더 변경 저장/복구
+ * - park: 재시도 후에도 실패한 변경을 reminder_change_failure에 발생 순서대로 저장한다.
+ * - recover: 저장된 변경을 일정/할 일별로 묶어 순서대로 다시 적용하고, 성공한 묶음은 삭제한다.
+ *   (실패한 묶음은 실패 횟수를 남기고 다음 복구에서 다시 시도)
+ * - MAX_RECOVERY_ATTEMPTS회 복구에 실패한 묶음은 DEAD_LETTER로 바꿔 더 이상 다시 적용하지 않는다.
+ *   (계속 실패하는 묶음이 같은 일정/할 일의 이후 변경을 영원히 막지 않도록, 로그와 메트릭으로 남겨 수동 확인)
+ */
+@Slf4j
+@Component
+public class ReminderChangeFailureStore {
+
+    private static final int RECOVERY_BATCH_SIZE = 500;
+    private static final int MAX_RECOVERY_ATTEMPTS = 10;
+
+    private final ReminderChangeFailureRepository reminderChangeFailureRepository;
+    private final ReminderChangeApplier reminderChangeApplier;
+    private final ObjectMapper objectMapper;
+
+    private final Counter deadLetterCounter;
+
+    public ReminderChangeFailureStore(
+            ReminderChangeFailureRepository reminderChangeFailureRepository,
+            ReminderChangeApplier reminderChangeApplier,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.reminderChangeFailureRepository = reminderChangeFailureRepository;
+        this.reminderChangeApplier = reminderChangeApplier;
+        this.objectMapper = objectMapper;
+
+        this.deadLetterCounter = Counter.builder("reminder.change.groups")
+                .tag("result", "dead_letter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 복구 대기 중인 변경이 남아 있는 일정/할 일인지 (있으면 이후 변경도 저장해야 순서가 지켜짐, DEAD_LETTER는 제외)
+     */
+    public boolean hasParked(TargetType targetType, Long targetId) {
+        return reminderChangeFailureRepository.existsByTargetTypeAndTargetIdAndStatus(
+                targetType, targetId, ReminderChangeFailureStatus.PARKED);
+    }
+
+    public void park(TargetType targetType, Long targetId, List<ReminderChange> changes) {
+        List<ReminderChangeFailure> failures = new ArrayList<>();
+        for (ReminderChange change : changes) {
+            failures.add(ReminderChangeFailure.builder()
+                    .targetType(targetType)
+                    .targetId(targetId)
+                    .kind(ReminderChangeKind.of(change))
+                    .payload(write(change))
+                    .build());
+        }
+        reminderChangeFailureRepository.saveAll(failures);
+    }
+
+    /**
+     * @return 다시 적용한 일정/할 일 수
+     */
+    public int recover() {
+        List<ReminderChangeFailure> parked = reminderChangeFailureRepository.findAllByStatusOrderByIdAsc(
+                ReminderChangeFailureStatus.PARKED, PageRequest.of(0, RECOVERY_BATCH_SIZE));
+
+        Map<String, List<ReminderChangeFailure>> byTarget = new LinkedHashMap<>();
+        for (ReminderChangeFailure failure : parked) {
+            byTarget.computeIfAbsent(failure.getTargetType() + ":" + failure.getTargetId(), key -> new ArrayList<>())
+                    .add(failure);
+        }
+
+        int recovered = 0;
+        for (Map.Entry<String, List<ReminderChangeFailure>> entry : byTarget.entrySet()) {
+            try {
+                List<ReminderChange> changes = entry.getValue().stream()
+                        .map(this::read)
+                        .toList();
+                reminderChangeApplier.replay(changes, entry.getValue());
+                recovered++;
+            } catch (Exception e) {
+                recordFailure(entry.getKey(), entry.getValue(), e);
+            }
+        }
+        return recovered;
+    }
+
+    // =============== private ===================
+
+    // 묶음의 실패 횟수를 늘리고, 한도에 도달하면 묶음 전체를 DEAD_LETTER로 변경 (replay 트랜잭션은 롤백되었으므로 따로 저장)
+    private void recordFailure(String target, List<ReminderChangeFailure> failures, Exception cause) {
+        failures.forEach(ReminderChangeFailure::recordAttempt);
+        int attempts = failures.stream().mapToInt(ReminderChangeFailure::getAttempts).max().orElse(0);
+        boolean deadLetter = attempts >= MAX_RECOVERY_ATTEMPTS;
+        if (deadLetter) {
+            failures.forEach(ReminderChangeFailure::markDeadLetter);
+        }
+
+        try {
+            reminderChangeFailureRepository.saveAll(failures);
+        } catch (Exception e) {
+            log.warn("[ReminderChangeFailureStore] 복구 실패 횟수 저장 실패 - target: {}, cause: {}", target, e.getMessage());
+            return;
+        }
+
+        if (deadLetter) {
+            deadLetterCounter.increment();
+            log.error("[ReminderChangeFailureStore] 복구 재시도 횟수 초과, DEAD_LETTER로 변경 - target: {}, changes: {}, attempts: {}",
+                    target, failures.size(), attempts, cause);
+        } else {
+            log.warn("[ReminderChangeFailureStore] 저장된 리마인더 변경 복구 실패 - target: {}, changes: {}, attempts: {}, cause: {}",
+                    target, failures.size(), attempts, cause.getMessage());
+        }
+    }
+
+    private String write(ReminderChange change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (Exception e) {
+            throw new IllegalStateException("리마인더 변경 직렬화 실패: " + change, e);
+        }
+    }
+
+    private ReminderChange read(ReminderChangeFailure failure) {
+        try {
+            return objectMapper.readValue(failure.getPayload(), failure.getKind().getType());
+        } catch (Exception e) {
+            throw new IllegalStateException("리마인더 변경 역직렬화 실패 - id: " + failure.getId(), e);
+        }
+    }
+}
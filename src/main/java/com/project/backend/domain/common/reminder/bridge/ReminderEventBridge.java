@@ -1,26 +1,28 @@
 package com.project.backend.domain.common.reminder.bridge;
 
 import com.project.backend.domain.reminder.converter.ReminderConverter;
+import com.project.backend.domain.reminder.dto.PlanChanged;
+import com.project.backend.domain.reminder.dto.RecurrenceExceptionChanged;
+import com.project.backend.domain.reminder.dto.ReminderDeleted;
 import com.project.backend.domain.reminder.enums.ChangeType;
 import com.project.backend.domain.reminder.enums.DeletedType;
 import com.project.backend.domain.reminder.enums.ExceptionChangeType;
 import com.project.backend.domain.reminder.enums.TargetType;
-import com.project.backend.domain.reminder.handler.ExceptionReminderHandler;
-import com.project.backend.domain.reminder.handler.PlanReminderHandler;
-import com.project.backend.domain.reminder.handler.ReminderDeletedHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 일정/할 일 변경을 리마인더 변경으로 전달
+ * - 변경은 ReminderChangeBuffer에 모였다가 트랜잭션 커밋 이후 일정/할 일별로 한 번에 적용된다.
+ */
 @Component
 @RequiredArgsConstructor
 public class ReminderEventBridge {
 
-    private final PlanReminderHandler planReminderHandler;
-    private final ExceptionReminderHandler exceptionReminderHandler;
-    private final ReminderDeletedHandler reminderDeletedHandler;
+    private final ReminderChangeBuffer reminderChangeBuffer;
 
     public void handlePlanChanged (
             Long targetId,
@@ -31,7 +33,7 @@ public class ReminderEventBridge {
             LocalDateTime startTime,
             ChangeType changeType
     ) {
-        planReminderHandler.handle(ReminderConverter.toPlanChanged(
+        PlanChanged change = ReminderConverter.toPlanChanged(
                 targetId,
                 targetType,
                 memberId,
@@ -39,7 +41,8 @@ public class ReminderEventBridge {
                 isRecurring,
                 startTime,
                 changeType
-        ));
+        );
+        reminderChangeBuffer.add(targetType, targetId, change);
     }
 
     public void handleExceptionChanged (
@@ -51,7 +54,7 @@ public class ReminderEventBridge {
             LocalDateTime occurrenceTime,
             ExceptionChangeType changeType
     ) {
-        exceptionReminderHandler.handle(ReminderConverter.toRecurrenceExceptionChanged(
+        RecurrenceExceptionChanged change = ReminderConverter.toRecurrenceExceptionChanged(
                 exceptionId,
                 targetId,
                 targetType,
@@ -60,7 +63,8 @@ public class ReminderEventBridge {
                 true,
                 occurrenceTime,
                 changeType
-        ));
+        );
+        reminderChangeBuffer.add(targetType, targetId, change);
     }
 
     // 단일 맴버 대상
@@ -72,14 +76,15 @@ public class ReminderEventBridge {
             TargetType targetType,
             DeletedType deletedType
     ) {
-        reminderDeletedHandler.handle(ReminderConverter.toReminderDeleted(
+        ReminderDeleted change = ReminderConverter.toReminderDeleted(
                 exceptionId,
                 List.of(memberId),
                 occurrenceTime,
                 eventId,
                 targetType,
                 deletedType
-        ));
+        );
+        reminderChangeBuffer.add(targetType, eventId, change);
     }
 
     // 다중 맴버 대상
@@ -91,13 +96,14 @@ public class ReminderEventBridge {
             TargetType targetType,
             DeletedType deletedType
     ) {
-        reminderDeletedHandler.handle(ReminderConverter.toReminderDeleted(
+        ReminderDeleted change = ReminderConverter.toReminderDeleted(
                 exceptionId,
                 memberId,
                 occurrenceTime,
                 eventId,
                 targetType,
                 deletedType
-        ));
+        );
+        reminderChangeBuffer.add(targetType, eventId, change);
     }
 }
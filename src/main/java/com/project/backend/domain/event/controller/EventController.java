@@ -8,12 +8,16 @@ import com.project.backend.domain.event.service.command.EventParticipantCommandS
 import com.project.backend.domain.event.service.query.EventParticipantQueryService;
 import com.project.backend.domain.event.service.query.EventQueryService;
 import com.project.backend.global.apiPayload.CustomResponse;
+import com.project.backend.global.apiPayload.NdjsonResponseWriter;
 import com.project.backend.global.security.userdetails.CustomUserDetails;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 
 import java.time.LocalDate;
@@ -25,6 +29,7 @@ public class EventController implements EventDocs {
 
     private final EventCommandService eventCommandService;
     private final EventQueryService eventQueryService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     @PostMapping("")
     @Override
@@ -61,6 +66,32 @@ public class EventController implements EventDocs {
         return CustomResponse.onSuccess("전체 이벤트 조회 완료", resDTO);
     }
 
+    @GetMapping("/page")
+    @Override
+    public CustomResponse<EventResDTO.EventsPageRes> getEventsPage(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        EventResDTO.EventsPageRes resDTO =
+                eventQueryService.getEventsPage(customUserDetails.getId(), startDate, endDate, cursor, size);
+        return CustomResponse.onSuccess("이벤트 페이지 조회 완료", resDTO);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Override
+    public void streamEvents(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            HttpServletResponse response
+    ) throws IOException {
+        ndjsonResponseWriter.<EventResDTO.DetailRes>write(response, sink ->
+                eventQueryService.streamEvents(customUserDetails.getId(), startDate, endDate, sink));
+    }
+
     @GetMapping("/history/titles")
     public CustomResponse<EventResDTO.EventTitleHistoryRes> getEventTitleHistory(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
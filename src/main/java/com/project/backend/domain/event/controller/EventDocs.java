@@ -14,12 +14,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -662,6 +664,88 @@ public interface EventDocs {
             @RequestParam LocalDate endDate
     );
 
+    @Operation(
+            summary = "이벤트 페이지 조회",
+            description = """
+                    인증된 사용자의 이벤트를 지정한 날짜 범위(startDate ~ endDate) 내에서
+                    시작 시간 순으로 size개씩 조회합니다.
+                    
+                    - 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회합니다.
+                    - 최대 조회 기간: 1830일
+                    - size: 기본 100, 최대 500
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "이벤트 페이지 조회 성공"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증되지 않은 사용자"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 날짜 범위 또는 커서"
+            )
+    })
+    CustomResponse<EventResDTO.EventsPageRes> getEventsPage(
+            @AuthenticationPrincipal
+            @Parameter(hidden = true)
+            CustomUserDetails customUserDetails,
+
+            @Parameter(description = "조회 시작 날짜 (YYYY-MM-DD)", example = "2026-01-01", required = true)
+            @RequestParam LocalDate startDate,
+
+            @Parameter(description = "조회 종료 날짜 (YYYY-MM-DD)", example = "2026-12-31", required = true)
+            @RequestParam LocalDate endDate,
+
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "페이지 크기", example = "100")
+            @RequestParam(required = false) Integer size
+    );
+
+    @Operation(
+            summary = "이벤트 스트리밍 조회",
+            description = """
+                    인증된 사용자의 이벤트를 지정한 날짜 범위(startDate ~ endDate) 내에서
+                    시작 시간 순으로 NDJSON(application/x-ndjson)으로 전송합니다.
+                    
+                    - 한 줄에 이벤트 하나(DetailRes)가 기록됩니다.
+                    - 최대 조회 기간: 1830일
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "이벤트 스트리밍 조회 성공"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증되지 않은 사용자"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 날짜 범위 요청"
+            )
+    })
+    void streamEvents(
+            @AuthenticationPrincipal
+            @Parameter(hidden = true)
+            CustomUserDetails customUserDetails,
+
+            @Parameter(description = "조회 시작 날짜 (YYYY-MM-DD)", example = "2026-01-01", required = true)
+            @RequestParam LocalDate startDate,
+
+            @Parameter(description = "조회 종료 날짜 (YYYY-MM-DD)", example = "2026-12-31", required = true)
+            @RequestParam LocalDate endDate,
+
+            @Parameter(hidden = true)
+            HttpServletResponse response
+    ) throws IOException;
+
     @Operation(
             summary = "일정 제목 검색 기록 조회",
             description = """
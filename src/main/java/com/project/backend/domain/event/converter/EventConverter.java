@@ -248,6 +248,18 @@ public class EventConverter {
                 .build();
     }
 
+    public static EventResDTO.EventsPageRes toEventsPageRes(
+            List<EventResDTO.DetailRes> details,
+            String nextCursor,
+            boolean hasNext
+    ) {
+        return EventResDTO.EventsPageRes.builder()
+                .details(details)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
     private static LocalDateTime getEndTime(Event event, LocalDateTime occurrenceDate) {
         LocalDateTime end;
         if (event.getDurationMinutes() != null) {
@@ -43,6 +43,14 @@ public class EventResDTO {
     ) {
     }
 
+    @Builder
+    public record EventsPageRes(
+            List<DetailRes> details,
+            String nextCursor, // 다음 페이지 요청 시 그대로 전달, 마지막 페이지면 null
+            boolean hasNext
+    ) {
+    }
+
     @Builder
     public record EventParticipantInfo(
             Long eventParticipantId,
@@ -169,6 +169,7 @@ public class Event extends BaseEntity {
         if (startTime != null && endTime != null) {
             this.durationMinutes = (int) Duration.between(startTime, endTime).toMinutes();
         }
+        if (startTime != null) syncRecurrenceGroupStart();
     }
 
     public void updateRecurrenceGroup(RecurrenceGroup recurrenceGroup) {
@@ -179,6 +180,7 @@ public class Event extends BaseEntity {
     public void updateTime(LocalDateTime startTime, LocalDateTime endTime) {
         this.startTime = startTime;
         this.endTime = endTime;
+        syncRecurrenceGroupStart();
     }
 
     public void markAsShared() {
@@ -192,4 +194,13 @@ public class Event extends BaseEntity {
     public void updateVectorSyncStatus(VectorSyncStatus status) {
         this.vectorSyncStatus = status;
     }
+
+    // 반복 그룹의 모객체이면 그룹의 첫 반복 시작 시간도 갱신 (범위 조회에서 이전 시작 시간으로 걸러지지 않도록)
+    private void syncRecurrenceGroupStart() {
+        if (recurrenceGroup == null || recurrenceGroup.getEvent() == null) return;
+        Event parent = recurrenceGroup.getEvent();
+        if (parent == this || (id != null && id.equals(parent.getId()))) {
+            recurrenceGroup.syncFirstStart();
+        }
+    }
 }
@@ -4,8 +4,10 @@ import com.project.backend.domain.common.recurrence.enums.MonthlyType;
 import com.project.backend.domain.common.recurrence.enums.RecurrenceEndType;
 import com.project.backend.domain.common.recurrence.enums.RecurrenceFrequency;
 import com.project.backend.domain.member.entity.Member;
+import com.project.backend.domain.occurrence.listener.RecurrenceHorizonListener;
 import com.project.backend.global.entity.BaseEntity;
 import com.project.backend.global.recurrence.RecurrenceRule;
+import com.project.backend.global.recurrence.RecurrenceRuleRevision;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -21,7 +23,14 @@ import java.util.Set;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "recurrence_group")
+@EntityListeners(RecurrenceHorizonListener.class)
+@Table(
+        name = "recurrence_group",
+        indexes = @Index(
+                name = "idx_recurrence_group_member_horizon",
+                columnList = "member_id, first_start, last_occurrence_date"
+        )
+)
 public class RecurrenceGroup extends BaseEntity implements RecurrenceRule {
 
     @Id
@@ -73,6 +82,19 @@ public class RecurrenceGroup extends BaseEntity implements RecurrenceRule {
     @Column(name = "created_count", nullable = false)
     private Integer createdCount;
 
+    // 반복 범위 (캘린더 조회 시 이미 끝난 반복을 DB에서 거르기 위한 비정규화 값)
+    // 첫 반복 시작 시간 = 모객체(event)의 시작 시간
+    @Column(name = "first_start")
+    private LocalDateTime firstStart;
+
+    // 마지막 반복 날짜 (NEVER면 null, RecurrenceHorizonListener가 저장/수정 시 계산)
+    @Column(name = "last_occurrence_date")
+    private LocalDate lastOccurrenceDate;
+
+    // 규칙 값을 메모리에서 수정할 때마다 바뀌는 리비전 (CompiledRecurrenceRuleCache 버전 구분용, 저장하지 않음)
+    @Transient
+    private long ruleRevision;
+
     @OneToMany(mappedBy = "recurrenceGroup", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<RecurrenceException> exceptionDates = new HashSet<>();
 
@@ -118,6 +140,7 @@ public class RecurrenceGroup extends BaseEntity implements RecurrenceRule {
 
     public void setEvent(Event event) {
         this.event = event;
+        syncFirstStart();
     }
   
     public void addExceptionDate(RecurrenceException exceptionDate) {
@@ -127,10 +150,12 @@ public class RecurrenceGroup extends BaseEntity implements RecurrenceRule {
     public void updateEndDateTime(LocalDateTime endDate) {
         this.endType = RecurrenceEndType.END_BY_DATE;
         this.endDate = endDate.toLocalDate().minusDays(1);
+        this.ruleRevision = RecurrenceRuleRevision.next();
     }
 
     public void updateEvent(Event event) {
         this.event = event;
+        syncFirstStart();
     }
 
     public List<Integer> getDaysOfMonthAsList() {
@@ -142,14 +167,26 @@ public class RecurrenceGroup extends BaseEntity implements RecurrenceRule {
 
     public void extendEndDate(long dayDiff) {
         this.endDate = this.endDate.plusDays(dayDiff);
+        this.ruleRevision = RecurrenceRuleRevision.next();
     }
 
     public void updateOccurrenceCount(int occurrenceCount) {
         this.occurrenceCount = occurrenceCount;
+        this.ruleRevision = RecurrenceRuleRevision.next();
     }
       
     public void attachEvent(Event event) {
         this.event = event;
+        syncFirstStart();
+    }
+
+    // 모객체의 시작 시간으로 첫 반복 시작 시간 갱신
+    public void syncFirstStart() {
+        this.firstStart = event != null ? event.getStartTime() : null;
+    }
+
+    public void updateLastOccurrenceDate(LocalDate lastOccurrenceDate) {
+        this.lastOccurrenceDate = lastOccurrenceDate;
     }
 
 }
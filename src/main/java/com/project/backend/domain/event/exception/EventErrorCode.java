@@ -35,6 +35,10 @@ public enum EventErrorCode implements BaseErrorCode {
 
     EVENT_OWNER_CANNOT_LEAVE(HttpStatus.FORBIDDEN, "EVENT403_2", "이벤트 소유자는 이벤트를 떠날 수 없습니다"),
     EVENT_ACCESS_DENIED(HttpStatus.FORBIDDEN, "EVENT403_3", "이벤트 소유자가 아닌 사람은 수정할 수 없습니다"),
+
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "EVENT400_12", "조회 시작 날짜가 종료 날짜보다 늦습니다."),
+    DATE_RANGE_TOO_LONG(HttpStatus.BAD_REQUEST, "EVENT400_13", "조회 기간이 허용 범위를 초과했습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "EVENT400_14", "잘못된 페이지 커서입니다."),
     ;
 
 
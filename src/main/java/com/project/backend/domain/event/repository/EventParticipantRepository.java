@@ -12,6 +12,7 @@ import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -26,6 +27,15 @@ public interface EventParticipantRepository extends JpaRepository<EventParticipa
 
     List<EventParticipant> findAllByEventId(Long eventId);
 
+    // 여러 이벤트의 참여자를 회원 정보와 함께 한 번에 조회 (캘린더 범위 조회용)
+    @Query("""
+    select ep
+    from EventParticipant ep
+    join fetch ep.member
+    where ep.event.id in :eventIds
+""")
+    List<EventParticipant> findAllWithMemberByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
     @Query("""
     select ep
     from EventParticipant ep
@@ -84,16 +94,22 @@ public interface EventParticipantRepository extends JpaRepository<EventParticipa
             "AND e.endTime >= :startRange ")
     List<Event> findByMemberIdAndOverlappingRange(Long memberId, LocalDateTime startRange, LocalDateTime endRange, InviteStatus status);
 
-    // 그룹의 모객체가 종료기간 전에 있는 공유 받은 반복하는 이벤트 검색
-    @Query("SELECT DISTINCT rg " +
-            "FROM EventParticipant ep " +
-            "JOIN ep.event e " +
-            "JOIN e.recurrenceGroup rg " +
-            "WHERE ep.member.id = :memberId " +
-            "AND ep.status = :status  " +
-            "AND (rg.endDate IS NULL OR rg.endDate >= :startDate)"
+    // 그룹의 모객체가 종료기간 전에 있는 공유 받은 반복하는 이벤트 검색 (모객체 함께 조회)
+    @Query("SELECT rg " +
+            "FROM RecurrenceGroup rg " +
+            "JOIN FETCH rg.event e " +
+            "WHERE rg.firstStart <= :endRange " +
+            "AND (rg.lastOccurrenceDate IS NULL OR rg.lastOccurrenceDate >= :startDate) " +
+            "AND EXISTS (" +
+            "    SELECT 1 " +
+            "    FROM EventParticipant ep " +
+            "    WHERE ep.event.recurrenceGroup = rg " +
+            "    AND ep.member.id = :memberId " +
+            "    AND ep.status = :status" +
+            ")"
     )
-    List<RecurrenceGroup> findSharedActiveRecurrenceGroups(Long memberId, LocalDate startDate, InviteStatus status);
+    List<RecurrenceGroup> findSharedActiveRecurrenceGroups(
+            Long memberId, LocalDate startDate, LocalDateTime endRange, InviteStatus status);
 
     // 나 또는 상대방의 아이디로 이루어진 모든 EventParticipant 객체 반환 (친구 삭제 시 사용)
     @Query("SELECT ep " +
@@ -107,17 +123,28 @@ public interface EventParticipantRepository extends JpaRepository<EventParticipa
             "AND ep.owner.id = :memberId")
     List<EventParticipant> findByMemberIdAndOpponentId(Long memberId, Long opponentId);
 
+    /**
+     * 브리핑 대상 공유 일정 (해당 날짜에 시작하는 단일 일정 + 해당 날짜까지 진행 중인 반복 일정)
+     */
     @Query("""
-    select distinct ep.event.id
+    select e
     from EventParticipant ep
     join ep.event e
+    left join fetch e.recurrenceGroup rg
     where ep.member.id = :memberId
       and ep.status = :status
-      and e.startTime <= :endOfToday
+      and (
+            (rg is null and e.startTime between :startOfDay and :endOfDay)
+         or (rg is not null
+             and rg.firstStart <= :endOfDay
+             and (rg.lastOccurrenceDate is null or rg.lastOccurrenceDate >= :date))
+      )
 """)
-    List<Long> findEventIdsByParticipantMemberIdAndStatusAndCurrentDate(
+    List<Event> findSharedBriefingCandidates(
             @Param("memberId") Long memberId,
-            @Param("status") InviteStatus status,
-            @Param("endOfToday") LocalDateTime endOfToday
+            @Param("date") LocalDate date,
+            @Param("startOfDay") LocalDateTime startOfDay,
+            @Param("endOfDay") LocalDateTime endOfDay,
+            @Param("status") InviteStatus status
     );
 }
@@ -8,7 +8,9 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,14 +55,26 @@ public interface EventRepository extends JpaRepository<Event, Long> {
   
     List<Event> findAllByMemberId(@Param("memberId") Long memberId);
 
-    @Query("SELECT e.id " +
+    /**
+     * 브리핑 대상 일정 (해당 날짜에 시작하는 단일 일정 + 해당 날짜까지 진행 중인 반복 일정)
+     */
+    @Query("SELECT e " +
             "FROM Event e " +
-            "WHERE e.member.id = :memberId AND e.startTime <= :currentDate")
-    List<Long> findEventIdsByMemberIdAndCurrentDate(
+            "LEFT JOIN FETCH e.recurrenceGroup rg " +
+            "WHERE e.member.id = :memberId " +
+            "AND ((rg IS NULL AND e.startTime BETWEEN :startOfDay AND :endOfDay) " +
+            "OR (rg IS NOT NULL AND rg.firstStart <= :endOfDay " +
+            "AND (rg.lastOccurrenceDate IS NULL OR rg.lastOccurrenceDate >= :date)))")
+    List<Event> findBriefingCandidates(
             @Param("memberId") Long memberId,
-            @Param("currentDate") LocalDateTime currentDate
+            @Param("date") LocalDate date,
+            @Param("startOfDay") LocalDateTime startOfDay,
+            @Param("endOfDay") LocalDateTime endOfDay
     );
 
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.recurrenceGroup WHERE e.id IN :ids")
+    List<Event> findAllWithRecurrenceGroupByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT e FROM Event e JOIN FETCH e.member")
     List<Event> findAllWithMember();
 
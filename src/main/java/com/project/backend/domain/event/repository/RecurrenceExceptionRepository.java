@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,9 @@ public interface RecurrenceExceptionRepository extends JpaRepository<RecurrenceE
 
     List<RecurrenceException> findAllByRecurrenceGroupId(Long recurrenceGroupId);
 
+    // 여러 반복 그룹의 예외를 한 번에 조회 (반복 펼치기용)
+    List<RecurrenceException> findAllByRecurrenceGroupIdIn(Collection<Long> recurrenceGroupIds);
+
     Optional<RecurrenceException> findByRecurrenceGroupId(Long recurrenceGroupId);
 
     @Query("SELECT re " +
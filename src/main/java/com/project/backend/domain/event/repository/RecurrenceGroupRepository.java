@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.Modifying;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface RecurrenceGroupRepository extends JpaRepository<RecurrenceGroup, Long> {
@@ -17,37 +18,40 @@ public interface RecurrenceGroupRepository extends JpaRepository<RecurrenceGroup
     void deleteAllByMemberId(@Param("memberId") Long memberId);
     List<RecurrenceGroup> findByMemberId(Long memberId);
 
+    // 캘린더 확장 시 모객체를 바로 사용하므로 event를 함께 조회
+    // 범위보다 늦게 시작하거나 범위 전에 끝난 반복은 (member_id, first_start, last_occurrence_date) 인덱스에서 제외
     @Query("""
     SELECT rg
     FROM RecurrenceGroup rg
+    JOIN FETCH rg.event e
     WHERE rg.member.id = :memberId
-      AND rg.event.startTime <= :startRange
+      AND rg.firstStart <= :endRange
       AND (
-            rg.endDate IS NULL
-         OR rg.endDate >= :startRange
+            rg.lastOccurrenceDate IS NULL
+         OR rg.lastOccurrenceDate >= :startDate
       )
 """)
     List<RecurrenceGroup> findActiveRecurrenceGroups(
             @Param("memberId") Long memberId,
-            @Param("startRange") LocalDate startRange
+            @Param("startDate") LocalDate startDate,
+            @Param("endRange") LocalDateTime endRange
     );
 
-    // 무한 반복 제외, endDate가 오늘 이후, count이면 일단 가져오기
-    // TODO : 리커런스 그룹의 만료를 설정하면 쓸모없는 카운트를 안가져와도 될지 않을까?
+    // 무한 반복 제외, 마지막 반복 날짜가 오늘 이후인 반복 그룹 (NEVER는 lastOccurrenceDate가 null)
     @Query("""
         SELECT rg
         FROM RecurrenceGroup rg
         WHERE rg.member.id = :memberId
-          AND rg.endType <> com.project.backend.domain.common.recurrence.enums.RecurrenceEndType.NEVER
-          AND (
-                rg.endType = com.project.backend.domain.common.recurrence.enums.RecurrenceEndType.END_BY_COUNT
-                OR rg.endDate >= :today
-          )
+          AND rg.lastOccurrenceDate >= :today
 """)
     List<RecurrenceGroup> findCandidateRecurrenceGroups(
             @Param("memberId") Long memberId,
             @Param("today") LocalDate today
     );
 
+    // 반복 범위 컬럼이 비어 있는 반복 그룹 (컬럼 추가 전에 저장된 데이터)
+    @Query("SELECT rg FROM RecurrenceGroup rg JOIN FETCH rg.event WHERE rg.firstStart IS NULL")
+    List<RecurrenceGroup> findAllWithEventByFirstStartIsNull();
+
 
 }
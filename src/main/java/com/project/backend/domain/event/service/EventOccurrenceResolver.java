@@ -8,11 +8,8 @@ import com.project.backend.domain.event.entity.EventParticipant;
 import com.project.backend.domain.event.entity.RecurrenceException;
 import com.project.backend.domain.event.exception.EventErrorCode;
 import com.project.backend.domain.event.exception.EventException;
-import com.project.backend.domain.event.factory.EndConditionFactory;
-import com.project.backend.domain.event.factory.GeneratorFactory;
 import com.project.backend.domain.event.repository.RecurrenceExceptionRepository;
-import com.project.backend.domain.event.strategy.endcondition.EndCondition;
-import com.project.backend.domain.event.strategy.generator.Generator;
+import com.project.backend.domain.occurrence.service.OccurrenceExpansionEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -30,11 +27,8 @@ import static com.project.backend.domain.common.recurrence.enums.ExceptionType.S
 @RequiredArgsConstructor
 public class EventOccurrenceResolver {
 
-    private static final int MAX_OCCURRENCE_ITERATION = 20_000;
-
     private final RecurrenceExceptionRepository recurrenceExceptionRepository;
-    private final GeneratorFactory generatorFactory;
-    private final EndConditionFactory endConditionFactory;
+    private final OccurrenceExpansionEngine occurrenceExpansionEngine;
 
     public EventResDTO.DetailRes resolveForRead(
             Event event,
@@ -80,34 +74,13 @@ public class EventOccurrenceResolver {
 
     private ResolvedOccurrence resolveGeneratedOccurrence(
             Event event, LocalDateTime occurrenceDate, LocalDateTime currentOccurrenceTime) {
-        // 생성기 & 종료 조건 생성
-        Generator generator = generatorFactory.getGenerator(event.getRecurrenceGroup());
-        EndCondition endCondition = endConditionFactory.getEndCondition(event.getRecurrenceGroup());
-
-        int count = 1;
-
-        // endCondition에 의한 무한반복
-        while (endCondition.shouldContinue(currentOccurrenceTime, count, event.getRecurrenceGroup())) {
-            // 시간 생성
-            currentOccurrenceTime = generator.next(currentOccurrenceTime, event.getRecurrenceGroup());
-
-            // 이벤트를 찾은 경우
-            if (currentOccurrenceTime.equals(occurrenceDate)) {
-                return EventConverter.toResolvedOccurrence(event, null, currentOccurrenceTime);
-            }
-            // 검색하고자 했던 시간을 넘어선 경우
-            if (currentOccurrenceTime.isAfter(occurrenceDate)) {
-                log.debug("설정한 이벤트 종료 시간 초과");
-                break;
-            }
-            // 모든 탈출 조건문에 걸리지 않았을 때, 최후의 종료
-            if (count > MAX_OCCURRENCE_ITERATION) {
-                log.debug("반복 한도 초과");
-                break;
-            }
-            count++;
+        // 반복 규칙상 존재하는 시간인 경우
+        if (occurrenceExpansionEngine.isOccurrence(event.getRecurrenceGroup(), currentOccurrenceTime, occurrenceDate)) {
+            return EventConverter.toResolvedOccurrence(event, null, occurrenceDate);
         }
-        // 아무것도 찾지 못하고 반복 종료 시
+
+        // 아무것도 찾지 못한 경우
+        log.debug("반복 일정에 해당 시간이 존재하지 않음");
         throw new EventException(EventErrorCode.EVENT_NOT_FOUND);
     }
 
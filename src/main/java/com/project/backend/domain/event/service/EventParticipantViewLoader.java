@@ -0,0 +1,130 @@
+package com.project.backend.domain.event.service;
+
+import com.project.backend.domain.event.dto.EventParticipantViewContext;
+import com.project.backend.domain.event.entity.Event;
+import com.project.backend.domain.event.entity.EventParticipant;
+import com.project.backend.domain.event.enums.InviteStatus;
+import com.project.backend.domain.event.repository.EventParticipantRepository;
+import com.project.backend.domain.friend.dto.FriendIdMapping;
+import com.project.backend.domain.friend.repository.FriendRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 일정 조회 시 참여자/소유 여부/친구 id 정보를 모아 EventParticipantViewContext로 만든다.
+ * - 목록 조회(loadAll)는 이벤트 수와 관계없이 참여자 1회 + 친구 1회의 고정된 쿼리 수로 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventParticipantViewLoader {
+
+    private final EventParticipantRepository eventParticipantRepository;
+    private final FriendRepository friendRepository;
+
+    public EventParticipantViewContext load(Event event, Long memberId) {
+        List<EventParticipant> participants =
+                eventParticipantRepository.findAllByEventId(event.getId());
+
+        boolean isOwner = Objects.equals(event.getMember().getId(), memberId);
+
+        Map<Long, Long> friendIdByMemberId = isOwner
+                ? getFriendIdByMemberId(memberId, participants)
+                : Map.of();
+
+        return toParticipantViewContext(event, memberId, participants, friendIdByMemberId);
+    }
+
+    /**
+     * 이벤트 목록의 context를 한 번에 조회 (이벤트 id → context)
+     */
+    public Map<Long, EventParticipantViewContext> loadAll(List<Event> events, Long memberId) {
+        if (events.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> eventIds = events.stream()
+                .map(Event::getId)
+                .toList();
+
+        Map<Long, List<EventParticipant>> participantsByEventId = eventParticipantRepository
+                .findAllWithMemberByEventIdIn(eventIds)
+                .stream()
+                .collect(Collectors.groupingBy(participant -> participant.getEvent().getId()));
+
+        // 내가 소유자인 이벤트의 참여자들만 친구 id 매핑 대상
+        List<EventParticipant> ownedParticipants = events.stream()
+                .filter(event -> Objects.equals(event.getMember().getId(), memberId))
+                .flatMap(event -> participantsByEventId.getOrDefault(event.getId(), List.of()).stream())
+                .toList();
+        Map<Long, Long> friendIdByMemberId = getFriendIdByMemberId(memberId, ownedParticipants);
+
+        Map<Long, EventParticipantViewContext> contextByEventId = new HashMap<>();
+        for (Event event : events) {
+            boolean isOwner = Objects.equals(event.getMember().getId(), memberId);
+            contextByEventId.put(event.getId(), toParticipantViewContext(
+                    event,
+                    memberId,
+                    participantsByEventId.getOrDefault(event.getId(), List.of()),
+                    isOwner ? friendIdByMemberId : Map.of()
+            ));
+        }
+        return contextByEventId;
+    }
+
+    // =============== private ===================
+
+    private EventParticipantViewContext toParticipantViewContext(
+            Event event,
+            Long memberId,
+            List<EventParticipant> participants,
+            Map<Long, Long> friendIdByMemberId
+    ) {
+        boolean isOwner = Objects.equals(event.getMember().getId(), memberId);
+
+        boolean isAcceptedParticipant = participants.stream()
+                .anyMatch(participant ->
+                        Objects.equals(participant.getMember().getId(), memberId)
+                                && participant.getStatus() == InviteStatus.ACCEPTED
+                );
+
+        return new EventParticipantViewContext(
+                participants,
+                isOwner,
+                isAcceptedParticipant,
+                friendIdByMemberId
+        );
+    }
+
+    private Map<Long, Long> getFriendIdByMemberId(
+            Long memberId,
+            List<EventParticipant> participants
+    ) {
+        if (participants == null || participants.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> participantMemberIds = participants.stream()
+                .map(participant -> participant.getMember().getId())
+                .distinct()
+                .toList();
+
+        if (participantMemberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return friendRepository
+                .findFriendIdsByMemberIdAndOpponentMemberIds(memberId, participantMemberIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        FriendIdMapping::opponentMemberId,
+                        FriendIdMapping::friendId,
+                        (existing, replacement) -> existing
+                ));
+    }
+}
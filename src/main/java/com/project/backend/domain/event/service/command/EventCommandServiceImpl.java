@@ -26,6 +26,7 @@ import com.project.backend.domain.member.entity.Member;
 import com.project.backend.domain.member.exception.MemberErrorCode;
 import com.project.backend.domain.member.exception.MemberException;
 import com.project.backend.domain.member.repository.MemberRepository;
+import com.project.backend.domain.occurrence.cache.CalendarCacheInvalidatePublisher;
 import com.project.backend.domain.reminder.enums.ChangeType;
 import com.project.backend.domain.reminder.enums.DeletedType;
 import com.project.backend.domain.reminder.enums.ExceptionChangeType;
@@ -74,6 +75,7 @@ public class EventCommandServiceImpl implements EventCommandService {
     private final ScheduleVectorSyncService scheduleVectorSyncService;
     private final EventParticipantRepository eventParticipantRepository;
     private final FriendRepository friendRepository;
+    private final CalendarCacheInvalidatePublisher calendarCacheInvalidatePublisher;
 
 
     @Override
@@ -102,6 +104,8 @@ public class EventCommandServiceImpl implements EventCommandService {
             syncEventParticipants(event, participantIds);
         }
 
+        invalidateCalendarCache(event);
+
         // 이벤트 생성에 따른 리스너 생성 로직 실행
         reminderEventBridge.handlePlanChanged(
                 event.getId(),
@@ -150,6 +154,9 @@ public class EventCommandServiceImpl implements EventCommandService {
             return;
         }
 
+        // 참여자 변경 전에 기존 참여자까지 포함해 무효화
+        invalidateCalendarCache(event);
+
         // occurrenceDate가 없으면 event의 startTime을 기본값으로 사용
         if (occurrenceDate == null) {
             occurrenceDate = event.getStartTime();
@@ -296,6 +303,9 @@ public class EventCommandServiceImpl implements EventCommandService {
 
         eventValidator.validateDelete(event, occurrenceDate, scope);
 
+        // 참여자 삭제 전에 무효화 대상 확정
+        invalidateCalendarCache(event);
+
         EventSuggestionSnapshot beforeSnapshot = eventSuggestionSnapshotFactory.from(event);
 
         // 단일 일정일 경우
@@ -385,6 +395,8 @@ public class EventCommandServiceImpl implements EventCommandService {
 
         List<Long> memberIds = eventParticipantRepository.findMemberIdsByEventId(eventId);
 
+        invalidateCalendarCache(event);
+
         eventParticipantRepository.deleteAllByEventId(eventId);
 
         // 정책 변경으로 비활성화
@@ -415,6 +427,8 @@ public class EventCommandServiceImpl implements EventCommandService {
                 eventParticipantRepository.findByMemberIdAndEventId(memberId, eventId)
                         .orElseThrow(() -> new EventException(EventErrorCode.EVENT_INVITATION_NOT_FOUND));
 
+        invalidateCalendarCache(ownerEvent);
+
         // 공유 탈퇴시 바로 연관 관계 삭제
         eventParticipantRepository.delete(eventParticipant);
 
@@ -1091,6 +1105,13 @@ public class EventCommandServiceImpl implements EventCommandService {
         afterCommit(() -> scheduleVectorSyncService.syncOnUpdate(event.getId()));
     }
 
+    // 일정 소유자와 참여자들의 캘린더 캐시 무효화 (커밋 이후 반영)
+    private void invalidateCalendarCache(Event event) {
+        List<Long> memberIds = new ArrayList<>(eventParticipantRepository.findMemberIdsByEventId(event.getId()));
+        memberIds.add(event.getMember().getId());
+        calendarCacheInvalidatePublisher.publish(TargetType.EVENT, memberIds);
+    }
+
     private void afterCommit(Runnable action) {
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
@@ -8,6 +8,7 @@ import com.project.backend.domain.event.exception.EventErrorCode;
 import com.project.backend.domain.event.exception.EventException;
 import com.project.backend.domain.event.repository.EventParticipantRepository;
 import com.project.backend.domain.event.repository.EventRepository;
+import com.project.backend.domain.occurrence.cache.CalendarCacheInvalidatePublisher;
 import com.project.backend.domain.reminder.enums.ChangeType;
 import com.project.backend.domain.reminder.enums.TargetType;
 import jakarta.transaction.Transactional;
@@ -15,6 +16,8 @@ import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -23,6 +26,7 @@ public class EventParticipantCommandServiceImpl implements EventParticipantComma
     private final EventParticipantRepository eventParticipantRepository;
     private final EventRepository eventRepository;
     private final ReminderEventBridge reminderEventBridge;
+    private final CalendarCacheInvalidatePublisher calendarCacheInvalidatePublisher;
 
     @Override
     public void acceptInvitation(Long memberId, Long eventParticipantId) {
@@ -31,6 +35,8 @@ public class EventParticipantCommandServiceImpl implements EventParticipantComma
         eventParticipant.accept();
 
         Event event = eventParticipant.getEvent();
+        // 참여자 캘린더에 일정 추가, 소유자 캘린더의 참여자 상태 변경
+        calendarCacheInvalidatePublisher.publish(TargetType.EVENT, List.of(memberId, event.getMember().getId()));
         // 정책 변경으로 비활성화
 //        if (event.getIsShared() == false) {
 //            event.markAsShared();
@@ -53,6 +59,9 @@ public class EventParticipantCommandServiceImpl implements EventParticipantComma
         EventParticipant eventParticipant = getEventParticipant(memberId, eventParticipantId);
 
         eventParticipantRepository.delete(eventParticipant);
+
+        // 소유자 캘린더의 참여자 목록 변경
+        calendarCacheInvalidatePublisher.publish(TargetType.EVENT, eventParticipant.getOwner().getId());
     }
 
     // EventParticipant 객체 검증 후 반환
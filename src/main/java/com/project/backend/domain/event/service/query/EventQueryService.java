@@ -3,18 +3,29 @@ package com.project.backend.domain.event.service.query;
 import com.project.backend.domain.occurrence.dto.TodayOccurrenceResult;
 import com.project.backend.domain.event.dto.response.EventResDTO;
 import com.project.backend.domain.occurrence.dto.NextOccurrenceResult;
+import com.project.backend.domain.reminder.entity.Reminder;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface EventQueryService {
     EventResDTO.DetailRes getEventDetail(Long eventId, LocalDateTime occurrenceDate, Long memberId);
 
     EventResDTO.EventsListRes getEvents(Long memberId, LocalDate startDate, LocalDate endDate);
 
+    EventResDTO.EventsPageRes getEventsPage(
+            Long memberId, LocalDate startDate, LocalDate endDate, String cursor, Integer size);
+
+    void streamEvents(Long memberId, LocalDate startDate, LocalDate endDate, Consumer<EventResDTO.DetailRes> sink);
+
     NextOccurrenceResult calculateNextOccurrence(Long eventId, LocalDateTime occurrenceTime);
 
+    Map<Long, NextOccurrenceResult> calculateNextOccurrences(Collection<Reminder> reminders);
+
     LocalDateTime findNextOccurrenceAfterNow(Long eventId);
 
     List<TodayOccurrenceResult> calculateTodayOccurrence(List<Long> eventId, LocalDate currentDate);
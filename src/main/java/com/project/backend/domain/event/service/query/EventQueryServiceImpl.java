@@ -1,10 +1,7 @@
 package com.project.backend.domain.event.service.query;
 
 import com.project.backend.domain.event.dto.EventParticipantViewContext;
-import com.project.backend.domain.event.entity.EventParticipant;
 import com.project.backend.domain.event.enums.InviteStatus;
-import com.project.backend.domain.friend.dto.FriendIdMapping;
-import com.project.backend.domain.friend.repository.FriendRepository;
 import com.project.backend.domain.occurrence.dto.TodayOccurrenceResult;
 import com.project.backend.domain.event.converter.EventConverter;
 import com.project.backend.domain.event.converter.EventHistoryConverter;
@@ -14,14 +11,17 @@ import com.project.backend.domain.event.entity.RecurrenceException;
 import com.project.backend.domain.event.entity.RecurrenceGroup;
 import com.project.backend.domain.event.exception.EventErrorCode;
 import com.project.backend.domain.event.exception.EventException;
-import com.project.backend.domain.event.factory.EndConditionFactory;
-import com.project.backend.domain.event.factory.GeneratorFactory;
 import com.project.backend.domain.event.repository.*;
 import com.project.backend.domain.event.service.EventOccurrenceResolver;
-import com.project.backend.domain.event.strategy.endcondition.EndCondition;
-import com.project.backend.domain.event.strategy.generator.Generator;
+import com.project.backend.domain.event.service.EventParticipantViewLoader;
 import com.project.backend.domain.event.validator.EventValidator;
+import com.project.backend.domain.occurrence.cache.CalendarOccurrenceCache;
+import com.project.backend.domain.occurrence.dto.CalendarCursor;
+import com.project.backend.domain.occurrence.dto.EventOccurrence;
 import com.project.backend.domain.occurrence.dto.NextOccurrenceResult;
+import com.project.backend.domain.occurrence.service.EventExceptionIndex;
+import com.project.backend.domain.occurrence.service.OccurrenceExpansionEngine;
+import com.project.backend.domain.reminder.entity.Reminder;
 import com.project.backend.domain.reminder.enums.TargetType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,13 +30,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import static com.project.backend.domain.common.recurrence.enums.ExceptionType.OVERRIDE;
 import static com.project.backend.domain.common.recurrence.enums.ExceptionType.SKIP;
 
 @Slf4j
@@ -45,26 +45,29 @@ import static com.project.backend.domain.common.recurrence.enums.ExceptionType.S
 @Transactional(readOnly = true)
 public class EventQueryServiceImpl implements EventQueryService {
 
-    private static final int MAX_OCCURRENCE_ITERATION = 20_000;
+    // 조회 가능한 최대 기간 (일): 목록은 메모리에 모두 올리므로 1년, 페이지/스트리밍은 5년
+    private static final long MAX_LIST_RANGE_DAYS = 366;
+    private static final long MAX_STREAM_RANGE_DAYS = 1_830;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
 
     private final EventRepository eventRepository;
-    private final FriendRepository friendRepository;
     private final RecurrenceGroupRepository recurrenceGroupRepository;
-    private final RecurrenceExceptionRepository recurrenceExceptionRepository;
 
-    private final GeneratorFactory generatorFactory;
-    private final EndConditionFactory endConditionFactory;
+    private final OccurrenceExpansionEngine occurrenceExpansionEngine;
     private final EventValidator eventValidator;
     private final EventOccurrenceResolver eventOccurrenceResolver;
     private final EventTitleHistoryRepository eventTitleHistoryRepository;
     private final EventParticipantRepository eventParticipantRepository;
+    private final EventParticipantViewLoader eventParticipantViewLoader;
+    private final CalendarOccurrenceCache calendarOccurrenceCache;
 
     @Override
     public EventResDTO.DetailRes getEventDetail(Long eventId, LocalDateTime occurrenceDate, Long memberId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new EventException(EventErrorCode.EVENT_NOT_FOUND));
 
-        EventParticipantViewContext participantContext = getParticipantViewContext(event, memberId);
+        EventParticipantViewContext participantContext = eventParticipantViewLoader.load(event, memberId);
 
         eventValidator.validateRead(event, occurrenceDate);
 
@@ -89,30 +92,107 @@ public class EventQueryServiceImpl implements EventQueryService {
 
     @Override
     public EventResDTO.EventsListRes getEvents(Long memberId, LocalDate startDate, LocalDate endDate) {
+        eventValidator.validateRange(startDate, endDate, MAX_LIST_RANGE_DAYS);
 
         // 2026-01-01 -> 2026-01-01T00:00:00.000000000
         LocalDateTime startRange = startDate.atStartOfDay();
         // 2026-01-02 -> 2026-01-02T23:59:59.999999999
         LocalDateTime endRange = endDate.atTime(LocalTime.MAX);
 
-        // 범위에 맞는 내가 소유자인 이벤트 목록 조회
-        List<Event> OwnedEvents = getOwnedEvents(memberId, startRange, endRange);
-        log.info("Owned Events size: {}", OwnedEvents.toArray());
-        // 범위에 맞는 내가 참여한 이벤트 목록 조회
-        List<Event> SharedEvents = getSharedEvents(memberId, startRange, endRange);
-        log.info("Shared Events size: {}", SharedEvents.toArray());
-        // 두 목록 병합
-        List<Event> result = concatEventList(OwnedEvents, SharedEvents);
+        // 월 단위로 확장된 결과를 캐시에서 가져와 요청 범위와 겹치는 것만 남김
+        // 여러 달에 걸친 occurrence는 양쪽 달에 모두 들어있으므로 (id, 원본 발생일)로 중복 제거
+        Map<Map.Entry<Long, LocalDateTime>, EventResDTO.DetailRes> uniqueDetails = new LinkedHashMap<>();
+        YearMonth endMonth = YearMonth.from(endDate);
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(endMonth); month = month.plusMonths(1)) {
+            for (EventResDTO.DetailRes detail : getMonthEvents(memberId, month)) {
+                if (!detail.start().isAfter(endRange) && !detail.end().isBefore(startRange)) {
+                    uniqueDetails.putIfAbsent(Map.entry(detail.id(), detail.occurrenceDate()), detail);
+                }
+            }
+        }
+
+        // 시작 시간 순 정렬
+        List<EventResDTO.DetailRes> eventsListRes = new ArrayList<>(uniqueDetails.values());
+        eventsListRes.sort(Comparator.comparing(EventResDTO.DetailRes::start));
 
-        // 최상위 이벤트 확장
-        List<EventResDTO.DetailRes> eventsListRes = expandEvents(result, startRange, endRange, memberId);
+        return EventConverter.toEventsListRes(eventsListRes);
+    }
 
-        // 시작 날짜 기준으로 정렬
-        eventsListRes.sort(
-                Comparator.comparing(EventResDTO.DetailRes::start)
+    @Override
+    public EventResDTO.EventsPageRes getEventsPage(
+            Long memberId,
+            LocalDate startDate,
+            LocalDate endDate,
+            String cursor,
+            Integer size
+    ) {
+        eventValidator.validateRange(startDate, endDate, MAX_STREAM_RANGE_DAYS);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.clamp(size, 1, MAX_PAGE_SIZE);
+        CalendarCursor after = decodeCursor(cursor);
+
+        LocalDateTime startRange = startDate.atStartOfDay();
+        LocalDateTime endRange = endDate.atTime(LocalTime.MAX);
+
+        List<Event> events = concatEventList(
+                getOwnedEvents(memberId, startRange, endRange),
+                getSharedEvents(memberId, startRange, endRange)
         );
 
-        return EventConverter.toEventsListRes(eventsListRes);
+        // 커서 이후의 occurrence는 모두 커서의 시작 시간 이후에 시작하므로 그 지점부터 확장
+        LocalDateTime from = after != null && after.start().isAfter(startRange) ? after.start() : startRange;
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회 (엔진이 지연 병합하므로 필요한 만큼만 생성)
+        List<EventOccurrence> occurrences = occurrenceExpansionEngine.expandEvents(events, from, endRange)
+                .filter(occurrence -> after == null || after.isFollowedBy(
+                        occurrence.startTime(), occurrence.event().getId(), occurrence.occurrenceTime()))
+                .limit(pageSize + 1L)
+                .toList();
+
+        boolean hasNext = occurrences.size() > pageSize;
+        List<EventOccurrence> page = hasNext ? occurrences.subList(0, pageSize) : occurrences;
+
+        // 페이지에 포함된 일정의 참여자 정보만 조회
+        List<Event> pageEvents = page.stream()
+                .map(EventOccurrence::event)
+                .distinct()
+                .toList();
+        Map<Long, EventParticipantViewContext> contextByEventId = eventParticipantViewLoader.loadAll(pageEvents, memberId);
+
+        List<EventResDTO.DetailRes> details = page.stream()
+                .map(occurrence -> toDetailRes(occurrence, contextByEventId.get(occurrence.event().getId())))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            EventOccurrence last = page.get(page.size() - 1);
+            nextCursor = CalendarCursor.of(last.startTime(), last.event().getId(), last.occurrenceTime()).encode();
+        }
+
+        return EventConverter.toEventsPageRes(details, nextCursor, hasNext);
+    }
+
+    @Override
+    public void streamEvents(
+            Long memberId,
+            LocalDate startDate,
+            LocalDate endDate,
+            Consumer<EventResDTO.DetailRes> sink
+    ) {
+        eventValidator.validateRange(startDate, endDate, MAX_STREAM_RANGE_DAYS);
+
+        LocalDateTime startRange = startDate.atStartOfDay();
+        LocalDateTime endRange = endDate.atTime(LocalTime.MAX);
+
+        List<Event> events = concatEventList(
+                getOwnedEvents(memberId, startRange, endRange),
+                getSharedEvents(memberId, startRange, endRange)
+        );
+        Map<Long, EventParticipantViewContext> contextByEventId = eventParticipantViewLoader.loadAll(events, memberId);
+
+        // 시작 시간 순으로 하나씩 변환해 바로 전달 (전체 목록을 메모리에 만들지 않음)
+        occurrenceExpansionEngine.expandEvents(events, startRange, endRange)
+                .map(occurrence -> toDetailRes(occurrence, contextByEventId.get(occurrence.event().getId())))
+                .forEachOrdered(sink);
     }
 
     @Override
@@ -144,7 +224,46 @@ public class EventQueryServiceImpl implements EventQueryService {
             return NextOccurrenceResult.none();
         }
 
-        return findNextOccurrenceAfter(event, rg, occurrenceTime, LocalDateTime.now());
+        EventExceptionIndex exceptions = occurrenceExpansionEngine
+                .loadEventExceptions(List.of(event))
+                .getOrDefault(rg.getId(), EventExceptionIndex.empty());
+
+        return findNextOccurrenceAfter(event, rg, occurrenceTime, LocalDateTime.now(), exceptions);
+    }
+
+    /**
+     * 리마인더들의 다음 occurrence를 한 번에 계산 (리마인더 id → 결과)
+     * - 일정과 반복 예외를 묶어서 조회하므로 리마인더 수와 관계없이 쿼리 수가 고정된다.
+     * - 일정이 삭제되었거나 반복 일정이 아니면 none
+     **/
+    @Override
+    public Map<Long, NextOccurrenceResult> calculateNextOccurrences(Collection<Reminder> reminders) {
+        if (reminders.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> eventIds = reminders.stream()
+                .map(Reminder::getTargetId)
+                .distinct()
+                .toList();
+        Map<Long, Event> eventsById = eventRepository.findAllWithRecurrenceGroupByIdIn(eventIds).stream()
+                .collect(Collectors.toMap(Event::getId, event -> event));
+        Map<Long, EventExceptionIndex> exceptionsByGroup =
+                occurrenceExpansionEngine.loadEventExceptions(eventsById.values());
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, NextOccurrenceResult> results = new HashMap<>();
+        for (Reminder reminder : reminders) {
+            Event event = eventsById.get(reminder.getTargetId());
+            RecurrenceGroup rg = event != null ? event.getRecurrenceGroup() : null;
+
+            NextOccurrenceResult result = rg == null
+                    ? NextOccurrenceResult.none()
+                    : findNextOccurrenceAfter(event, rg, reminder.getOccurrenceTime(), now,
+                            exceptionsByGroup.getOrDefault(rg.getId(), EventExceptionIndex.empty()));
+            results.put(reminder.getId(), result);
+        }
+        return results;
     }
 
     /**
@@ -169,27 +288,66 @@ public class EventQueryServiceImpl implements EventQueryService {
      **/
     @Override
     public List<TodayOccurrenceResult> calculateTodayOccurrence(List<Long> eventIds, LocalDate currentDate) {
-        List<TodayOccurrenceResult> results = new ArrayList<>();
-
-        for (Long eventId : eventIds) {
-            Event event = eventRepository.findById(eventId)
-                    .orElseThrow(() -> new EventException(EventErrorCode.EVENT_NOT_FOUND));
+        List<Event> events = eventRepository.findAllById(eventIds);
 
-            results.add(calculateTodayOccurrence(event, currentDate));
+        if (events.size() != new HashSet<>(eventIds).size()) {
+            throw new EventException(EventErrorCode.EVENT_NOT_FOUND);
         }
 
-        return results;
+        // 오늘 시작하는 occurrence (일정당 첫 번째)
+        Map<Long, EventOccurrence> todayByEventId = occurrenceExpansionEngine
+                .expandEvents(events, currentDate.atStartOfDay(), currentDate.atTime(LocalTime.MAX))
+                .filter(occurrence -> occurrence.startTime().toLocalDate().isEqual(currentDate))
+                .collect(Collectors.toMap(
+                        occurrence -> occurrence.event().getId(),
+                        occurrence -> occurrence,
+                        (existing, replacement) -> existing
+                ));
+
+        return eventIds.stream()
+                .map(todayByEventId::get)
+                .map(occurrence -> occurrence != null ? toTodayOccurrenceResult(occurrence) : TodayOccurrenceResult.none())
+                .toList();
     }
 
     //=========================================== private method ======================================================
 
+    // 한 달 범위의 일정 목록 (캐시 미스일 때만 확장)
+    private List<EventResDTO.DetailRes> getMonthEvents(Long memberId, YearMonth month) {
+        return calendarOccurrenceCache.getOrLoad(
+                TargetType.EVENT,
+                memberId,
+                month,
+                EventResDTO.DetailRes.class,
+                () -> loadMonthEvents(memberId, month)
+        );
+    }
+
+    private List<EventResDTO.DetailRes> loadMonthEvents(Long memberId, YearMonth month) {
+        LocalDateTime startRange = month.atDay(1).atStartOfDay();
+        LocalDateTime endRange = month.atEndOfMonth().atTime(LocalTime.MAX);
+
+        // 범위에 맞는 내가 소유자인 이벤트 목록 조회
+        List<Event> OwnedEvents = getOwnedEvents(memberId, startRange, endRange);
+        log.info("Owned Events size: {}", OwnedEvents.size());
+        // 범위에 맞는 내가 참여한 이벤트 목록 조회
+        List<Event> SharedEvents = getSharedEvents(memberId, startRange, endRange);
+        log.info("Shared Events size: {}", SharedEvents.size());
+        // 두 목록 병합
+        List<Event> result = concatEventList(OwnedEvents, SharedEvents);
+
+        // 최상위 이벤트 확장 (시작 날짜 기준으로 정렬됨)
+        return expandEvents(result, startRange, endRange, memberId);
+    }
+
     // 범위에 맞는 내가 소유자인 이벤트 목록 조회
     private List<Event> getOwnedEvents(Long memberId, LocalDateTime startRange, LocalDateTime endRange) {
         // 범위에 맞는 단일 이벤트 목록
         List<Event> baseEvents = eventRepository.findByMemberIdAndOverlappingRange(memberId, startRange, endRange);
         log.debug("baseEvents = {}", baseEvents);
         // 범위에 활성화 되어 있는 반복 그룹 목록
-        List<RecurrenceGroup> baseRg = recurrenceGroupRepository.findActiveRecurrenceGroups(memberId, startRange.toLocalDate());
+        List<RecurrenceGroup> baseRg = recurrenceGroupRepository.findActiveRecurrenceGroups(
+                memberId, startRange.toLocalDate(), endRange);
         log.debug("baseRg = {}", baseRg);
         // 활성화된 반복 그룹에서 이벤트 객체 분리 후 리스트화
         List<Event> EventFromRg = baseRg.stream()
@@ -209,7 +367,7 @@ public class EventQueryServiceImpl implements EventQueryService {
         // 범위에 활성화 되어 있는 참여한 반복 그룹 목록
         List<RecurrenceGroup> baseParticipantRg =
                 eventParticipantRepository.findSharedActiveRecurrenceGroups(
-                        memberId, startRange.toLocalDate(), InviteStatus.ACCEPTED);
+                        memberId, startRange.toLocalDate(), endRange, InviteStatus.ACCEPTED);
         // 활성화된 반복 그룹에서 이벤트 객체 분리 후 리스트화
         List<Event> EventFromSharedRg = baseParticipantRg.stream()
                 .map(RecurrenceGroup::getEvent)
@@ -219,154 +377,17 @@ public class EventQueryServiceImpl implements EventQueryService {
         return concatEventList(baseParticipantEvents, EventFromSharedRg);
     }
 
-    private TodayOccurrenceResult calculateTodayOccurrence(Event event, LocalDate currentDate) {
-        if (!event.isRecurring()) {
-            return calculateSingleEventTodayOccurrence(event, currentDate);
-        }
-
-        return calculateRecurringEventTodayOccurrence(event, currentDate);
-    }
-
-    private TodayOccurrenceResult calculateSingleEventTodayOccurrence(Event event, LocalDate currentDate) {
-        if (event.getStartTime().toLocalDate().isEqual(currentDate)) {
-            return TodayOccurrenceResult.of(
-                    event.getTitle(),
-                    event.getStartTime().toLocalTime(),
-                    TargetType.EVENT
-            );
-        }
-
-        return TodayOccurrenceResult.none();
-    }
-
-    private TodayOccurrenceResult calculateRecurringEventTodayOccurrence(Event event, LocalDate currentDate) {
-        RecurrenceGroup recurrenceGroup = event.getRecurrenceGroup();
-        List<RecurrenceException> exceptions =
-                recurrenceExceptionRepository.findAllByRecurrenceGroupId(recurrenceGroup.getId());
-
-        Optional<TodayOccurrenceResult> movedOverrideResult =
-                resolveMovedToTodayOverride(event, currentDate, exceptions);
-        if (movedOverrideResult.isPresent()) {
-            return movedOverrideResult.get();
-        }
-
-        LocalDateTime occurrenceTime = findOccurrenceOnDate(event, currentDate);
-        if (occurrenceTime == null) {
-            return TodayOccurrenceResult.none();
-        }
-
-        return resolveOccurrenceResult(event, currentDate, occurrenceTime, exceptions);
-    }
-
-    private Optional<TodayOccurrenceResult> resolveMovedToTodayOverride(
-            Event event,
-            LocalDate currentDate,
-            List<RecurrenceException> exceptions
-    ) {
-        return exceptions.stream()
-                .filter(ex -> ex.getExceptionType() == OVERRIDE)
-                .filter(ex -> ex.getStartTime() != null)
-                .filter(ex -> ex.getStartTime().toLocalDate().isEqual(currentDate))
-                .findFirst()
-                .map(ex -> TodayOccurrenceResult.of(
-                        ex.getTitle() != null ? ex.getTitle() : event.getTitle(),
-                        ex.getStartTime().toLocalTime(),
-                        TargetType.EVENT
-                ));
-    }
-
-    private TodayOccurrenceResult resolveOccurrenceResult(
-            Event event,
-            LocalDate currentDate,
-            LocalDateTime occurrenceTime,
-            List<RecurrenceException> exceptions
-    ) {
-        Optional<RecurrenceException> occurrenceException = exceptions.stream()
-                .filter(ex -> ex.getExceptionDate().isEqual(occurrenceTime))
-                .findFirst();
-
-        if (occurrenceException.isEmpty()) {
-            return TodayOccurrenceResult.of(
-                    event.getTitle(),
-                    occurrenceTime.toLocalTime(),
-                    TargetType.EVENT
-            );
-        }
-
-        RecurrenceException exception = occurrenceException.get();
-
-        if (exception.getExceptionType() == SKIP) {
-            return TodayOccurrenceResult.none();
-        }
-
-        return resolveOverrideResult(event, currentDate, occurrenceTime, exception);
-    }
-
-    private TodayOccurrenceResult resolveOverrideResult(
-            Event event,
-            LocalDate currentDate,
-            LocalDateTime occurrenceTime,
-            RecurrenceException exception
-    ) {
-        if (exception.getExceptionType() != OVERRIDE) {
-            return TodayOccurrenceResult.none();
-        }
-
-        LocalDateTime actualStartTime = exception.getStartTime() != null
-                ? exception.getStartTime()
-                : LocalDateTime.of(
-                exception.getExceptionDate().toLocalDate(),
-                event.getStartTime().toLocalTime()
-        );
-
-        if (!actualStartTime.toLocalDate().isEqual(currentDate)) {
-            return TodayOccurrenceResult.none();
-        }
-
-        String resolvedTitle = exception.getTitle() != null
-                ? exception.getTitle()
-                : event.getTitle();
+    private TodayOccurrenceResult toTodayOccurrenceResult(EventOccurrence occurrence) {
+        RecurrenceException ex = occurrence.exception();
+        String title = ex != null && ex.getTitle() != null ? ex.getTitle() : occurrence.event().getTitle();
 
         return TodayOccurrenceResult.of(
-                resolvedTitle,
-                actualStartTime.toLocalTime(),
+                title,
+                occurrence.startTime().toLocalTime(),
                 TargetType.EVENT
         );
     }
 
-    private LocalDateTime findOccurrenceOnDate(Event event, LocalDate targetDate) {
-        LocalDateTime currentOccurrenceTime = event.getStartTime();
-
-        if (currentOccurrenceTime.toLocalDate().isEqual(targetDate)) {
-            return currentOccurrenceTime;
-        }
-
-        RecurrenceGroup recurrenceGroup = event.getRecurrenceGroup();
-        Generator generator = generatorFactory.getGenerator(recurrenceGroup);
-        EndCondition endCondition = endConditionFactory.getEndCondition(recurrenceGroup);
-
-        int iterationCount = 1;
-
-        while (endCondition.shouldContinue(currentOccurrenceTime, iterationCount, recurrenceGroup)) {
-            if (iterationCount >= MAX_OCCURRENCE_ITERATION) {
-                break;
-            }
-
-            currentOccurrenceTime = generator.next(currentOccurrenceTime, recurrenceGroup);
-            iterationCount++;
-
-            if (currentOccurrenceTime.toLocalDate().isAfter(targetDate)) {
-                return null;
-            }
-
-            if (currentOccurrenceTime.toLocalDate().isEqual(targetDate)) {
-                return currentOccurrenceTime;
-            }
-        }
-
-        return null;
-    }
-
     // 최상위 이벤트 객체를 기준으로 검색 범위에 맞게 임시 시간 Detail DTO를 생성하여 리스트로 반환
     private List<EventResDTO.DetailRes> expandEvents(
             List<Event> baseEvents,
@@ -374,113 +395,29 @@ public class EventQueryServiceImpl implements EventQueryService {
             LocalDateTime endRange,
             Long memberId
     ) {
+        Map<Long, EventParticipantViewContext> contextByEventId = eventParticipantViewLoader.loadAll(baseEvents, memberId);
 
-        List<EventResDTO.DetailRes> expandedEvents = new ArrayList<>();
-
-        for (Event event : baseEvents) {
-            // 반복 패턴에 맞는 생성기 전략 주입
-            Generator generator = generatorFactory.getGenerator(event.getRecurrenceGroup());
-            // 반복 패턴에 맞는 정지 조건 전략 주입
-            EndCondition endCondition = endConditionFactory.getEndCondition(event.getRecurrenceGroup());
-
-            EventParticipantViewContext participantContext =
-                    getParticipantViewContext(event, memberId);
-
-            List<EventParticipant> participants = participantContext.participants();
-            boolean isOwner = participantContext.isOwner();
-            Map<Long, Long> friendIdByMemberId = participantContext.friendIdByMemberId();
-
-            // 익셉션 테이블 찾기
-            List<RecurrenceException> recurrenceExceptions = new ArrayList<>();
-            if (event.getRecurrenceGroup() != null) {
-                recurrenceExceptions =
-                        recurrenceExceptionRepository.findAllByRecurrenceGroupId(event.getRecurrenceGroup().getId());
-            }
-            LocalDateTime tempStartTime = event.getStartTime();
-            LocalDateTime tempEndTime = event.getEndTime();
-            RecurrenceException tempEx = null;
-            boolean isSkip = false;
-            for (RecurrenceException ex : recurrenceExceptions) {
-                // 만약 부모 익셉션이 존재한다면
-                if (ex.getExceptionDate().isEqual(event.getStartTime())) {
-                    log.debug("부모 익셉션 존재");
-                    tempEx = ex;
-                }
-            }
-            if (tempEx != null) {
-                if (tempEx.getExceptionType() == OVERRIDE) {
-                    log.debug("오버라이드 존재");
-                    tempStartTime = tempEx.getStartTime() != null ? tempEx.getStartTime() : event.getStartTime();
-                    tempEndTime = tempEx.getEndTime() != null ? tempEx.getEndTime() : event.getEndTime();
-                }
-                else if (tempEx.getExceptionType() == SKIP) {
-                    log.debug("스킵 존재");
-                    isSkip = true;
-                }
-                // 부모가 검색 범위에 포함되어 있지 않다면 시간만 추출하고 폐기
-                if (!isSkip && !tempStartTime.isBefore(startRange) && !tempEndTime.isAfter(endRange)) {
-                    log.debug("예외 부모가 범위에 포함되었습니다");
-                    expandedEvents.add(EventConverter.toDetailRes(tempEx, event, participants, isOwner, friendIdByMemberId));
-                }
-            } else {
-                if (!tempStartTime.isBefore(startRange) && !tempEndTime.isAfter(endRange)) {
-                    log.debug("원본 부모가 범위에 포함되었습니다");
-                    expandedEvents.add(EventConverter.toDetailRes(event, participants, isOwner, friendIdByMemberId));
-                }
-            }
+        // 엔진이 시작 시간 순으로 반환
+        return occurrenceExpansionEngine.expandEvents(baseEvents, startRange, endRange)
+                .map(occurrence -> toDetailRes(occurrence, contextByEventId.get(occurrence.event().getId())))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
 
-            // 부모 이벤트 포함
-            int count = 1;
-            // 생성기에 최초로 들어갈 기준 시간
-            LocalDateTime current = event.getStartTime();
-            // 끝 시간을 결정하기 위한 범위 계산
-            Duration duration = Duration.between(event.getStartTime(), event.getEndTime());
-
-            // endCondition에 의한 무한반복
-            while (endCondition.shouldContinue(current, count, event.getRecurrenceGroup())) {
-
-                // 생성기가 패턴을 분석하여 날짜를 생성함
-                current = generator.next(current, event.getRecurrenceGroup());
-//                log.info("Current occurrenceDate is {}", current);
-
-                // 전략적 생성기가 생성한 임시 객체가 리턴 리스트에 들어갈 자격이 있는가
-//                if (endCondition.shouldContinue(current, count, event.getRecurrenceGroup())) {
-//                    break;
-//                }
-                // 익셉션 테이블이 있는 경우
-                for (RecurrenceException ex : recurrenceExceptions) {
-                    // 타입이 스킵인데, 익셉션 데이트와 요청 시간이 같은 경우
-                    if (ex.getExceptionType() == SKIP && current.isEqual(ex.getExceptionDate())) {
-                        // 다음 시간으로 넘김
-                        current = generator.next(current, event.getRecurrenceGroup());
-                    } else if (ex.getExceptionType() == OVERRIDE && current.isEqual(ex.getExceptionDate())) {
-                        // 잘 찾았으니 리턴값에 추가
-                        expandedEvents.add(EventConverter.toDetailRes(ex, event, participants, isOwner, friendIdByMemberId));
-                        current = generator.next(current, event.getRecurrenceGroup());
-                    }
-                }
+    private EventResDTO.DetailRes toDetailRes(EventOccurrence occurrence, EventParticipantViewContext context) {
+        Event event = occurrence.event();
 
-                // startRange 이전 → 생성은 하지만 결과에는 미포함
-                if (current.plus(duration).isBefore(startRange)) {
-                    count++;
-                    continue;
-                }
-                // endRange 초과 → 종료
-                if (current.isAfter(endRange)) {
-                    break;
-                }
-                LocalDate endDate = event.getRecurrenceGroup().getEndDate();
-                // 패턴의 종료 시간이 정해진 경우에 현재 시간이 종료 시간을 넘어선 경우 → 종료
-                if (endDate != null && current.toLocalDate().isAfter(endDate)) {
-                    break;
-                }
-                // 모든 탈출 조건을 통과한 객체는 DTO로 변환
-                expandedEvents.add(EventConverter.toDetailRes(event, current, current.plus(duration), participants, isOwner, friendIdByMemberId));
-                // 카운트 증가
-                count++;
-            }
+        // 수정된 occurrence
+        if (occurrence.exception() != null) {
+            return EventConverter.toDetailRes(occurrence.exception(), event,
+                    context.participants(), context.isOwner(), context.friendIdByMemberId());
+        }
+        // 원본 부모
+        if (occurrence.isOrigin()) {
+            return EventConverter.toDetailRes(event,
+                    context.participants(), context.isOwner(), context.friendIdByMemberId());
         }
-        return expandedEvents;
+        return EventConverter.toDetailRes(event, occurrence.startTime(), occurrence.endTime(),
+                context.participants(), context.isOwner(), context.friendIdByMemberId());
     }
 
     private static List<Event> concatEventList(List<Event> baseEvents, List<Event> EventFromRg) {
@@ -501,127 +438,42 @@ public class EventQueryServiceImpl implements EventQueryService {
             Event event,
             RecurrenceGroup rg,
             LocalDateTime occurrenceTime,
-            LocalDateTime now
+            LocalDateTime now,
+            EventExceptionIndex exceptions
     ) {
-        LocalDateTime currentOccurrenceTime = event.getStartTime();
-
-        Generator generator = generatorFactory.getGenerator(rg);
-        EndCondition endCondition = endConditionFactory.getEndCondition(rg);
+        LocalDateTime start = event.getStartTime();
 
-        int count = 1;
+        // 리마인더에 설정된 날짜와 현재 시간 중 늦은 시간
+        LocalDateTime threshold = occurrenceTime.isAfter(now) ? occurrenceTime : now;
 
-        while (endCondition.shouldContinue(currentOccurrenceTime, count, rg)) {
-
-            // 다음 기본 occurrence 생성
-            currentOccurrenceTime = generator.next(currentOccurrenceTime, rg);
-
-            // 해당 날짜의 반복 예외 조회
-            Optional<RecurrenceException> exOpt =
-                    recurrenceExceptionRepository
-                            .findByRecurrenceGroupIdAndExceptionDate(
-                                    rg.getId(),
-                                    currentOccurrenceTime
-                            );
-
-            if (exOpt.isPresent()) {
-                RecurrenceException ex = exOpt.get();
-
-                // SKIP, 날짜 수정이 아닌경우
-                if (ex.getExceptionType() == SKIP || ex.getStartTime() == null) {
-                    count++;
-                    continue;
-                }
-            }
-
-            // 리마인더에 설정된 날짜보다 이후인데, 현재시간보다 이후여야함
-            if (currentOccurrenceTime.isAfter(occurrenceTime) && currentOccurrenceTime.isAfter(now)) {
-                return NextOccurrenceResult.of(currentOccurrenceTime);
-            }
-
-            count++;
-
-            if (count > MAX_OCCURRENCE_ITERATION) {
-                break; // 안전장치
-            }
-        }
-        return NextOccurrenceResult.none();
+        // 첫 일정(부모) 이후이면서 threshold 이후인, SKIP/날짜 수정 아닌 예외가 없는 첫 occurrence
+        return occurrenceExpansionEngine.findNextSlot(rg, start, threshold, slot ->
+                        slot.isAfter(start) && slot.isAfter(threshold) && !isSkippedOccurrence(exceptions.get(slot)))
+                .map(NextOccurrenceResult::of)
+                .orElseGet(NextOccurrenceResult::none);
     }
 
-    private LocalDateTime findFirstOccurrenceOnOrAfter(Event event, LocalDateTime now) {
-        RecurrenceGroup rg = event.getRecurrenceGroup();
-
-        Generator generator = generatorFactory.getGenerator(rg);
-        EndCondition endCondition = endConditionFactory.getEndCondition(rg);
-
-        LocalDateTime current = event.getStartTime();
-        LocalDateTime lastValid = null;
-
-        int count = 1;
-
-        // 현재 시간보다 가장 가까운 이후 날짜 찾기
-        while (endCondition.shouldContinue(current, count, rg)) {
-            current = generator.next(current, rg);
-            lastValid = current;
-            count++;
-
-            if (!current.isBefore(now)) {
-                break;
-            }
-
-            if (count > MAX_OCCURRENCE_ITERATION) break;
+    private CalendarCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return CalendarCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new EventException(EventErrorCode.INVALID_CURSOR);
         }
-
-        return lastValid;
     }
 
-    private EventParticipantViewContext getParticipantViewContext(Event event, Long memberId) {
-        List<EventParticipant> participants =
-                eventParticipantRepository.findAllByEventId(event.getId());
-
-        boolean isOwner = Objects.equals(event.getMember().getId(), memberId);
-
-        boolean isAcceptedParticipant = participants.stream()
-                .anyMatch(participant ->
-                        Objects.equals(participant.getMember().getId(), memberId)
-                                && participant.getStatus() == InviteStatus.ACCEPTED
-                );
-
-        Map<Long, Long> friendIdByMemberId = isOwner
-                ? getFriendIdByMemberId(memberId, participants)
-                : Map.of();
-
-        return new EventParticipantViewContext(
-                participants,
-                isOwner,
-                isAcceptedParticipant,
-                friendIdByMemberId
-        );
+    // SKIP이거나 날짜 수정이 아닌 반복 예외인지
+    private boolean isSkippedOccurrence(RecurrenceException ex) {
+        return ex != null && (ex.getExceptionType() == SKIP || ex.getStartTime() == null);
     }
 
-    private Map<Long, Long> getFriendIdByMemberId(
-            Long memberId,
-            List<EventParticipant> participants
-    ) {
-        if (participants == null || participants.isEmpty()) {
-            return Map.of();
-        }
-
-        List<Long> participantMemberIds = participants.stream()
-                .map(participant -> participant.getMember().getId())
-                .distinct()
-                .toList();
-
-        if (participantMemberIds.isEmpty()) {
-            return Map.of();
-        }
+    // 첫 일정(부모) 이후의 occurrence 중 현재 시간과 같거나 이후인 첫 occurrence (반복이 이미 종료됐으면 null)
+    private LocalDateTime findFirstOccurrenceOnOrAfter(Event event, LocalDateTime now) {
+        LocalDateTime start = event.getStartTime();
 
-        return friendRepository
-                .findFriendIdsByMemberIdAndOpponentMemberIds(memberId, participantMemberIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        FriendIdMapping::opponentMemberId,
-                        FriendIdMapping::friendId,
-                        (existing, replacement) -> existing
-                ));
+        return occurrenceExpansionEngine.findNextSlot(event.getRecurrenceGroup(), start, now, slot -> slot.isAfter(start))
+                .orElse(null);
     }
 }
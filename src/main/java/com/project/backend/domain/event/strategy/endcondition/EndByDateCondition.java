@@ -1,5 +1,6 @@
 package com.project.backend.domain.event.strategy.endcondition;
 
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
 import com.project.backend.global.recurrence.RecurrenceRule;
 import org.springframework.stereotype.Component;
 
@@ -12,6 +13,10 @@ public class EndByDateCondition implements EndCondition {
     // 생성 가능한 시점을 넘으면 종료
     @Override
     public boolean shouldContinue(LocalDateTime time, int count, RecurrenceRule rule) {
+        // 컴파일된 규칙이면 미리 계산된 종료 시각 사용
+        if (rule instanceof CompiledRecurrenceRule compiled) {
+            return !time.isAfter(compiled.getEndDateTime());
+        }
         return !time.isAfter(rule.getEndDate().atTime(LocalTime.MAX));
     }
 }
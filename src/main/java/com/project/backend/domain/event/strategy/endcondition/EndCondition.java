@@ -17,4 +17,15 @@ public interface EndCondition {
      * @return Generator를 작동시켜도 되는지
      */
     boolean shouldContinue(LocalDateTime time, int createdCount, RecurrenceRule rule);
+
+    /**
+     * seek으로 찾은 반복이 종료 조건 안에 있는지
+     * (count번째 반복은 count - 1번째까지 생성을 계속할 수 있을 때 만들어진다)
+     * @param time 반복 시간
+     * @param count 몇 번째 반복인지 (첫 시작 = 1)
+     * @param rule 반복 규칙
+     */
+    default boolean includes(LocalDateTime time, int count, RecurrenceRule rule) {
+        return count == 1 || shouldContinue(time, count - 1, rule);
+    }
 }
@@ -1,19 +1,46 @@
 package com.project.backend.domain.event.strategy.generator;
 
-import com.project.backend.global.recurrence.RecurrenceRule;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Component
 public class DailyGenerator implements Generator {
 
     // 매일 매일 반복
     @Override
-    public LocalDateTime next(LocalDateTime current, RecurrenceRule rule) {
+    public LocalDateTime next(LocalDateTime current, CompiledRecurrenceRule rule) {
 
         // 반복 일
         int interval = rule.getIntervalValue();
         return current.plusDays(interval);
     }
+
+    // anchor + N * interval 일
+    @Override
+    public SeekResult seek(LocalDateTime anchor, LocalDateTime target, CompiledRecurrenceRule rule) {
+        return seekByDays(anchor, target, rule.getIntervalValue());
+    }
+
+    /**
+     * anchor부터 intervalDays 간격으로 반복될 때 target과 같거나 이후인 첫 반복
+     */
+    static SeekResult seekByDays(LocalDateTime anchor, LocalDateTime target, int intervalDays) {
+        if (!anchor.isBefore(target)) {
+            return SeekResult.first(anchor);
+        }
+
+        long days = ChronoUnit.DAYS.between(anchor.toLocalDate(), target.toLocalDate());
+        long steps = Math.ceilDiv(days, intervalDays);
+        LocalDateTime time = anchor.plusDays(steps * intervalDays);
+
+        // 같은 날이지만 시각이 target보다 이른 경우
+        if (time.isBefore(target)) {
+            steps++;
+            time = time.plusDays(intervalDays);
+        }
+        return SeekResult.of(time, steps + 1);
+    }
 }
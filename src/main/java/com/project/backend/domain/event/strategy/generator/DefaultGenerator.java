@@ -1,6 +1,6 @@
 package com.project.backend.domain.event.strategy.generator;
 
-import com.project.backend.global.recurrence.RecurrenceRule;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -10,7 +10,7 @@ public class DefaultGenerator implements Generator {
 
     // 반복이 없는 경우에는 null 반환
     @Override
-    public LocalDateTime next(LocalDateTime current, RecurrenceRule rule) {
+    public LocalDateTime next(LocalDateTime current, CompiledRecurrenceRule rule) {
         return null;
     }
 }
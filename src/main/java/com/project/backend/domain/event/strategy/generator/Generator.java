@@ -1,6 +1,6 @@
 package com.project.backend.domain.event.strategy.generator;
 
-import com.project.backend.global.recurrence.RecurrenceRule;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
 
 import java.time.LocalDateTime;
 
@@ -10,11 +10,40 @@ import java.time.LocalDateTime;
  */
 public interface Generator {
 
+    // seek 기본 구현의 최대 next() 호출 수
+    int MAX_SEEK_ITERATION = 20_000;
+
     /**
      *  패턴을 기준으로 current 다음에 올 가장 빠른 다음 time을 반환
      *  @param current 기준 시간
-     *  @param rule 반복 규칙
+     *  @param rule 컴파일된 반복 규칙 (생성기를 가져올 때 한 번 컴파일해서 전달)
      *  @return 다음 반복 시작 시간
      */
-    LocalDateTime next(LocalDateTime current, RecurrenceRule rule);
+    LocalDateTime next(LocalDateTime current, CompiledRecurrenceRule rule);
+
+    /**
+     *  anchor부터 시작하는 반복 중 target과 같거나 이후인 첫 번째 반복을 반환
+     *  기본 구현은 next()를 순차 호출하며, 각 생성기는 산술 계산으로 재정의한다
+     *  종료 조건은 검사하지 않으므로 호출 측에서 EndCondition.includes()로 확인해야 한다
+     *  계산할 수 없는 경우 anchor를 그대로 반환하며, 호출 측은 기존처럼 next()로 진행한다
+     *  @param anchor 반복의 첫 시작 시간 (count = 1)
+     *  @param target 찾고자 하는 기준 시간
+     *  @param rule 컴파일된 반복 규칙
+     *  @return 찾은 반복 시간과 반복 횟수
+     */
+    default SeekResult seek(LocalDateTime anchor, LocalDateTime target, CompiledRecurrenceRule rule) {
+        LocalDateTime current = anchor;
+        int count = 1;
+
+        while (current.isBefore(target) && count < MAX_SEEK_ITERATION) {
+            LocalDateTime next = next(current, rule);
+            // 단발성 (DefaultGenerator)
+            if (next == null) {
+                break;
+            }
+            current = next;
+            count++;
+        }
+        return new SeekResult(current, count);
+    }
 }
@@ -2,7 +2,7 @@ package com.project.backend.domain.event.strategy.generator;
 
 import com.project.backend.domain.event.strategy.generator.monthlyrule.DayOfMonthRule;
 import com.project.backend.domain.event.strategy.generator.monthlyrule.DayOfWeekRule;
-import com.project.backend.global.recurrence.RecurrenceRule;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -18,11 +18,19 @@ public class MonthlyGenerator implements Generator {
     private final DayOfWeekRule dayOfWeekRule;
 
     @Override
-    public LocalDateTime next(LocalDateTime current, RecurrenceRule rule) {
+    public LocalDateTime next(LocalDateTime current, CompiledRecurrenceRule rule) {
         // 월별 처리 방식
         return switch (rule.getMonthlyType()) {
             case DAY_OF_MONTH -> dayOfMonthRule.next(current, rule);
             case DAY_OF_WEEK -> dayOfWeekRule.next(current, rule);
         };
     }
+
+    @Override
+    public SeekResult seek(LocalDateTime anchor, LocalDateTime target, CompiledRecurrenceRule rule) {
+        return switch (rule.getMonthlyType()) {
+            case DAY_OF_MONTH -> dayOfMonthRule.seek(anchor, target, rule);
+            case DAY_OF_WEEK -> dayOfWeekRule.seek(anchor, target, rule);
+        };
+    }
 }
@@ -0,0 +1,19 @@
+package com.project.backend.domain.event.strategy.generator;
+
+import java.time.LocalDateTime;
+
+/**
+ *  Generator.seek() 결과
+ *  @param time 찾은 반복 시간
+ *  @param count 몇 번째 반복인지 (첫 시작 = 1)
+ */
+public record SeekResult(LocalDateTime time, int count) {
+
+    public static SeekResult first(LocalDateTime anchor) {
+        return new SeekResult(anchor, 1);
+    }
+
+    public static SeekResult of(LocalDateTime time, long count) {
+        return new SeekResult(time, (int) Math.min(count, Integer.MAX_VALUE));
+    }
+}
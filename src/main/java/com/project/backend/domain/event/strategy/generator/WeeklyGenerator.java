@@ -1,47 +1,53 @@
 package com.project.backend.domain.event.strategy.generator;
 
-import com.project.backend.global.recurrence.RecurrenceRule;
-import com.project.backend.global.recurrence.util.RecurrenceUtils;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
 import org.springframework.stereotype.Component;
 
-import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.temporal.ChronoUnit;
 
 @Component
 public class WeeklyGenerator implements Generator {
 
     @Override
-    public LocalDateTime next(LocalDateTime current, RecurrenceRule rule) {
+    public LocalDateTime next(LocalDateTime current, CompiledRecurrenceRule rule) {
 
-        // 반복 요일
-        List<DayOfWeek> targetDays = RecurrenceUtils.parseDaysOfWeek(rule.getDaysOfWeek());
-
-        // 반복 요일이 비어있으면 시작일의 요일을 기본값으로 사용
-        if (targetDays.isEmpty()) {
-            targetDays = List.of(current.getDayOfWeek());
+        // 반복 요일이 비어있으면 시작일의 요일을 기본값으로 사용 -> 일주일 뒤
+        if (!rule.hasWeekdays()) {
+            return current.plusDays(7);
         }
 
-        // 다음 날짜 리턴
-        return nearestDate(current, targetDays);
+        // 매주 반복 요일에 따라서 입력한 날짜로부터 가장 가까운 날짜를 리턴
+        return current.plusDays(rule.daysUntilNextWeekday(current.getDayOfWeek()));
     }
 
-    // 매주 반복 요일에 따라서 입력한 날짜로부터 가장 가까운 날짜를 리턴
-    private LocalDateTime nearestDate(LocalDateTime baseDate, List<DayOfWeek> targetDays) {
-
-        // 입력된 날짜의 요일을 알아낸다
-        DayOfWeek baseDayOfWeek = baseDate.getDayOfWeek();
-
-        // 기준 요일에서 다음 기준으로 가까운 대상 요일 가져오기
-        DayOfWeek nextTargetDay = RecurrenceUtils.findNextTarget(baseDayOfWeek, targetDays);
+    @Override
+    public SeekResult seek(LocalDateTime anchor, LocalDateTime target, CompiledRecurrenceRule rule) {
 
-        // 기준 날보다 큰 반복 대상 중에서 가장 작은 날에 대해서
-        int diff = (nextTargetDay.getValue() - baseDayOfWeek.getValue() + 7) % 7;
+        // 반복 요일이 비어있으면 7일 간격
+        if (!rule.hasWeekdays()) {
+            return DailyGenerator.seekByDays(anchor, target, 7);
+        }
+        if (!anchor.isBefore(target)) {
+            return SeekResult.first(anchor);
+        }
 
-        if (diff == 0) {
-            diff = 7;
+        // target 날짜의 반복 시각이 target보다 이르면 다음 날부터
+        LocalDate date = target.toLocalDate();
+        if (LocalDateTime.of(date, anchor.toLocalTime()).isBefore(target)) {
+            date = date.plusDays(1);
         }
+        // 반복 요일에 해당하는 첫 날짜
+        if (!rule.isWeekday(date.getDayOfWeek())) {
+            date = date.plusDays(rule.daysUntilNextWeekday(date.getDayOfWeek()));
+        }
+
+        // anchor 이후 date까지 포함된 반복 요일 수 + anchor
+        LocalDate anchorDate = anchor.toLocalDate();
+        long days = ChronoUnit.DAYS.between(anchorDate, date);
+        long count = 1 + rule.countWeekdaysAfter(anchorDate.getDayOfWeek(), days);
 
-        return baseDate.plusDays(diff);
+        return SeekResult.of(LocalDateTime.of(date, anchor.toLocalTime()), count);
     }
 }
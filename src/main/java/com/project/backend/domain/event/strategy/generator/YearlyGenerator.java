@@ -1,29 +1,30 @@
 package com.project.backend.domain.event.strategy.generator;
 
-import com.project.backend.global.recurrence.RecurrenceRule;
-import com.project.backend.global.recurrence.util.RecurrenceUtils;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.Month;
+import java.time.temporal.ChronoUnit;
 
 @Component
 public class YearlyGenerator implements Generator {
 
     @Override
-    public LocalDateTime next(LocalDateTime current, RecurrenceRule rule) {
+    public LocalDateTime next(LocalDateTime current, CompiledRecurrenceRule rule) {
 
         // monthOfYear가 null이면 현재 날짜의 월을 사용 (Todo의 경우)
         int monthOfYear = rule.getMonthOfYear() != null
                 ? rule.getMonthOfYear()
                 : current.getMonthValue();
 
-        List<Integer> targetDays = RecurrenceUtils.parseDaysOfMonth(rule.getDaysOfMonth());
+        int interval = rule.getIntervalValue() != null ? rule.getIntervalValue() : 1;
 
-        // targetDays가 null이거나 비어있으면 현재 날짜의 일을 사용 (Todo의 경우)
-        if (targetDays == null || targetDays.isEmpty()) {
+        // targetDays가 비어있으면 현재 날짜의 일을 사용 (Todo의 경우)
+        if (!rule.hasMonthDays()) {
             // 단순히 intervalValue년 후 같은 월/일 반환
-            return current.plusYears(rule.getIntervalValue() != null ? rule.getIntervalValue() : 1);
+            return current.plusYears(interval);
         }
 
         // 입력 일
@@ -38,13 +39,77 @@ public class YearlyGenerator implements Generator {
             current = current.withMonth(monthOfYear).withDayOfMonth(1).minusDays(1);
             baseDay = current.getDayOfMonth();
             // 입력 일이 반복 일의 마지막이라면
-        } else if (baseDay == targetDays.getLast()) {
+        } else if (baseDay == rule.lastMonthDay()) {
             // 다음 년도 변경
-            current = current.plusYears(rule.getIntervalValue() != null ? rule.getIntervalValue() : 1);
+            current = current.plusYears(interval);
         }
 
         // 다음 반복 대상
-        int nextTarget = RecurrenceUtils.findNextTarget(baseDay, targetDays);
+        int nextTarget = rule.nextMonthDayAfter(baseDay);
         return current.withMonth(monthOfYear).withDayOfMonth(nextTarget);
     }
+
+    @Override
+    public SeekResult seek(LocalDateTime anchor, LocalDateTime target, CompiledRecurrenceRule rule) {
+        if (!anchor.isBefore(target)) {
+            return SeekResult.first(anchor);
+        }
+
+        int interval = rule.getIntervalValue() != null ? rule.getIntervalValue() : 1;
+
+        // 반복 일자가 없으면 anchor + N * interval 년
+        if (!rule.hasMonthDays()) {
+            // 2월 29일 시작은 plusYears 누적 시 28일로 보정되므로 순차 계산
+            if (anchor.getMonth() == Month.FEBRUARY && anchor.getDayOfMonth() == 29) {
+                return Generator.super.seek(anchor, target, rule);
+            }
+            long steps = anchor.until(target, ChronoUnit.YEARS) / interval;
+            LocalDateTime time = anchor.plusYears(steps * interval);
+            if (time.isBefore(target)) {
+                steps++;
+                time = time.plusYears(interval);
+            }
+            return SeekResult.of(time, steps + 1);
+        }
+
+        // 첫 next() 이후에는 반복 월의 반복 일자만 순서대로 생성된다
+        LocalDateTime second = next(anchor, rule);
+        int month = second.getMonthValue();
+        int secondIndex = rule.indexOfMonthDay(second.getDayOfMonth());
+
+        // 위 패턴을 벗어나는 규칙(과거로 이동, 존재하지 않는 일자 등)은 순차 계산
+        boolean regular = second.isAfter(anchor)
+                && secondIndex >= 0
+                && rule.lastMonthDay() <= Month.of(month).minLength()
+                && (rule.getMonthOfYear() == null || rule.getMonthOfYear() == month);
+        if (!regular) {
+            return Generator.super.seek(anchor, target, rule);
+        }
+        if (!second.isBefore(target)) {
+            return SeekResult.of(second, 2);
+        }
+
+        int dayCount = rule.monthDayCount();
+        int secondYear = second.getYear();
+
+        // target 년도와 같거나 이후인 첫 반복 년도
+        long steps = Math.max(0, Math.ceilDiv(target.getYear() - secondYear, interval));
+        int index = steps == 0 ? secondIndex : 0;
+
+        while (true) {
+            int year = (int) (secondYear + steps * interval);
+            for (; index < dayCount; index++) {
+                LocalDateTime time = LocalDateTime.of(
+                        LocalDate.of(year, month, rule.monthDayAt(index)), anchor.toLocalTime());
+                if (!time.isBefore(target)) {
+                    // second(2번째) 이후로 지나온 반복 일자 수
+                    long count = 2 + steps * dayCount + index - secondIndex;
+                    return SeekResult.of(time, count);
+                }
+            }
+            // 이 해에는 target 이후 반복이 없음 → 다음 반복 년도 첫 일자
+            steps++;
+            index = 0;
+        }
+    }
 }
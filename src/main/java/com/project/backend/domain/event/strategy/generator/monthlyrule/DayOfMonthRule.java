@@ -1,33 +1,38 @@
 package com.project.backend.domain.event.strategy.generator.monthlyrule;
 
-import com.project.backend.global.recurrence.RecurrenceRule;
-import com.project.backend.global.recurrence.util.RecurrenceUtils;
+import com.project.backend.domain.event.strategy.generator.SeekResult;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 
 @Component
 public class DayOfMonthRule implements MonthlyRule {
 
+    // seek에서 반복 일자가 존재하는 달을 찾기 위한 최대 탐색 달 수
+    private static final int MAX_SEEK_MONTHS = 1_200;
+
     @Override
-    public LocalDateTime next(LocalDateTime current, RecurrenceRule rule) {
+    public LocalDateTime next(LocalDateTime current, CompiledRecurrenceRule rule) {
 
         // M달
         int interval = rule.getIntervalValue();
-        // X일
-        List<Integer> targetDays = RecurrenceUtils.parseDaysOfMonth(rule.getDaysOfMonth());
 
         // 반복 일자가 비어있으면 시작일의 일자를 기본값으로 사용
-        if (targetDays.isEmpty()) {
-            targetDays = List.of(current.getDayOfMonth());
+        if (!rule.hasMonthDays()) {
+            return nextSameDay(current, interval);
         }
 
+        // X일
         int baseDay = current.getDayOfMonth();
 
         while (true) {
-            int nextTarget = RecurrenceUtils.findNextTarget(baseDay, targetDays);
-            int lastDay = current.toLocalDate().lengthOfMonth();
+            int nextTarget = rule.nextMonthDayAfter(baseDay);
+            int lastDay = lengthOfMonth(current);
 
             // 이 달에서 실제로 존재하고, 미래면 OK
             if (nextTarget > baseDay && nextTarget <= lastDay) {
@@ -39,4 +44,114 @@ public class DayOfMonthRule implements MonthlyRule {
             baseDay = 0; // 다음 달에서는 처음부터
         }
     }
+
+    /**
+     * 방문하는 달은 anchor 달, +M달, +2M달 ... 이고
+     * 각 달에서는 그 달에 존재하는 반복 일자만 생성된다. (anchor 달은 anchor 이후 일자만)
+     * 반복 일자가 비어있으면 anchor의 일자 하나로 취급한다.
+     */
+    @Override
+    public SeekResult seek(LocalDateTime anchor, LocalDateTime target, CompiledRecurrenceRule rule) {
+        if (!anchor.isBefore(target)) {
+            return SeekResult.first(anchor);
+        }
+
+        int interval = rule.getIntervalValue();
+        int anchorDay = anchor.getDayOfMonth();
+        LocalTime time = anchor.toLocalTime();
+
+        YearMonth anchorMonth = YearMonth.from(anchor);
+        YearMonth targetMonth = YearMonth.from(target);
+
+        // target 달과 같거나 이후인 첫 방문 달
+        long months = anchorMonth.until(targetMonth, ChronoUnit.MONTHS);
+        long steps = Math.ceilDiv(months, interval);
+
+        // anchor + 그 이전 방문 달들에서 생성된 반복 수
+        long count = 1;
+        if (steps > 0) {
+            count += countDays(rule, anchorDay, anchorDay, anchorMonth.lengthOfMonth());
+            count += countDaysInMonths(rule, anchorDay, anchorMonth, interval, steps - 1);
+        }
+
+        YearMonth month = anchorMonth.plusMonths(steps * interval);
+        int afterDay = steps == 0 ? anchorDay : 0;
+
+        for (int i = 0; i < MAX_SEEK_MONTHS; i++) {
+            int lastDay = month.lengthOfMonth();
+
+            int minDay = afterDay + 1;
+            if (month.equals(targetMonth)) {
+                // target 날짜의 반복 시각이 target보다 이르면 다음 날부터
+                int fromDay = time.isBefore(target.toLocalTime())
+                        ? target.getDayOfMonth() + 1
+                        : target.getDayOfMonth();
+                minDay = Math.max(minDay, fromDay);
+            }
+
+            int day = firstDayFrom(rule, anchorDay, minDay);
+            if (day > 0 && day <= lastDay) {
+                count += countDays(rule, anchorDay, afterDay, day - 1) + 1;
+                return SeekResult.of(LocalDateTime.of(month.atDay(day), time), count);
+            }
+
+            // 이 달에는 target 이후 반복이 없음 → 다음 방문 달로
+            count += countDays(rule, anchorDay, afterDay, lastDay);
+            month = month.plusMonths(interval);
+            afterDay = 0;
+        }
+
+        // 반복 일자가 존재하는 달을 찾지 못한 경우 순차 계산에 맡김
+        return SeekResult.first(anchor);
+    }
+
+    // 1 ~ n번째 방문 달에서 생성되는 반복 수의 합
+    private long countDaysInMonths(
+            CompiledRecurrenceRule rule, int anchorDay, YearMonth anchorMonth, int interval, long n) {
+        int maxDay = rule.hasMonthDays() ? rule.lastMonthDay() : anchorDay;
+
+        // 모든 반복 일자가 28일 이하라면 달마다 반복 수가 같음
+        if (maxDay <= 28) {
+            return n * countDays(rule, anchorDay, 0, maxDay);
+        }
+
+        long count = 0;
+        for (long j = 1; j <= n; j++) {
+            int lastDay = anchorMonth.plusMonths(j * interval).lengthOfMonth();
+            count += countDays(rule, anchorDay, 0, lastDay);
+        }
+        return count;
+    }
+
+    // afterDay < day <= upToDay 인 반복 일자 수
+    private int countDays(CompiledRecurrenceRule rule, int anchorDay, int afterDay, int upToDay) {
+        if (rule.hasMonthDays()) {
+            return rule.countMonthDaysBetween(afterDay, upToDay);
+        }
+        return anchorDay > afterDay && anchorDay <= upToDay ? 1 : 0;
+    }
+
+    // fromDay와 같거나 큰 첫 반복 일자, 없으면 0
+    private int firstDayFrom(CompiledRecurrenceRule rule, int anchorDay, int fromDay) {
+        if (rule.hasMonthDays()) {
+            return rule.firstMonthDayFrom(fromDay);
+        }
+        return anchorDay >= fromDay ? anchorDay : 0;
+    }
+
+    // M달 뒤 같은 일자 (해당 일자가 없는 달은 건너뜀)
+    private LocalDateTime nextSameDay(LocalDateTime current, int interval) {
+        int targetDay = current.getDayOfMonth();
+
+        while (true) {
+            current = current.plusMonths(interval).withDayOfMonth(1);
+            if (targetDay <= lengthOfMonth(current)) {
+                return current.withDayOfMonth(targetDay);
+            }
+        }
+    }
+
+    private int lengthOfMonth(LocalDateTime time) {
+        return time.getMonth().length(Year.isLeap(time.getYear()));
+    }
 }
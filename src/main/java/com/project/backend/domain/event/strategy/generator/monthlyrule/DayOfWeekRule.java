@@ -1,28 +1,26 @@
 package com.project.backend.domain.event.strategy.generator.monthlyrule;
 
-import com.project.backend.global.recurrence.RecurrenceRule;
-import com.project.backend.global.recurrence.util.RecurrenceUtils;
+import com.project.backend.domain.event.strategy.generator.SeekResult;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.time.DayOfWeek;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
-import java.util.List;
-import java.util.Optional;
+import java.time.temporal.ChronoUnit;
 
 @Slf4j
 @Component
 public class DayOfWeekRule implements MonthlyRule {
 
+    // seek에서 N번째 요일이 존재하는 달을 찾기 위한 최대 탐색 달 수
+    private static final int MAX_SEEK_MONTHS = 1_200;
+
     @Override
-    public LocalDateTime next(LocalDateTime current, RecurrenceRule rule) {
+    public LocalDateTime next(LocalDateTime current, CompiledRecurrenceRule rule) {
 
         int interval = rule.getIntervalValue();
         int weekOfMonth = rule.getWeekOfMonth();
-        List<DayOfWeek> targetDays =
-                RecurrenceUtils.parseDaysOfWeek(rule.getDayOfWeekInMonth());
 
         // 기준은 current가 아니라 "기준 월(anchor)"
         YearMonth baseMonth = YearMonth.from(current);
@@ -34,11 +32,10 @@ public class DayOfWeekRule implements MonthlyRule {
             // interval만큼 월 점프
             YearMonth targetMonth = baseMonth.plusMonths((long) interval * step);
 
-            Optional<LocalDate> date =
-                    RecurrenceUtils.calculateMonthlyNthOrdinalWeekday(targetMonth, weekOfMonth, targetDays);
+            int day = rule.nthOrdinalDayOfMonth(targetMonth, weekOfMonth);
 
-            if (date.isPresent()) {
-                return LocalDateTime.of(date.get(), current.toLocalTime());
+            if (day > 0) {
+                return LocalDateTime.of(targetMonth.atDay(day), current.toLocalTime());
             }
 
             step++;
@@ -100,4 +97,62 @@ public class DayOfWeekRule implements MonthlyRule {
 
         return current;*/
     }
+
+    /**
+     * 방문하는 달은 anchor 달 +M달, +2M달 ... 이고 달마다 최대 한 번 생성된다.
+     * (anchor 달에서는 anchor 외에 생성되지 않음)
+     */
+    @Override
+    public SeekResult seek(LocalDateTime anchor, LocalDateTime target, CompiledRecurrenceRule rule) {
+        if (!anchor.isBefore(target)) {
+            return SeekResult.first(anchor);
+        }
+
+        // 반복 요일이 없으면 생성되지 않음 → 순차 계산에 맡김
+        if (rule.getDayOfWeekInMonthMask() == 0) {
+            return SeekResult.first(anchor);
+        }
+
+        int interval = rule.getIntervalValue();
+        int weekOfMonth = rule.getWeekOfMonth();
+
+        YearMonth anchorMonth = YearMonth.from(anchor);
+        long months = anchorMonth.until(YearMonth.from(target), ChronoUnit.MONTHS);
+        long steps = Math.max(1, Math.ceilDiv(months, interval));
+
+        // anchor + 그 이전 방문 달들에서 생성된 반복 수
+        long count = 1 + countMonthsWithOccurrence(rule, anchorMonth, interval, weekOfMonth, steps - 1);
+
+        for (int i = 0; i < MAX_SEEK_MONTHS; i++, steps++) {
+            YearMonth targetMonth = anchorMonth.plusMonths(interval * steps);
+            int day = rule.nthOrdinalDayOfMonth(targetMonth, weekOfMonth);
+
+            if (day > 0) {
+                count++;
+                LocalDateTime time = LocalDateTime.of(targetMonth.atDay(day), anchor.toLocalTime());
+                if (!time.isBefore(target)) {
+                    return SeekResult.of(time, count);
+                }
+            }
+        }
+
+        return SeekResult.first(anchor);
+    }
+
+    // 1 ~ n번째 방문 달 중 N번째 요일이 존재하는 달의 수
+    private long countMonthsWithOccurrence(
+            CompiledRecurrenceRule rule, YearMonth anchorMonth, int interval, int weekOfMonth, long n) {
+        // 어떤 요일이든 한 달에 최소 4번은 있으므로 4번째까지는 항상 존재
+        if (weekOfMonth <= 4) {
+            return n;
+        }
+
+        long count = 0;
+        for (long j = 1; j <= n; j++) {
+            if (rule.nthOrdinalDayOfMonth(anchorMonth.plusMonths(interval * j), weekOfMonth) > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
 }
@@ -1,6 +1,7 @@
 package com.project.backend.domain.event.strategy.generator.monthlyrule;
 
-import com.project.backend.global.recurrence.RecurrenceRule;
+import com.project.backend.domain.event.strategy.generator.SeekResult;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
 
 import java.time.LocalDateTime;
 
@@ -15,8 +16,14 @@ public interface MonthlyRule {
     /**
      *  패턴을 기준으로 current 다음에 올 가장 빠른 다음 time을 반환
      *  @param current 기준 시간
-     *  @param rule 반복 규칙
+     *  @param rule 컴파일된 반복 규칙
      *  @return 다음 반복 시작 시간
      */
-    LocalDateTime next(LocalDateTime current, RecurrenceRule rule);
+    LocalDateTime next(LocalDateTime current, CompiledRecurrenceRule rule);
+
+    /**
+     *  anchor부터 시작하는 반복 중 target과 같거나 이후인 첫 번째 반복을 계산
+     *  @see com.project.backend.domain.event.strategy.generator.Generator#seek
+     */
+    SeekResult seek(LocalDateTime anchor, LocalDateTime target, CompiledRecurrenceRule rule);
 }
@@ -8,7 +8,9 @@ import com.project.backend.domain.event.exception.EventErrorCode;
 import com.project.backend.domain.event.exception.EventException;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 // TODO static으로 바꾸기
 @Component
 public class EventValidator {
@@ -57,6 +59,16 @@ public class EventValidator {
         }
     }
 
+    // 조회 기간 검증 (startDate ~ endDate가 maxDays일 이하)
+    public void validateRange(LocalDate startDate, LocalDate endDate, long maxDays) {
+        if (startDate.isAfter(endDate)) {
+            throw new EventException(EventErrorCode.INVALID_DATE_RANGE);
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > maxDays) {
+            throw new EventException(EventErrorCode.DATE_RANGE_TOO_LONG);
+        }
+    }
+
     public void validateBlank(EventReqDTO.UpdateReq req) {
         if (req.title() != null && req.title().trim().isEmpty()) {
             throw new EventException(EventErrorCode.INVALID_TITLE);
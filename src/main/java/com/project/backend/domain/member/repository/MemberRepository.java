@@ -27,8 +27,12 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     JOIN Setting s ON s.member = m
     WHERE m.deletedAt IS NULL
       AND s.suggestion = TRUE
+      AND MOD(m.id, :shardCount) = :shard
 """)
-    List<Long> findActiveMemberIdsWithSuggestionEnabled();
+    List<Long> findActiveMemberIdsWithSuggestionEnabled(
+            @Param("shard") int shard,
+            @Param("shardCount") int shardCount
+    );
 
     // Auth 정보와 함께 활성 회원 조회
     @Query("SELECT m FROM Member m JOIN FETCH m.auth WHERE m.id = :id AND m.deletedAt IS NULL")
@@ -0,0 +1,251 @@
+package com.project.backend.domain.nlp.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.backend.domain.nlp.client.EmbeddingClient;
+import com.project.backend.domain.nlp.dto.response.NlpResDTO;
+import com.project.backend.global.qdrant.client.QdrantVectorClient;
+import com.project.backend.global.qdrant.dto.response.QdrantSearchResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 자연어 파싱 결과 캐시 (정확히 같은 입력 → 의미가 거의 같은 입력 → LLM)
+ * - 1단계: (정규화한 입력, 기준 날짜, 프롬프트 버전)이 같으면 Redis에 저장된 결과를 그대로 사용한다.
+ * - 2단계: 입력 임베딩으로 같은 회원의 이전 입력을 Qdrant에서 찾아, 유사도가 SIMILARITY_THRESHOLD 이상이면 그 결과를 사용한다.
+ *   기준 날짜, 프롬프트 버전, 입력에 포함된 시간 표현(숫자와 단위, 내일/모레, 요일, 오전/오후, 이번/다음 주 등)이
+ *   모두 같은 입력만 후보로 본다. ("3시 회의"와 "4시 회의", "내일 회의"와 "모레 회의" 구분)
+ *   다른 회원의 입력 문구가 결과(제목 등)로 노출되지 않도록 회원 단위로만 찾는다.
+ * - 두 단계 모두 TTL이 지나면 사용하지 않는다. (Qdrant의 만료된 항목은 NlpParseCachePurgeScheduler가 정리)
+ * - 캐시 조회/저장이 실패해도 파싱은 LLM으로 계속 진행한다.
+ */
+@Slf4j
+@Component
+public class NlpParseCache {
+
+    private static final String KEY_PREFIX             = "nlp:parse:";
+    private static final Duration TTL                  = Duration.ofHours(24);
+    private static final double SIMILARITY_THRESHOLD   = 0.95;
+    private static final Pattern WHITESPACES           = Pattern.compile("\\s+");
+    // 임베딩 유사도로는 구분되지 않는 시간 표현 (긴 표현을 먼저 매칭)
+    private static final Pattern TIME_TOKENS           = Pattern.compile(
+            "\\d+\\s*(?:시간|시|분|주일|주|개월|월|년|일|달)?(?:\\s*반)?"
+                    + "|그저께|그제|어제|오늘|내일|모레|글피|[월화수목금토일]요일|주말|평일|매일|매주|매월|매년|격주"
+                    + "|오전|오후|새벽|아침|점심|낮|저녁|밤|정오|자정"
+                    + "|다다음|다음|담|이번|지난|저번|이달|올해|금년|내년|작년|월초|월말|연초|연말|주|달");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final EmbeddingClient embeddingClient;
+    private final QdrantVectorClient qdrantVectorClient;
+    private final String collection;
+
+    private final Counter exactHitCounter;
+    private final Counter semanticHitCounter;
+    private final Counter missCounter;
+
+    public NlpParseCache(
+            RedisTemplate<String, Object> redisTemplate,
+            ObjectMapper objectMapper,
+            EmbeddingClient embeddingClient,
+            QdrantVectorClient qdrantVectorClient,
+            @Value("${spring.qdrant.parse-cache-collection}") String collection,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.embeddingClient = embeddingClient;
+        this.qdrantVectorClient = qdrantVectorClient;
+        this.collection = collection;
+
+        this.exactHitCounter = Counter.builder("nlp.parse.cache.requests")
+                .tag("result", "exact_hit")
+                .register(meterRegistry);
+        this.semanticHitCounter = Counter.builder("nlp.parse.cache.requests")
+                .tag("result", "semantic_hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("nlp.parse.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        qdrantVectorClient.ensureCollection(collection);
+    }
+
+    /**
+     * 캐시된 파싱 결과를 반환하고, 없으면 parser로 파싱한 결과를 저장 후 반환
+     */
+    public NlpResDTO.ParseRes getOrParse(Long memberId, String text, LocalDate baseDate, String promptVersion,
+                                         Supplier<NlpResDTO.ParseRes> parser) {
+        String normalized = normalize(text);
+        CacheKey key = new CacheKey(memberId, normalized, baseDate, promptVersion);
+
+        NlpResDTO.ParseRes exact = readExact(key);
+        if (exact != null) {
+            exactHitCounter.increment();
+            return exact;
+        }
+
+        float[] vector = embed(normalized);
+        if (vector != null) {
+            NlpResDTO.ParseRes similar = findSimilar(key, vector);
+            if (similar != null) {
+                semanticHitCounter.increment();
+                writeExact(key, similar);
+                return similar;
+            }
+        }
+
+        missCounter.increment();
+        NlpResDTO.ParseRes parsed = parser.get();
+        writeExact(key, parsed);
+        if (vector != null) {
+            writeSimilar(key, vector, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Qdrant에 남아 있는 만료된 항목 삭제
+     */
+    public void purgeExpired() {
+        qdrantVectorClient.deletePoints(collection, Map.of("must", List.of(
+                Map.of("key", "expiresAt", "range", Map.of("lt", System.currentTimeMillis()))
+        )));
+    }
+
+    // =============== private ===================
+
+    private NlpResDTO.ParseRes readExact(CacheKey key) {
+        try {
+            Object raw = redisTemplate.opsForValue().get(key.toRedisKey());
+            if (raw == null) return null;
+            return objectMapper.readValue((String) raw, NlpResDTO.ParseRes.class);
+        } catch (Exception e) {
+            log.warn("[NlpParseCache] Redis 조회 실패 - key: {}, error: {}", key.toRedisKey(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeExact(CacheKey key, NlpResDTO.ParseRes value) {
+        try {
+            redisTemplate.opsForValue().set(key.toRedisKey(), objectMapper.writeValueAsString(value), TTL);
+        } catch (Exception e) {
+            log.warn("[NlpParseCache] Redis 저장 실패 - key: {}, error: {}", key.toRedisKey(), e.getMessage());
+        }
+    }
+
+    private float[] embed(String normalized) {
+        try {
+            return embeddingClient.embedQuery(normalized);
+        } catch (Exception e) {
+            log.warn("[NlpParseCache] 임베딩 실패, 유사 입력 캐시 건너뜀: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private NlpResDTO.ParseRes findSimilar(CacheKey key, float[] vector) {
+        try {
+            Map<String, Object> filter = Map.of("must", List.of(
+                    Map.of("key", "memberId", "match", Map.of("value", key.memberId())),
+                    Map.of("key", "baseDate", "match", Map.of("value", key.baseDate().toString())),
+                    Map.of("key", "promptVersion", "match", Map.of("value", key.promptVersion())),
+                    Map.of("key", "timeTokens", "match", Map.of("value", key.timeTokens())),
+                    Map.of("key", "expiresAt", "range", Map.of("gt", System.currentTimeMillis()))
+            ));
+
+            List<QdrantSearchResult> results =
+                    qdrantVectorClient.searchPoints(collection, vector, filter, 1, SIMILARITY_THRESHOLD);
+            if (results.isEmpty()) return null;
+
+            log.debug("[NlpParseCache] 유사 입력 사용 - memberId: {}, score: {}", key.memberId(), results.get(0).score());
+            return objectMapper.readValue((String) results.get(0).payload().get("response"), NlpResDTO.ParseRes.class);
+        } catch (Exception e) {
+            log.warn("[NlpParseCache] 유사 입력 조회 실패 - memberId: {}, error: {}", key.memberId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeSimilar(CacheKey key, float[] vector, NlpResDTO.ParseRes value) {
+        try {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("memberId", key.memberId());
+            payload.put("baseDate", key.baseDate().toString());
+            payload.put("promptVersion", key.promptVersion());
+            payload.put("timeTokens", key.timeTokens());
+            payload.put("expiresAt", System.currentTimeMillis() + TTL.toMillis());
+            payload.put("response", objectMapper.writeValueAsString(value));
+
+            qdrantVectorClient.upsertPoint(collection, key.pointId(), vector, payload);
+        } catch (Exception e) {
+            log.warn("[NlpParseCache] 유사 입력 저장 실패 - memberId: {}, error: {}", key.memberId(), e.getMessage());
+        }
+    }
+
+    // 유니코드 정규화(NFC) + 소문자 + 앞뒤/연속 공백 정리
+    private static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).trim();
+        return WHITESPACES.matcher(normalized).replaceAll(" ");
+    }
+
+    /**
+     * 입력에 포함된 시간 표현을 나온 순서대로 이어 붙인 값 (예: "내일 오후 3시 반 회의" → "#내일,오후,3시반,", 없으면 "#")
+     * - 시간 표현이 하나라도 다르면 의미가 비슷해도 다른 파싱 결과이므로 유사 입력 후보에서 제외한다.
+     */
+    static String timeTokens(String text) {
+        StringBuilder sb = new StringBuilder("#");
+        Matcher matcher = TIME_TOKENS.matcher(text);
+        while (matcher.find()) {
+            sb.append(WHITESPACES.matcher(matcher.group()).replaceAll("")).append(',');
+        }
+        return sb.toString();
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CacheKey(Long memberId, String normalized, LocalDate baseDate, String promptVersion) {
+
+        // nlp:parse:{promptVersion}:{baseDate}:{sha256(입력)} (파싱 결과는 입력과 기준 날짜로만 정해지므로 회원 구분 없음)
+        String toRedisKey() {
+            return KEY_PREFIX + promptVersion + ":" + baseDate + ":" + HexFormat.of().formatHex(sha256(normalized));
+        }
+
+        // 같은 회원이 같은 입력을 다시 저장하면 덮어쓰도록 입력 기준으로 id 생성 (Qdrant point id는 양수)
+        long pointId() {
+            byte[] hash = sha256(memberId + ":" + promptVersion + ":" + baseDate + ":" + normalized);
+            return ByteBuffer.wrap(hash).getLong() & Long.MAX_VALUE;
+        }
+
+        String timeTokens() {
+            return NlpParseCache.timeTokens(normalized);
+        }
+    }
+}
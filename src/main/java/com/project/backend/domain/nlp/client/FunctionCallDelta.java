@@ -0,0 +1,18 @@
+package com.project.backend.domain.nlp.client;
+
+/**
+ * OpenAI Function Calling 스트리밍 응답 조각 (stream: true).
+ * 첫 번째 tool call(index 0)만 사용 (chatWithFunctions와 동일).
+ *
+ * @param textContent    일반 텍스트 응답 조각
+ * @param toolCallId     tool call의 첫 조각에만 값 존재
+ * @param functionName   tool call의 첫 조각에만 값 존재
+ * @param argumentsDelta function arguments JSON string 조각
+ */
+public record FunctionCallDelta(
+        String textContent,
+        String toolCallId,
+        String functionName,
+        String argumentsDelta
+) {
+}
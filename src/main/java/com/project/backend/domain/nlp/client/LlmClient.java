@@ -1,5 +1,7 @@
 package com.project.backend.domain.nlp.client;
 
+import reactor.core.publisher.Flux;
+
 import java.util.List;
 import java.util.Map;
 
@@ -12,4 +14,9 @@ public interface LlmClient {
     FunctionCallResponse chatWithFunctions(String systemPrompt,
                                            List<Map<String, Object>> messages,
                                            List<Map<String, Object>> tools);
+
+    // chatWithFunctions의 스트리밍 버전 - 응답 조각이 도착하는 대로 전달 (호출 스레드를 막지 않음)
+    Flux<FunctionCallDelta> streamWithFunctions(String systemPrompt,
+                                                List<Map<String, Object>> messages,
+                                                List<Map<String, Object>> tools);
 }
@@ -0,0 +1,52 @@
+package com.project.backend.domain.nlp.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * OpenAI Chat Completions 응답 중 사용하는 필드만 매핑 (Map으로 변환하지 않고 바로 역직렬화).
+ * 일반 응답은 choices[0].message, 스트리밍 응답 조각은 choices[0].delta에 내용이 있음.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record OpenAiChatResponse(
+        List<Choice> choices
+) {
+    public Message firstMessage() {
+        return choices == null || choices.isEmpty() ? null : choices.getFirst().message();
+    }
+
+    public Message firstDelta() {
+        return choices == null || choices.isEmpty() ? null : choices.getFirst().delta();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Choice(
+            Message message,
+            Message delta
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Message(
+            String content,
+            @JsonProperty("tool_calls") List<ToolCall> toolCalls
+    ) {
+        public ToolCall firstToolCall() {
+            return toolCalls == null || toolCalls.isEmpty() ? null : toolCalls.getFirst();
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ToolCall(
+            Integer index,   // 스트리밍 응답에서 몇 번째 tool call의 조각인지
+            String id,
+            Function function
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Function(
+            String name,
+            String arguments
+    ) {}
+}
@@ -0,0 +1,277 @@
+package com.project.backend.domain.nlp.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.backend.domain.nlp.exception.NlpErrorCode;
+import com.project.backend.domain.nlp.exception.NlpException;
+import com.project.backend.global.config.LlmConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenAI Chat Completions non-blocking 클라이언트
+ * - 응답은 OpenAiChatResponse로 바로 역직렬화한다.
+ * - 호출마다 spring.llm.timeout을 전체 제한 시간으로 적용한다. (hedging 포함)
+ * - hedging을 켜면 응답이 최근 p95 지연 시간(최소 hedge.min-delay)까지 오지 않을 때 같은 요청을 한 번 더 보내고,
+ *   먼저 도착한 응답을 사용한다. (LLM 호출은 부수 효과가 없어 중복 요청이 안전함, 표본이 부족하면 보내지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.llm.provider", havingValue = "openai")
+public class OpenAiReactiveLlmClient implements ReactiveLlmClient {
+
+    private static final String OPENAI_API_URL = "https://api.openai.com/v1/chat/completions";
+    private static final int LATENCY_WINDOW_SIZE = 200;
+
+    private final LlmConfig llmConfig;
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 호출 종류별 최근 지연 시간 (hedging 지연 계산용)
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    public OpenAiReactiveLlmClient(
+            LlmConfig llmConfig,
+            WebClient webClient,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.llmConfig = llmConfig;
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<String> chat(String systemPrompt, String userPrompt) {
+        Map<String, Object> requestBody = Map.of(
+                "model", llmConfig.getModel(),
+                "messages", List.of(
+                        Map.of("role", "system", "content", systemPrompt),
+                        Map.of("role", "user", "content", userPrompt)
+                ),
+                "temperature", 0.3
+        );
+
+        return call("chat", requestBody)
+                .mapNotNull(response -> response.firstMessage().content());
+    }
+
+    @Override
+    public Mono<String> chatWithHistory(String systemPrompt, List<Map<String, String>> messages) {
+        List<Map<String, Object>> messageBody = new ArrayList<>();
+        messageBody.add(Map.of("role", "system", "content", systemPrompt));
+        messages.forEach(m -> {
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("role", m.get("role"));
+            entry.put("content", m.get("content"));
+            messageBody.add(entry);
+        });
+
+        Map<String, Object> requestBody = Map.of(
+                "model", llmConfig.getModel(),
+                "messages", messageBody,
+                "temperature", 0.7
+        );
+
+        return call("chat-history", requestBody)
+                .mapNotNull(response -> response.firstMessage().content());
+    }
+
+    @Override
+    public Mono<FunctionCallResponse> chatWithFunctions(String systemPrompt,
+                                                        List<Map<String, Object>> messages,
+                                                        List<Map<String, Object>> tools) {
+        return call("functions", functionRequestBody(systemPrompt, messages, tools, false))
+                .map(response -> {
+                    OpenAiChatResponse.Message message = response.firstMessage();
+
+                    // tool_calls 존재 여부로 function call / 일반 텍스트 분기
+                    OpenAiChatResponse.ToolCall toolCall = message.firstToolCall();
+                    if (toolCall != null) {
+                        log.debug("Function Call 감지 - name: {}, toolCallId: {}", toolCall.function().name(), toolCall.id());
+                        return new FunctionCallResponse(
+                                null, toolCall.function().name(), toolCall.id(), toolCall.function().arguments());
+                    }
+                    return new FunctionCallResponse(message.content(), null, null, null);
+                });
+    }
+
+    @Override
+    public Flux<FunctionCallDelta> streamWithFunctions(String systemPrompt,
+                                                       List<Map<String, Object>> messages,
+                                                       List<Map<String, Object>> tools) {
+        log.debug("OpenAI Function Calling 스트리밍 호출 - tools: {}개", tools.size());
+
+        // stream: true -> 응답이 SSE(data: {chunk} ... data: [DONE])로 나뉘어 도착
+        return webClient.post()
+                .uri(OPENAI_API_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("Authorization", "Bearer " + llmConfig.getApiKey())
+                .bodyValue(functionRequestBody(systemPrompt, messages, tools, true))
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .mapNotNull(ServerSentEvent::data)
+                .takeWhile(data -> !"[DONE]".equals(data))
+                .<FunctionCallDelta>handle((data, sink) -> {
+                    FunctionCallDelta delta = parseDelta(data);
+                    if (delta != null) sink.next(delta);
+                })
+                .onErrorMap(e -> !(e instanceof NlpException), e -> toNlpException("functions-stream", e));
+    }
+
+    // =============== private ===================
+
+    // tool_choice: "required" -> LLM이 반드시 함수 중 하나를 호출해야 함 (일반 텍스트 응답은 respondToUser 함수로 반환)
+    // temperature: 0.3 -> 파라미터 추출 정확도 우선
+    private Map<String, Object> functionRequestBody(String systemPrompt,
+                                                    List<Map<String, Object>> messages,
+                                                    List<Map<String, Object>> tools,
+                                                    boolean stream) {
+        List<Map<String, Object>> messageBody = new ArrayList<>();
+        messageBody.add(Map.of("role", "system", "content", systemPrompt));
+        messageBody.addAll(messages);
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", llmConfig.getModel());
+        requestBody.put("messages", messageBody);
+        requestBody.put("tools", tools);
+        requestBody.put("tool_choice", "required");
+        requestBody.put("temperature", 0.3);
+        if (stream) requestBody.put("stream", true);
+        return requestBody;
+    }
+
+    private Mono<OpenAiChatResponse> call(String operation, Map<String, Object> requestBody) {
+        LatencyWindow window = latencies.computeIfAbsent(operation, key -> new LatencyWindow(LATENCY_WINDOW_SIZE));
+        Timer timer = Timer.builder("llm.client.duration")
+                .tag("operation", operation)
+                .register(meterRegistry);
+
+        Mono<OpenAiChatResponse> attempt = Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return webClient.post()
+                    .uri(OPENAI_API_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("Authorization", "Bearer " + llmConfig.getApiKey())
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(OpenAiChatResponse.class)
+                    .doOnNext(response -> {
+                        long elapsed = System.nanoTime() - startedAt;
+                        window.record(elapsed);
+                        timer.record(elapsed, TimeUnit.NANOSECONDS);
+                    });
+        });
+
+        log.debug("OpenAI API 호출 - operation: {}, model: {}", operation, llmConfig.getModel());
+        return hedge(operation, attempt, window)
+                .timeout(llmConfig.getTimeout())
+                .filter(response -> response.firstMessage() != null)
+                .switchIfEmpty(Mono.error(() -> new NlpException(NlpErrorCode.LLM_API_ERROR)))
+                .onErrorMap(e -> !(e instanceof NlpException), e -> toNlpException(operation, e));
+    }
+
+    private <T> Mono<T> hedge(String operation, Mono<T> attempt, LatencyWindow window) {
+        LlmConfig.Hedge hedge = llmConfig.getHedge();
+        if (!hedge.isEnabled()) return attempt;
+
+        Duration p95 = window.percentile(0.95, hedge.getMinSamples());
+        if (p95 == null) return attempt;
+
+        Duration delay = p95.compareTo(hedge.getMinDelay()) > 0 ? p95 : hedge.getMinDelay();
+        Mono<T> backup = Mono.delay(delay).then(Mono.defer(() -> {
+            Counter.builder("llm.client.hedges")
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .increment();
+            log.debug("OpenAI API hedged 요청 - operation: {}, delay: {}ms", operation, delay.toMillis());
+            return attempt;
+        }));
+
+        // 먼저 값을 받은 쪽을 사용하고 나머지는 취소 (둘 다 실패하면 실패)
+        return Mono.firstWithValue(attempt, backup);
+    }
+
+    // choices[0].delta에서 텍스트 조각 / 첫 번째 tool call 조각 추출 (내용 없는 조각이면 null)
+    private FunctionCallDelta parseDelta(String data) {
+        try {
+            OpenAiChatResponse.Message delta = objectMapper.readValue(data, OpenAiChatResponse.class).firstDelta();
+            if (delta == null) return null;
+
+            OpenAiChatResponse.ToolCall toolCall = delta.firstToolCall();
+            if (toolCall == null || (toolCall.index() != null && toolCall.index() != 0)) {
+                return delta.content() != null ? new FunctionCallDelta(delta.content(), null, null, null) : null;
+            }
+
+            OpenAiChatResponse.Function function = toolCall.function();
+            return new FunctionCallDelta(
+                    delta.content(),
+                    toolCall.id(),
+                    function != null ? function.name() : null,
+                    function != null ? function.arguments() : null
+            );
+        } catch (Exception e) {
+            log.error("OpenAI 스트리밍 응답 파싱 실패: {}", data, e);
+            throw new NlpException(NlpErrorCode.LLM_API_ERROR);
+        }
+    }
+
+    private NlpException toNlpException(String operation, Throwable e) {
+        if (e instanceof WebClientResponseException re) {
+            log.error("OpenAI API 호출 실패 - operation: {}, status: {}, body: {}",
+                    operation, re.getStatusCode(), re.getResponseBodyAsString());
+        } else {
+            log.error("OpenAI API 호출 실패 - operation: {}", operation, e);
+        }
+        return new NlpException(NlpErrorCode.LLM_API_ERROR);
+    }
+
+    // 최근 size개 지연 시간 (ring buffer)
+    private static final class LatencyWindow {
+
+        private final long[] samples;
+        private int next;
+        private int count;
+
+        private LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        private synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        // 표본이 minSamples개 미만이면 null
+        private synchronized Duration percentile(double percentile, int minSamples) {
+            if (count < minSamples) return null;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = Math.max(0, (int) Math.ceil(percentile * count) - 1);
+            return Duration.ofNanos(sorted[index]);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.backend.domain.nlp.client;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LlmClient의 non-blocking 버전 - 호출 스레드를 막지 않고 응답을 Mono/Flux로 전달
+ * (LlmClient는 이 인터페이스의 결과를 block()하는 얇은 래퍼)
+ */
+public interface ReactiveLlmClient {
+    Mono<String> chat(String systemPrompt, String userPrompt);
+
+    Mono<String> chatWithHistory(String systemPrompt, List<Map<String, String>> messages);
+
+    Mono<FunctionCallResponse> chatWithFunctions(String systemPrompt,
+                                                 List<Map<String, Object>> messages,
+                                                 List<Map<String, Object>> tools);
+
+    Flux<FunctionCallDelta> streamWithFunctions(String systemPrompt,
+                                                List<Map<String, Object>> messages,
+                                                List<Map<String, Object>> tools);
+}
@@ -0,0 +1,28 @@
+package com.project.backend.domain.nlp.scheduler;
+
+import com.project.backend.domain.nlp.cache.NlpParseCache;
+import com.project.backend.global.scheduler.ShardedJobRunner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+public class NlpParseCachePurgeScheduler {
+
+    private static final Duration PURGE_PERIOD = Duration.ofHours(1);
+
+    private final NlpParseCache nlpParseCache;
+    private final ShardedJobRunner shardedJobRunner;
+
+    /**
+     * 만료된 유사 입력 캐시 정리
+     * - 매시 정각에 한 인스턴스에서만 실행 (만료된 항목은 조회 시 이미 제외되므로 저장 공간 정리 용도)
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void purgeExpired() {
+        shardedJobRunner.runOncePerPeriod("nlp-parse-cache-purge", PURGE_PERIOD, nlpParseCache::purgeExpired);
+    }
+}
@@ -9,6 +9,7 @@ import com.project.backend.domain.member.entity.Member;
 import com.project.backend.domain.nlp.dto.request.NlpReqDTO;
 import com.project.backend.domain.nlp.exception.NlpErrorCode;
 import com.project.backend.domain.nlp.exception.NlpException;
+import com.project.backend.domain.occurrence.cache.CalendarCacheInvalidatePublisher;
 import com.project.backend.domain.reminder.enums.ChangeType;
 import com.project.backend.domain.reminder.enums.TargetType;
 import com.project.backend.domain.todo.entity.Todo;
@@ -35,6 +36,7 @@ public class NlpSaverService {
     private final TodoRepository todoRepository;
     private final TodoRecurrenceGroupRepository todoRecurrenceGroupRepository;
     private final ReminderEventBridge reminderEventBridge;
+    private final CalendarCacheInvalidatePublisher calendarCacheInvalidatePublisher;
 
     /**
      * 파싱된 항목을 저장하고 생성된 ID를 반환한다.
@@ -74,6 +76,7 @@ public class NlpSaverService {
         );
 
         eventRepository.save(event);
+        calendarCacheInvalidatePublisher.publish(TargetType.EVENT, member.getId());
 
         // 이벤트 생성에 따른 리스너 생성 로직 실행
         reminderEventBridge.handlePlanChanged(
@@ -119,6 +122,7 @@ public class NlpSaverService {
         group.setEvent(event);
 
         log.debug("반복 일정 생성 완료 - eventId: {}, groupId: {}", event.getId(), group.getId());
+        calendarCacheInvalidatePublisher.publish(TargetType.EVENT, member.getId());
 
         // 이벤트 생성에 따른 리스너 생성 로직 실행
         reminderEventBridge.handlePlanChanged(
@@ -180,6 +184,7 @@ public class NlpSaverService {
         );
 
         todoRepository.save(todo);
+        calendarCacheInvalidatePublisher.publish(TargetType.TODO, member.getId());
 
         // 투두 생성에 따른 리스너 생성 로직 실행
         reminderEventBridge.handlePlanChanged(
@@ -227,6 +232,7 @@ public class NlpSaverService {
         group.setTodo(todo);
 
         log.debug("반복 할 일 생성 완료 - todoId: {}, groupId: {}", todo.getId(), group.getId());
+        calendarCacheInvalidatePublisher.publish(TargetType.TODO, member.getId());
 
         // 투두 생성에 따른 리스너 생성 로직 실행
         reminderEventBridge.handlePlanChanged(
@@ -30,6 +30,7 @@ public class PromptTemplate {
     private String systemPromptTemplate;
     private String systemSuggestionPromptTemplate;
     private String recurrenceSuggestionPromptTemplate;
+    private String parsePromptVersion;
 
     @PostConstruct
     public void init() {
@@ -46,6 +47,7 @@ public class PromptTemplate {
                     recurrenceSuggestionPromptResource.getInputStream().readAllBytes(),
                     StandardCharsets.UTF_8
             );
+            parsePromptVersion = Integer.toHexString((systemPromptTemplate + getUserPrompt("")).hashCode());
             log.debug("시스템 프롬프트 로드 완료");
         } catch (IOException e) {
             log.error("시스템 프롬프트 로드 실패", e);
@@ -64,6 +66,11 @@ public class PromptTemplate {
                 .replace("{next_week_dates}", buildNextWeekDatesTable(baseDate));
     }
 
+    // 파싱 프롬프트(시스템 + 사용자)가 바뀌면 달라지는 값 (파싱 결과 캐시 key에 포함)
+    public String getParsePromptVersion() {
+        return parsePromptVersion;
+    }
+
     public String getSuggestionPrompt() {
         return systemSuggestionPromptTemplate;
     }
@@ -4,6 +4,7 @@ import com.project.backend.domain.member.entity.Member;
 import com.project.backend.domain.member.exception.MemberErrorCode;
 import com.project.backend.domain.member.exception.MemberException;
 import com.project.backend.domain.member.repository.MemberRepository;
+import com.project.backend.domain.nlp.cache.NlpParseCache;
 import com.project.backend.domain.nlp.client.LlmClient;
 import com.project.backend.domain.nlp.dto.request.NlpReqDTO;
 import com.project.backend.domain.nlp.dto.response.NlpResDTO;
@@ -31,17 +32,15 @@ public class NlpServiceImpl implements NlpService {
     private final LlmResponseParser llmResponseParser;
     private final NlpSaverService nlpSaverService;
     private final MemberRepository memberRepository;
+    private final NlpParseCache nlpParseCache;
 
     @Override
     public NlpResDTO.ParseRes parse(NlpReqDTO.ParseReq reqDTO, Long memberId) {
         LocalDate baseDate = reqDTO.baseDate() != null ? reqDTO.baseDate() : LocalDate.now();
 
-        String systemPrompt = promptTemplate.getSystemPrompt(baseDate);
-        String userPrompt = promptTemplate.getUserPrompt(reqDTO.text());
-        log.debug("LLM 파싱 요청 - memberId: {}, text: {}", memberId, reqDTO.text());
-
-        String llmResponse = llmClient.chat(systemPrompt, userPrompt);
-        return llmResponseParser.parse(llmResponse);
+        // 같은(또는 거의 같은) 입력을 다시 파싱하는 경우 LLM 호출 없이 이전 결과 사용
+        return nlpParseCache.getOrParse(memberId, reqDTO.text(), baseDate, promptTemplate.getParsePromptVersion(),
+                () -> parseWithLlm(reqDTO.text(), baseDate, memberId));
     }
 
     @Override
@@ -76,6 +75,15 @@ public class NlpServiceImpl implements NlpService {
                 .build();
     }
 
+    private NlpResDTO.ParseRes parseWithLlm(String text, LocalDate baseDate, Long memberId) {
+        String systemPrompt = promptTemplate.getSystemPrompt(baseDate);
+        String userPrompt = promptTemplate.getUserPrompt(text);
+        log.debug("LLM 파싱 요청 - memberId: {}, text: {}", memberId, text);
+
+        String llmResponse = llmClient.chat(systemPrompt, userPrompt);
+        return llmResponseParser.parse(llmResponse);
+    }
+
     private String buildResultMessage(List<NlpResDTO.ConfirmResult> results) {
         int totalCreated = (int) results.stream()
                 .filter(NlpResDTO.ConfirmResult::success)
@@ -0,0 +1,23 @@
+package com.project.backend.domain.occurrence.cache;
+
+import com.project.backend.domain.occurrence.vo.CalendarCacheInvalidateEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 캘린더 캐시 무효화 이벤트를 받아 회원별 세대 번호를 올린다.
+ * 커밋 전에 올리면 다른 요청이 변경 전 데이터를 새 세대로 다시 캐시할 수 있으므로 커밋 이후에 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class CalendarCacheInvalidateEventListener {
+
+    private final CalendarOccurrenceCache calendarOccurrenceCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(CalendarCacheInvalidateEvent event) {
+        calendarOccurrenceCache.invalidate(event.targetType(), event.memberIds());
+    }
+}
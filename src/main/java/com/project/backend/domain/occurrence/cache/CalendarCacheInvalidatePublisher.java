@@ -0,0 +1,37 @@
+package com.project.backend.domain.occurrence.cache;
+
+import com.project.backend.domain.occurrence.vo.CalendarCacheInvalidateEvent;
+import com.project.backend.domain.reminder.enums.TargetType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 캘린더 occurrence 캐시 무효화 이벤트 발행 (커밋 이후 처리)
+ */
+@Component
+@RequiredArgsConstructor
+public class CalendarCacheInvalidatePublisher {
+
+    private final ApplicationEventPublisher publisher;
+
+    public void publish(TargetType targetType, Long memberId) {
+        if (memberId == null) return;
+
+        publisher.publishEvent(new CalendarCacheInvalidateEvent(targetType, Set.of(memberId)));
+    }
+
+    public void publish(TargetType targetType, Collection<Long> memberIds) {
+        Set<Long> targets = memberIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+        if (targets.isEmpty()) return;
+
+        publisher.publishEvent(new CalendarCacheInvalidateEvent(targetType, targets));
+    }
+}
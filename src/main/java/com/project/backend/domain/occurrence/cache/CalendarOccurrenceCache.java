@@ -0,0 +1,210 @@
+package com.project.backend.domain.occurrence.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.backend.domain.reminder.enums.TargetType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 회원별 캘린더 월 단위 occurrence 캐시 (로컬 LRU → Redis → 원본 조회)
+ * - key: (대상 종류, memberId, 세대 번호, 월)
+ * - 세대 번호는 Redis에 회원별로 저장하고, 일정/할 일 변경이 커밋되면 1 증가시킨다.
+ *   조회 시 항상 현재 세대 번호로 key를 만들기 때문에 이전 세대의 월 데이터는 다시 사용되지 않는다.
+ * - Redis를 사용할 수 없으면 캐시를 거치지 않고 바로 원본을 조회한다.
+ */
+@Slf4j
+@Component
+public class CalendarOccurrenceCache {
+
+    private static final String GENERATION_KEY_PREFIX = "calendar:gen:";
+    private static final String WINDOW_KEY_PREFIX     = "calendar:occ:";
+    private static final Duration TTL                 = Duration.ofDays(1);
+    private static final int MAX_LOCAL_ENTRIES        = 2_000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final Counter invalidationCounter;
+
+    // access-order LinkedHashMap으로 구현한 LRU (localCache 자체로 동기화)
+    private final Map<WindowKey, List<?>> localCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<WindowKey, List<?>> eldest) {
+            if (size() > MAX_LOCAL_ENTRIES) {
+                evictionCounter.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    public CalendarOccurrenceCache(
+            RedisTemplate<String, Object> redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+
+        this.localHitCounter = Counter.builder("calendar.occurrence.cache.requests")
+                .tag("result", "local_hit")
+                .register(meterRegistry);
+        this.redisHitCounter = Counter.builder("calendar.occurrence.cache.requests")
+                .tag("result", "redis_hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("calendar.occurrence.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("calendar.occurrence.cache.evictions")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("calendar.occurrence.cache.invalidations")
+                .register(meterRegistry);
+
+        Gauge.builder("calendar.occurrence.cache.local.size", localCache, cache -> {
+                    synchronized (cache) {
+                        return cache.size();
+                    }
+                })
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원의 해당 월 occurrence 목록을 캐시에서 조회하고, 없으면 loader로 만들어 저장한다.
+     * 반환 목록은 수정할 수 없다.
+     */
+    public <T> List<T> getOrLoad(
+            TargetType targetType,
+            Long memberId,
+            YearMonth month,
+            Class<T> itemType,
+            Supplier<List<T>> loader
+    ) {
+        Long generation = currentGeneration(targetType, memberId);
+
+        // 세대 번호를 알 수 없으면 오래된 데이터를 줄 수 있으므로 캐시하지 않음
+        if (generation == null) {
+            missCounter.increment();
+            return List.copyOf(loader.get());
+        }
+
+        WindowKey key = new WindowKey(targetType, memberId, generation, month);
+
+        List<T> local = getLocal(key);
+        if (local != null) {
+            localHitCounter.increment();
+            return local;
+        }
+
+        List<T> remote = readRemote(key, itemType);
+        if (remote != null) {
+            redisHitCounter.increment();
+            putLocal(key, remote);
+            return remote;
+        }
+
+        missCounter.increment();
+        List<T> loaded = List.copyOf(loader.get());
+        putLocal(key, loaded);
+        writeRemote(key, loaded);
+        return loaded;
+    }
+
+    /**
+     * 회원들의 세대 번호를 올려 기존 월 데이터를 모두 무효화한다.
+     */
+    public void invalidate(TargetType targetType, Collection<Long> memberIds) {
+        for (Long memberId : memberIds) {
+            invalidationCounter.increment();
+            removeLocal(targetType, memberId);
+            try {
+                redisTemplate.opsForValue().increment(generationKey(targetType, memberId));
+            } catch (Exception e) {
+                log.error("[CalendarOccurrenceCache] 세대 번호 증가 실패 - type: {}, memberId: {}",
+                        targetType, memberId, e);
+            }
+        }
+        log.debug("[CalendarOccurrenceCache] 무효화 완료 - type: {}, memberIds: {}", targetType, memberIds);
+    }
+
+    // =============== private ===================
+
+    // 세대 번호 키는 만료시키지 않는다. (만료되어 0부터 다시 시작하면 이전 세대 데이터와 key가 겹칠 수 있음)
+    private Long currentGeneration(TargetType targetType, Long memberId) {
+        try {
+            Object raw = redisTemplate.opsForValue().get(generationKey(targetType, memberId));
+            return raw != null ? Long.parseLong((String) raw) : 0L;
+        } catch (Exception e) {
+            log.warn("[CalendarOccurrenceCache] 세대 번호 조회 실패, 캐시 미사용 - type: {}, memberId: {}",
+                    targetType, memberId, e);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> getLocal(WindowKey key) {
+        synchronized (localCache) {
+            return (List<T>) localCache.get(key);
+        }
+    }
+
+    private void putLocal(WindowKey key, List<?> value) {
+        synchronized (localCache) {
+            localCache.put(key, value);
+        }
+    }
+
+    private void removeLocal(TargetType targetType, Long memberId) {
+        synchronized (localCache) {
+            localCache.keySet().removeIf(key ->
+                    key.targetType() == targetType && key.memberId().equals(memberId));
+        }
+    }
+
+    private <T> List<T> readRemote(WindowKey key, Class<T> itemType) {
+        try {
+            Object raw = redisTemplate.opsForValue().get(key.toRedisKey());
+            if (raw == null) return null;
+
+            JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, itemType);
+            List<T> value = objectMapper.readValue((String) raw, listType);
+            return List.copyOf(value);
+        } catch (Exception e) {
+            log.error("[CalendarOccurrenceCache] Redis 조회 실패 - key: {}", key.toRedisKey(), e);
+            return null;
+        }
+    }
+
+    private void writeRemote(WindowKey key, List<?> value) {
+        try {
+            redisTemplate.opsForValue().set(key.toRedisKey(), objectMapper.writeValueAsString(value), TTL);
+        } catch (Exception e) {
+            log.error("[CalendarOccurrenceCache] Redis 저장 실패 - key: {}", key.toRedisKey(), e);
+        }
+    }
+
+    private String generationKey(TargetType targetType, Long memberId) {
+        return GENERATION_KEY_PREFIX + targetType + ":" + memberId;
+    }
+
+    private record WindowKey(TargetType targetType, Long memberId, long generation, YearMonth month) {
+
+        // calendar:occ:EVENT:{memberId}:{generation}:2026-01
+        String toRedisKey() {
+            return WINDOW_KEY_PREFIX + targetType + ":" + memberId + ":" + generation + ":" + month;
+        }
+    }
+}
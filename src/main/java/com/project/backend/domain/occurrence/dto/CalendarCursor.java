@@ -0,0 +1,56 @@
+package com.project.backend.domain.occurrence.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * 캘린더 페이지 조회 커서 (마지막으로 반환한 occurrence의 정렬 키)
+ * - 정렬 순서: 시작 시간 → 일정/할 일 id → 원래 발생 시간
+ * - 문자열 형식: Base64URL("{start}|{id}|{occurrenceTime}")
+ */
+public record CalendarCursor(
+        LocalDateTime start,
+        Long id,
+        LocalDateTime occurrenceTime
+) {
+    private static final Comparator<CalendarCursor> ORDER = Comparator
+            .comparing(CalendarCursor::start)
+            .thenComparing(CalendarCursor::id)
+            .thenComparing(CalendarCursor::occurrenceTime);
+
+    public static CalendarCursor of(LocalDateTime start, Long id, LocalDateTime occurrenceTime) {
+        return new CalendarCursor(start, id, occurrenceTime);
+    }
+
+    /**
+     * 형식이 잘못된 경우 IllegalArgumentException
+     */
+    public static CalendarCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] tokens = raw.split("\\|");
+        if (tokens.length != 3) {
+            throw new IllegalArgumentException("invalid cursor: " + cursor);
+        }
+        try {
+            return new CalendarCursor(
+                    LocalDateTime.parse(tokens[0]),
+                    Long.parseLong(tokens[1]),
+                    LocalDateTime.parse(tokens[2])
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("invalid cursor: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String raw = start + "|" + id + "|" + occurrenceTime;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 주어진 정렬 키가 커서 이후에 오는지
+    public boolean isFollowedBy(LocalDateTime start, Long id, LocalDateTime occurrenceTime) {
+        return ORDER.compare(this, new CalendarCursor(start, id, occurrenceTime)) < 0;
+    }
+}
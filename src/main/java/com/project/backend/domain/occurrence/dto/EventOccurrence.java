@@ -0,0 +1,30 @@
+package com.project.backend.domain.occurrence.dto;
+
+import com.project.backend.domain.event.entity.Event;
+import com.project.backend.domain.event.entity.RecurrenceException;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 예외(SKIP/OVERRIDE)가 적용된 일정의 occurrence
+ * @param occurrenceTime 반복 규칙상 원래 시간 (예외의 exceptionDate)
+ * @param startTime 실제 시작 시간 (OVERRIDE로 이동된 경우 이동된 시간)
+ * @param endTime 실제 종료 시간
+ * @param exception 해당 occurrence의 OVERRIDE 예외 (없으면 null)
+ */
+public record EventOccurrence(
+        Event event,
+        LocalDateTime occurrenceTime,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        RecurrenceException exception
+) {
+    // 예외 없는 최초 일정(부모)인지
+    public boolean isOrigin() {
+        return exception == null && occurrenceTime.isEqual(event.getStartTime());
+    }
+
+    public boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        return !startTime.isAfter(to) && !endTime.isBefore(from);
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.backend.domain.occurrence.dto;
+
+import com.project.backend.domain.todo.entity.Todo;
+import com.project.backend.domain.todo.entity.TodoRecurrenceException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 반복 예외(SKIP/OVERRIDE)가 적용된 할 일의 occurrence
+ * @param occurrenceDate 반복 규칙상 날짜 (예외의 exceptionDate)
+ * @param startTime 실제 시간 (OVERRIDE의 dueTime이 있으면 해당 시간)
+ * @param exception 해당 날짜의 OVERRIDE 예외 (없으면 null)
+ */
+public record TodoOccurrence(
+        Todo todo,
+        LocalDate occurrenceDate,
+        LocalDateTime startTime,
+        TodoRecurrenceException exception
+) {
+    // 반복 할 일은 예외에 완료 상태가 기록됨
+    public boolean isCompleted() {
+        if (exception != null) {
+            return exception.getIsCompleted();
+        }
+        return !todo.isRecurring() && Boolean.TRUE.equals(todo.getIsCompleted());
+    }
+
+    public String title() {
+        return exception != null && exception.getTitle() != null ? exception.getTitle() : todo.getTitle();
+    }
+}
@@ -0,0 +1,43 @@
+package com.project.backend.domain.occurrence.listener;
+
+import com.project.backend.domain.event.entity.RecurrenceGroup;
+import com.project.backend.domain.occurrence.service.OccurrenceExpansionEngine;
+import com.project.backend.domain.todo.entity.TodoRecurrenceGroup;
+import com.project.backend.global.recurrence.RecurrenceRule;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 반복 그룹을 저장/수정할 때 마지막 반복 날짜(lastOccurrenceDate)를 다시 계산하는 엔티티 리스너
+ * - firstStart는 모객체를 연결할 때 엔티티가 직접 갱신하고, 여기서는 그 값을 첫 반복으로 사용한다.
+ * - Hibernate가 EntityManagerFactory를 만들면서 리스너를 생성하므로 엔진은 ObjectProvider로 늦게 가져온다.
+ */
+@RequiredArgsConstructor
+public class RecurrenceHorizonListener {
+
+    private final ObjectProvider<OccurrenceExpansionEngine> occurrenceExpansionEngine;
+
+    @PrePersist
+    @PreUpdate
+    public void refreshLastOccurrenceDate(Object entity) {
+        switch (entity) {
+            case RecurrenceGroup rg -> rg.updateLastOccurrenceDate(calculate(rg, rg.getFirstStart()));
+            case TodoRecurrenceGroup trg -> trg.updateLastOccurrenceDate(calculate(trg, trg.getFirstStart()));
+            default -> {
+            }
+        }
+    }
+
+    // 모객체가 아직 연결되지 않아 첫 반복을 모르면 끝을 모르는 것으로 둔다 (연결된 뒤 수정 시 다시 계산)
+    private LocalDate calculate(RecurrenceRule rule, LocalDateTime firstStart) {
+        if (firstStart == null) {
+            return null;
+        }
+        return occurrenceExpansionEngine.getObject().findLastOccurrenceDate(rule, firstStart);
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.backend.domain.occurrence.service;
+
+import com.project.backend.domain.event.entity.RecurrenceException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static com.project.backend.domain.common.recurrence.enums.ExceptionType.OVERRIDE;
+
+/**
+ * 반복 그룹 하나의 예외 색인
+ * - byOccurrence: 원래 발생 시간(exceptionDate) → 예외, occurrence마다 한 번의 조회로 예외를 찾는다.
+ * - byMovedStart: OVERRIDE로 이동된 시작 시간 → 예외, 원래 시간이 범위 밖이어도 범위 안으로 이동된 예외를 찾는다.
+ */
+public final class EventExceptionIndex {
+
+    private static final EventExceptionIndex EMPTY =
+            new EventExceptionIndex(new TreeMap<>(), new TreeMap<>(), Duration.ZERO);
+
+    private final NavigableMap<LocalDateTime, RecurrenceException> byOccurrence;
+    private final NavigableMap<LocalDateTime, List<RecurrenceException>> byMovedStart;
+    // 이동된 예외 중 가장 긴 (종료 - 시작) 시간
+    private final Duration maxMovedDuration;
+
+    private EventExceptionIndex(
+            NavigableMap<LocalDateTime, RecurrenceException> byOccurrence,
+            NavigableMap<LocalDateTime, List<RecurrenceException>> byMovedStart,
+            Duration maxMovedDuration
+    ) {
+        this.byOccurrence = byOccurrence;
+        this.byMovedStart = byMovedStart;
+        this.maxMovedDuration = maxMovedDuration;
+    }
+
+    public static EventExceptionIndex empty() {
+        return EMPTY;
+    }
+
+    public static EventExceptionIndex of(Collection<RecurrenceException> exceptions) {
+        NavigableMap<LocalDateTime, RecurrenceException> byOccurrence = new TreeMap<>();
+        NavigableMap<LocalDateTime, List<RecurrenceException>> byMovedStart = new TreeMap<>();
+        Duration maxMovedDuration = Duration.ZERO;
+
+        for (RecurrenceException ex : exceptions) {
+            // 같은 발생 시간에 예외가 여러 개면 먼저 조회된 것을 사용
+            if (byOccurrence.putIfAbsent(ex.getExceptionDate(), ex) != null) {
+                continue;
+            }
+            if (ex.getExceptionType() != OVERRIDE || ex.getStartTime() == null) {
+                continue;
+            }
+
+            byMovedStart.computeIfAbsent(ex.getStartTime(), key -> new ArrayList<>()).add(ex);
+            if (ex.getEndTime() != null) {
+                Duration duration = Duration.between(ex.getStartTime(), ex.getEndTime());
+                if (duration.compareTo(maxMovedDuration) > 0) {
+                    maxMovedDuration = duration;
+                }
+            }
+        }
+
+        return new EventExceptionIndex(byOccurrence, byMovedStart, maxMovedDuration);
+    }
+
+    /**
+     * 원래 발생 시간에 해당하는 예외 (없으면 null)
+     */
+    public RecurrenceException get(LocalDateTime occurrenceTime) {
+        return byOccurrence.get(occurrenceTime);
+    }
+
+    /**
+     * 이동된 시작 시간이 [from - 최대 길이, to] 안에 있는 OVERRIDE 예외 (실제 겹침 여부는 호출한 쪽에서 확인)
+     * @param defaultDuration 종료 시간이 없는 예외에 적용되는 일정 길이
+     */
+    public Collection<RecurrenceException> findMovedCandidates(
+            LocalDateTime from, LocalDateTime to, Duration defaultDuration) {
+        if (byMovedStart.isEmpty()) {
+            return List.of();
+        }
+
+        Duration maxDuration = maxMovedDuration.compareTo(defaultDuration) > 0 ? maxMovedDuration : defaultDuration;
+
+        List<RecurrenceException> candidates = new ArrayList<>();
+        byMovedStart.subMap(from.minus(maxDuration), true, to, true)
+                .values()
+                .forEach(candidates::addAll);
+        return candidates;
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.backend.domain.occurrence.service;
+
+import java.util.*;
+
+/**
+ * 각각 정렬된 여러 Iterator를 하나의 정렬된 Iterator로 병합 (k-way merge)
+ * - 각 Iterator의 현재 원소만 힙에 올려두므로 전체를 메모리에 올리지 않는다.
+ * - comparator가 같다고 판단한 원소는 sources 순서를 따른다.
+ */
+final class MergingIterator<T> implements Iterator<T> {
+
+    private final PriorityQueue<Head<T>> heap;
+
+    MergingIterator(List<? extends Iterator<T>> sources, Comparator<? super T> comparator) {
+        Comparator<Head<T>> headComparator = Comparator
+                .<Head<T>, T>comparing(Head::value, comparator)
+                .thenComparingInt(Head::sourceIndex);
+        this.heap = new PriorityQueue<>(Math.max(1, sources.size()), headComparator);
+
+        for (int i = 0; i < sources.size(); i++) {
+            Iterator<T> source = sources.get(i);
+            if (source.hasNext()) {
+                heap.add(new Head<>(source.next(), i, source));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heap.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        Head<T> head = heap.poll();
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        if (head.source().hasNext()) {
+            heap.add(new Head<>(head.source().next(), head.sourceIndex(), head.source()));
+        }
+        return head.value();
+    }
+
+    private record Head<T>(T value, int sourceIndex, Iterator<T> source) {
+    }
+}
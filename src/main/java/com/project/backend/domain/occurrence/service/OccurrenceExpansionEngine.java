@@ -0,0 +1,397 @@
+package com.project.backend.domain.occurrence.service;
+
+import com.project.backend.domain.common.recurrence.enums.RecurrenceEndType;
+import com.project.backend.domain.event.entity.Event;
+import com.project.backend.domain.event.entity.RecurrenceException;
+import com.project.backend.domain.event.entity.RecurrenceGroup;
+import com.project.backend.domain.event.factory.EndConditionFactory;
+import com.project.backend.domain.event.factory.GeneratorFactory;
+import com.project.backend.domain.event.repository.RecurrenceExceptionRepository;
+import com.project.backend.domain.event.strategy.endcondition.EndCondition;
+import com.project.backend.domain.event.strategy.generator.Generator;
+import com.project.backend.domain.event.strategy.generator.SeekResult;
+import com.project.backend.domain.occurrence.dto.EventOccurrence;
+import com.project.backend.domain.occurrence.dto.TodoOccurrence;
+import com.project.backend.domain.todo.entity.Todo;
+import com.project.backend.domain.todo.entity.TodoRecurrenceException;
+import com.project.backend.domain.todo.entity.TodoRecurrenceGroup;
+import com.project.backend.domain.todo.repository.TodoRecurrenceExceptionRepository;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
+import com.project.backend.global.recurrence.CompiledRecurrenceRuleCache;
+import com.project.backend.global.recurrence.RecurrenceRule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.project.backend.domain.common.recurrence.enums.ExceptionType.SKIP;
+
+/**
+ * 일정/할 일의 반복을 시간 범위 안에서 펼치는 공통 엔진
+ * - 대상 반복 그룹들의 예외는 IN 쿼리 한 번으로 미리 조회
+ * - Generator.seek으로 범위 시작 지점까지 바로 이동한 뒤 범위 안에서만 생성
+ * - 반복별로 정렬된 Iterator를 힙으로 병합해 SKIP/OVERRIDE가 적용된 결과를 실제 시작 시간 순으로 반환
+ *   (반환 Stream은 지연 평가되므로 필요한 만큼만 소비하면 나머지는 생성하지 않는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OccurrenceExpansionEngine {
+
+    private static final int MAX_OCCURRENCE_ITERATION = 20_000;
+
+    // 시작 시간 → 일정 id → 원래 발생 시간
+    public static final Comparator<EventOccurrence> EVENT_ORDER = Comparator
+            .comparing(EventOccurrence::startTime)
+            .thenComparing(occurrence -> occurrence.event().getId())
+            .thenComparing(EventOccurrence::occurrenceTime);
+
+    // 시작 시간 → 할 일 id
+    public static final Comparator<TodoOccurrence> TODO_ORDER = Comparator
+            .comparing(TodoOccurrence::startTime)
+            .thenComparing(occurrence -> occurrence.todo().getId());
+
+    private final GeneratorFactory generatorFactory;
+    private final EndConditionFactory endConditionFactory;
+    private final CompiledRecurrenceRuleCache compiledRecurrenceRuleCache;
+    private final RecurrenceExceptionRepository recurrenceExceptionRepository;
+    private final TodoRecurrenceExceptionRepository todoRecurrenceExceptionRepository;
+
+    // =============== EVENT ===================
+
+    /**
+     * 일정 목록을 [from, to] 범위와 겹치는 occurrence로 펼친다. (시작 시간 순)
+     */
+    public Stream<EventOccurrence> expandEvents(Collection<Event> events, LocalDateTime from, LocalDateTime to) {
+        Map<Long, EventExceptionIndex> exceptionsByGroup = loadEventExceptions(events);
+
+        List<Iterator<EventOccurrence>> sources = new ArrayList<>();
+        for (Event event : events) {
+            EventExceptionIndex exceptions = event.isRecurring()
+                    ? exceptionsByGroup.getOrDefault(event.getRecurrenceGroup().getId(), EventExceptionIndex.empty())
+                    : EventExceptionIndex.empty();
+            addEventSources(event, from, to, exceptions, sources);
+        }
+
+        return toStream(new MergingIterator<>(sources, EVENT_ORDER));
+    }
+
+    /**
+     * 일정들의 반복 예외를 한 번에 조회해 반복 그룹별로 색인 (반복 그룹 id → 예외 색인)
+     */
+    public Map<Long, EventExceptionIndex> loadEventExceptions(Collection<Event> events) {
+        List<Long> groupIds = events.stream()
+                .map(Event::getRecurrenceGroup)
+                .filter(Objects::nonNull)
+                .map(RecurrenceGroup::getId)
+                .distinct()
+                .toList();
+
+        if (groupIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return recurrenceExceptionRepository.findAllByRecurrenceGroupIdIn(groupIds).stream()
+                .collect(Collectors.groupingBy(
+                        ex -> ex.getRecurrenceGroup().getId(),
+                        Collectors.collectingAndThen(Collectors.toList(), EventExceptionIndex::of)
+                ));
+    }
+
+    // =============== TODO ===================
+
+    /**
+     * 할 일 목록을 [from, to] 날짜 범위의 occurrence로 펼친다. (시간 순)
+     */
+    public Stream<TodoOccurrence> expandTodos(Collection<Todo> todos, LocalDate from, LocalDate to) {
+        Map<Long, Map<LocalDate, TodoRecurrenceException>> exceptionsByGroup = loadTodoExceptions(todos);
+
+        LocalDateTime fromTime = from.atStartOfDay();
+        LocalDateTime toTime = to.atTime(LocalTime.MAX);
+
+        List<Iterator<TodoOccurrence>> sources = new ArrayList<>();
+        for (Todo todo : todos) {
+            LocalTime dueTime = todo.getDueTime() != null ? todo.getDueTime() : LocalTime.MIDNIGHT;
+            LocalDateTime anchor = todo.getStartDate().atTime(dueTime);
+
+            // 단일 할 일
+            if (!todo.isRecurring()) {
+                if (!anchor.isBefore(fromTime) && !anchor.isAfter(toTime)) {
+                    sources.add(List.of(new TodoOccurrence(todo, todo.getStartDate(), anchor, null)).iterator());
+                }
+                continue;
+            }
+
+            TodoRecurrenceGroup group = todo.getTodoRecurrenceGroup();
+            Map<LocalDate, TodoRecurrenceException> exceptions =
+                    exceptionsByGroup.getOrDefault(group.getId(), Map.of());
+
+            // 날짜마다 하나씩이므로 마감 시간이 바뀌어도 원래 시간 순 = 시작 시간 순
+            sources.add(toStream(new SlotIterator(compiledRecurrenceRuleCache.get(group), anchor, fromTime, toTime))
+                    .map(slot -> toTodoOccurrence(todo, slot.toLocalDate(), dueTime, exceptions.get(slot.toLocalDate())))
+                    .filter(Objects::nonNull)
+                    .iterator());
+        }
+
+        return toStream(new MergingIterator<>(sources, TODO_ORDER));
+    }
+
+    /**
+     * 할 일들의 반복 예외를 한 번에 조회 (반복 그룹 id → exceptionDate → 예외)
+     */
+    public Map<Long, Map<LocalDate, TodoRecurrenceException>> loadTodoExceptions(Collection<Todo> todos) {
+        List<Long> groupIds = todos.stream()
+                .map(Todo::getTodoRecurrenceGroup)
+                .filter(Objects::nonNull)
+                .map(TodoRecurrenceGroup::getId)
+                .distinct()
+                .toList();
+
+        if (groupIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return todoRecurrenceExceptionRepository.findByTodoRecurrenceGroupIdIn(groupIds).stream()
+                .collect(Collectors.groupingBy(
+                        ex -> ex.getTodoRecurrenceGroup().getId(),
+                        Collectors.toMap(TodoRecurrenceException::getExceptionDate, ex -> ex, (existing, replacement) -> existing)
+                ));
+    }
+
+    // =============== 단일 반복 계산 ===================
+
+    /**
+     * anchor부터 시작하는 반복 중 from과 같거나 이후이면서 accept를 만족하는 첫 시간 (anchor 포함, 예외 미적용)
+     */
+    public Optional<LocalDateTime> findNextSlot(
+            RecurrenceRule rule,
+            LocalDateTime anchor,
+            LocalDateTime from,
+            Predicate<LocalDateTime> accept
+    ) {
+        CompiledRecurrenceRule compiled = compiledRecurrenceRuleCache.get(rule);
+
+        // 단발성
+        if (compiled == null) {
+            return !anchor.isBefore(from) && accept.test(anchor) ? Optional.of(anchor) : Optional.empty();
+        }
+
+        Generator generator = generatorFactory.getGenerator(compiled);
+        EndCondition endCondition = endConditionFactory.getEndCondition(compiled);
+
+        SeekResult seek = generator.seek(anchor, from, compiled);
+        LocalDateTime current = seek.time();
+        int count = seek.count();
+
+        for (int i = 0; i < MAX_OCCURRENCE_ITERATION && current != null; i++) {
+            if (!isWithinEnd(endCondition, compiled, current, count)) {
+                break;
+            }
+            if (!current.isBefore(from) && accept.test(current)) {
+                return Optional.of(current);
+            }
+            current = generator.next(current, compiled);
+            count++;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * time이 anchor부터 시작하는 반복의 occurrence인지 (예외 미적용)
+     */
+    public boolean isOccurrence(RecurrenceRule rule, LocalDateTime anchor, LocalDateTime time) {
+        return findNextSlot(rule, anchor, time, slot -> true)
+                .filter(time::isEqual)
+                .isPresent();
+    }
+
+    /**
+     * anchor부터 시작하는 반복의 마지막 반복 날짜 (예외 미적용)
+     * - 단발성이면 anchor 날짜, END_BY_DATE면 종료일, END_BY_COUNT면 occurrenceCount번째 반복 날짜
+     * - NEVER이거나 최대 반복 수 안에 끝나지 않으면 끝을 알 수 없으므로 null
+     */
+    public LocalDate findLastOccurrenceDate(RecurrenceRule rule, LocalDateTime anchor) {
+        CompiledRecurrenceRule compiled = compiledRecurrenceRuleCache.get(rule);
+
+        if (compiled == null) {
+            return anchor.toLocalDate();
+        }
+        if (compiled.getEndType() == RecurrenceEndType.NEVER) {
+            return null;
+        }
+        if (compiled.getEndType() == RecurrenceEndType.END_BY_DATE && compiled.getEndDate() != null) {
+            return compiled.getEndDate();
+        }
+
+        Generator generator = generatorFactory.getGenerator(compiled);
+        EndCondition endCondition = endConditionFactory.getEndCondition(compiled);
+
+        LocalDate last = anchor.toLocalDate();
+        LocalDateTime current = anchor;
+        for (int count = 1; count <= MAX_OCCURRENCE_ITERATION && current != null; count++) {
+            if (!isWithinEnd(endCondition, compiled, current, count)) {
+                return last;
+            }
+            last = current.toLocalDate();
+            current = generator.next(current, compiled);
+        }
+        return current == null ? last : null;
+    }
+
+    // =============== private ===================
+
+    // 일정 하나의 occurrence를 시작 시간 순으로 내보내는 Iterator들을 sources에 추가
+    private void addEventSources(
+            Event event,
+            LocalDateTime from,
+            LocalDateTime to,
+            EventExceptionIndex exceptions,
+            List<Iterator<EventOccurrence>> sources
+    ) {
+        LocalDateTime anchor = event.getStartTime();
+        Duration duration = Duration.between(event.getStartTime(), event.getEndTime());
+        CompiledRecurrenceRule rule = compiledRecurrenceRuleCache.get(event.getRecurrenceGroup());
+
+        // 단일 일정
+        if (rule == null) {
+            EventOccurrence occurrence = new EventOccurrence(event, anchor, anchor, anchor.plus(duration), null);
+            if (occurrence.overlaps(from, to)) {
+                sources.add(List.of(occurrence).iterator());
+            }
+            return;
+        }
+
+        // 원래 시간에 그대로 있는 occurrence (종료 시간이 from 이후가 되는 원래 시간부터, 원래 시간 순 = 시작 시간 순)
+        sources.add(toStream(new SlotIterator(rule, anchor, from.minus(duration), to))
+                .filter(slot -> !isSkippedOrMoved(exceptions.get(slot)))
+                .map(slot -> toEventOccurrence(event, slot, duration, exceptions.get(slot)))
+                .filter(occurrence -> occurrence.overlaps(from, to))
+                .iterator());
+
+        // OVERRIDE로 시간이 이동된 occurrence (원래 시간이 범위 밖이어도 포함, 이동된 시작 시간 순)
+        Collection<RecurrenceException> moved = exceptions.findMovedCandidates(from, to, duration);
+        if (!moved.isEmpty()) {
+            sources.add(moved.stream()
+                    .map(ex -> toEventOccurrence(event, ex.getExceptionDate(), duration, ex))
+                    .filter(occurrence -> occurrence.overlaps(from, to))
+                    .filter(occurrence -> isOccurrence(rule, anchor, occurrence.occurrenceTime()))
+                    .iterator());
+        }
+    }
+
+    // SKIP이거나 다른 시간으로 이동된 OVERRIDE인지
+    private boolean isSkippedOrMoved(RecurrenceException ex) {
+        return ex != null && (ex.getExceptionType() == SKIP || ex.getStartTime() != null);
+    }
+
+    // SKIP이면 null
+    private EventOccurrence toEventOccurrence(
+            Event event, LocalDateTime slot, Duration duration, RecurrenceException ex) {
+        if (ex == null) {
+            return new EventOccurrence(event, slot, slot, slot.plus(duration), null);
+        }
+        if (ex.getExceptionType() == SKIP) {
+            return null;
+        }
+
+        LocalDateTime start = ex.getStartTime() != null ? ex.getStartTime() : slot;
+        LocalDateTime end = ex.getEndTime() != null ? ex.getEndTime() : slot.plus(duration);
+        return new EventOccurrence(event, slot, start, end, ex);
+    }
+
+    // SKIP이면 null
+    private TodoOccurrence toTodoOccurrence(
+            Todo todo, LocalDate date, LocalTime dueTime, TodoRecurrenceException ex) {
+        if (ex != null && ex.getExceptionType() == SKIP) {
+            return null;
+        }
+        LocalTime time = ex != null && ex.getDueTime() != null ? ex.getDueTime() : dueTime;
+        return new TodoOccurrence(todo, date, date.atTime(time), ex);
+    }
+
+    private static <T> Stream<T> toStream(Iterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+    }
+
+    // 반복 종료 조건과 종료 날짜 안에 있는 occurrence인지
+    private boolean isWithinEnd(EndCondition endCondition, RecurrenceRule rule, LocalDateTime time, int count) {
+        LocalDate endDate = rule.getEndDate();
+        if (endDate != null && time.toLocalDate().isAfter(endDate)) {
+            return false;
+        }
+        return endCondition.includes(time, count, rule);
+    }
+
+    /**
+     * [from, to] 안의 반복 시간을 순서대로 지연 생성 (seek으로 from 근처까지 바로 이동)
+     */
+    private final class SlotIterator implements Iterator<LocalDateTime> {
+
+        private final CompiledRecurrenceRule rule;
+        private final Generator generator;
+        private final EndCondition endCondition;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+
+        private LocalDateTime current;
+        private int count;
+        private int iteration;
+        private LocalDateTime nextSlot;
+
+        private SlotIterator(CompiledRecurrenceRule rule, LocalDateTime anchor, LocalDateTime from, LocalDateTime to) {
+            this.rule = rule;
+            this.generator = generatorFactory.getGenerator(rule);
+            this.endCondition = endConditionFactory.getEndCondition(rule);
+            this.from = from;
+            this.to = to;
+
+            SeekResult seek = generator.seek(anchor, from, rule);
+            this.current = seek.time();
+            this.count = seek.count();
+            this.nextSlot = advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot != null;
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (nextSlot == null) {
+                throw new NoSuchElementException();
+            }
+            LocalDateTime slot = nextSlot;
+            nextSlot = advance();
+            return slot;
+        }
+
+        private LocalDateTime advance() {
+            while (iteration < MAX_OCCURRENCE_ITERATION && current != null && !current.isAfter(to)) {
+                iteration++;
+                if (!isWithinEnd(endCondition, rule, current, count)) {
+                    current = null;
+                    return null;
+                }
+
+                LocalDateTime slot = current;
+                current = generator.next(current, rule);
+                count++;
+
+                if (!slot.isBefore(from)) {
+                    return slot;
+                }
+            }
+            return null;
+        }
+    }
+}
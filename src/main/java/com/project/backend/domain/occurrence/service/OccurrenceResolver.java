@@ -10,7 +10,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -27,6 +30,19 @@ public class OccurrenceResolver {
         return todoService.calculateNextOccurrence(reminder.getTargetId(), reminder.getOccurrenceTime());
     }
 
+    /**
+     * 리마인더들의 다음 occurrence를 대상 종류별로 묶어서 계산 (리마인더 id → 결과)
+     */
+    public Map<Long, NextOccurrenceResult> getNextOccurrences(List<Reminder> reminders) {
+        Map<TargetType, List<Reminder>> byType = reminders.stream()
+                .collect(Collectors.groupingBy(Reminder::getTargetType));
+
+        Map<Long, NextOccurrenceResult> results = new HashMap<>();
+        results.putAll(eventQueryService.calculateNextOccurrences(byType.getOrDefault(TargetType.EVENT, List.of())));
+        results.putAll(todoService.calculateNextOccurrences(byType.getOrDefault(TargetType.TODO, List.of())));
+        return results;
+    }
+
     public List<TodayOccurrenceResult> getTodayOccurrence(TargetType type, List<Long> targetId, LocalDate currentDate) {
         if (type == TargetType.EVENT) {
             return eventQueryService.calculateTodayOccurrence(targetId, currentDate);
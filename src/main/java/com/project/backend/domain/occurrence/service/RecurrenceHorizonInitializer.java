@@ -0,0 +1,43 @@
+package com.project.backend.domain.occurrence.service;
+
+import com.project.backend.domain.event.entity.RecurrenceGroup;
+import com.project.backend.domain.event.repository.RecurrenceGroupRepository;
+import com.project.backend.domain.todo.entity.TodoRecurrenceGroup;
+import com.project.backend.domain.todo.repository.TodoRecurrenceGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 반복 범위 컬럼(firstStart, lastOccurrenceDate)이 추가되기 전에 저장된 반복 그룹을 채운다.
+ * firstStart만 갱신하면 flush 시 RecurrenceHorizonListener가 lastOccurrenceDate를 계산한다.
+ * 이미 채워진 그룹은 조회되지 않으므로 여러 번 실행되어도 결과는 같다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecurrenceHorizonInitializer {
+
+    private final RecurrenceGroupRepository recurrenceGroupRepository;
+    private final TodoRecurrenceGroupRepository todoRecurrenceGroupRepository;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingHorizons() {
+        List<RecurrenceGroup> groups = recurrenceGroupRepository.findAllWithEventByFirstStartIsNull();
+        groups.forEach(RecurrenceGroup::syncFirstStart);
+
+        List<TodoRecurrenceGroup> todoGroups = todoRecurrenceGroupRepository.findAllWithTodoByFirstStartIsNull();
+        todoGroups.forEach(TodoRecurrenceGroup::syncFirstStart);
+
+        if (!groups.isEmpty() || !todoGroups.isEmpty()) {
+            log.info("[RecurrenceHorizonInitializer] 반복 범위 채움 - event: {}, todo: {}",
+                    groups.size(), todoGroups.size());
+        }
+    }
+}
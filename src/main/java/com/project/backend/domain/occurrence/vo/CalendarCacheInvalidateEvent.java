@@ -0,0 +1,11 @@
+package com.project.backend.domain.occurrence.vo;
+
+import com.project.backend.domain.reminder.enums.TargetType;
+
+import java.util.Set;
+
+public record CalendarCacheInvalidateEvent(
+        TargetType targetType,
+        Set<Long> memberIds
+) {
+}
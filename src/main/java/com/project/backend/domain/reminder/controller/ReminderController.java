@@ -1,14 +1,19 @@
 package com.project.backend.domain.reminder.controller;
 
+import com.project.backend.domain.reminder.dispatcher.ReminderSseHub;
 import com.project.backend.domain.reminder.dto.response.ReminderResDTO;
 import com.project.backend.domain.reminder.service.query.ReminderQueryService;
 import com.project.backend.global.apiPayload.CustomResponse;
 import com.project.backend.global.security.userdetails.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -18,6 +23,7 @@ import java.util.List;
 public class ReminderController implements ReminderDocs {
 
     private final ReminderQueryService reminderQueryService;
+    private final ReminderSseHub reminderSseHub;
 
     @GetMapping("")
     @Override
@@ -27,4 +33,13 @@ public class ReminderController implements ReminderDocs {
         List<ReminderResDTO.DetailRes> res = reminderQueryService.getReminder(customUserDetails.getId());
         return CustomResponse.onSuccess("리마인더 조회 완료", res);
     }
+
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Override
+    public Flux<ServerSentEvent<Object>> subscribeReminders(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return reminderSseHub.subscribe(customUserDetails.getId(), lastEventId);
+    }
 }
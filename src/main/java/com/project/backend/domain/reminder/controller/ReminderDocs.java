@@ -4,13 +4,15 @@ import com.project.backend.domain.reminder.dto.response.ReminderResDTO;
 import com.project.backend.global.apiPayload.CustomResponse;
 import com.project.backend.global.security.userdetails.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -41,4 +43,29 @@ public interface ReminderDocs {
     CustomResponse<List<ReminderResDTO.DetailRes>> getReminders(
             CustomUserDetails customUserDetails
     );
+
+    @Operation(
+            summary = "리마인더 구독 (SSE)",
+            description = """
+                    로그인한 사용자의 리마인더를 Server-Sent Events로 구독합니다.
+                    
+                    - 연결 직후 `connect` 이벤트가 한 번 전송됩니다.
+                    - 설정한 리마인더 시간이 되면 `reminder` 이벤트로 리마인더 리스트가 전송됩니다. 각 이벤트에는 `id`가 있습니다.
+                    - 25초마다 heartbeat 주석이 전송되며, 연결은 최대 30분 유지된 뒤 종료됩니다.
+                    - 클라이언트가 이벤트를 읽지 못해 서버 버퍼가 차면 연결이 종료됩니다.
+                    - 재연결 시 `Last-Event-ID` 헤더에 마지막으로 받은 이벤트 id를 보내면, 최근 5분 안에 놓친 리마인더를 다시 전송합니다.
+                      (브라우저 EventSource는 자동으로 보냄, 5분이 지났다면 리마인더 조회 API로 확인)
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "구독 성공",
+                    content = @Content(mediaType = "text/event-stream")
+            )
+    })
+    Flux<ServerSentEvent<Object>> subscribeReminders(
+            CustomUserDetails customUserDetails,
+            @Parameter(description = "재연결 시 마지막으로 받은 이벤트 id") String lastEventId
+    );
 }
@@ -5,6 +5,7 @@ import com.project.backend.domain.reminder.dto.PlanChanged;
 import com.project.backend.domain.reminder.dto.RecurrenceExceptionChanged;
 import com.project.backend.domain.reminder.dto.ReminderDeleted;
 import com.project.backend.domain.reminder.dto.ReminderSource;
+import com.project.backend.domain.reminder.dto.ReminderTitleProjection;
 import com.project.backend.domain.reminder.dto.response.ReminderResDTO;
 import com.project.backend.domain.reminder.entity.Reminder;
 import com.project.backend.domain.reminder.enums.*;
@@ -40,16 +41,15 @@ public class ReminderConverter {
     }
 
     public static ReminderResDTO.DetailRes toDetailRes(
-            Reminder reminder,
+            ReminderTitleProjection reminder,
             int minutes,
-            String title,
             String message
     ) {
         return ReminderResDTO.DetailRes.builder()
                 .id(reminder.getId())
                 .reminderTime(LocalTime.of(minutes / 60, minutes % 60))
                 .time(reminder.getOccurrenceTime().toLocalTime())
-                .title(title)
+                .title(reminder.getTitle())
                 .message(message)
                 .build();
     }
@@ -0,0 +1,199 @@
+package com.project.backend.domain.reminder.dispatcher;
+
+import com.project.backend.domain.reminder.dto.ReminderScheduleProjection;
+import com.project.backend.domain.reminder.entity.Reminder;
+import com.project.backend.domain.reminder.enums.LifecycleStatus;
+import com.project.backend.domain.reminder.enums.TargetType;
+import com.project.backend.domain.reminder.repository.ReminderRepository;
+import com.project.backend.domain.reminder.service.query.ReminderQueryService;
+import com.project.backend.domain.setting.enums.ReminderTiming;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 리마인더 발송 시각(occurrenceTime - 회원 리마인더 타이밍)에 맞춰 연결된 회원에게 SSE로 전송
+ * - 발송 시각이 HORIZON 안에 있는 ACTIVE 리마인더를 timing wheel에 올려두고 1분마다 tick을 진행한다.
+ * - 리마인더 변경은 커밋 이후 대상 일정/할 일 단위로 다시 예약하고 (reschedule),
+ *   다른 인스턴스에서 변경된 리마인더는 RESYNC 주기마다 updatedAt 기준으로 다시 읽는다.
+ * - 삭제되거나 시간이 바뀐 리마인더는 발송 직전에 DB 값과 비교해 걸러낸다.
+ */
+@Slf4j
+@Component
+public class ReminderDispatcher {
+
+    private static final Duration HORIZON = Duration.ofHours(6);
+
+    private final ReminderRepository reminderRepository;
+    private final ReminderQueryService reminderQueryService;
+    private final ReminderSseHub reminderSseHub;
+    private final ReminderTimingWheel wheel;
+
+    // 발송 시각 기준으로 이 시점까지 wheel에 적재됨 (초기화 전에는 null)
+    private volatile LocalDateTime loadedUntil;
+    private volatile LocalDateTime lastSyncedAt;
+
+    public ReminderDispatcher(
+            ReminderRepository reminderRepository,
+            ReminderQueryService reminderQueryService,
+            ReminderSseHub reminderSseHub,
+            MeterRegistry meterRegistry
+    ) {
+        this.reminderRepository = reminderRepository;
+        this.reminderQueryService = reminderQueryService;
+        this.reminderSseHub = reminderSseHub;
+        this.wheel = new ReminderTimingWheel((int) HORIZON.toMinutes(), LocalDateTime.now());
+
+        Gauge.builder("reminder.dispatcher.scheduled", wheel, ReminderTimingWheel::size)
+                .register(meterRegistry);
+        Gauge.builder("reminder.dispatcher.connections", reminderSseHub, ReminderSseHub::connectionCount)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(HORIZON);
+
+        // 이미 발송 시각이 지났지만 아직 발생하지 않은 리마인더도 포함 (다음 tick에 발송)
+        int loaded = loadFireWindow(now.minusMinutes(maxTimingMinutes()), until, now);
+        loadedUntil = until;
+        lastSyncedAt = now;
+
+        log.info("[ReminderDispatcher] 초기 적재 완료 - count: {}, until: {}", loaded, until);
+    }
+
+    /**
+     * 발송 시각이 된 리마인더를 연결된 회원에게 전송
+     */
+    @Scheduled(cron = "0 * * * * *")
+    public void tick() {
+        if (loadedUntil == null) return;
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // 연결이 없고 재연결로 이어받을 수도 없는 회원의 리마인더는 DB를 조회하지 않고 버린다 (다시 접속하면 목록 조회로 확인)
+        Map<Long, List<ReminderTimingWheel.Entry>> dueByMember = wheel.advance(now).stream()
+                .filter(entry -> entry.occurrenceTime().isAfter(now))
+                .filter(entry -> reminderSseHub.accepts(entry.memberId()))
+                .collect(Collectors.groupingBy(ReminderTimingWheel.Entry::memberId));
+
+        dueByMember.forEach(this::deliver);
+    }
+
+    /**
+     * 적재 범위를 늘리고, 다른 인스턴스에서 변경된 리마인더를 다시 예약
+     */
+    @Scheduled(cron = "30 */5 * * * *")
+    public void resync() {
+        if (loadedUntil == null) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(HORIZON);
+
+        int extended = loadFireWindow(loadedUntil, until, now);
+        loadedUntil = until;
+
+        // 트랜잭션 커밋 시점과 updatedAt 사이의 차이를 고려해 1분 겹치게 조회
+        LocalDateTime since = lastSyncedAt.minusMinutes(1);
+        lastSyncedAt = now;
+        int changed = schedule(
+                reminderRepository.findScheduleTargetsChangedSince(LifecycleStatus.ACTIVE, now, since),
+                until
+        );
+
+        wheel.pruneDelivered(now);
+        log.debug("[ReminderDispatcher] 재동기화 - extended: {}, changed: {}, scheduled: {}",
+                extended, changed, wheel.size());
+    }
+
+    /**
+     * 일정/할 일 하나의 리마인더를 다시 예약 (리마인더 변경 커밋 이후 호출)
+     */
+    public void reschedule(TargetType targetType, Long targetId) {
+        LocalDateTime until = loadedUntil;
+        if (until == null) return;
+
+        schedule(
+                reminderRepository.findScheduleTargetsByTarget(
+                        LifecycleStatus.ACTIVE, targetId, targetType, LocalDateTime.now()),
+                until
+        );
+    }
+
+    // =============== private ===================
+
+    // 발송 시각이 (from, to]이고 아직 발생하지 않은 리마인더를 타이밍별로 조회해 적재
+    private int loadFireWindow(LocalDateTime from, LocalDateTime to, LocalDateTime now) {
+        int loaded = 0;
+        for (ReminderTiming timing : ReminderTiming.values()) {
+            LocalDateTime occurrenceFrom = from.plusMinutes(timing.getMinutes());
+            loaded += schedule(
+                    reminderRepository.findScheduleTargets(
+                            LifecycleStatus.ACTIVE,
+                            timing,
+                            occurrenceFrom.isBefore(now) ? now : occurrenceFrom,
+                            to.plusMinutes(timing.getMinutes())
+                    ),
+                    to
+            );
+        }
+        return loaded;
+    }
+
+    // 발송 시각이 until 이후인 리마인더는 적재 범위를 늘릴 때 적재된다
+    private int schedule(List<ReminderScheduleProjection> targets, LocalDateTime until) {
+        int scheduled = 0;
+        for (ReminderScheduleProjection target : targets) {
+            LocalDateTime fireTime = target.getReminderTiming().calculateReminderTime(target.getOccurrenceTime());
+            if (fireTime.isAfter(until)) continue;
+
+            wheel.schedule(target.getId(), target.getMemberId(), target.getOccurrenceTime(), fireTime);
+            scheduled++;
+        }
+        return scheduled;
+    }
+
+    private void deliver(Long memberId, List<ReminderTimingWheel.Entry> entries) {
+        try {
+            Map<Long, Reminder> current = reminderRepository.findAllById(
+                            entries.stream().map(ReminderTimingWheel.Entry::reminderId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Reminder::getId, Function.identity()));
+
+            // 예약 이후 삭제되었거나 비활성화/시간 변경된 리마인더 제외
+            List<Reminder> reminders = entries.stream()
+                    .map(entry -> {
+                        Reminder reminder = current.get(entry.reminderId());
+                        boolean valid = reminder != null
+                                && reminder.getLifecycleStatus() == LifecycleStatus.ACTIVE
+                                && reminder.getOccurrenceTime().equals(entry.occurrenceTime());
+                        return valid ? reminder : null;
+                    })
+                    .filter(Objects::nonNull)
+                    .sorted(Comparator.comparing(Reminder::getOccurrenceTime))
+                    .toList();
+
+            reminderSseHub.send(memberId, reminderQueryService.getReminderDetails(memberId, reminders));
+        } catch (Exception e) {
+            log.warn("[ReminderDispatcher] 리마인더 전송 실패 - memberId: {}", memberId, e);
+        }
+    }
+
+    private static int maxTimingMinutes() {
+        return Arrays.stream(ReminderTiming.values())
+                .mapToInt(ReminderTiming::getMinutes)
+                .max()
+                .orElse(0);
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.backend.domain.reminder.dispatcher;
+
+import com.project.backend.domain.reminder.dto.ReminderScheduleChanged;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 리마인더 변경이 커밋되면 해당 일정/할 일의 발송 예약을 다시 계산한다.
+ * 커밋 전에 읽으면 변경 전 리마인더를 예약할 수 있으므로 커밋 이후에 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class ReminderScheduleEventListener {
+
+    private final ReminderDispatcher reminderDispatcher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(ReminderScheduleChanged event) {
+        reminderDispatcher.reschedule(event.targetType(), event.targetId());
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.backend.domain.reminder.dispatcher;
+
+import com.project.backend.domain.reminder.dto.ReminderScheduleChanged;
+import com.project.backend.domain.reminder.enums.TargetType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 리마인더 발송 예약 갱신 이벤트 발행 (커밋 이후 처리)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReminderSchedulePublisher {
+
+    private final ApplicationEventPublisher publisher;
+
+    public void publish(TargetType targetType, Long targetId) {
+        if (targetId == null) return;
+
+        ReminderScheduleChanged event = new ReminderScheduleChanged(targetType, targetId);
+        if (!markPublished(event)) return;
+
+        publisher.publishEvent(event);
+    }
+
+    // 한 트랜잭션에서 같은 일정/할 일은 한 번만 다시 예약 (트랜잭션 밖이면 항상 발행)
+    private boolean markPublished(ReminderScheduleChanged event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return true;
+
+        @SuppressWarnings("unchecked")
+        Set<ReminderScheduleChanged> published =
+                (Set<ReminderScheduleChanged>) TransactionSynchronizationManager.getResource(this);
+        if (published == null) {
+            published = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, published);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ReminderSchedulePublisher.this);
+                }
+            });
+        }
+        return published.add(event);
+    }
+}
@@ -0,0 +1,183 @@
+package com.project.backend.domain.reminder.dispatcher;
+
+import com.project.backend.domain.reminder.dto.response.ReminderResDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원별 리마인더 SSE 스트림 관리 (in-memory fan-out)
+ * - 한 회원이 여러 기기에서 연결할 수 있으므로 회원당 여러 연결을 보관하고, 리마인더는 모든 연결에 전송한다.
+ * - 연결마다 BUFFER_SIZE 크기의 버퍼를 두고, 클라이언트가 읽는 속도보다 쌓이는 속도가 빨라 버퍼가 차면 연결을 끊는다.
+ *   (클라이언트는 재연결 시 Last-Event-ID로 이어받는다)
+ * - 이벤트마다 증가하는 id를 붙이고, 회원별로 최근 REPLAY_SIZE개를 RESUME_WINDOW 동안 보관해 재연결 시 놓친 이벤트를 다시 보낸다.
+ * - 프록시가 유휴 연결을 끊지 않도록 HEARTBEAT_INTERVAL마다 주석 이벤트를 보낸다.
+ * - 연결은 CONNECTION_LIFETIME이 지나면 여기서 닫는다. (Spring MVC는 SSE Flux 응답에 async 요청 타임아웃을 적용하지 않으므로
+ *   spring.mvc.async.request-timeout을 늘릴 필요 없음)
+ */
+@Slf4j
+@Component
+public class ReminderSseHub {
+
+    private static final int BUFFER_SIZE                  = 32;
+    private static final int REPLAY_SIZE                  = 50;
+    private static final Duration HEARTBEAT_INTERVAL      = Duration.ofSeconds(25);
+    private static final Duration RESUME_WINDOW           = Duration.ofMinutes(5);
+    private static final Duration CONNECTION_LIFETIME     = Duration.ofMinutes(30);
+    private static final Duration RECONNECT_DELAY         = Duration.ofSeconds(3);
+
+    private final Map<Long, MemberChannel> channels = new ConcurrentHashMap<>();
+    // 재시작 후에도 id가 이전보다 커지도록 현재 시각 기준으로 시작
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    /**
+     * 회원 리마인더 스트림 구독
+     * @param lastEventId 재연결 시 클라이언트가 마지막으로 받은 이벤트 id (없으면 null)
+     */
+    public Flux<ServerSentEvent<Object>> subscribe(Long memberId, String lastEventId) {
+        Sinks.Many<ServerSentEvent<Object>> sink = Sinks.many().unicast()
+                .onBackpressureBuffer(new ArrayBlockingQueue<>(BUFFER_SIZE));
+
+        List<ServerSentEvent<Object>> missed = new ArrayList<>();
+        // 놓친 이벤트 조회와 연결 등록 사이에 전송된 이벤트가 빠지거나 중복되지 않도록 전송과 같은 lock 사용
+        MemberChannel channel = channels.compute(memberId, (key, existing) -> {
+            MemberChannel target = existing != null ? existing : new MemberChannel();
+            synchronized (target) {
+                missed.addAll(target.replayAfter(parseEventId(lastEventId)));
+                target.sinks.add(sink);
+            }
+            return target;
+        });
+
+        ServerSentEvent<Object> connect = ServerSentEvent.<Object>builder("connected")
+                .event("connect")
+                .retry(RECONNECT_DELAY)
+                .build();
+        Flux<ServerSentEvent<Object>> heartbeats = Flux.interval(HEARTBEAT_INTERVAL)
+                .map(tick -> ServerSentEvent.<Object>builder().comment("heartbeat").build());
+
+        return Flux.concat(Flux.just(connect), Flux.fromIterable(missed), sink.asFlux())
+                .mergeWith(heartbeats)
+                .take(CONNECTION_LIFETIME)
+                .doFinally(signal -> remove(memberId, channel, sink));
+    }
+
+    /**
+     * 리마인더를 받을 회원인지 (연결 중이거나 RESUME_WINDOW 안에 연결이 끊겨 재연결 시 이어받을 수 있는 회원)
+     */
+    public boolean accepts(Long memberId) {
+        MemberChannel channel = channels.get(memberId);
+        return channel != null && (!channel.sinks.isEmpty() || !channel.isIdleLongerThan(RESUME_WINDOW));
+    }
+
+    public void send(Long memberId, List<ReminderResDTO.DetailRes> reminders) {
+        MemberChannel channel = channels.get(memberId);
+        if (channel == null || reminders.isEmpty()) return;
+
+        ServerSentEvent<Object> event = ServerSentEvent.<Object>builder(reminders)
+                .id(String.valueOf(sequence.incrementAndGet()))
+                .event("reminder")
+                .build();
+
+        synchronized (channel) {
+            channel.remember(event);
+            for (Sinks.Many<ServerSentEvent<Object>> sink : channel.sinks) {
+                Sinks.EmitResult result = sink.tryEmitNext(event);
+                if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+                    // 읽지 못하는 연결은 끊고, 재연결 시 Last-Event-ID로 이어받도록 함
+                    log.debug("[ReminderSseHub] 버퍼 초과, 연결 종료 - memberId: {}", memberId);
+                    sink.tryEmitComplete();
+                }
+            }
+        }
+    }
+
+    public int connectionCount() {
+        return channels.values().stream().mapToInt(channel -> channel.sinks.size()).sum();
+    }
+
+    /**
+     * 연결이 없고 재연결 대기 시간도 지난 회원의 보관 이벤트 정리
+     */
+    @Scheduled(fixedDelay = 300_000)
+    public void pruneIdleChannels() {
+        for (Long memberId : channels.keySet()) {
+            channels.computeIfPresent(memberId, (key, channel) -> {
+                synchronized (channel) {
+                    boolean idle = channel.sinks.isEmpty() && channel.isIdleLongerThan(RESUME_WINDOW);
+                    return idle ? null : channel;
+                }
+            });
+        }
+    }
+
+    // =============== private ===================
+
+    private void remove(Long memberId, MemberChannel channel, Sinks.Many<ServerSentEvent<Object>> sink) {
+        synchronized (channel) {
+            channel.sinks.remove(sink);
+            channel.touch();
+        }
+        log.debug("[ReminderSseHub] 연결 종료 - memberId: {}", memberId);
+    }
+
+    private static long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return Long.MAX_VALUE;
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static final class MemberChannel {
+
+        private final Set<Sinks.Many<ServerSentEvent<Object>>> sinks = new CopyOnWriteArraySet<>();
+        private final Deque<Replay> replay = new ArrayDeque<>();
+        private volatile long lastActiveAt = System.nanoTime();
+
+        // lock 안에서 호출
+        private void remember(ServerSentEvent<Object> event) {
+            replay.addLast(new Replay(Long.parseLong(event.id()), System.nanoTime(), event));
+            while (replay.size() > REPLAY_SIZE) {
+                replay.removeFirst();
+            }
+        }
+
+        // lock 안에서 호출, afterId 이후이면서 RESUME_WINDOW 안에 보낸 이벤트
+        private List<ServerSentEvent<Object>> replayAfter(long afterId) {
+            long now = System.nanoTime();
+            return replay.stream()
+                    .filter(entry -> entry.id() > afterId)
+                    .filter(entry -> now - entry.sentAt() <= RESUME_WINDOW.toNanos())
+                    .map(Replay::event)
+                    .toList();
+        }
+
+        private void touch() {
+            lastActiveAt = System.nanoTime();
+        }
+
+        private boolean isIdleLongerThan(Duration duration) {
+            return System.nanoTime() - lastActiveAt > duration.toNanos();
+        }
+    }
+
+    private record Replay(long id, long sentAt, ServerSentEvent<Object> event) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.project.backend.domain.reminder.dispatcher;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * 분 단위 hashed timing wheel
+ * - 발송 시각(분)을 wheelSize로 나눈 나머지 칸에 넣고, tick마다 해당 칸만 확인한다.
+ * - 한 바퀴보다 먼 항목은 발송 시각이 될 때까지 칸에 남아 있다.
+ *   (적재 범위를 wheel 크기 이하로 유지하면 모든 항목이 한 번 확인될 때 꺼내진다)
+ * - 같은 리마인더를 다시 넣으면 이전 항목은 취소되고, 이미 발송한 (리마인더, 발생 시간)은 다시 넣지 않는다.
+ */
+final class ReminderTimingWheel {
+
+    private final List<List<Entry>> slots;
+    private final Map<Long, Entry> scheduled = new HashMap<>();
+    // 발송한 리마인더 id → 발송 당시 발생 시간
+    private final Map<Long, LocalDateTime> delivered = new HashMap<>();
+
+    // 마지막으로 처리한 tick (epoch minute)
+    private long currentTick;
+
+    ReminderTimingWheel(int wheelSize, LocalDateTime start) {
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.currentTick = toTick(start);
+    }
+
+    /**
+     * 리마인더를 발송 시각에 맞춰 등록 (이미 지난 발송 시각은 다음 tick에 발송)
+     */
+    synchronized void schedule(Long reminderId, Long memberId, LocalDateTime occurrenceTime, LocalDateTime fireTime) {
+        if (occurrenceTime.equals(delivered.get(reminderId))) {
+            return;
+        }
+
+        long deadline = Math.max(toTick(fireTime), currentTick + 1);
+        Entry entry = new Entry(reminderId, memberId, occurrenceTime, deadline);
+
+        Entry previous = scheduled.put(reminderId, entry);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        slots.get(slotIndex(deadline)).add(entry);
+    }
+
+    /**
+     * tick을 time까지 진행하고 발송 시각이 된 항목을 반환
+     */
+    synchronized List<Entry> advance(LocalDateTime time) {
+        long targetTick = toTick(time);
+        if (targetTick <= currentTick) {
+            return List.of();
+        }
+
+        // 한 바퀴 이상 밀렸으면 마지막 한 바퀴만 확인해도 모든 칸을 한 번씩 보게 된다
+        long tick = Math.max(currentTick + 1, targetTick - slots.size() + 1);
+
+        List<Entry> due = new ArrayList<>();
+        for (; tick <= targetTick; tick++) {
+            Iterator<Entry> it = slots.get(slotIndex(tick)).iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (entry.cancelled) {
+                    it.remove();
+                } else if (entry.deadline <= tick) {
+                    it.remove();
+                    scheduled.remove(entry.reminderId, entry);
+                    delivered.put(entry.reminderId, entry.occurrenceTime);
+                    due.add(entry);
+                }
+            }
+        }
+        currentTick = targetTick;
+        return due;
+    }
+
+    /**
+     * 발생 시간이 지난 발송 기록 정리
+     */
+    synchronized void pruneDelivered(LocalDateTime now) {
+        delivered.values().removeIf(occurrenceTime -> occurrenceTime.isBefore(now));
+    }
+
+    synchronized int size() {
+        return scheduled.size();
+    }
+
+    private int slotIndex(long tick) {
+        return (int) Math.floorMod(tick, (long) slots.size());
+    }
+
+    private static long toTick(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    static final class Entry {
+
+        private final Long reminderId;
+        private final Long memberId;
+        private final LocalDateTime occurrenceTime;
+        private final long deadline;
+        private boolean cancelled;
+
+        private Entry(Long reminderId, Long memberId, LocalDateTime occurrenceTime, long deadline) {
+            this.reminderId = reminderId;
+            this.memberId = memberId;
+            this.occurrenceTime = occurrenceTime;
+            this.deadline = deadline;
+        }
+
+        Long reminderId() {
+            return reminderId;
+        }
+
+        Long memberId() {
+            return memberId;
+        }
+
+        LocalDateTime occurrenceTime() {
+            return occurrenceTime;
+        }
+    }
+}
@@ -16,5 +16,5 @@ public record PlanChanged(
         // 생성 / 수정에서만 의미 있음
         LocalDateTime occurrenceTime,
         ChangeType changeType
-) {
+) implements ReminderChange {
 }
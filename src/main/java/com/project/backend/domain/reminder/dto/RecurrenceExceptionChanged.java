@@ -16,4 +16,4 @@ public record RecurrenceExceptionChanged(
         LocalDateTime occurrenceTime,
         Boolean isrRecurring,
         ExceptionChangeType changeType
-) {}
\ No newline at end of file
+) implements ReminderChange {}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.project.backend.domain.reminder.dto;
+
+/**
+ * 커밋 이후 적용되는 리마인더 변경 (ReminderChangeBuffer에 모였다가 ReminderChangeApplier에서 적용)
+ */
+public sealed interface ReminderChange permits PlanChanged, RecurrenceExceptionChanged, ReminderDeleted {
+}
@@ -15,4 +15,4 @@ public record ReminderDeleted(
         Long targetId,
         TargetType targetType,
         DeletedType deletedType
-) {}
\ No newline at end of file
+) implements ReminderChange {}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.project.backend.domain.reminder.dto;
+
+import com.project.backend.domain.reminder.enums.TargetType;
+
+/**
+ * 일정/할 일의 리마인더가 변경됨 (커밋 이후 발송 예약을 다시 계산)
+ */
+public record ReminderScheduleChanged(
+        TargetType targetType,
+        Long targetId
+) {
+}
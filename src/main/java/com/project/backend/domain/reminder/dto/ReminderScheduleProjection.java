@@ -0,0 +1,19 @@
+package com.project.backend.domain.reminder.dto;
+
+import com.project.backend.domain.setting.enums.ReminderTiming;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리마인더 발송 예약에 필요한 값 (리마인더 + 회원의 리마인더 타이밍)
+ */
+public interface ReminderScheduleProjection {
+
+    Long getId();
+
+    Long getMemberId();
+
+    LocalDateTime getOccurrenceTime();
+
+    ReminderTiming getReminderTiming();
+}
@@ -0,0 +1,19 @@
+package com.project.backend.domain.reminder.dto;
+
+import com.project.backend.domain.reminder.enums.TargetType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리마인더 응답에 필요한 값 (title은 해당 발생 회차의 반복 예외 제목이 있으면 예외 제목)
+ */
+public interface ReminderTitleProjection {
+
+    Long getId();
+
+    TargetType getTargetType();
+
+    LocalDateTime getOccurrenceTime();
+
+    String getTitle();
+}
@@ -16,6 +16,17 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Table(
+        name = "reminder",
+        indexes = {
+                // 회원별 리마인더 조회 (상태 + 발생 시간 범위)
+                @Index(name = "idx_reminder_member_status_time", columnList = "member_id, lifecycle_status, occurrence_time"),
+                // 일정/할 일 단위 리마인더 조회/삭제
+                @Index(name = "idx_reminder_target_role", columnList = "target_type, target_id, role"),
+                // 만료 리마인더 갱신, 발송 예약 적재 (회원 구분 없이 상태 + 발생 시간 범위)
+                @Index(name = "idx_reminder_status_time", columnList = "lifecycle_status, occurrence_time")
+        }
+)
 public class Reminder extends BaseEntity {
 
     @Id
@@ -0,0 +1,68 @@
+package com.project.backend.domain.reminder.entity;
+
+import com.project.backend.domain.reminder.enums.InteractionStatus;
+import com.project.backend.domain.reminder.enums.ReminderRole;
+import com.project.backend.domain.reminder.enums.TargetType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 종료(TERMINATED)되어 reminder 테이블에서 옮겨진 리마인더
+ * - id는 원래 리마인더 id를 그대로 사용한다.
+ * - archivedDate(옮겨진 날짜) 단위로 보관 기간이 지나면 한 번에 삭제한다.
+ * - 회원 탈퇴 후 hard delete를 막지 않도록 member는 FK 없이 id만 보관한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "reminder_archive",
+        indexes = @Index(name = "idx_reminder_archive_date", columnList = "archived_date")
+)
+public class ReminderArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "occurrence_time", nullable = false)
+    private LocalDateTime occurrenceTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false)
+    private TargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "recurrence_exception_id")
+    private Long recurrenceExceptionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reminder_status", nullable = false)
+    private InteractionStatus interactionStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role", nullable = false)
+    private ReminderRole role;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 종료 처리된 시각 (원래 리마인더의 마지막 수정 시각)
+    @Column(name = "terminated_at")
+    private LocalDateTime terminatedAt;
+
+    @Column(name = "archived_date", nullable = false)
+    private LocalDate archivedDate;
+}
@@ -0,0 +1,67 @@
+package com.project.backend.domain.reminder.entity;
+
+import com.project.backend.domain.reminder.enums.ReminderChangeFailureStatus;
+import com.project.backend.domain.reminder.enums.ReminderChangeKind;
+import com.project.backend.domain.reminder.enums.TargetType;
+import com.project.backend.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재시도 후에도 적용하지 못한 리마인더 변경
+ * - ReminderChangeRecoveryScheduler가 id 순서(발생 순서)대로 다시 적용하고, 성공하면 삭제한다.
+ * - 같은 일정/할 일에 남은 변경(PARKED)이 있으면 이후 변경도 여기에 이어서 저장해 순서를 지킨다.
+ * - 복구에 실패할 때마다 attempts를 늘리고, 한도를 넘으면 DEAD_LETTER로 바꿔 복구 대상에서 제외한다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Table(
+        name = "reminder_change_failure",
+        indexes = @Index(name = "idx_reminder_change_failure_target", columnList = "target_type, target_id, status")
+)
+public class ReminderChangeFailure extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false)
+    private TargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 20)
+    private ReminderChangeKind kind;
+
+    // 변경 내용 (JSON)
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReminderChangeFailureStatus status = ReminderChangeFailureStatus.PARKED;
+
+    // 복구 실패 횟수
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    public void recordAttempt() {
+        this.attempts++;
+    }
+
+    public void markDeadLetter() {
+        this.status = ReminderChangeFailureStatus.DEAD_LETTER;
+    }
+}
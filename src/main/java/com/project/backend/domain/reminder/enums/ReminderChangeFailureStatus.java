@@ -0,0 +1,6 @@
+package com.project.backend.domain.reminder.enums;
+
+public enum ReminderChangeFailureStatus {
+    PARKED, // 복구 대기 (같은 일정/할 일의 이후 변경도 뒤에 저장)
+    DEAD_LETTER // 복구 재시도 횟수 초과 (더 이상 다시 적용하지 않고, 이후 변경을 막지 않음)
+}
@@ -0,0 +1,29 @@
+package com.project.backend.domain.reminder.enums;
+
+import com.project.backend.domain.reminder.dto.PlanChanged;
+import com.project.backend.domain.reminder.dto.RecurrenceExceptionChanged;
+import com.project.backend.domain.reminder.dto.ReminderChange;
+import com.project.backend.domain.reminder.dto.ReminderDeleted;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 저장된 리마인더 변경의 종류 (payload를 어떤 타입으로 읽을지 결정)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReminderChangeKind {
+    PLAN(PlanChanged.class),
+    EXCEPTION(RecurrenceExceptionChanged.class),
+    DELETED(ReminderDeleted.class);
+
+    private final Class<? extends ReminderChange> type;
+
+    public static ReminderChangeKind of(ReminderChange change) {
+        return switch (change) {
+            case PlanChanged ignored -> PLAN;
+            case RecurrenceExceptionChanged ignored -> EXCEPTION;
+            case ReminderDeleted ignored -> DELETED;
+        };
+    }
+}
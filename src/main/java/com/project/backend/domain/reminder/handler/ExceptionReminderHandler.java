@@ -2,6 +2,7 @@ package com.project.backend.domain.reminder.handler;
 
 import com.project.backend.domain.reminder.dto.RecurrenceExceptionChanged;
 import com.project.backend.domain.reminder.converter.ReminderConverter;
+import com.project.backend.domain.reminder.dispatcher.ReminderSchedulePublisher;
 import com.project.backend.domain.reminder.dto.ReminderSource;
 import com.project.backend.domain.reminder.service.command.ReminderCommandService;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Component;
 public class ExceptionReminderHandler {
 
     private final ReminderCommandService reminderCommandService;
+    private final ReminderSchedulePublisher reminderSchedulePublisher;
 
     public void handle(RecurrenceExceptionChanged rec) {
         ReminderSource rs = ReminderConverter.toReminderSource(
@@ -32,5 +34,6 @@ public class ExceptionReminderHandler {
                     rs, rec.exceptionId(), true
             );
         }
+        reminderSchedulePublisher.publish(rec.targetType(), rec.eventId());
     }
 }
@@ -2,6 +2,7 @@ package com.project.backend.domain.reminder.handler;
 
 import com.project.backend.domain.reminder.dto.PlanChanged;
 import com.project.backend.domain.reminder.converter.ReminderConverter;
+import com.project.backend.domain.reminder.dispatcher.ReminderSchedulePublisher;
 import com.project.backend.domain.reminder.dto.ReminderSource;
 import com.project.backend.domain.reminder.service.command.ReminderCommandService;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Component;
 public class PlanReminderHandler {
 
     private final ReminderCommandService reminderCommandService;
+    private final ReminderSchedulePublisher reminderSchedulePublisher;
 
     public void handle(PlanChanged pc) {
         ReminderSource rs = ReminderConverter.toReminderSource
@@ -22,5 +24,6 @@ public class PlanReminderHandler {
             case UPDATE_ADD_RECURRENCE ->
                     reminderCommandService.updateReminderOfRecurrence(rs, pc.memberId(), pc.occurrenceTime());
         }
+        reminderSchedulePublisher.publish(pc.targetType(), pc.targetId());
     }
 }
@@ -1,5 +1,6 @@
 package com.project.backend.domain.reminder.handler;
 
+import com.project.backend.domain.reminder.dispatcher.ReminderSchedulePublisher;
 import com.project.backend.domain.reminder.dto.ReminderDeleted;
 import com.project.backend.domain.reminder.service.command.ReminderCommandService;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Component;
 public class ReminderDeletedHandler {
 
     private final ReminderCommandService reminderCommandService;
+    private final ReminderSchedulePublisher reminderSchedulePublisher;
 
     public void handle(ReminderDeleted rd) {
         switch (rd.deletedType()){
@@ -23,5 +25,7 @@ public class ReminderDeletedHandler {
             case DELETED_PARTICIPANTS ->
                     reminderCommandService.deleteReminderForMembers(rd.targetId(), rd.targetType(), rd.memberId());
         }
+        // 삭제된 리마인더는 발송 직전에 걸러지므로 남아 있는 리마인더만 다시 예약
+        reminderSchedulePublisher.publish(rd.targetType(), rd.targetId());
     }
 }
@@ -1,19 +1,38 @@
 package com.project.backend.domain.reminder.job;
 
-import com.project.backend.domain.reminder.enums.LifecycleStatus;
-import com.project.backend.domain.reminder.repository.ReminderRepository;
+import com.project.backend.domain.reminder.service.command.ReminderCommandService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+
+/**
+ * 종료(TERMINATED)된 리마인더 정리
+ * - reminder 테이블에서 BATCH_SIZE개씩 보관 테이블로 옮긴다. (배치마다 별도 트랜잭션으로 잠금 범위를 줄임)
+ * - 보관 테이블은 옮긴 날짜 단위로 보관하고, RETENTION_DAYS가 지난 날짜분은 삭제한다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
-@Transactional
 public class ReminderCleanupJob {
 
-    private final ReminderRepository reminderRepository;
+    private static final int BATCH_SIZE = 1000;
+    private static final int RETENTION_DAYS = 90;
+
+    private final ReminderCommandService reminderCommandService;
 
     public void run() {
-        reminderRepository.deleteByLifecycleStatus(LifecycleStatus.TERMINATED);
+        LocalDate today = LocalDate.now();
+
+        int archived = 0;
+        while (true) {
+            int moved = reminderCommandService.archiveTerminatedReminders(today, BATCH_SIZE);
+            archived += moved;
+            if (moved < BATCH_SIZE) break;
+        }
+
+        int purged = reminderCommandService.purgeArchivedReminders(today.minusDays(RETENTION_DAYS));
+        log.info("[ReminderCleanupJob] 완료 - archived: {}, purged: {}", archived, purged);
     }
 }
@@ -1,24 +1,166 @@
 package com.project.backend.domain.reminder.job;
 
-import com.project.backend.domain.reminder.entity.Reminder;
+import com.project.backend.domain.reminder.enums.LifecycleStatus;
+import com.project.backend.domain.reminder.repository.ReminderRepository;
 import com.project.backend.domain.reminder.service.command.ReminderCommandService;
-import com.project.backend.domain.reminder.service.query.ReminderQueryService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 발생 시간이 지난 ACTIVE 리마인더를 다음 occurrence로 갱신
+ * - 대상 id를 id 순 keyset 페이지네이션으로 CHUNK_SIZE개씩 읽고, 청크마다 별도 트랜잭션으로 처리한다.
+ * - 청크는 reminderJobExecutor에서 병렬로 처리되며, 대기 큐가 차면 조회 스레드가 직접 처리해 속도를 맞춘다.
+ * - 한 청크가 실패해도 나머지 청크는 계속 처리하고, 모든 청크가 끝난 뒤 실패한 청크가 있으면 예외를 던진다.
+ *   (구간 완료 표시를 남기지 않아 ShardedJobRunner가 구간을 다시 실행함, 이미 갱신된 리마인더는 대상에서 빠짐)
+ * - 회원 id 구간(shard) 단위로 실행되어 여러 인스턴스가 구간을 나눠 처리할 수 있다.
+ * - 지연 메트릭(reminder.generation.lag): 실행 중이거나 실패한 구간에서 갱신을 기다리는 가장 오래된 리마인더의 경과 시간
+ *   (실행 시작 시 구간별로 조회하고, 구간이 모두 처리되면 제외, 대기 중인 리마인더가 없으면 0)
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
-@Transactional
 public class ReminderGenerationJob {
 
+    private static final int CHUNK_SIZE = 500;
+
+    private final ReminderRepository reminderRepository;
     private final ReminderCommandService reminderCommandService;
-    private final ReminderQueryService reminderQueryService;
+    private final Executor reminderJobExecutor;
+
+    private final Timer jobTimer;
+    private final Timer chunkTimer;
+    private final Counter refreshedCounter;
+    private final Counter failedRowCounter;
+    private final Counter failedChunkCounter;
+    private final AtomicInteger pendingChunks = new AtomicInteger();
+    // 구간 → 갱신을 기다리는 가장 오래된 리마인더의 occurrenceTime
+    private final Map<Integer, LocalDateTime> oldestWaitingByShard = new ConcurrentHashMap<>();
+
+    public ReminderGenerationJob(
+            ReminderRepository reminderRepository,
+            ReminderCommandService reminderCommandService,
+            @Qualifier("reminderJobExecutor") Executor reminderJobExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.reminderRepository = reminderRepository;
+        this.reminderCommandService = reminderCommandService;
+        this.reminderJobExecutor = reminderJobExecutor;
+
+        this.jobTimer = Timer.builder("reminder.generation.job.duration")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("reminder.generation.chunk.duration")
+                .register(meterRegistry);
+        this.refreshedCounter = Counter.builder("reminder.generation.rows")
+                .tag("result", "refreshed")
+                .register(meterRegistry);
+        this.failedRowCounter = Counter.builder("reminder.generation.rows")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.failedChunkCounter = Counter.builder("reminder.generation.chunk.failures")
+                .register(meterRegistry);
+        Gauge.builder("reminder.generation.chunk.pending", pendingChunks, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("reminder.generation.lag", this, ReminderGenerationJob::lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void run(int shard, int shardCount) {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        LocalDateTime oldest = reminderRepository.findOldestExpiredOccurrenceTime(
+                LifecycleStatus.ACTIVE, now, shard, shardCount);
+        if (oldest == null) {
+            oldestWaitingByShard.remove(shard);
+        } else {
+            oldestWaitingByShard.put(shard, oldest);
+        }
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        int chunks = 0;
+        Long lastId = 0L;
+
+        while (true) {
+            List<Long> ids = reminderRepository.findExpiredReminderIds(
+                    LifecycleStatus.ACTIVE, now, shard, shardCount, lastId, PageRequest.of(0, CHUNK_SIZE));
+            if (ids.isEmpty()) break;
+
+            lastId = ids.getLast();
+            chunks++;
+            pendingChunks.incrementAndGet();
+            futures.add(CompletableFuture.supplyAsync(() -> processChunk(ids), reminderJobExecutor));
+
+            if (ids.size() < CHUNK_SIZE) break;
+        }
+
+        int refreshed = 0;
+        int failedChunks = 0;
+        for (CompletableFuture<Integer> future : futures) {
+            try {
+                refreshed += future.join();
+            } catch (CompletionException e) {
+                // 실패 로그와 메트릭은 processChunk에서 기록
+                failedChunks++;
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        jobTimer.record(elapsed);
+
+        double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+        log.info("[ReminderGenerationJob] 완료 - shard: {}, chunks: {}, failedChunks: {}, refreshed: {}, elapsed: {}ms, rows/s: {}, lag: {}s",
+                shard, chunks, failedChunks, refreshed, elapsed.toMillis(), String.format("%.1f", refreshed / seconds),
+                oldest != null ? Duration.between(oldest, now).toSeconds() : 0);
+
+        if (failedChunks == 0) {
+            oldestWaitingByShard.remove(shard);
+        } else {
+            throw new IllegalStateException(
+                    "리마인더 갱신 실패 - shard: " + shard + ", failedChunks: " + failedChunks + "/" + chunks);
+        }
+    }
+
+    // =============== private ===================
+
+    private double lagSeconds() {
+        return oldestWaitingByShard.values().stream()
+                .min(LocalDateTime::compareTo)
+                .map(oldest -> (double) Duration.between(oldest, LocalDateTime.now()).toSeconds())
+                .orElse(0.0);
+    }
 
-    public void run() {
-        List<Reminder> activeReminders = reminderQueryService.getActiveReminder();
-        activeReminders.forEach(reminderCommandService::refreshIfExpired);
+    private int processChunk(List<Long> ids) {
+        long startedAt = System.nanoTime();
+        try {
+            int refreshed = reminderCommandService.refreshExpiredReminders(ids);
+            refreshedCounter.increment(refreshed);
+            return refreshed;
+        } catch (Exception e) {
+            failedChunkCounter.increment();
+            failedRowCounter.increment(ids.size());
+            log.error("[ReminderGenerationJob] 청크 처리 실패 - firstId: {}, lastId: {}",
+                    ids.getFirst(), ids.getLast(), e);
+            throw e;
+        } finally {
+            pendingChunks.decrementAndGet();
+            chunkTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        }
     }
 }
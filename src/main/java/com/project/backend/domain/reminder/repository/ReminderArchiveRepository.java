@@ -0,0 +1,35 @@
+package com.project.backend.domain.reminder.repository;
+
+import com.project.backend.domain.reminder.entity.ReminderArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface ReminderArchiveRepository extends JpaRepository<ReminderArchive, Long> {
+
+    /**
+     * reminder 테이블의 리마인더를 그대로 보관 테이블로 복사 (INSERT ... SELECT)
+     */
+    @Modifying
+    @Query("INSERT INTO ReminderArchive (id, title, occurrenceTime, targetType, targetId, recurrenceExceptionId, " +
+            "interactionStatus, role, memberId, createdAt, terminatedAt, archivedDate) " +
+            "SELECT r.id, r.title, r.occurrenceTime, r.targetType, r.targetId, r.recurrenceExceptionId, " +
+            "r.interactionStatus, r.role, r.member.id, r.createdAt, r.updatedAt, :archivedDate " +
+            "FROM Reminder r " +
+            "WHERE r.id IN :ids")
+    int copyFromReminders(
+            @Param("ids") Collection<Long> ids,
+            @Param("archivedDate") LocalDate archivedDate
+    );
+
+    /**
+     * 보관 기간이 지난 날짜 단위 보관분 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ReminderArchive a WHERE a.archivedDate < :before")
+    int deleteByArchivedDateBefore(@Param("before") LocalDate before);
+}
@@ -0,0 +1,16 @@
+package com.project.backend.domain.reminder.repository;
+
+import com.project.backend.domain.reminder.entity.ReminderChangeFailure;
+import com.project.backend.domain.reminder.enums.ReminderChangeFailureStatus;
+import com.project.backend.domain.reminder.enums.TargetType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ReminderChangeFailureRepository extends JpaRepository<ReminderChangeFailure, Long> {
+
+    boolean existsByTargetTypeAndTargetIdAndStatus(TargetType targetType, Long targetId, ReminderChangeFailureStatus status);
+
+    List<ReminderChangeFailure> findAllByStatusOrderByIdAsc(ReminderChangeFailureStatus status, Pageable pageable);
+}
@@ -1,29 +1,51 @@
 package com.project.backend.domain.reminder.repository;
 
+import com.project.backend.domain.reminder.dto.ReminderScheduleProjection;
+import com.project.backend.domain.reminder.dto.ReminderTitleProjection;
 import com.project.backend.domain.reminder.entity.Reminder;
 import com.project.backend.domain.reminder.enums.LifecycleStatus;
 import com.project.backend.domain.reminder.enums.ReminderRole;
 import com.project.backend.domain.reminder.enums.TargetType;
+import com.project.backend.domain.setting.enums.ReminderTiming;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ReminderRepository extends JpaRepository<Reminder, Long> {
 
     /**
-     * 현재시간보다 이후이면서 현재시간 + 라마인더 설정시간보다 이전인 occurrenceTime을 가진 Reminder 가져오기
+     * 리마인더와 대상 일정/할 일, 같은 회차의 반복 예외를 조인해 표시할 제목을 함께 조회
+     * - 예외 제목이 있으면 예외 제목, 없으면 리마인더에 저장된 제목
+     * - 단일 일정/할 일은 반복 그룹이 없으므로 예외가 조인되지 않는다.
      */
-    @Query("SELECT r " +
+    String TITLE_PROJECTION_QUERY = "SELECT r.id AS id, r.targetType AS targetType, " +
+            "r.occurrenceTime AS occurrenceTime, COALESCE(ex.title, tex.title, r.title) AS title " +
             "FROM Reminder r " +
+            "LEFT JOIN Event e ON r.targetType = com.project.backend.domain.reminder.enums.TargetType.EVENT " +
+            "AND e.id = r.targetId " +
+            "LEFT JOIN RecurrenceException ex ON ex.recurrenceGroup.id = e.recurrenceGroup.id " +
+            "AND ex.exceptionDate = r.occurrenceTime " +
+            "LEFT JOIN Todo t ON r.targetType = com.project.backend.domain.reminder.enums.TargetType.TODO " +
+            "AND t.id = r.targetId " +
+            "LEFT JOIN TodoRecurrenceException tex ON tex.todoRecurrenceGroup.id = t.todoRecurrenceGroup.id " +
+            "AND tex.exceptionDate = CAST(r.occurrenceTime AS LocalDate) ";
+
+    /**
+     * 현재시간보다 이후이면서 현재시간 + 라마인더 설정시간보다 이전인 occurrenceTime을 가진 Reminder를 제목과 함께 가져오기
+     */
+    @Query(TITLE_PROJECTION_QUERY +
             "WHERE r.member.id = :memberId " +
             "AND r.lifecycleStatus = :status " +
-            "AND r.occurrenceTime >= :windowStart AND r.occurrenceTime <= :windowEnd ")
-    List<Reminder> findVisibleReminders(
+            "AND r.occurrenceTime >= :windowStart AND r.occurrenceTime <= :windowEnd " +
+            "ORDER BY r.occurrenceTime")
+    List<ReminderTitleProjection> findVisibleReminders(
             @Param("memberId") Long memberId,
             @Param("status") LifecycleStatus status,
             @Param("windowStart") LocalDateTime windowStart,
@@ -31,10 +53,45 @@ public interface ReminderRepository extends JpaRepository<Reminder, Long> {
     );
 
     /**
-     * 라이프 사이클(활성, 비활성)에 따른 Reminder 가져오기
+     * 리마인더 id 목록을 제목과 함께 가져오기
+     */
+    @Query(TITLE_PROJECTION_QUERY +
+            "WHERE r.id IN :ids " +
+            "ORDER BY r.occurrenceTime")
+    List<ReminderTitleProjection> findTitleProjectionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * occurrenceTime이 before 이전인 Reminder id를 lastId 이후부터 id 순으로 조회 (keyset 페이지네이션)
+     * - 회원 id 구간(memberId % shardCount = shard)에 속한 리마인더만 조회
+     */
+    @Query("SELECT r.id FROM Reminder r " +
+            "WHERE r.lifecycleStatus = :status " +
+            "AND r.occurrenceTime < :before " +
+            "AND MOD(r.member.id, :shardCount) = :shard " +
+            "AND r.id > :lastId " +
+            "ORDER BY r.id")
+    List<Long> findExpiredReminderIds(
+            @Param("status") LifecycleStatus status,
+            @Param("before") LocalDateTime before,
+            @Param("shard") int shard,
+            @Param("shardCount") int shardCount,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    /**
+     * 회원 id 구간에서 occurrenceTime이 before 이전인 가장 오래된 Reminder의 occurrenceTime (없으면 null)
      */
-    @Query("SELECT r FROM Reminder r WHERE r.lifecycleStatus = :status")
-    List<Reminder> findAllByLifecycleStatus(@Param("status") LifecycleStatus status);
+    @Query("SELECT MIN(r.occurrenceTime) FROM Reminder r " +
+            "WHERE r.lifecycleStatus = :status " +
+            "AND r.occurrenceTime < :before " +
+            "AND MOD(r.member.id, :shardCount) = :shard")
+    LocalDateTime findOldestExpiredOccurrenceTime(
+            @Param("status") LifecycleStatus status,
+            @Param("before") LocalDateTime before,
+            @Param("shard") int shard,
+            @Param("shardCount") int shardCount
+    );
 
     /**
      * 타겟id와 타겟타입을 통해 Reminder 조회
@@ -60,11 +117,17 @@ public interface ReminderRepository extends JpaRepository<Reminder, Long> {
     );
 
     /**
-     * 라이프 사이클(활성, 비활성)에 따른 Reminder 삭제
+     * 라이프 사이클에 따른 Reminder id를 id 순으로 조회 (보관 테이블로 옮길 대상)
+     */
+    @Query("SELECT r.id FROM Reminder r WHERE r.lifecycleStatus = :status ORDER BY r.id")
+    List<Long> findIdsByLifecycleStatus(@Param("status") LifecycleStatus status, Pageable pageable);
+
+    /**
+     * id 목록에 해당하는 Reminder 삭제
      */
     @Modifying
-    @Query("DELETE FROM Reminder r WHERE r.lifecycleStatus = :status")
-    void deleteByLifecycleStatus(@Param("status") LifecycleStatus status);
+    @Query("DELETE FROM Reminder r WHERE r.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * occurrenceTime와 일치하는 날짜값을 가진 Reminder 삭제
@@ -116,4 +179,52 @@ public interface ReminderRepository extends JpaRepository<Reminder, Long> {
             TargetType type,
             ReminderRole role
     );
+
+    /**
+     * 리마인더 타이밍이 timing인 회원의, occurrenceTime이 (from, to] 안에 있는 발송 예약 대상
+     */
+    @Query("SELECT r.id AS id, r.member.id AS memberId, " +
+            "r.occurrenceTime AS occurrenceTime, s.reminderTiming AS reminderTiming " +
+            "FROM Reminder r JOIN Setting s ON s.member = r.member " +
+            "WHERE r.lifecycleStatus = :status " +
+            "AND s.reminderTiming = :timing " +
+            "AND r.occurrenceTime > :from AND r.occurrenceTime <= :to")
+    List<ReminderScheduleProjection> findScheduleTargets(
+            @Param("status") LifecycleStatus status,
+            @Param("timing") ReminderTiming timing,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * since 이후 리마인더 또는 회원 설정이 변경된, occurrenceTime이 after 이후인 발송 예약 대상
+     */
+    @Query("SELECT r.id AS id, r.member.id AS memberId, " +
+            "r.occurrenceTime AS occurrenceTime, s.reminderTiming AS reminderTiming " +
+            "FROM Reminder r JOIN Setting s ON s.member = r.member " +
+            "WHERE r.lifecycleStatus = :status " +
+            "AND r.occurrenceTime > :after " +
+            "AND (r.updatedAt >= :since OR s.updatedAt >= :since)")
+    List<ReminderScheduleProjection> findScheduleTargetsChangedSince(
+            @Param("status") LifecycleStatus status,
+            @Param("after") LocalDateTime after,
+            @Param("since") LocalDateTime since
+    );
+
+    /**
+     * 일정/할 일 하나의, occurrenceTime이 after 이후인 발송 예약 대상
+     */
+    @Query("SELECT r.id AS id, r.member.id AS memberId, " +
+            "r.occurrenceTime AS occurrenceTime, s.reminderTiming AS reminderTiming " +
+            "FROM Reminder r JOIN Setting s ON s.member = r.member " +
+            "WHERE r.lifecycleStatus = :status " +
+            "AND r.targetId = :targetId " +
+            "AND r.targetType = :targetType " +
+            "AND r.occurrenceTime > :after")
+    List<ReminderScheduleProjection> findScheduleTargetsByTarget(
+            @Param("status") LifecycleStatus status,
+            @Param("targetId") Long targetId,
+            @Param("targetType") TargetType targetType,
+            @Param("after") LocalDateTime after
+    );
 }
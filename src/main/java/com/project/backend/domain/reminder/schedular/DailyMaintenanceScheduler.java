@@ -2,24 +2,51 @@ package com.project.backend.domain.reminder.schedular;
 
 import com.project.backend.domain.reminder.job.ReminderCleanupJob;
 import com.project.backend.domain.reminder.job.ReminderGenerationJob;
+import com.project.backend.global.scheduler.ShardedJobRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDate;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class DailyMaintenanceScheduler {
 
+    private static final Duration GENERATION_SHARD_LEASE = Duration.ofMinutes(10);
+    private static final Duration CLEANUP_LEASE = Duration.ofMinutes(30);
+
     private final ReminderGenerationJob reminderGenerationJob;
     private final ReminderCleanupJob reminderCleanupJob;
+    private final ShardedJobRunner shardedJobRunner;
 
+    /**
+     * 리마인더 갱신은 회원 구간별로 인스턴스들이 나눠 처리하고,
+     * 정리 작업은 모든 구간이 끝난 뒤 날짜마다 한 인스턴스에서 한 번만 실행
+     * (실패한 구간이 있으면 정리 작업은 실행하지 않음)
+     */
     @Scheduled(cron = "0 0 0 * * *")
     public void dailyRun() {
         log.info("Daily Maintenance Job Started");
-        reminderGenerationJob.run();
-        reminderCleanupJob.run();
+        String runKey = LocalDate.now().toString();
+
+        shardedJobRunner.runSharded(
+                "reminder-generation",
+                runKey,
+                GENERATION_SHARD_LEASE,
+                shard -> reminderGenerationJob.run(shard, ShardedJobRunner.SHARD_COUNT)
+        ).thenRun(() -> shardedJobRunner.runOncePerRun(
+                "reminder-cleanup", runKey, CLEANUP_LEASE, reminderCleanupJob::run)
+        ).whenComplete((ignored, e) -> {
+            if (e != null) {
+                log.error("Daily Maintenance Job Failed - runKey: {}", runKey, e);
+            } else {
+                log.info("Daily Maintenance Job Finished - runKey: {}", runKey);
+            }
+        });
     }
 
 }
@@ -0,0 +1,35 @@
+package com.project.backend.domain.reminder.schedular;
+
+import com.project.backend.domain.common.reminder.bridge.ReminderChangeFailureStore;
+import com.project.backend.global.scheduler.ShardedJobRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReminderChangeRecoveryScheduler {
+
+    private static final Duration RECOVERY_PERIOD = Duration.ofMinutes(1);
+
+    private final ReminderChangeFailureStore reminderChangeFailureStore;
+    private final ShardedJobRunner shardedJobRunner;
+
+    /**
+     * 적용하지 못하고 저장된 리마인더 변경 복구
+     * - 1분마다 한 인스턴스에서만 실행 (같은 변경을 여러 인스턴스가 동시에 다시 적용하지 않도록)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void recover() {
+        shardedJobRunner.runOncePerPeriod("reminder-change-recovery", RECOVERY_PERIOD, () -> {
+            int recovered = reminderChangeFailureStore.recover();
+            if (recovered > 0) {
+                log.info("[ReminderChangeRecovery] 저장된 리마인더 변경 복구 - targets: {}", recovered);
+            }
+        });
+    }
+}
@@ -1,9 +1,9 @@
 package com.project.backend.domain.reminder.service.command;
 
-import com.project.backend.domain.reminder.entity.Reminder;
 import com.project.backend.domain.reminder.dto.ReminderSource;
 import com.project.backend.domain.reminder.enums.TargetType;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -13,7 +13,11 @@ public interface ReminderCommandService {
 
 
 
-    void refreshIfExpired(Reminder reminder);
+    int refreshExpiredReminders(List<Long> reminderIds);
+
+    int archiveTerminatedReminders(LocalDate archivedDate, int batchSize);
+
+    int purgeArchivedReminders(LocalDate before);
 
     void refreshIfOccurrenceInvalidated(ReminderSource rs, Long exceptionId, Boolean isSkip);
 
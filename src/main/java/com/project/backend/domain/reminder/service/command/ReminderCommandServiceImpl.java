@@ -16,6 +16,7 @@ import com.project.backend.domain.reminder.dto.ReminderSource;
 import com.project.backend.domain.reminder.enums.LifecycleStatus;
 import com.project.backend.domain.reminder.enums.ReminderRole;
 import com.project.backend.domain.reminder.enums.TargetType;
+import com.project.backend.domain.reminder.repository.ReminderArchiveRepository;
 import com.project.backend.domain.reminder.repository.ReminderRepository;
 import com.project.backend.domain.occurrence.service.OccurrenceResolver;
 import com.project.backend.domain.todo.entity.Todo;
@@ -27,11 +28,14 @@ import com.project.backend.domain.todo.repository.TodoRepository;
 import com.project.backend.domain.todo.service.query.TodoQueryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -43,6 +47,7 @@ import java.util.Optional;
 public class ReminderCommandServiceImpl implements ReminderCommandService {
 
     private final ReminderRepository reminderRepository;
+    private final ReminderArchiveRepository reminderArchiveRepository;
     private final MemberRepository memberRepository;
     private final RecurrenceExceptionRepository recurrenceExRepository;
     private final OccurrenceResolver occurrenceResolver;
@@ -57,16 +62,51 @@ public class ReminderCommandServiceImpl implements ReminderCommandService {
                 .ifPresent(overrideRs -> saveReminder(overrideRs, memberId, null, ReminderRole.BASE));
     }
 
+    /**
+     * 발생 시간이 지난 리마인더들을 다음 occurrence로 갱신 (호출 한 번이 하나의 트랜잭션)
+     * - 대상 일정/할 일과 반복 예외는 묶어서 조회한다.
+     * @return 갱신 대상이었던 리마인더 수
+     */
     @Override
-    public void refreshIfExpired(Reminder reminder) {
+    public int refreshExpiredReminders(List<Long> reminderIds) {
         LocalDateTime now = LocalDateTime.now();
 
-        // 변경하려는 리마인더의 설정된 시간이 현재 시간보다 이후일 경우
-        if (!reminder.getOccurrenceTime().isBefore(now)) {
-            return; // 아직 갱신 시점 아님 30
+        // 다른 요청에서 이미 갱신된 리마인더 제외
+        List<Reminder> expired = reminderRepository.findAllById(reminderIds).stream()
+                .filter(reminder -> reminder.getLifecycleStatus() == LifecycleStatus.ACTIVE)
+                .filter(reminder -> reminder.getOccurrenceTime().isBefore(now))
+                .toList();
+
+        if (expired.isEmpty()) return 0;
+
+        Map<Long, NextOccurrenceResult> results = occurrenceResolver.getNextOccurrences(expired);
+        for (Reminder reminder : expired) {
+            applyNextOccurrence(reminder, results.getOrDefault(reminder.getId(), NextOccurrenceResult.none()), now);
         }
+        return expired.size();
+    }
+
+    /**
+     * 종료된 리마인더를 batchSize개씩 보관 테이블로 옮김 (호출 한 번이 하나의 트랜잭션)
+     * @return 옮긴 리마인더 수
+     */
+    @Override
+    public int archiveTerminatedReminders(LocalDate archivedDate, int batchSize) {
+        List<Long> ids = reminderRepository.findIdsByLifecycleStatus(
+                LifecycleStatus.TERMINATED, PageRequest.of(0, batchSize));
+
+        if (ids.isEmpty()) return 0;
 
-        doRefresh(reminder);
+        reminderArchiveRepository.copyFromReminders(ids, archivedDate);
+        return reminderRepository.deleteByIdIn(ids);
+    }
+
+    /**
+     * 보관 기간이 지난 보관 리마인더 삭제 (옮겨진 날짜 기준)
+     */
+    @Override
+    public int purgeArchivedReminders(LocalDate before) {
+        return reminderArchiveRepository.deleteByArchivedDateBefore(before);
     }
 
     @Override
@@ -220,12 +260,12 @@ public class ReminderCommandServiceImpl implements ReminderCommandService {
 
         if (!occurrenceTime.isAfter(now)) {
             // last는 현재보다 이후에 있는 계산된 일정의 startTime이거나,
-            // 반복이 현재시간보다 이전에 종료되어 현재시간보다 이전인 계산된 일정의 startTime(반복을 통한 마지막으로 계산된 일정의 startTime)
+            // 반복이 현재시간보다 이전에 종료된 경우 null 또는 현재시간보다 이전인 계산된 일정의 startTime
             LocalDateTime last = rs.targetType() == TargetType.EVENT
                     ? eventQueryService.findNextOccurrenceAfterNow(rs.targetId())
                     : todoQueryService.findNextOccurrenceAfterNow(rs.targetId());
             // 현재시간보다 이전 날짜로 생성되었는데 반복을 통해 계산된 일정의 시간이 현재 시간보다 이전에 있는 경우
-            if (last.isBefore(now)) {
+            if (last == null || last.isBefore(now)) {
                 return Optional.empty();
             }
             occurrenceTime = last;
@@ -273,10 +313,10 @@ public class ReminderCommandServiceImpl implements ReminderCommandService {
      * 현재 시간보다 Reminder에 저장된 occurrenceTime이 이전이면 현재 시간보다 가장 빠른 이후의 occurrenceTime으로 업데이트
      * */
     private void doRefresh(Reminder reminder) {
-        LocalDateTime now = LocalDateTime.now();
-
-        NextOccurrenceResult result = occurrenceResolver.getNextOccurrence(reminder);
+        applyNextOccurrence(reminder, occurrenceResolver.getNextOccurrence(reminder), LocalDateTime.now());
+    }
 
+    private void applyNextOccurrence(Reminder reminder, NextOccurrenceResult result, LocalDateTime now) {
         if (!result.hasNext()) {
             reminder.terminate();
             return;
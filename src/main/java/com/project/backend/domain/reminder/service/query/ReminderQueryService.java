@@ -9,5 +9,5 @@ public interface ReminderQueryService {
 
     List<ReminderResDTO.DetailRes> getReminder(Long memberId);
 
-    List<Reminder> getActiveReminder();
+    List<ReminderResDTO.DetailRes> getReminderDetails(Long memberId, List<Reminder> reminders);
 }
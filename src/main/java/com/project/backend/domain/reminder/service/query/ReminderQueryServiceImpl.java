@@ -1,28 +1,14 @@
 package com.project.backend.domain.reminder.service.query;
 
-import com.project.backend.domain.event.entity.Event;
-import com.project.backend.domain.event.entity.RecurrenceException;
-import com.project.backend.domain.event.exception.EventErrorCode;
-import com.project.backend.domain.event.exception.EventException;
-import com.project.backend.domain.event.repository.EventRepository;
-import com.project.backend.domain.event.repository.RecurrenceExceptionRepository;
 import com.project.backend.domain.reminder.converter.ReminderConverter;
+import com.project.backend.domain.reminder.dto.ReminderTitleProjection;
 import com.project.backend.domain.reminder.enums.LifecycleStatus;
-import com.project.backend.domain.reminder.enums.TargetType;
 import com.project.backend.domain.reminder.factory.ReminderMessageFactory;
 import com.project.backend.domain.reminder.repository.ReminderRepository;
 import com.project.backend.domain.reminder.dto.response.ReminderResDTO;
 import com.project.backend.domain.reminder.entity.Reminder;
-import com.project.backend.domain.setting.entity.Setting;
-import com.project.backend.domain.setting.exception.SettingErrorCode;
-import com.project.backend.domain.setting.exception.SettingException;
-import com.project.backend.domain.setting.repository.SettingRepository;
-import com.project.backend.domain.todo.entity.Todo;
-import com.project.backend.domain.todo.entity.TodoRecurrenceException;
-import com.project.backend.domain.todo.exception.TodoErrorCode;
-import com.project.backend.domain.todo.exception.TodoException;
-import com.project.backend.domain.todo.repository.TodoRecurrenceExceptionRepository;
-import com.project.backend.domain.todo.repository.TodoRepository;
+import com.project.backend.domain.setting.cache.SettingCache;
+import com.project.backend.domain.setting.cache.SettingSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,7 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @Service
@@ -39,99 +24,55 @@ import java.util.Optional;
 public class ReminderQueryServiceImpl implements ReminderQueryService{
 
     private final ReminderRepository reminderRepository;
-    private final SettingRepository settingRepository;
+    private final SettingCache settingCache;
     private final ReminderMessageFactory reminderMessageFactory;
-    private final RecurrenceExceptionRepository recurrenceExceptionRepository;
-    private final EventRepository eventRepository;
-    private final TodoRepository todoRepository;
-    private final TodoRecurrenceExceptionRepository todoRecurrenceExceptionRepository;
 
     @Override
     public List<ReminderResDTO.DetailRes> getReminder(Long memberId) {
-        Setting setting = settingRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new SettingException(SettingErrorCode.SETTING_NOT_FOUND));
+        SettingSnapshot setting = settingCache.get(memberId);
 
         LocalDateTime now = LocalDateTime.now();
 
         // 현재시간보다 저장된 리마인더의 occurrenceTime이 더 이후에 있는 리마인더만 반환 (이미 지나서 필요없는 리마인더 제외)
-        List<Reminder> reminders = reminderRepository.
+        List<ReminderTitleProjection> reminders = reminderRepository.
                 findVisibleReminders(
                         memberId,
                         LifecycleStatus.ACTIVE,
                         now,
-                        now.plusMinutes(setting.getReminderTiming().getMinutes())
+                        now.plusMinutes(setting.reminderTiming().getMinutes())
                 );
 
-        return reminders.stream()
-                .map(reminder ->
-                        ReminderConverter.toDetailRes(
-                                reminder,
-                                setting.getReminderTiming().getMinutes(),
-                                resolveReminderTitle(reminder),
-                                createMessage(reminder, setting)
-                        )
-                )
-                .toList();
+        return toDetailResList(reminders, setting);
     }
 
-    @Override
-    public List<Reminder> getActiveReminder() {
-        return reminderRepository.findAllByLifecycleStatus(LifecycleStatus.ACTIVE);
-    }
-
-    // =================================== private method ============================================
-
     /**
-     * 리마인더 조회 시, 반환값에 쓰일 메세지 양식용
+     * 발송 대상 리마인더를 응답 형식으로 변환 (리마인더 푸시용)
      */
-    private String createMessage(Reminder reminder, Setting setting) {
-        return reminderMessageFactory.create(
-                reminder.getTitle(),
-                setting.getReminderTiming().getMinutes(),
-                reminder.getTargetType()
-        );
-    }
-
-    private String resolveReminderTitle(Reminder reminder) {
-        if (reminder.getTargetType() == TargetType.EVENT) {
-            Event event = eventRepository.findById(reminder.getTargetId())
-                    .orElseThrow(() -> new EventException(EventErrorCode.EVENT_NOT_FOUND));
-
-            // 단일 일정이면 그대로
-            if (!event.isRecurring() || event.getRecurrenceGroup() == null) {
-                return reminder.getTitle();
-            }
-
-            Optional<RecurrenceException> re = recurrenceExceptionRepository.findByRecurrenceGroupIdAndExceptionDate(
-                    event.getRecurrenceGroup().getId(),
-                    reminder.getOccurrenceTime()
-            );
+    @Override
+    public List<ReminderResDTO.DetailRes> getReminderDetails(Long memberId, List<Reminder> reminders) {
+        if (reminders.isEmpty()) return List.of();
 
-            if (re.isPresent() && re.get().getTitle() != null) {
-                return re.get().getTitle();
-            }
+        SettingSnapshot setting = settingCache.get(memberId);
 
-            return reminder.getTitle();
-        }
-        // 할 일
-        Todo todo = todoRepository.findById(reminder.getTargetId())
-                .orElseThrow(() -> new TodoException(TodoErrorCode.TODO_NOT_FOUND));
+        List<ReminderTitleProjection> projections = reminderRepository.findTitleProjectionsByIdIn(
+                reminders.stream().map(Reminder::getId).toList());
 
-        // 단일 할 일이면 그대로
-        if (!todo.isRecurring() || todo.getTodoRecurrenceGroup() == null) {
-            return reminder.getTitle();
-        }
+        return toDetailResList(projections, setting);
+    }
 
-        Optional<TodoRecurrenceException> re = todoRecurrenceExceptionRepository
-                .findByTodoRecurrenceGroupIdAndExceptionDate(
-                        todo.getTodoRecurrenceGroup().getId(),
-                        reminder.getOccurrenceTime().toLocalDate()
-                );
+    // =================================== private method ============================================
 
-        if (re.isPresent() && re.get().getTitle() != null) {
-            return re.get().getTitle();
-        }
+    private List<ReminderResDTO.DetailRes> toDetailResList(List<ReminderTitleProjection> reminders, SettingSnapshot setting) {
+        int minutes = setting.reminderTiming().getMinutes();
 
-        return reminder.getTitle();
+        return reminders.stream()
+                .map(reminder ->
+                        ReminderConverter.toDetailRes(
+                                reminder,
+                                minutes,
+                                reminderMessageFactory.create(reminder.getTitle(), minutes, reminder.getTargetType())
+                        )
+                )
+                .toList();
     }
 }
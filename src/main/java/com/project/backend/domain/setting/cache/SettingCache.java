@@ -0,0 +1,156 @@
+package com.project.backend.domain.setting.cache;
+
+import com.project.backend.domain.setting.exception.SettingErrorCode;
+import com.project.backend.domain.setting.exception.SettingException;
+import com.project.backend.domain.setting.repository.SettingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원 설정 near cache (인스턴스 로컬 메모리)
+ * - 조회 시 캐시에 없으면 DB에서 읽어 저장하고, 설정 변경이 커밋되면 새 값으로 바로 교체한다. (write-through)
+ * - 변경한 인스턴스는 Redis pub/sub으로 다른 인스턴스에 무효화 메시지를 보내고, 받은 인스턴스는 해당 회원 값을 제거한다.
+ * - 메시지가 유실되어도 TTL이 지나면 DB에서 다시 읽는다.
+ * - DB 조회 도중 무효화가 일어나면 읽은 값은 저장하지 않는다. (오래된 값이 다시 들어가는 것 방지)
+ */
+@Slf4j
+@Component
+public class SettingCache {
+
+    private static final String CHANNEL  = "setting:invalidate";
+    private static final Duration TTL    = Duration.ofMinutes(5);
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final SettingRepository settingRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    // 무효화/교체가 일어날 때마다 증가 (조회 도중 변경 여부 확인용)
+    private final AtomicLong invalidationSeq = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter localInvalidationCounter;
+    private final Counter remoteInvalidationCounter;
+
+    public SettingCache(
+            SettingRepository settingRepository,
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry
+    ) {
+        this.settingRepository = settingRepository;
+        this.redisTemplate = redisTemplate;
+
+        this.hitCounter = Counter.builder("setting.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("setting.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.localInvalidationCounter = Counter.builder("setting.cache.invalidations")
+                .tag("source", "local")
+                .register(meterRegistry);
+        this.remoteInvalidationCounter = Counter.builder("setting.cache.invalidations")
+                .tag("source", "remote")
+                .register(meterRegistry);
+        Gauge.builder("setting.cache.size", entries, Map::size)
+                .register(meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidateMessage(message),
+                new ChannelTopic(CHANNEL)
+        );
+    }
+
+    /**
+     * 회원 설정 조회 (캐시에 없으면 DB 조회)
+     */
+    public SettingSnapshot get(Long memberId) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(memberId);
+
+        if (entry != null && entry.expiresAt() - now > 0) {
+            hitCounter.increment();
+            return entry.snapshot();
+        }
+
+        missCounter.increment();
+        long seq = invalidationSeq.get();
+
+        SettingSnapshot loaded = settingRepository.findByMemberId(memberId)
+                .map(setting -> SettingSnapshot.from(memberId, setting))
+                .orElseThrow(() -> new SettingException(SettingErrorCode.SETTING_NOT_FOUND));
+
+        if (invalidationSeq.get() == seq) {
+            store(loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 설정 변경 커밋 이후 호출: 로컬 값을 교체하고 다른 인스턴스에 무효화 전파
+     */
+    public void update(SettingSnapshot snapshot) {
+        invalidationSeq.incrementAndGet();
+        store(snapshot);
+        localInvalidationCounter.increment();
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, instanceId + ":" + snapshot.memberId());
+        } catch (Exception e) {
+            // 다른 인스턴스는 TTL이 지나면 새 값을 읽음
+            log.warn("[SettingCache] 무효화 메시지 전송 실패 - memberId: {}", snapshot.memberId(), e);
+        }
+    }
+
+    // =============== private ===================
+
+    private void onInvalidateMessage(Message message) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0) return;
+
+        // 자신이 보낸 메시지는 이미 새 값으로 교체했으므로 무시
+        if (body.substring(0, separator).equals(instanceId)) return;
+
+        try {
+            Long memberId = Long.valueOf(body.substring(separator + 1));
+            invalidationSeq.incrementAndGet();
+            entries.remove(memberId);
+            remoteInvalidationCounter.increment();
+        } catch (NumberFormatException e) {
+            log.warn("[SettingCache] 잘못된 무효화 메시지 - body: {}", body);
+        }
+    }
+
+    private void store(SettingSnapshot snapshot) {
+        long now = System.nanoTime();
+
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        entries.put(snapshot.memberId(), new Entry(snapshot, now + TTL.toNanos()));
+    }
+
+    private record Entry(SettingSnapshot snapshot, long expiresAt) {
+    }
+}
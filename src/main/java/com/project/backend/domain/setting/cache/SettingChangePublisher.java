@@ -0,0 +1,20 @@
+package com.project.backend.domain.setting.cache;
+
+import com.project.backend.domain.setting.entity.Setting;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 설정 변경 이벤트 발행 (커밋 이후 처리)
+ */
+@Component
+@RequiredArgsConstructor
+public class SettingChangePublisher {
+
+    private final ApplicationEventPublisher publisher;
+
+    public void publish(Long memberId, Setting setting) {
+        publisher.publishEvent(new SettingChangedEvent(SettingSnapshot.from(memberId, setting)));
+    }
+}
@@ -0,0 +1,9 @@
+package com.project.backend.domain.setting.cache;
+
+/**
+ * 회원 설정 변경 (커밋 이후 설정 캐시 갱신)
+ */
+public record SettingChangedEvent(
+        SettingSnapshot snapshot
+) {
+}
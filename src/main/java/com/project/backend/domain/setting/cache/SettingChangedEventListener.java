@@ -0,0 +1,21 @@
+package com.project.backend.domain.setting.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 설정 변경이 커밋되면 설정 캐시를 새 값으로 교체한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SettingChangedEventListener {
+
+    private final SettingCache settingCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(SettingChangedEvent event) {
+        settingCache.update(event.snapshot());
+    }
+}
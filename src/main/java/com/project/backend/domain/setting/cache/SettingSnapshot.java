@@ -0,0 +1,31 @@
+package com.project.backend.domain.setting.cache;
+
+import com.project.backend.domain.setting.entity.Setting;
+import com.project.backend.domain.setting.enums.DefaultView;
+import com.project.backend.domain.setting.enums.ReminderTiming;
+
+import java.time.LocalTime;
+
+/**
+ * 캐시에 보관하는 회원 설정 값 (엔티티 대신 변경 불가능한 값으로 보관)
+ */
+public record SettingSnapshot(
+        Long memberId,
+        Boolean dailyBriefing,
+        LocalTime dailyBriefingTime,
+        ReminderTiming reminderTiming,
+        Boolean suggestion,
+        DefaultView defaultView
+) {
+
+    public static SettingSnapshot from(Long memberId, Setting setting) {
+        return new SettingSnapshot(
+                memberId,
+                setting.getDailyBriefing(),
+                setting.getDailyBriefingTime(),
+                setting.getReminderTiming(),
+                setting.getSuggestion(),
+                setting.getDefaultView()
+        );
+    }
+}
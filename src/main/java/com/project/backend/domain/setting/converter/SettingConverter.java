@@ -1,6 +1,7 @@
 package com.project.backend.domain.setting.converter;
 
 import com.project.backend.domain.member.entity.Member;
+import com.project.backend.domain.setting.cache.SettingSnapshot;
 import com.project.backend.domain.setting.dto.response.SettingResDTO;
 import com.project.backend.domain.setting.entity.Setting;
 import lombok.AccessLevel;
@@ -18,13 +19,13 @@ public class SettingConverter {
     }
 
     // 전체 설정 조회
-    public static SettingResDTO.AllSettingsRes toAllSettingsRes(Setting setting){
+    public static SettingResDTO.AllSettingsRes toAllSettingsRes(SettingSnapshot setting){
         return SettingResDTO.AllSettingsRes.builder()
-                .dailyBriefingEnabled(setting.getDailyBriefing())
-                .dailyBriefingTime(setting.getDailyBriefingTime())
-                .reminderTiming(setting.getReminderTiming())
-                .suggestionEnabled(setting.getSuggestion())
-                .defaultView(setting.getDefaultView())
+                .dailyBriefingEnabled(setting.dailyBriefing())
+                .dailyBriefingTime(setting.dailyBriefingTime())
+                .reminderTiming(setting.reminderTiming())
+                .suggestionEnabled(setting.suggestion())
+                .defaultView(setting.defaultView())
                 .build();
     }
 
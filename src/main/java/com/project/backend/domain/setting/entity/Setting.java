@@ -14,7 +14,10 @@ import java.time.LocalTime;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "setting")
+@Table(
+        name = "setting",
+        indexes = @Index(name = "idx_setting_briefing", columnList = "daily_briefing, briefing_time")
+)
 public class Setting extends BaseEntity {
 
     @Id
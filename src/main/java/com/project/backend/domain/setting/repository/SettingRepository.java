@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface SettingRepository extends JpaRepository<Setting, Long> {
@@ -18,4 +20,17 @@ public interface SettingRepository extends JpaRepository<Setting, Long> {
             "FROM Setting s " +
             "WHERE s.member.id = :memberId")
     Optional<Setting> findByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 브리핑 시간이 [from, to) 안에 있고 브리핑을 켠 탈퇴하지 않은 회원 id
+     */
+    @Query("SELECT s.member.id " +
+            "FROM Setting s " +
+            "WHERE s.dailyBriefing = true " +
+            "AND s.dailyBriefingTime >= :from " +
+            "AND s.dailyBriefingTime < :to " +
+            "AND s.member.deletedAt IS NULL")
+    List<Long> findBriefingMemberIdsByBriefingTimeBetween(
+            @Param("from") LocalTime from,
+            @Param("to") LocalTime to);
 }
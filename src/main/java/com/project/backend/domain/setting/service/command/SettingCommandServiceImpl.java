@@ -1,5 +1,6 @@
 package com.project.backend.domain.setting.service.command;
 
+import com.project.backend.domain.setting.cache.SettingChangePublisher;
 import com.project.backend.domain.setting.converter.SettingConverter;
 import com.project.backend.domain.setting.dto.request.SettingReqDTO;
 import com.project.backend.domain.setting.dto.response.SettingResDTO;
@@ -21,6 +22,7 @@ import java.time.LocalTime;
 public class SettingCommandServiceImpl implements SettingCommandService {
 
     private final SettingRepository settingRepository;
+    private final SettingChangePublisher settingChangePublisher;
 
     // ------------------ toggle ------------------
     // 데일리 브리핑 토글
@@ -31,6 +33,7 @@ public class SettingCommandServiceImpl implements SettingCommandService {
                 .orElseThrow(() -> new SettingException(SettingErrorCode.SETTING_NOT_FOUND));
 
         setting.toggleDailyBriefing();
+        settingChangePublisher.publish(memberId, setting);
 
         return SettingConverter.toToggleDailyBriefingRes(setting);
     }
@@ -43,6 +46,7 @@ public class SettingCommandServiceImpl implements SettingCommandService {
                 .orElseThrow(() -> new SettingException(SettingErrorCode.SETTING_NOT_FOUND));
 
         setting.toggleSuggestion();
+        settingChangePublisher.publish(memberId, setting);
 
         return SettingConverter.toToggleSuggestionRes(setting);
     }
@@ -61,6 +65,7 @@ public class SettingCommandServiceImpl implements SettingCommandService {
                 .orElseThrow(() -> new SettingException(SettingErrorCode.SETTING_NOT_FOUND));
 
         setting.updateDailyBriefingTime(dailyBriefingTime);
+        settingChangePublisher.publish(memberId, setting);
 
         return SettingConverter.toUpdateDailyBriefingTimeRes(setting);
     }
@@ -76,6 +81,7 @@ public class SettingCommandServiceImpl implements SettingCommandService {
                 .orElseThrow(() -> new SettingException(SettingErrorCode.SETTING_NOT_FOUND));
 
         setting.updateReminderTiming(reqDTO.reminderTiming());
+        settingChangePublisher.publish(memberId, setting);
 
         return SettingConverter.toUpdateReminderTimingRes(setting);
     }
@@ -91,6 +97,7 @@ public class SettingCommandServiceImpl implements SettingCommandService {
                 .orElseThrow(() -> new SettingException(SettingErrorCode.SETTING_NOT_FOUND));
 
         setting.updateDefaultView(reqDTO.defaultView());
+        settingChangePublisher.publish(memberId, setting);
 
         return SettingConverter.toUpdateDefaultViewRes(setting);
     }
@@ -2,10 +2,8 @@ package com.project.backend.domain.setting.service.query;
 
 import com.project.backend.domain.setting.converter.SettingConverter;
 import com.project.backend.domain.setting.dto.response.SettingResDTO;
-import com.project.backend.domain.setting.entity.Setting;
-import com.project.backend.domain.setting.exception.SettingErrorCode;
-import com.project.backend.domain.setting.exception.SettingException;
-import com.project.backend.domain.setting.repository.SettingRepository;
+import com.project.backend.domain.setting.cache.SettingCache;
+import com.project.backend.domain.setting.cache.SettingSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,14 +15,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class SettingQueryServiceImpl implements SettingQueryService {
 
-    private final SettingRepository settingRepository;
+    private final SettingCache settingCache;
 
     // 전체 설정 조회
     @Override
     public SettingResDTO.AllSettingsRes getSettings(Long memberId) {
 
-        Setting setting = settingRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new SettingException(SettingErrorCode.SETTING_NOT_FOUND));
+        SettingSnapshot setting = settingCache.get(memberId);
 
         return SettingConverter.toAllSettingsRes(setting);
     }
@@ -2,6 +2,8 @@ package com.project.backend.domain.suggestion.execution.executor;
 
 import com.project.backend.domain.event.entity.Event;
 import com.project.backend.domain.event.repository.EventRepository;
+import com.project.backend.domain.occurrence.cache.CalendarCacheInvalidatePublisher;
+import com.project.backend.domain.reminder.enums.TargetType;
 import com.project.backend.domain.suggestion.entity.Suggestion;
 import com.project.backend.domain.suggestion.enums.Category;
 import com.project.backend.domain.suggestion.enums.Status;
@@ -22,6 +24,7 @@ import java.util.List;
 public class CreateEventExecutor implements SuggestionExecutor {
 
     private final EventRepository eventRepository;
+    private final CalendarCacheInvalidatePublisher calendarCacheInvalidatePublisher;
 
     @Override
     public boolean supports(Category category) {
@@ -74,5 +77,6 @@ public class CreateEventExecutor implements SuggestionExecutor {
         }
 
         eventRepository.saveAll(toSave);
+        calendarCacheInvalidatePublisher.publish(TargetType.EVENT, memberId);
     }
 }
@@ -1,20 +1,30 @@
 package com.project.backend.domain.suggestion.execution.executor;
 
 import com.project.backend.domain.event.entity.RecurrenceGroup;
+import com.project.backend.domain.event.repository.EventParticipantRepository;
+import com.project.backend.domain.occurrence.cache.CalendarCacheInvalidatePublisher;
+import com.project.backend.domain.reminder.enums.TargetType;
 import com.project.backend.domain.suggestion.entity.Suggestion;
 import com.project.backend.domain.suggestion.enums.Category;
 import com.project.backend.domain.suggestion.enums.Status;
+import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * RecurrenceGroup Suggestion인 경우
  */
 @Component
+@AllArgsConstructor
 public class CreateRecurrenceEventExecutor implements SuggestionExecutor {
 
+    private final EventParticipantRepository eventParticipantRepository;
+    private final CalendarCacheInvalidatePublisher calendarCacheInvalidatePublisher;
+
     @Override
     public boolean supports(Category category) {
         return false;
@@ -29,6 +39,11 @@ public class CreateRecurrenceEventExecutor implements SuggestionExecutor {
             case END_BY_COUNT -> extendOccurrenceCount(rg);
             default -> throw new IllegalStateException("지원하지 않는 종료 타입");
         }
+
+        // 반복 일정이 늘어나므로 소유자와 참여자들의 캘린더 캐시 무효화
+        List<Long> memberIds = new ArrayList<>(eventParticipantRepository.findMemberIdsByEventId(rg.getEvent().getId()));
+        memberIds.add(memberId);
+        calendarCacheInvalidatePublisher.publish(TargetType.EVENT, memberIds);
     }
 
     private void extendEndDate(RecurrenceGroup rg) {
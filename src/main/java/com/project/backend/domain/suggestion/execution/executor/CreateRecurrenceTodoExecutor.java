@@ -1,9 +1,12 @@
 package com.project.backend.domain.suggestion.execution.executor;
 
+import com.project.backend.domain.occurrence.cache.CalendarCacheInvalidatePublisher;
+import com.project.backend.domain.reminder.enums.TargetType;
 import com.project.backend.domain.suggestion.entity.Suggestion;
 import com.project.backend.domain.suggestion.enums.Category;
 import com.project.backend.domain.suggestion.enums.Status;
 import com.project.backend.domain.todo.entity.TodoRecurrenceGroup;
+import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -13,7 +16,11 @@ import java.time.temporal.ChronoUnit;
  * TodoRecurrenceGroup Suggestion인 경우
  */
 @Component
+@AllArgsConstructor
 public class CreateRecurrenceTodoExecutor implements SuggestionExecutor {
+
+    private final CalendarCacheInvalidatePublisher calendarCacheInvalidatePublisher;
+
     @Override
     public boolean supports(Category category) {
         return false;
@@ -27,6 +34,7 @@ public class CreateRecurrenceTodoExecutor implements SuggestionExecutor {
             case END_BY_COUNT -> extendOccurrenceCount(trg);
             default -> throw new IllegalStateException("지원하지 않는 종료 타입");
         }
+        calendarCacheInvalidatePublisher.publish(TargetType.TODO, memberId);
     }
 
     private void extendEndDate(TodoRecurrenceGroup trg) {
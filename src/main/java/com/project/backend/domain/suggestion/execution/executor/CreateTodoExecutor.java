@@ -1,5 +1,7 @@
 package com.project.backend.domain.suggestion.execution.executor;
 
+import com.project.backend.domain.occurrence.cache.CalendarCacheInvalidatePublisher;
+import com.project.backend.domain.reminder.enums.TargetType;
 import com.project.backend.domain.suggestion.entity.Suggestion;
 import com.project.backend.domain.suggestion.enums.Category;
 import com.project.backend.domain.suggestion.enums.Status;
@@ -20,6 +22,7 @@ import java.util.List;
 public class CreateTodoExecutor implements SuggestionExecutor {
 
     private final TodoRepository todoRepository;
+    private final CalendarCacheInvalidatePublisher calendarCacheInvalidatePublisher;
 
     @Override
     public boolean supports(Category category) {
@@ -69,5 +72,6 @@ public class CreateTodoExecutor implements SuggestionExecutor {
 
 
         todoRepository.saveAll(toSave);
+        calendarCacheInvalidatePublisher.publish(TargetType.TODO, memberId);
     }
 }
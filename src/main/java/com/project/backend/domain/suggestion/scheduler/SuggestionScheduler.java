@@ -1,15 +1,17 @@
 package com.project.backend.domain.suggestion.scheduler;
 
 import com.project.backend.domain.member.repository.MemberRepository;
-import com.project.backend.domain.suggestion.repository.SuggestionRepository;
 import com.project.backend.domain.suggestion.service.batch.SuggestionBatchService;
-import com.project.backend.domain.suggestion.service.command.SuggestionCommandService;
+import com.project.backend.global.scheduler.ShardedJobRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 
 @Slf4j
@@ -17,8 +19,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SuggestionScheduler {
 
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Duration SHARD_LEASE = Duration.ofHours(1);
+
     private final MemberRepository memberRepository;
     private final SuggestionBatchService suggestionBatchService;
+    private final ShardedJobRunner shardedJobRunner;
 
     @Value("${spring.scheduler.suggestion.enabled}")
     private boolean enabled;
@@ -31,8 +37,27 @@ public class SuggestionScheduler {
             return;
         }
 
-        List<Long> memberIds = memberRepository.findActiveMemberIdsWithSuggestionEnabled();
-        log.info("[Suggestion Scheduler] : 선제적 제안 스케쥴러 시작 | memberCnt = {}", memberIds.size());
+        log.info("[Suggestion Scheduler] : 선제적 제안 스케쥴러 시작");
+
+        // 회원 구간별로 인스턴스들이 나눠 처리 (다른 인스턴스가 처리 중인 구간은 끝날 때까지 스케줄러가 다시 확인)
+        shardedJobRunner.runSharded(
+                "suggestion",
+                LocalDate.now(ZONE).toString(),
+                SHARD_LEASE,
+                this::runShard
+        ).whenComplete((ignored, e) -> {
+            if (e != null) {
+                log.error("[Suggestion Scheduler] : 선제적 제안 스케쥴러 실패", e);
+            } else {
+                log.info("[Suggestion Scheduler] : 선제적 제안 스케쥴러 종료");
+            }
+        });
+    }
+
+    private void runShard(int shard) {
+        List<Long> memberIds = memberRepository.findActiveMemberIdsWithSuggestionEnabled(
+                shard, ShardedJobRunner.SHARD_COUNT);
+        log.info("[Suggestion Scheduler] : 구간 처리 | shard = {} | memberCnt = {}", shard, memberIds.size());
 
         for (Long memberId : memberIds) {
             try {
@@ -41,7 +66,5 @@ public class SuggestionScheduler {
                 log.warn("[Suggestion Scheduler] : 실패 | memberId = {} | failed = {}", memberId, e.getMessage());
             }
         }
-
-        log.info("[Suggestion Scheduler] : 선제적 제안 스케쥴러 종료");
     }
 }
@@ -44,6 +44,7 @@ import com.project.backend.domain.todo.entity.TodoRecurrenceGroup;
 import com.project.backend.domain.todo.repository.TodoRecurrenceExceptionRepository;
 import com.project.backend.domain.todo.repository.TodoRecurrenceGroupRepository;
 import com.project.backend.domain.todo.repository.TodoRepository;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -392,8 +393,9 @@ public class SuggestionCommandServiceImpl implements SuggestionCommandService {
 
     private LocalDateTime calcLastStart(RecurrenceSuggestionCandidate candidate) {
         // 생성기, 종료 조건 초기화
-        Generator generator = generatorFactory.getGenerator(candidate);
-        EndCondition endCondition = endConditionFactory.getEndCondition(candidate);
+        CompiledRecurrenceRule rule = CompiledRecurrenceRule.compile(candidate);
+        Generator generator = generatorFactory.getGenerator(rule);
+        EndCondition endCondition = endConditionFactory.getEndCondition(rule);
 
         LocalDateTime current = candidate.startDate();
         // 반복 예외 가져오기
@@ -403,9 +405,9 @@ public class SuggestionCommandServiceImpl implements SuggestionCommandService {
 
         int count = 1;
         // 반복 조건에 따라 반복
-        while (endCondition.shouldContinue(current, count, candidate)) {
+        while (endCondition.shouldContinue(current, count, rule)) {
             // 다음 시간
-            current = generator.next(current, candidate);
+            current = generator.next(current, rule);
             // 반복 객체의 종료 시간을 넘어선 경우
             if (candidate.getEndDate() != null && current.toLocalDate().isAfter(candidate.getEndDate())) {
                 break;
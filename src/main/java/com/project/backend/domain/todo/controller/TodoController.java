@@ -7,13 +7,17 @@ import com.project.backend.domain.todo.enums.TodoFilter;
 import com.project.backend.domain.todo.service.command.TodoCommandService;
 import com.project.backend.domain.todo.service.query.TodoQueryService;
 import com.project.backend.global.apiPayload.CustomResponse;
+import com.project.backend.global.apiPayload.NdjsonResponseWriter;
 import com.project.backend.global.security.userdetails.CustomUserDetails;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.time.LocalDate;
 
 @RestController
@@ -23,6 +27,7 @@ public class TodoController implements TodoDocs {
 
     private final TodoCommandService todoCommandService;
     private final TodoQueryService todoQueryService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     /**
      * 할 일 생성
@@ -62,6 +67,36 @@ public class TodoController implements TodoDocs {
         return CustomResponse.onSuccess("캘린더 할 일 조회 완료", resDTO);
     }
 
+    /**
+     * 캘린더용 할 일 페이지 조회
+     */
+    @Override
+    @GetMapping("/calendar/page")
+    public CustomResponse<TodoResDTO.TodoPageRes> getTodosForCalendarPage(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        TodoResDTO.TodoPageRes resDTO = todoQueryService.getTodosForCalendarPage(
+                customUserDetails.getId(), startDate, endDate, cursor, size);
+        return CustomResponse.onSuccess("캘린더 할 일 페이지 조회 완료", resDTO);
+    }
+
+    /**
+     * 캘린더용 할 일 스트리밍 조회 (NDJSON)
+     */
+    @Override
+    @GetMapping(value = "/calendar/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamTodosForCalendar(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            HttpServletResponse response) throws IOException {
+        ndjsonResponseWriter.<TodoResDTO.TodoListItem>write(response, sink ->
+                todoQueryService.streamTodosForCalendar(customUserDetails.getId(), startDate, endDate, sink));
+    }
+
     /**
      * 할 일 상세 조회
      */
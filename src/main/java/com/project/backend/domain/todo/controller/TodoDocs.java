@@ -14,12 +14,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.io.IOException;
 import java.time.LocalDate;
 
 @Tag(name = "할 일 API", description = "할 일(Todo) 관리 API by 김지명")
@@ -283,6 +285,50 @@ public interface TodoDocs {
             @Parameter(description = "종료 날짜", example = "2025-01-31") @RequestParam LocalDate endDate
     );
 
+    @Operation(
+            summary = "캘린더용 할 일 페이지 조회",
+            description = """
+                특정 기간의 할 일을 시작 시간 순으로 size개씩 조회합니다.
+                응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회합니다.
+
+                - 최대 조회 기간: 1830일
+                - size: 기본 100, 최대 500
+                """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 날짜 범위 또는 커서"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    CustomResponse<TodoResDTO.TodoPageRes> getTodosForCalendarPage(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @Parameter(description = "시작 날짜", example = "2025-01-01") @RequestParam LocalDate startDate,
+            @Parameter(description = "종료 날짜", example = "2025-12-31") @RequestParam LocalDate endDate,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "100") @RequestParam(required = false) Integer size
+    );
+
+    @Operation(
+            summary = "캘린더용 할 일 스트리밍 조회",
+            description = """
+                특정 기간의 할 일을 시작 시간 순으로 NDJSON(application/x-ndjson)으로 전송합니다.
+                한 줄에 할 일 하나(TodoListItem)가 기록됩니다.
+
+                - 최대 조회 기간: 1830일
+                """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 날짜 범위"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    void streamTodosForCalendar(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @Parameter(description = "시작 날짜", example = "2025-01-01") @RequestParam LocalDate startDate,
+            @Parameter(description = "종료 날짜", example = "2025-12-31") @RequestParam LocalDate endDate,
+            @Parameter(hidden = true) HttpServletResponse response
+    ) throws IOException;
+
     @Operation(
             summary = "할 일 상세 조회",
             description = """
@@ -0,0 +1,6 @@
+package com.project.backend.domain.todo.dto;
+
+public interface TodoCountProjection {
+    Long getTotalCount();
+    Long getCompletedCount();
+}
@@ -60,6 +60,16 @@ public class TodoResDTO {
             List<TodoListItem> todos
     ) {}
 
+    /**
+     * 캘린더 페이지 조회 응답
+     */
+    @Builder
+    public record TodoPageRes(
+            List<TodoListItem> todos,
+            String nextCursor,
+            boolean hasNext
+    ) {}
+
     /**
      * 상세 조회 응답
      */
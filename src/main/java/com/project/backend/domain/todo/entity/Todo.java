@@ -16,7 +16,10 @@ import java.time.LocalTime;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "todo")
+@Table(
+        name = "todo",
+        indexes = @Index(name = "idx_todo_member_start_date", columnList = "member_id, start_date")
+)
 public class Todo extends BaseEntity {
 
     @Id
@@ -104,6 +107,7 @@ public class Todo extends BaseEntity {
         if (priority != null) this.priority = priority;
         if (color != null) this.color = color;
         this.memo = memo;
+        syncRecurrenceGroupStart();
     }
 
     /**
@@ -117,6 +121,17 @@ public class Todo extends BaseEntity {
         this.vectorSyncStatus = status;
     }
 
+    /**
+     * 반복 그룹의 모객체이면 그룹의 첫 반복 시작 시간도 갱신 (범위 조회에서 이전 시작일로 걸러지지 않도록)
+     */
+    private void syncRecurrenceGroupStart() {
+        if (todoRecurrenceGroup == null || todoRecurrenceGroup.getTodo() == null) return;
+        Todo parent = todoRecurrenceGroup.getTodo();
+        if (parent == this || (id != null && id.equals(parent.getId()))) {
+            todoRecurrenceGroup.syncFirstStart();
+        }
+    }
+
     // ===== 팩토리 메서드 =====
 
     /**
@@ -4,12 +4,16 @@ import com.project.backend.domain.common.recurrence.enums.MonthlyType;
 import com.project.backend.domain.common.recurrence.enums.RecurrenceEndType;
 import com.project.backend.domain.common.recurrence.enums.RecurrenceFrequency;
 import com.project.backend.domain.member.entity.Member;
+import com.project.backend.domain.occurrence.listener.RecurrenceHorizonListener;
 import com.project.backend.global.entity.BaseEntity;
 import com.project.backend.global.recurrence.RecurrenceRule;
+import com.project.backend.global.recurrence.RecurrenceRuleRevision;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -18,7 +22,14 @@ import java.util.Set;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "todo_recurrence_group")
+@EntityListeners(RecurrenceHorizonListener.class)
+@Table(
+        name = "todo_recurrence_group",
+        indexes = @Index(
+                name = "idx_todo_recurrence_group_member_horizon",
+                columnList = "member_id, first_start, last_occurrence_date"
+        )
+)
 public class TodoRecurrenceGroup extends BaseEntity implements RecurrenceRule {
 
     @Id
@@ -66,6 +77,18 @@ public class TodoRecurrenceGroup extends BaseEntity implements RecurrenceRule {
     @Column(name = "occurrence_count")
     private Integer occurrenceCount;
 
+    // 첫 반복 시작 시간 = 모객체(todo)의 시작일 + 마감 시간 (캘린더 조회용 비정규화 값)
+    @Column(name = "first_start")
+    private LocalDateTime firstStart;
+
+    // 마지막 반복 날짜 (NEVER면 null, RecurrenceHorizonListener가 저장/수정 시 계산)
+    @Column(name = "last_occurrence_date")
+    private LocalDate lastOccurrenceDate;
+
+    // 규칙 값을 메모리에서 수정할 때마다 바뀌는 리비전 (CompiledRecurrenceRuleCache 버전 구분용, 저장하지 않음)
+    @Transient
+    private long ruleRevision;
+
     // 예외 날짜들
     @Builder.Default
     @OneToMany(mappedBy = "todoRecurrenceGroup", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -97,6 +120,26 @@ public class TodoRecurrenceGroup extends BaseEntity implements RecurrenceRule {
      */
     public void setTodo(Todo todo) {
         this.todo = todo;
+        syncFirstStart();
+    }
+
+    /**
+     * 모객체의 시작일/마감 시간으로 첫 반복 시작 시간 갱신
+     */
+    public void syncFirstStart() {
+        if (todo == null) {
+            this.firstStart = null;
+            return;
+        }
+        LocalTime dueTime = todo.getDueTime() != null ? todo.getDueTime() : LocalTime.MIDNIGHT;
+        this.firstStart = todo.getStartDate().atTime(dueTime);
+    }
+
+    /**
+     * 마지막 반복 날짜 갱신 (RecurrenceHorizonListener에서 호출)
+     */
+    public void updateLastOccurrenceDate(LocalDate lastOccurrenceDate) {
+        this.lastOccurrenceDate = lastOccurrenceDate;
     }
 
     /**
@@ -112,18 +155,21 @@ public class TodoRecurrenceGroup extends BaseEntity implements RecurrenceRule {
     public void updateEndByDate(LocalDate endDate) {
         this.endType = RecurrenceEndType.END_BY_DATE;
         this.endDate = endDate;
+        this.ruleRevision = RecurrenceRuleRevision.next();
     }
     /**
      * 제안 수락 시 종료 기간 연장
      */
     public void extendEndDate(long dayDiff) {
         this.endDate = endDate.plusDays(dayDiff);
+        this.ruleRevision = RecurrenceRuleRevision.next();
     }
     /**
      * 제안 수락 시 반복 횟수 추가
      */
     public void updateOccurrenceCount(Integer occurrenceCount) {
         this.occurrenceCount = occurrenceCount;
+        this.ruleRevision = RecurrenceRuleRevision.next();
     }
 
 
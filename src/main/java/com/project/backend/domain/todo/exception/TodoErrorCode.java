@@ -16,6 +16,9 @@ public enum TodoErrorCode implements BaseErrorCode {
     INVALID_RECURRENCE_SETTING(HttpStatus.BAD_REQUEST, "TODO400_1", "잘못된 반복 설정입니다."),
     INVALID_UPDATE_SCOPE(HttpStatus.BAD_REQUEST, "TODO400_2", "잘못된 수정 범위입니다."),
     OCCURRENCE_DATE_REQUIRED(HttpStatus.BAD_REQUEST, "TODO400_3", "반복 할 일의 경우 occurrenceDate가 필요합니다."),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "TODO400_4", "조회 시작 날짜가 종료 날짜보다 늦습니다."),
+    DATE_RANGE_TOO_LONG(HttpStatus.BAD_REQUEST, "TODO400_5", "조회 기간이 허용 범위를 초과했습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "TODO400_6", "잘못된 페이지 커서입니다."),
     ;
 
     private final HttpStatus httpStatus;
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,11 @@ public interface TodoRecurrenceExceptionRepository extends JpaRepository<TodoRec
      */
     List<TodoRecurrenceException> findByTodoRecurrenceGroupId(Long groupId);
 
+    /**
+     * 여러 반복 그룹의 모든 예외 조회 (반복 펼치기용)
+     */
+    List<TodoRecurrenceException> findByTodoRecurrenceGroupIdIn(Collection<Long> groupIds);
+
     /**
      * 반복 그룹의 특정 날짜 예외 조회
      */
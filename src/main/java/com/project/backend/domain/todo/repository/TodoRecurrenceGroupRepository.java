@@ -21,23 +21,24 @@ public interface TodoRecurrenceGroupRepository extends JpaRepository<TodoRecurre
     /**
      * 현재 활성화된 반복 그룹 조회
      */
-    // 무한 반복 제외, endDate가 오늘 이후, count이면 일단 가져오기
-    // TODO : 리커런스 그룹의 만료를 설정하면 쓸모없는 카운트를 안가져와도 될지 않을까?
+    // 무한 반복 제외, 마지막 반복 날짜가 오늘 이후인 반복 그룹 (NEVER는 lastOccurrenceDate가 null)
     @Query("""
         SELECT trg
         FROM TodoRecurrenceGroup trg
         WHERE trg.member.id = :memberId
-          AND trg.endType <> com.project.backend.domain.common.recurrence.enums.RecurrenceEndType.NEVER
-          AND (
-                trg.endType = com.project.backend.domain.common.recurrence.enums.RecurrenceEndType.END_BY_COUNT
-                OR trg.endDate >= :today
-          )
+          AND trg.lastOccurrenceDate >= :today
 """)
     List<TodoRecurrenceGroup> findCandidateTodoRecurrenceGroups(
             @Param("memberId") Long memberId,
             @Param("today") LocalDate today
     );
 
+    /**
+     * 반복 범위 컬럼이 비어 있는 반복 그룹 조회 (컬럼 추가 전에 저장된 데이터)
+     */
+    @Query("SELECT trg FROM TodoRecurrenceGroup trg JOIN FETCH trg.todo WHERE trg.firstStart IS NULL")
+    List<TodoRecurrenceGroup> findAllWithTodoByFirstStartIsNull();
+
     @Modifying
     @Query("DELETE FROM TodoRecurrenceGroup trg WHERE trg.member.id = :memberId")
     void deleteAllByMemberId(@Param("memberId") Long memberId);
@@ -1,6 +1,7 @@
 package com.project.backend.domain.todo.repository;
 
 import com.project.backend.domain.common.enums.VectorSyncStatus;
+import com.project.backend.domain.todo.dto.TodoCountProjection;
 import com.project.backend.domain.todo.entity.Todo;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -10,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -61,17 +63,65 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
             @Param("from") LocalDate from,
             @Param("to") LocalDate to);
 
-    
     /**
-     * 오늘보다 startTime이 이후가 아닌 할일 조회
+     * 회원의 반복하지 않는 할 일 전체 조회
      */
-    @Query("SELECT t.id " +
+    List<Todo> findByMemberIdAndTodoRecurrenceGroupIsNull(Long memberId);
+
+    /**
+     * 반복 범위가 [from, toExclusive)와 겹치는 반복 할 일 조회 (반복 그룹 함께 조회)
+     * 시작 전이거나 이미 끝난 반복은 (member_id, first_start, last_occurrence_date) 인덱스에서 제외
+     */
+    @Query("SELECT t " +
+            "FROM Todo t " +
+            "JOIN FETCH t.todoRecurrenceGroup g " +
+            "WHERE t.member.id = :memberId " +
+            "AND g.firstStart < :toExclusive " +
+            "AND (g.lastOccurrenceDate IS NULL OR g.lastOccurrenceDate >= :from)")
+    List<Todo> findRecurringInRange(
+            @Param("memberId") Long memberId,
+            @Param("from") LocalDate from,
+            @Param("toExclusive") LocalDateTime toExclusive);
+
+    /**
+     * from 이후에도 반복이 남아 있는 반복 할 일 조회 (반복 그룹 함께 조회)
+     */
+    @Query("SELECT t " +
+            "FROM Todo t " +
+            "JOIN FETCH t.todoRecurrenceGroup g " +
+            "WHERE t.member.id = :memberId " +
+            "AND (g.lastOccurrenceDate IS NULL OR g.lastOccurrenceDate >= :from)")
+    List<Todo> findRecurringActiveFrom(
+            @Param("memberId") Long memberId,
+            @Param("from") LocalDate from);
+
+    /**
+     * 특정 날짜의 반복하지 않는 할 일 수 / 완료 수
+     */
+    @Query("SELECT COUNT(t) AS totalCount, " +
+            "COALESCE(SUM(CASE WHEN t.isCompleted = true THEN 1 ELSE 0 END), 0) AS completedCount " +
             "FROM Todo t " +
             "WHERE t.member.id = :memberId " +
-            "AND t.startDate <= :currentDate")
-    List<Long> findTodoIdsByMemberIdAndCurrentDate(
+            "AND t.startDate = :date " +
+            "AND t.todoRecurrenceGroup IS NULL")
+    TodoCountProjection countSingleTodosByDate(
             @Param("memberId") Long memberId,
-            @Param("currentDate") LocalDate currentDate
+            @Param("date") LocalDate date);
+
+    /**
+     * 브리핑 대상 할 일 (해당 날짜의 단일 할 일 + 해당 날짜까지 진행 중인 반복 할 일)
+     */
+    @Query("SELECT t " +
+            "FROM Todo t " +
+            "LEFT JOIN FETCH t.todoRecurrenceGroup g " +
+            "WHERE t.member.id = :memberId " +
+            "AND ((g IS NULL AND t.startDate = :date) " +
+            "OR (g IS NOT NULL AND g.firstStart < :nextDay " +
+            "AND (g.lastOccurrenceDate IS NULL OR g.lastOccurrenceDate >= :date)))")
+    List<Todo> findBriefingCandidates(
+            @Param("memberId") Long memberId,
+            @Param("date") LocalDate date,
+            @Param("nextDay") LocalDateTime nextDay
     );
   
     /**
@@ -79,6 +129,9 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
      */
     boolean existsByMemberIdAndTitleAndMemoAndStartDateAndDueTime(Long memberId, String title, String memo, LocalDate startDate, LocalTime dueTime);
 
+    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.todoRecurrenceGroup WHERE t.id IN :ids")
+    List<Todo> findAllWithRecurrenceGroupByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT t FROM Todo t JOIN FETCH t.member")
     List<Todo> findAllWithMember();
 
@@ -6,6 +6,7 @@ import com.project.backend.domain.member.entity.Member;
 import com.project.backend.domain.member.exception.MemberErrorCode;
 import com.project.backend.domain.member.exception.MemberException;
 import com.project.backend.domain.member.repository.MemberRepository;
+import com.project.backend.domain.occurrence.cache.CalendarCacheInvalidatePublisher;
 import com.project.backend.domain.reminder.enums.ChangeType;
 import com.project.backend.domain.reminder.enums.DeletedType;
 import com.project.backend.domain.reminder.enums.ExceptionChangeType;
@@ -65,6 +66,7 @@ public class TodoCommandServiceImpl implements TodoCommandService {
     private final SuggestionInvalidationDispatcher suggestionInvalidationDispatcher;
     private final TodoTitleHistoryRepository todoTitleHistoryRepository;
     private final TodoVectorSyncService todoVectorSyncService;
+    private final CalendarCacheInvalidatePublisher calendarCacheInvalidatePublisher;
 
     @Override
     public TodoResDTO.TodoInfo createTodo(Long memberId, TodoReqDTO.CreateTodo reqDTO) {
@@ -84,6 +86,7 @@ public class TodoCommandServiceImpl implements TodoCommandService {
         Todo todo = TodoConverter.toTodo(reqDTO, member, recurrenceGroup);
         Todo savedTodo = todoRepository.save(todo);
         upsertTodoTitleHistory(memberId, savedTodo.getTitle());
+        calendarCacheInvalidatePublisher.publish(TargetType.TODO, memberId);
         afterCommit(() -> todoVectorSyncService.syncOnCreate(savedTodo.getId()));
         log.debug("할 일 생성 완료 - todoId: {}", savedTodo.getId());
 
@@ -119,6 +122,7 @@ public class TodoCommandServiceImpl implements TodoCommandService {
     public TodoResDTO.TodoInfo updateTodo(Long memberId, Long todoId, LocalDate occurrenceDate,
                                            RecurrenceUpdateScope scope, TodoReqDTO.UpdateTodo reqDTO) {
         Todo todo = getTodoWithPermissionCheck(memberId, todoId);
+        calendarCacheInvalidatePublisher.publish(TargetType.TODO, memberId);
 
         TodoSuggestionSnapshot beforeSnapshot = todoSuggestionSnapshotFactory.from(todo);
 
@@ -245,6 +249,7 @@ public class TodoCommandServiceImpl implements TodoCommandService {
     @Override
     public void deleteTodo(Long memberId, Long todoId, LocalDate occurrenceDate, RecurrenceUpdateScope scope) {
         Todo todo = getTodoWithPermissionCheck(memberId, todoId);
+        calendarCacheInvalidatePublisher.publish(TargetType.TODO, memberId);
 
         TodoSuggestionSnapshot beforeSnapshot = todoSuggestionSnapshotFactory.from(todo);
 
@@ -356,6 +361,7 @@ public class TodoCommandServiceImpl implements TodoCommandService {
     public TodoResDTO.TodoCompleteRes updateCompleteStatus(Long memberId, Long todoId,
                                                             LocalDate occurrenceDate, boolean isCompleted) {
         Todo todo = getTodoWithPermissionCheck(memberId, todoId);
+        calendarCacheInvalidatePublisher.publish(TargetType.TODO, memberId);
 
         // 단일 할 일인 경우
         if (!todo.isRecurring()) {
@@ -1,12 +1,16 @@
 package com.project.backend.domain.todo.service.query;
 
 import com.project.backend.domain.occurrence.dto.TodayOccurrenceResult;
+import com.project.backend.domain.reminder.entity.Reminder;
 import com.project.backend.domain.todo.dto.response.TodoResDTO;
 import com.project.backend.domain.todo.enums.TodoFilter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import com.project.backend.domain.occurrence.dto.NextOccurrenceResult;
 
@@ -26,6 +30,20 @@ public interface TodoQueryService {
      */
     TodoResDTO.TodoListRes getTodosForCalendar(Long memberId, LocalDate startDate, LocalDate endDate);
 
+    /**
+     * 캘린더용 할 일 페이지 조회
+     * - 시작 시간 순, cursor 이후부터 size개
+     */
+    TodoResDTO.TodoPageRes getTodosForCalendarPage(
+            Long memberId, LocalDate startDate, LocalDate endDate, String cursor, Integer size);
+
+    /**
+     * 캘린더용 할 일 스트리밍 조회
+     * - 시작 시간 순으로 하나씩 sink에 전달
+     */
+    void streamTodosForCalendar(
+            Long memberId, LocalDate startDate, LocalDate endDate, Consumer<TodoResDTO.TodoListItem> sink);
+
     /**
      * 할 일 상세 조회
      */
@@ -51,6 +69,11 @@ public interface TodoQueryService {
      */
     NextOccurrenceResult calculateNextOccurrence(Long todoId, LocalDateTime occurrenceTime);
 
+    /**
+     * 리마인더들의 다음 occurrence를 한 번에 계산 (리마인더 id → 결과)
+     */
+    Map<Long, NextOccurrenceResult> calculateNextOccurrences(Collection<Reminder> reminders);
+
     /**
      * 할 일이 오늘 브리핑 대상에 포함되는지 조회
      */
@@ -2,13 +2,11 @@ package com.project.backend.domain.todo.service.query;
 
 import com.project.backend.domain.occurrence.dto.TodayOccurrenceResult;
 import com.project.backend.domain.common.recurrence.enums.ExceptionType;
-import com.project.backend.domain.event.factory.EndConditionFactory;
-import com.project.backend.domain.event.factory.GeneratorFactory;
-import com.project.backend.domain.event.strategy.endcondition.EndCondition;
-import com.project.backend.domain.event.strategy.generator.Generator;
+import com.project.backend.domain.reminder.entity.Reminder;
 import com.project.backend.domain.reminder.enums.TargetType;
 import com.project.backend.domain.todo.converter.TodoConverter;
 import com.project.backend.domain.todo.converter.TodoHistoryConverter;
+import com.project.backend.domain.todo.dto.TodoCountProjection;
 import com.project.backend.domain.todo.dto.response.TodoResDTO;
 import com.project.backend.domain.todo.entity.Todo;
 import com.project.backend.domain.todo.entity.TodoRecurrenceException;
@@ -19,9 +17,12 @@ import com.project.backend.domain.todo.exception.TodoErrorCode;
 import com.project.backend.domain.todo.exception.TodoException;
 import com.project.backend.domain.todo.repository.TodoRecurrenceExceptionRepository;
 import com.project.backend.domain.todo.repository.TodoRepository;
-import com.project.backend.domain.reminder.entity.Reminder;
 import com.project.backend.domain.todo.repository.TodoTitleHistoryRepository;
+import com.project.backend.domain.occurrence.cache.CalendarOccurrenceCache;
+import com.project.backend.domain.occurrence.dto.CalendarCursor;
 import com.project.backend.domain.occurrence.dto.NextOccurrenceResult;
+import com.project.backend.domain.occurrence.dto.TodoOccurrence;
+import com.project.backend.domain.occurrence.service.OccurrenceExpansionEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,7 +31,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -39,25 +43,46 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class TodoQueryServiceImpl implements TodoQueryService {
 
+    // 조회 가능한 최대 기간 (일): 목록은 메모리에 모두 올리므로 1년, 페이지/스트리밍은 5년
+    private static final long MAX_LIST_RANGE_DAYS = 366;
+    private static final long MAX_STREAM_RANGE_DAYS = 1_830;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final TodoRepository todoRepository;
     private final TodoTitleHistoryRepository todoTitleHistoryRepository;
     private final TodoRecurrenceExceptionRepository todoRecurrenceExceptionRepository;
-    private final GeneratorFactory generatorFactory;
-    private final EndConditionFactory endConditionFactory;
+    private final OccurrenceExpansionEngine occurrenceExpansionEngine;
+    private final CalendarOccurrenceCache calendarOccurrenceCache;
 
     @Override
     public TodoResDTO.TodoListRes getTodos(Long memberId, TodoFilter filter) {
-        List<Todo> todos = todoRepository.findByMemberId(memberId);
+        LocalDate today = LocalDate.now();
+
+        // 오늘 필터면 오늘 날짜에 걸친 할 일만, 그 외에는 단일 할 일 전체 + 오늘 이후에도 반복이 남은 반복 할 일만 조회
+        List<Todo> todos = new ArrayList<>();
+        if (filter == TodoFilter.TODAY) {
+            todos.addAll(findTodosInRange(memberId, today, today));
+        } else {
+            todos.addAll(todoRepository.findByMemberIdAndTodoRecurrenceGroupIsNull(memberId));
+            todos.addAll(todoRepository.findRecurringActiveFrom(memberId, today));
+        }
 
         List<TodoResDTO.TodoListItem> todoListItems = new ArrayList<>();
-        LocalDate today = LocalDate.now();
+
+        // 반복 할 일들의 예외 한 번에 조회
+        Map<Long, Map<LocalDate, TodoRecurrenceException>> exceptionsByGroup =
+                occurrenceExpansionEngine.loadTodoExceptions(todos);
 
         for (Todo todo : todos) {
             if (todo.isRecurring()) {
                 // 반복 할 일: 다음 1개만 계산
-                LocalDate nextOccurrence = getNextOccurrence(todo, today);
+                Map<LocalDate, TodoRecurrenceException> exceptions =
+                        exceptionsByGroup.getOrDefault(todo.getTodoRecurrenceGroup().getId(), Map.of());
+                LocalDate nextOccurrence = getNextOccurrence(todo, today, exceptions);
                 if (nextOccurrence != null) {
-                    Boolean isCompleted = getCompletedStatus(todo, nextOccurrence);
+                    TodoRecurrenceException exception = exceptions.get(nextOccurrence);
+                    Boolean isCompleted = exception != null ? exception.getIsCompleted() : false;
                     todoListItems.add(TodoConverter.toTodoListItem(todo, nextOccurrence, isCompleted));
                 }
             } else {
@@ -87,9 +112,16 @@ public class TodoQueryServiceImpl implements TodoQueryService {
 
     @Override
     public TodoResDTO.TodoListRes getTodosForCalendar(Long memberId, LocalDate startDate, LocalDate endDate) {
-        List<Todo> todos = todoRepository.findByMemberId(memberId);
+        validateRange(startDate, endDate, MAX_LIST_RANGE_DAYS);
 
-        List<TodoResDTO.TodoListItem> expandedTodos = expandTodos(todos, startDate, endDate);
+        // 월 단위로 확장된 결과를 캐시에서 가져와 요청 범위만 남김
+        List<TodoResDTO.TodoListItem> expandedTodos = new ArrayList<>();
+        YearMonth endMonth = YearMonth.from(endDate);
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(endMonth); month = month.plusMonths(1)) {
+            getMonthTodos(memberId, month).stream()
+                    .filter(item -> !item.occurrenceDate().isBefore(startDate) && !item.occurrenceDate().isAfter(endDate))
+                    .forEach(expandedTodos::add);
+        }
 
         // 날짜순 정렬
         expandedTodos.sort(Comparator.comparing(TodoResDTO.TodoListItem::occurrenceDate));
@@ -99,6 +131,54 @@ public class TodoQueryServiceImpl implements TodoQueryService {
                 .build();
     }
 
+    @Override
+    public TodoResDTO.TodoPageRes getTodosForCalendarPage(
+            Long memberId, LocalDate startDate, LocalDate endDate, String cursor, Integer size) {
+        validateRange(startDate, endDate, MAX_STREAM_RANGE_DAYS);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.clamp(size, 1, MAX_PAGE_SIZE);
+        CalendarCursor after = decodeCursor(cursor);
+
+        // 커서 이후의 occurrence는 모두 커서 날짜 이후이므로 그 날짜부터 확장
+        LocalDate from = after != null && after.start().toLocalDate().isAfter(startDate)
+                ? after.start().toLocalDate()
+                : startDate;
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회 (엔진이 지연 병합하므로 필요한 만큼만 생성)
+        List<TodoOccurrence> occurrences = occurrenceExpansionEngine
+                .expandTodos(findTodosInRange(memberId, from, endDate), from, endDate)
+                .filter(occurrence -> after == null || after.isFollowedBy(
+                        occurrence.startTime(), occurrence.todo().getId(), occurrence.occurrenceDate().atStartOfDay()))
+                .limit(pageSize + 1L)
+                .toList();
+
+        boolean hasNext = occurrences.size() > pageSize;
+        List<TodoOccurrence> page = hasNext ? occurrences.subList(0, pageSize) : occurrences;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoOccurrence last = page.get(page.size() - 1);
+            nextCursor = CalendarCursor.of(
+                    last.startTime(), last.todo().getId(), last.occurrenceDate().atStartOfDay()).encode();
+        }
+
+        return TodoResDTO.TodoPageRes.builder()
+                .todos(page.stream().map(this::toTodoListItem).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    public void streamTodosForCalendar(
+            Long memberId, LocalDate startDate, LocalDate endDate, Consumer<TodoResDTO.TodoListItem> sink) {
+        validateRange(startDate, endDate, MAX_STREAM_RANGE_DAYS);
+
+        // 시작 시간 순으로 하나씩 변환해 바로 전달 (전체 목록을 메모리에 만들지 않음)
+        occurrenceExpansionEngine.expandTodos(findTodosInRange(memberId, startDate, endDate), startDate, endDate)
+                .map(this::toTodoListItem)
+                .forEachOrdered(sink);
+    }
+
     @Override
     public TodoResDTO.TodoDetailRes getTodoDetail(Long memberId, Long todoId, LocalDate occurrenceDate) {
         Todo todo = todoRepository.findById(todoId)
@@ -144,13 +224,17 @@ public class TodoQueryServiceImpl implements TodoQueryService {
 
     @Override
     public TodoResDTO.TodoProgressRes getProgress(Long memberId, LocalDate date) {
-        // 해당 날짜의 할 일들 조회
-        TodoResDTO.TodoListRes todosForDay = getTodosForCalendar(memberId, date, date);
+        // 단일 할 일은 count 쿼리로 집계
+        TodoCountProjection singleCount = todoRepository.countSingleTodosByDate(memberId, date);
+
+        // 반복 할 일은 해당 날짜에 반복 범위가 걸친 것만 하루 범위로 확장 (SKIP 제외)
+        List<TodoOccurrence> occurrences = occurrenceExpansionEngine
+                .expandTodos(todoRepository.findRecurringInRange(memberId, date, date.plusDays(1).atStartOfDay()), date, date)
+                .toList();
 
-        int totalCount = todosForDay.todos().size();
-        int completedCount = (int) todosForDay.todos().stream()
-                .filter(TodoResDTO.TodoListItem::isCompleted)
-                .count();
+        int totalCount = Math.toIntExact(singleCount.getTotalCount()) + occurrences.size();
+        int completedCount = Math.toIntExact(singleCount.getCompletedCount())
+                + (int) occurrences.stream().filter(TodoOccurrence::isCompleted).count();
 
         return TodoConverter.toTodoProgressRes(date, totalCount, completedCount);
     }
@@ -189,117 +273,58 @@ public class TodoQueryServiceImpl implements TodoQueryService {
             return NextOccurrenceResult.none();
         }
 
-        // 생성기에 최초로 들어갈 기준 시간
-        LocalDateTime current = todo.getStartDate().atTime(todo.getDueTime());
-        TodoRecurrenceGroup rg = todo.getTodoRecurrenceGroup();
-
-        // 생성기 & 종료 조건 생성
-        Generator generator = generatorFactory.getGenerator(todo.getTodoRecurrenceGroup());
-        EndCondition endCondition = endConditionFactory.getEndCondition(todo.getTodoRecurrenceGroup());
-
-        int count = 1;
-
-        while (endCondition.shouldContinue(current, count, rg)) {
-
-            current = generator.next(current, rg);
-
-            // 일정 정보가 들어간 리마인더의 occurrenceTime보다 이후일경우 바로 해당 시간 반환
-            if (current.isAfter(occurrenceTime)) {
-                return NextOccurrenceResult.of(current);
-            }
+        return findNextOccurrenceAfter(todo, occurrenceTime);
+    }
 
-            count++;
+    @Override
+    public Map<Long, NextOccurrenceResult> calculateNextOccurrences(Collection<Reminder> reminders) {
+        if (reminders.isEmpty()) {
+            return Map.of();
+        }
 
-            if (count > 20_000) {
-                break; // 안전장치
-            }
+        List<Long> todoIds = reminders.stream()
+                .map(Reminder::getTargetId)
+                .distinct()
+                .toList();
+        Map<Long, Todo> todosById = todoRepository.findAllWithRecurrenceGroupByIdIn(todoIds).stream()
+                .collect(Collectors.toMap(Todo::getId, todo -> todo));
+
+        // 할 일이 삭제되었거나 반복 할 일이 아니면 none
+        Map<Long, NextOccurrenceResult> results = new HashMap<>();
+        for (Reminder reminder : reminders) {
+            Todo todo = todosById.get(reminder.getTargetId());
+
+            NextOccurrenceResult result = todo == null || todo.getTodoRecurrenceGroup() == null
+                    ? NextOccurrenceResult.none()
+                    : findNextOccurrenceAfter(todo, reminder.getOccurrenceTime());
+            results.put(reminder.getId(), result);
         }
-        return NextOccurrenceResult.none();
+        return results;
     }
 
     @Override
     public List<TodayOccurrenceResult> calculateTodayOccurrence(List<Long> todoIds, LocalDate currentDate) {
-        List<TodayOccurrenceResult> result = new ArrayList<>();
-
-        for (Long id : todoIds) {
-            Todo todo = todoRepository.findById(id)
-                    .orElseThrow(() -> new TodoException(TodoErrorCode.TODO_NOT_FOUND));
-
-            // 1) 단일 할일
-            if (!todo.isRecurring()) {
-                if (todo.getStartDate().isEqual(currentDate)) {
-                    LocalTime dueTime = todo.getDueTime() != null ? todo.getDueTime() : LocalTime.MIDNIGHT;
-                    result.add(TodayOccurrenceResult.of(todo.getTitle(), dueTime, TargetType.TODO));
-                } else {
-                    result.add(TodayOccurrenceResult.none());
-                }
-                continue;
-            }
-
-            // 2) 반복 할일: "오늘을 포함한 가장 가까운 다음 occurrence"를 구하고, 그게 오늘이면 브리핑 대상임
-            TodoRecurrenceGroup group = todo.getTodoRecurrenceGroup();
-
-            Generator generator = generatorFactory.getGenerator(group);
-            EndCondition endCondition = endConditionFactory.getEndCondition(group);
-
-            // 예외 날짜 조회
-            Set<LocalDate> skipDates = todoRecurrenceExceptionRepository
-                    .findByTodoRecurrenceGroupId(group.getId())
-                    .stream()
-                    .filter(ex -> ex.getExceptionType() == ExceptionType.SKIP)
-                    .map(TodoRecurrenceException::getExceptionDate)
-                    .collect(Collectors.toSet());
+        List<Todo> todos = todoRepository.findAllById(todoIds);
 
-            Optional<TodoRecurrenceException> re = todoRecurrenceExceptionRepository.
-                    findByTodoRecurrenceGroupIdAndExceptionDate(group.getId(), currentDate)
-                    .filter(ex -> ex.getExceptionType() == ExceptionType.OVERRIDE);
-
-            // 기준 시간 설정 (startDate + dueTime)
-            LocalTime dueTime = todo.getDueTime() != null ? todo.getDueTime() : LocalTime.MIDNIGHT;
-            LocalDateTime current = todo.getStartDate().atTime(dueTime);
-
-            String title = todo.getTitle();
-
-            if (re.isPresent()) {
-                TodoRecurrenceException exception = re.get();
-                title = !Objects.equals(todo.getTitle(), exception.getTitle()) ? exception.getTitle() : todo.getTitle();
-                if (exception.getDueTime() != null && !exception.getDueTime().equals(todo.getDueTime())) {
-                    dueTime = exception.getDueTime();
-                }
-            }
-
-            int count = 1;
-            int maxIterations = 1000;
-
-            // 첫 번째 날짜가 currentDate와 일치하는지
-            if (current.toLocalDate().isEqual(currentDate) && !skipDates.contains(current.toLocalDate())) {
-                result.add(TodayOccurrenceResult.of(title, dueTime, TargetType.TODO));
-                continue;
-            }
-
-            while (endCondition.shouldContinue(current, count, group) && count < maxIterations) {
-                current = generator.next(current, group);
-                if (current == null) {
-                    break;
-                }
-
-                // 계산된 일정의 날짜가 오늘보다 이후일 경우
-                if (current.isAfter(currentDate.atTime(LocalTime.MAX))) {
-                    result.add(TodayOccurrenceResult.none());
-                    break;
-                }
-
-                // 계산된 일정 날짜가 오늘과 일치한다면
-                if (current.toLocalDate().isEqual(currentDate)) {
-                    result.add(TodayOccurrenceResult.of(title, dueTime, TargetType.TODO));
-                    break;
-                }
-
-                count++;
-            }
+        if (todos.size() != new HashSet<>(todoIds).size()) {
+            throw new TodoException(TodoErrorCode.TODO_NOT_FOUND);
         }
 
-        return result;
+        // 오늘 날짜의 occurrence (SKIP 제외, OVERRIDE 적용)
+        Map<Long, TodoOccurrence> todayByTodoId = occurrenceExpansionEngine
+                .expandTodos(todos, currentDate, currentDate)
+                .collect(Collectors.toMap(
+                        occurrence -> occurrence.todo().getId(),
+                        occurrence -> occurrence,
+                        (existing, replacement) -> existing
+                ));
+
+        return todoIds.stream()
+                .map(todayByTodoId::get)
+                .map(occurrence -> occurrence != null
+                        ? TodayOccurrenceResult.of(occurrence.title(), occurrence.startTime().toLocalTime(), TargetType.TODO)
+                        : TodayOccurrenceResult.none())
+                .toList();
     }
 
     @Override
@@ -308,37 +333,27 @@ public class TodoQueryServiceImpl implements TodoQueryService {
                 .orElseThrow(() -> new TodoException(TodoErrorCode.TODO_NOT_FOUND));
 
         LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = getStartDateTime(todo);
 
-        TodoRecurrenceGroup rg = todo.getTodoRecurrenceGroup();
-
-        // 생성기 & 종료 조건 생성
-        Generator generator = generatorFactory.getGenerator(todo.getTodoRecurrenceGroup());
-        EndCondition endCondition = endConditionFactory.getEndCondition(todo.getTodoRecurrenceGroup());
-
-        LocalDateTime current = todo.getStartDate().atTime(todo.getDueTime());
-        LocalDateTime lastValid = null;
-
-        int count = 1;
+        // 첫 할 일 이후이면서 현재 시간보다 이후인 첫 occurrence (반복이 이미 종료됐으면 null)
+        return occurrenceExpansionEngine.findNextSlot(todo.getTodoRecurrenceGroup(), start, now,
+                        slot -> slot.isAfter(start) && slot.isAfter(now))
+                .orElse(null);
+    }
 
-        while (endCondition.shouldContinue(current, count, rg)) {
-            current = generator.next(current, rg);
-            lastValid = current;
-            count++;
+    // ===== Private Methods =====
 
-            // 일정 정보가 들어간 리마인더의 occurrenceTime보다 이후일경우 바로 해당 시간 반환
-            if (current.isAfter(now)) {
-                return lastValid;
-            }
+    // 첫 할 일 이후이면서 리마인더의 occurrenceTime보다 이후인 첫 occurrence
+    private NextOccurrenceResult findNextOccurrenceAfter(Todo todo, LocalDateTime occurrenceTime) {
+        // 생성기에 최초로 들어갈 기준 시간
+        LocalDateTime start = getStartDateTime(todo);
 
-            if (count > 20_000) {
-                break; // 안전장치
-            }
-        }
-        return lastValid;
+        return occurrenceExpansionEngine.findNextSlot(todo.getTodoRecurrenceGroup(), start, occurrenceTime,
+                        slot -> slot.isAfter(start) && slot.isAfter(occurrenceTime))
+                .map(NextOccurrenceResult::of)
+                .orElseGet(NextOccurrenceResult::none);
     }
 
-    // ===== Private Methods =====
-
     /**
      * 반복 할 일의 유효한 날짜인지 검증
      * - 시작일(startDate) 이후인지
@@ -367,218 +382,99 @@ public class TodoQueryServiceImpl implements TodoQueryService {
         }
 
         // 4. 반복 패턴에 맞는 날짜인지 확인
-        Generator generator = generatorFactory.getGenerator(group);
-        EndCondition endCondition = endConditionFactory.getEndCondition(group);
-
-        LocalTime dueTime = todo.getDueTime() != null ? todo.getDueTime() : LocalTime.MIDNIGHT;
-        LocalDateTime current = todo.getStartDate().atTime(dueTime);
-
-        int count = 1;
-        int maxIterations = 10000; // 충분한 반복 횟수
-
-        while (endCondition.shouldContinue(current, count, group) && count < maxIterations) {
-            current = generator.next(current, group);
-            if (current == null) {
-                break;
-            }
-
-            LocalDate generatedDate = current.toLocalDate();
-
-            // 종료일 체크
-            if (group.getEndDate() != null && generatedDate.isAfter(group.getEndDate())) {
-                break;
-            }
-
-            // 찾고자 하는 날짜와 일치하면 유효함
-            if (generatedDate.equals(occurrenceDate)) {
-                return true;
-            }
-
-            // 이미 지나쳤으면 더 이상 찾을 필요 없음
-            if (generatedDate.isAfter(occurrenceDate)) {
-                break;
-            }
-
-            count++;
-        }
-
-        return false;
+        LocalDateTime start = getStartDateTime(todo);
+        return occurrenceExpansionEngine.isOccurrence(group, start, occurrenceDate.atTime(start.toLocalTime()));
     }
 
     /**
      * 오늘 이후 가장 가까운 다음 반복 날짜 계산
      */
-    private LocalDate getNextOccurrence(Todo todo, LocalDate fromDate) {
+    private LocalDate getNextOccurrence(Todo todo, LocalDate fromDate,
+                                        Map<LocalDate, TodoRecurrenceException> exceptions) {
         TodoRecurrenceGroup group = todo.getTodoRecurrenceGroup();
         if (group == null) {
             return null;
         }
 
-        Generator generator = generatorFactory.getGenerator(group);
-        EndCondition endCondition = endConditionFactory.getEndCondition(group);
-
-        // 예외 날짜 조회
-        Set<LocalDate> skipDates = todoRecurrenceExceptionRepository
-                .findByTodoRecurrenceGroupId(group.getId())
-                .stream()
-                .filter(ex -> ex.getExceptionType() == ExceptionType.SKIP)
-                .map(TodoRecurrenceException::getExceptionDate)
-                .collect(Collectors.toSet());
-
-        // 기준 시간 설정 (startDate + dueTime)
-        LocalTime dueTime = todo.getDueTime() != null ? todo.getDueTime() : LocalTime.MIDNIGHT;
-        LocalDateTime current = todo.getStartDate().atTime(dueTime);
-        LocalDateTime fromDateTime = fromDate.atStartOfDay();
-
-        int count = 1;
-        int maxIterations = 1000;
-
-        // 첫 번째 날짜가 fromDate 이후인지 확인
-        if (!current.toLocalDate().isBefore(fromDate) && !skipDates.contains(current.toLocalDate())) {
-            return current.toLocalDate();
-        }
-
-        while (endCondition.shouldContinue(current, count, group) && count < maxIterations) {
-            current = generator.next(current, group);
-            if (current == null) {
-                break;
-            }
-
-            LocalDate occurrenceDate = current.toLocalDate();
-
-            // fromDate 이후이고 SKIP이 아닌 날짜면 반환
-            if (!occurrenceDate.isBefore(fromDate) && !skipDates.contains(occurrenceDate)) {
-                return occurrenceDate;
-            }
-
-            count++;
-        }
-
-        return null;
+        // fromDate 이후이고 SKIP이 아닌 첫 날짜
+        return occurrenceExpansionEngine.findNextSlot(group, getStartDateTime(todo), fromDate.atStartOfDay(),
+                        slot -> {
+                            TodoRecurrenceException ex = exceptions.get(slot.toLocalDate());
+                            return ex == null || ex.getExceptionType() != ExceptionType.SKIP;
+                        })
+                .map(LocalDateTime::toLocalDate)
+                .orElse(null);
     }
 
     /**
-     * 특정 날짜의 완료 상태 조회
+     * 한 달 범위의 할 일 목록 (캐시 미스일 때만 확장)
      */
-    private Boolean getCompletedStatus(Todo todo, LocalDate occurrenceDate) {
-        if (!todo.isRecurring()) {
-            return todo.getIsCompleted();
-        }
-
-        Optional<TodoRecurrenceException> exception = todoRecurrenceExceptionRepository
-                .findByTodoRecurrenceGroupIdAndExceptionDate(
-                        todo.getTodoRecurrenceGroup().getId(),
-                        occurrenceDate
-                );
-
-        return exception.map(TodoRecurrenceException::getIsCompleted).orElse(false);
+    private List<TodoResDTO.TodoListItem> getMonthTodos(Long memberId, YearMonth month) {
+        return calendarOccurrenceCache.getOrLoad(
+                TargetType.TODO,
+                memberId,
+                month,
+                TodoResDTO.TodoListItem.class,
+                () -> occurrenceExpansionEngine.expandTodos(
+                                findTodosInRange(memberId, month.atDay(1), month.atEndOfMonth()),
+                                month.atDay(1),
+                                month.atEndOfMonth())
+                        .map(this::toTodoListItem)
+                        .toList()
+        );
     }
 
     /**
-     * 범위 내 할 일 펼치기
+     * [from, to] 기간에 occurrence가 있을 수 있는 할 일만 조회
+     * - 단일 할 일: startDate가 기간 안
+     * - 반복 할 일: 반복 범위(firstStart ~ lastOccurrenceDate)가 기간과 겹침
      */
-    private List<TodoResDTO.TodoListItem> expandTodos(List<Todo> todos, LocalDate startDate, LocalDate endDate) {
-        List<TodoResDTO.TodoListItem> expandedTodos = new ArrayList<>();
-
-        for (Todo todo : todos) {
-            if (todo.isRecurring()) {
-                // 반복 할 일 펼치기
-                expandedTodos.addAll(expandRecurringTodo(todo, startDate, endDate));
-            } else {
-                // 단일 할 일: 범위 내에 있으면 추가
-                LocalDate todoStartDate = todo.getStartDate();
-                if (!todoStartDate.isBefore(startDate) && !todoStartDate.isAfter(endDate)) {
-                    expandedTodos.add(TodoConverter.toTodoListItem(todo, todoStartDate, todo.getIsCompleted()));
-                }
-            }
-        }
-
-        return expandedTodos;
+    private List<Todo> findTodosInRange(Long memberId, LocalDate from, LocalDate to) {
+        List<Todo> todos = new ArrayList<>(
+                todoRepository.findByMemberIdAndInRangeAndRecurrenceGroupIsNull(memberId, from, to));
+        todos.addAll(todoRepository.findRecurringInRange(memberId, from, to.plusDays(1).atStartOfDay()));
+        return todos;
     }
 
     /**
-     * 반복 할 일을 범위 내에서 펼침
+     * 조회 기간 검증 (startDate ~ endDate가 maxDays일 이하)
      */
-    private List<TodoResDTO.TodoListItem> expandRecurringTodo(Todo todo, LocalDate startDate, LocalDate endDate) {
-        List<TodoResDTO.TodoListItem> expanded = new ArrayList<>();
-
-        TodoRecurrenceGroup group = todo.getTodoRecurrenceGroup();
-        Generator generator = generatorFactory.getGenerator(group);
-        EndCondition endCondition = endConditionFactory.getEndCondition(group);
-
-        // 예외 조회
-        Map<LocalDate, TodoRecurrenceException> exceptionMap = todoRecurrenceExceptionRepository
-                .findByTodoRecurrenceGroupId(group.getId())
-                .stream()
-                .collect(Collectors.toMap(
-                        TodoRecurrenceException::getExceptionDate,
-                        ex -> ex,
-                        (existing, replacement) -> existing
-                ));
-
-        // 기준 시간 설정
-        LocalTime dueTime = todo.getDueTime() != null ? todo.getDueTime() : LocalTime.MIDNIGHT;
-        LocalDateTime current = todo.getStartDate().atTime(dueTime);
-
-        int count = 1;
-        int maxIterations = 1000;
-
-        // 첫 번째 날짜 처리
-        LocalDate firstDate = current.toLocalDate();
-        if (!firstDate.isBefore(startDate) && !firstDate.isAfter(endDate)) {
-            TodoRecurrenceException exception = exceptionMap.get(firstDate);
-            if (exception == null || exception.getExceptionType() != ExceptionType.SKIP) {
-                expanded.add(createTodoListItem(todo, firstDate, exception));
-            }
+    private void validateRange(LocalDate startDate, LocalDate endDate, long maxDays) {
+        if (startDate.isAfter(endDate)) {
+            throw new TodoException(TodoErrorCode.INVALID_DATE_RANGE);
         }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > maxDays) {
+            throw new TodoException(TodoErrorCode.DATE_RANGE_TOO_LONG);
+        }
+    }
 
-        while (endCondition.shouldContinue(current, count, group) && count < maxIterations) {
-            current = generator.next(current, group);
-            if (current == null) {
-                break;
-            }
-
-            LocalDate occurrenceDate = current.toLocalDate();
-
-            // 범위 이전이면 스킵
-            if (occurrenceDate.isBefore(startDate)) {
-                count++;
-                continue;
-            }
-
-            // 범위 이후면 종료
-            if (occurrenceDate.isAfter(endDate)) {
-                break;
-            }
-
-            // 종료 날짜 확인
-            if (group.getEndDate() != null && occurrenceDate.isAfter(group.getEndDate())) {
-                break;
-            }
-
-            // 예외 처리
-            TodoRecurrenceException exception = exceptionMap.get(occurrenceDate);
-            if (exception != null && exception.getExceptionType() == ExceptionType.SKIP) {
-                count++;
-                continue;
-            }
-
-            expanded.add(createTodoListItem(todo, occurrenceDate, exception));
-            count++;
+    private CalendarCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return CalendarCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new TodoException(TodoErrorCode.INVALID_CURSOR);
         }
+    }
 
-        return expanded;
+    /**
+     * 기준 시간 (startDate + dueTime)
+     */
+    private LocalDateTime getStartDateTime(Todo todo) {
+        LocalTime dueTime = todo.getDueTime() != null ? todo.getDueTime() : LocalTime.MIDNIGHT;
+        return todo.getStartDate().atTime(dueTime);
     }
 
     /**
      * TodoListItem 생성 (예외 적용)
      */
-    private TodoResDTO.TodoListItem createTodoListItem(Todo todo, LocalDate occurrenceDate,
-                                                        TodoRecurrenceException exception) {
-        if (exception != null) {
-            return TodoConverter.toTodoListItem(todo, occurrenceDate, exception);
+    private TodoResDTO.TodoListItem toTodoListItem(TodoOccurrence occurrence) {
+        if (occurrence.exception() != null) {
+            return TodoConverter.toTodoListItem(occurrence.todo(), occurrence.occurrenceDate(), occurrence.exception());
         }
-        return TodoConverter.toTodoListItem(todo, occurrenceDate, false);
+        return TodoConverter.toTodoListItem(occurrence.todo(), occurrence.occurrenceDate(), occurrence.isCompleted());
     }
 
     /**
@@ -0,0 +1,83 @@
+package com.project.backend.global.apiPayload;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * 응답을 NDJSON(application/x-ndjson)으로 한 줄에 하나씩 기록
+ * - FLUSH_INTERVAL개마다 flush 하므로 전체 결과를 메모리에 모으지 않는다.
+ * - 첫 줄을 쓰기 전에 발생한 예외는 그대로 던져 일반 에러 응답으로 처리된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonResponseWriter {
+
+    private static final int FLUSH_INTERVAL = 100;
+
+    private final ObjectMapper objectMapper;
+
+    public <T> void write(HttpServletResponse response, Consumer<Consumer<T>> producer) throws IOException {
+        LineWriter lineWriter = new LineWriter(response);
+        producer.accept(lineWriter::write);
+        lineWriter.finish();
+    }
+
+    private final class LineWriter {
+
+        private final HttpServletResponse response;
+        private PrintWriter writer;
+        private int count;
+
+        private LineWriter(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        private void write(Object item) {
+            try {
+                String line = objectMapper.writeValueAsString(item);
+                writer().write(line);
+                writer().write('\n');
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("NDJSON 직렬화 실패", e);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            if (++count % FLUSH_INTERVAL == 0) {
+                flush();
+            }
+        }
+
+        private void finish() throws IOException {
+            writer();
+            flush();
+        }
+
+        // 응답 writer는 첫 줄을 쓸 때 연다 (그 전에 예외가 나면 에러 응답을 쓸 수 있도록)
+        private PrintWriter writer() throws IOException {
+            if (writer == null) {
+                response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+                response.setCharacterEncoding("UTF-8");
+                writer = response.getWriter();
+            }
+            return writer;
+        }
+
+        // PrintWriter는 IOException을 삼키므로 클라이언트 연결이 끊겼는지 직접 확인해 생성을 중단
+        private void flush() {
+            writer.flush();
+            if (writer.checkError()) {
+                throw new UncheckedIOException(new IOException("NDJSON 응답 전송 중 연결이 끊어졌습니다."));
+            }
+        }
+    }
+}
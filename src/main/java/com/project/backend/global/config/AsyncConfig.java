@@ -10,6 +10,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.Arrays;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Slf4j
 @Configuration
@@ -29,6 +30,61 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    @Bean(name = "briefingExecutor")
+    public Executor briefingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);      // 브리핑 미리 만들기는 짧은 시간에 몰리므로 고정 크기로 사용
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);  // 청크 단위로 제출되므로 대기 큐는 청크 수만큼
+        executor.setThreadNamePrefix("briefing-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "reminderJobExecutor")
+    public Executor reminderJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(8);     // 대기 청크를 제한해 조회가 처리보다 앞서 나가지 않도록 함
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy()); // 큐가 차면 제출한 스레드에서 직접 처리
+        executor.setThreadNamePrefix("reminder-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "reminderChangeExecutor")
+    public Executor reminderChangeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy()); // 큐가 차도 변경이 유실되지 않도록 커밋한 스레드에서 직접 처리
+        executor.setThreadNamePrefix("reminder-change-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "chatContextExecutor")
+    public Executor chatContextExecutor() {
+        // 채팅 컨텍스트 준비는 대부분 외부 호출 대기 시간이므로 가상 스레드 사용
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setVirtualThreads(true);
+        executor.setCorePoolSize(50);
+        executor.setMaxPoolSize(200);     // 동시에 실행되는 단계 수 제한 (외부 API 보호)
+        executor.setQueueCapacity(0);     // 대기 없이 바로 거절해 요청 스레드를 막지 않음 (단계는 컨텍스트 없이 진행)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setThreadNamePrefix("chat-context-");
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return (ex, method, params) ->
@@ -8,7 +8,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
@@ -21,12 +23,43 @@ public class LlmConfig {
     private String provider;
     private String apiKey;
     private String model;
-    private final Duration timeout = Duration.ofSeconds(30);
+    // LLM 호출 1회의 전체 제한 시간 (응답 대기 중 읽기 간격 제한에도 사용)
+    private Duration timeout = Duration.ofSeconds(30);
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private int maxConnections = 50;
+    private int pendingAcquireMaxCount = 200;
+    private Hedge hedge = new Hedge();
+
+    @Getter
+    @Setter
+    public static class Hedge {
+        private boolean enabled = false;
+        // p95가 이보다 짧아도 이 시간은 기다린 뒤 hedged 요청을 보냄
+        private Duration minDelay = Duration.ofSeconds(2);
+        // 최근 지연 시간 표본이 이보다 적으면 hedging 하지 않음
+        private int minSamples = 20;
+    }
 
     @Bean
     public WebClient webClient() {
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) timeout.toMillis())
+        // 연결 수와 대기 요청 수를 제한해 LLM 지연 시 요청이 무한히 쌓이지 않도록 함
+        // 유휴 연결은 서버가 먼저 끊기 전에 정리 (끊긴 연결 재사용으로 인한 실패 방지)
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("llm-http")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(connectTimeout)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .maxLifeTime(Duration.ofMinutes(5))
+                .evictInBackground(Duration.ofSeconds(30))
+                .build();
+
+        // TLS ALPN으로 HTTP/2를 협상하고 (한 연결에서 여러 요청 동시 처리), 지원하지 않는 서버는 HTTP/1.1 keep-alive 사용
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                .secure()
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
                 .responseTimeout(timeout);
 
         return WebClient.builder()
@@ -57,6 +57,11 @@ public class QdrantVectorClient {
     }
 
     private void ensureCollectionExists() {
+        ensureCollection(collection);
+    }
+
+    // 일정 컬렉션 외 용도(파싱 결과 캐시 등)의 컬렉션 생성 (일정 컬렉션과 같은 임베딩 크기 사용)
+    public void ensureCollection(String collection) {
         try {
             webClient.put()
                     .uri("/collections/" + collection)
@@ -128,6 +133,71 @@ public class QdrantVectorClient {
         }
     }
 
+    public void upsertPoint(String collection, Long pointId, float[] vector, Map<String, Object> payload) {
+        try {
+            Map<String, Object> point = Map.of(
+                    "id", pointId,
+                    "vector", toList(vector),
+                    "payload", payload
+            );
+
+            webClient.put()
+                    .uri("/collections/" + collection + "/points")
+                    .bodyValue(Map.of("points", List.of(point)))
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+        } catch (Exception e) {
+            log.error("Qdrant upsert 실패 - collection: {}, pointId: {}, error: {}", collection, pointId, e.getMessage());
+            throw new RuntimeException("Qdrant upsert 실패", e);
+        }
+    }
+
+    /**
+     * @param filter         Qdrant filter 조건 (예: {"must": [...]})
+     * @param scoreThreshold 이 유사도 미만인 결과는 제외
+     */
+    public List<QdrantSearchResult> searchPoints(String collection, float[] queryVector, Map<String, Object> filter,
+                                                 int limit, double scoreThreshold) {
+        try {
+            Map<String, Object> body = Map.of(
+                    "vector", toList(queryVector),
+                    "filter", filter,
+                    "limit", limit,
+                    "score_threshold", scoreThreshold,
+                    "with_payload", true
+            );
+
+            String response = webClient.post()
+                    .uri("/collections/" + collection + "/points/search")
+                    .bodyValue(body)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+
+            JsonNode results = objectMapper.readTree(response).path("result");
+            return objectMapper.convertValue(results,
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, QdrantSearchResult.class));
+        } catch (Exception e) {
+            log.error("Qdrant 검색 실패 - collection: {}, error: {}", collection, e.getMessage());
+            throw new RuntimeException("Qdrant 검색 실패", e);
+        }
+    }
+
+    public void deletePoints(String collection, Map<String, Object> filter) {
+        try {
+            webClient.post()
+                    .uri("/collections/" + collection + "/points/delete")
+                    .bodyValue(Map.of("filter", filter))
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+        } catch (Exception e) {
+            log.error("Qdrant 조건 삭제 실패 - collection: {}, error: {}", collection, e.getMessage());
+            throw new RuntimeException("Qdrant 삭제 실패", e);
+        }
+    }
+
     public void delete(Long eventId) {
         try {
             webClient.post()
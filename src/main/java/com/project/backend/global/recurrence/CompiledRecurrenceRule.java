@@ -0,0 +1,228 @@
+package com.project.backend.global.recurrence;
+
+import com.project.backend.domain.common.recurrence.enums.MonthlyType;
+import com.project.backend.domain.common.recurrence.enums.RecurrenceEndType;
+import com.project.backend.domain.common.recurrence.enums.RecurrenceFrequency;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+
+/**
+ * 문자열로 저장된 반복 규칙을 한 번만 파싱해 둔 불변 객체
+ * - 요일 목록은 비트마스크 (MONDAY = 1 << 0 ... SUNDAY = 1 << 6)
+ * - 일자 목록은 중복 제거 후 오름차순 정렬된 int[]
+ * GeneratorFactory로 생성기를 가져오는 곳에서 한 번 컴파일해 Generator에 전달하므로
+ * next() 호출마다 문자열 파싱/리스트 정렬이 발생하지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledRecurrenceRule implements RecurrenceRule {
+
+    private static final int[] EMPTY_DAYS = new int[0];
+
+    // ===== 원본 규칙 값 =====
+    private final RecurrenceFrequency frequency;
+    private final Integer intervalValue;
+    private final String daysOfWeek;
+    private final MonthlyType monthlyType;
+    private final String daysOfMonth;
+    private final Integer weekOfMonth;
+    private final String dayOfWeekInMonth;
+    private final Integer monthOfYear;
+    private final RecurrenceEndType endType;
+    private final LocalDate endDate;
+    private final Integer occurrenceCount;
+
+    // ===== 컴파일된 값 =====
+    // WEEKLY: 반복 요일 비트마스크
+    private final int weekdayMask;
+    // MONTHLY(DAY_OF_MONTH), YEARLY: 정렬된 반복 일자
+    @Getter(AccessLevel.NONE)
+    private final int[] monthDays;
+    // MONTHLY(DAY_OF_WEEK): 반복 요일 비트마스크
+    private final int dayOfWeekInMonthMask;
+    // END_BY_DATE: 종료일의 마지막 시각
+    private final LocalDateTime endDateTime;
+
+    public static CompiledRecurrenceRule compile(RecurrenceRule rule) {
+        return new CompiledRecurrenceRule(
+                rule.getFrequency(),
+                rule.getIntervalValue(),
+                rule.getDaysOfWeek(),
+                rule.getMonthlyType(),
+                rule.getDaysOfMonth(),
+                rule.getWeekOfMonth(),
+                rule.getDayOfWeekInMonth(),
+                rule.getMonthOfYear(),
+                rule.getEndType(),
+                rule.getEndDate(),
+                rule.getOccurrenceCount(),
+                parseWeekdayMask(rule.getDaysOfWeek()),
+                parseSortedDays(rule.getDaysOfMonth()),
+                parseWeekdayMask(rule.getDayOfWeekInMonth()),
+                rule.getEndDate() != null ? rule.getEndDate().atTime(LocalTime.MAX) : null
+        );
+    }
+
+    // =============== WEEKLY ===================
+
+    public boolean hasWeekdays() {
+        return weekdayMask != 0;
+    }
+
+    /**
+     * base 요일 다음으로 오는 가장 가까운 반복 요일까지의 일수 (1~7)
+     * 반복 요일이 base 하나뿐이면 7을 반환한다.
+     */
+    public int daysUntilNextWeekday(DayOfWeek base) {
+        int baseIdx = base.ordinal();
+        for (int diff = 1; diff <= 7; diff++) {
+            if ((weekdayMask & (1 << ((baseIdx + diff) % 7))) != 0) {
+                return diff;
+            }
+        }
+        return 7;
+    }
+
+    public boolean isWeekday(DayOfWeek day) {
+        return (weekdayMask & (1 << day.ordinal())) != 0;
+    }
+
+    /**
+     * base 다음 날부터 days일 동안 포함된 반복 요일 수
+     */
+    public long countWeekdaysAfter(DayOfWeek base, long days) {
+        long count = (days / 7) * Integer.bitCount(weekdayMask);
+        int baseIdx = base.ordinal();
+        for (int diff = 1; diff <= days % 7; diff++) {
+            if ((weekdayMask & (1 << ((baseIdx + diff) % 7))) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // =============== DAY_OF_MONTH / YEARLY ===================
+
+    public boolean hasMonthDays() {
+        return monthDays.length > 0;
+    }
+
+    /**
+     * baseDay보다 큰 반복 일자 중 가장 작은 값, 없으면 첫 번째 값 (순환)
+     */
+    public int nextMonthDayAfter(int baseDay) {
+        for (int day : monthDays) {
+            if (day > baseDay) {
+                return day;
+            }
+        }
+        return monthDays[0];
+    }
+
+    public int lastMonthDay() {
+        return monthDays[monthDays.length - 1];
+    }
+
+    public int monthDayCount() {
+        return monthDays.length;
+    }
+
+    public int monthDayAt(int index) {
+        return monthDays[index];
+    }
+
+    /**
+     * 반복 일자 중 day의 위치, 없으면 -1
+     */
+    public int indexOfMonthDay(int day) {
+        int index = Arrays.binarySearch(monthDays, day);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * fromDay와 같거나 큰 반복 일자 중 가장 작은 값, 없으면 0 (순환하지 않음)
+     */
+    public int firstMonthDayFrom(int fromDay) {
+        for (int day : monthDays) {
+            if (day >= fromDay) {
+                return day;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * afterDay < day <= upToDay 를 만족하는 반복 일자 수
+     */
+    public int countMonthDaysBetween(int afterDay, int upToDay) {
+        int count = 0;
+        for (int day : monthDays) {
+            if (day > afterDay && day <= upToDay) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // =============== DAY_OF_WEEK ===================
+
+    /**
+     * 해당 월에서 dayOfWeekInMonth 조건을 만족하는 ordinal번째 날짜의 일자
+     * (RecurrenceUtils.calculateMonthlyNthOrdinalWeekday와 같은 규칙, 없으면 0)
+     */
+    public int nthOrdinalDayOfMonth(YearMonth month, int ordinal) {
+        if (ordinal < 1) {
+            throw new IllegalArgumentException("ordinal must be >= 1");
+        }
+        if (dayOfWeekInMonthMask == 0) {
+            return 0;
+        }
+
+        int firstIdx = month.atDay(1).getDayOfWeek().ordinal();
+        int length = month.lengthOfMonth();
+        int count = 0;
+
+        for (int day = 1; day <= length; day++) {
+            if ((dayOfWeekInMonthMask & (1 << ((firstIdx + day - 1) % 7))) != 0) {
+                count++;
+                if (count == ordinal) {
+                    return day;
+                }
+            }
+        }
+        return 0;
+    }
+
+    // =============== private ===================
+
+    private static int parseWeekdayMask(String days) {
+        if (days == null || days.isBlank()) {
+            return 0;
+        }
+        int mask = 0;
+        for (String token : days.split(",")) {
+            mask |= 1 << DayOfWeek.valueOf(token.trim()).ordinal();
+        }
+        return mask;
+    }
+
+    private static int[] parseSortedDays(String days) {
+        if (days == null || days.isBlank()) {
+            return EMPTY_DAYS;
+        }
+        return Arrays.stream(days.split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+}
@@ -0,0 +1,87 @@
+package com.project.backend.global.recurrence;
+
+import com.project.backend.domain.event.entity.RecurrenceGroup;
+import com.project.backend.domain.todo.entity.TodoRecurrenceGroup;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RecurrenceGroup / TodoRecurrenceGroup 별로 컴파일된 반복 규칙을 보관하는 캐시
+ * - key: (그룹 종류, id), version: (updatedAt, ruleRevision) - 버전이 같으면 규칙 값은 비교하지 않는다.
+ *   updatedAt은 커밋된 규칙을, ruleRevision은 flush 전에 메모리에서 수정된 규칙을 구분한다. (RecurrenceRuleRevision 참고)
+ * - 최대 MAX_ENTRIES개까지 보관하고, 가득 차면 가장 오래 사용하지 않은 항목부터 제거한다. (LRU)
+ */
+@Component
+public class CompiledRecurrenceRuleCache {
+
+    private static final int MAX_ENTRIES = 50_000;
+
+    private final Map<CacheKey, Entry> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(1_024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CacheKey, Entry> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            });
+
+    /**
+     * 반복 규칙을 컴파일된 규칙으로 변환한다. (단발성이면 null)
+     */
+    public CompiledRecurrenceRule get(RecurrenceRule rule) {
+        if (rule == null) {
+            return null;
+        }
+        if (rule instanceof CompiledRecurrenceRule compiled) {
+            return compiled;
+        }
+
+        CacheKey key = toKey(rule);
+        // 아직 저장되지 않은 그룹이나 제안 후보 등은 캐시하지 않음
+        if (key == null) {
+            return CompiledRecurrenceRule.compile(rule);
+        }
+
+        Version version = versionOf(rule);
+        Entry cached = cache.get(key);
+        if (cached != null && cached.version().equals(version)) {
+            return cached.rule();
+        }
+
+        CompiledRecurrenceRule compiled = CompiledRecurrenceRule.compile(rule);
+        cache.put(key, new Entry(version, compiled));
+        return compiled;
+    }
+
+    // =============== private ===================
+
+    private CacheKey toKey(RecurrenceRule rule) {
+        if (rule instanceof RecurrenceGroup rg && rg.getId() != null) {
+            return new CacheKey(RecurrenceGroup.class, rg.getId());
+        }
+        if (rule instanceof TodoRecurrenceGroup trg && trg.getId() != null) {
+            return new CacheKey(TodoRecurrenceGroup.class, trg.getId());
+        }
+        return null;
+    }
+
+    private Version versionOf(RecurrenceRule rule) {
+        if (rule instanceof RecurrenceGroup rg) {
+            return new Version(rg.getUpdatedAt(), rg.getRuleRevision());
+        }
+        TodoRecurrenceGroup trg = (TodoRecurrenceGroup) rule;
+        return new Version(trg.getUpdatedAt(), trg.getRuleRevision());
+    }
+
+    private record CacheKey(Class<?> type, Long id) {
+    }
+
+    private record Version(LocalDateTime updatedAt, long ruleRevision) {
+    }
+
+    private record Entry(Version version, CompiledRecurrenceRule rule) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.backend.global.recurrence;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 반복 그룹의 규칙 값이 메모리에서 바뀔 때마다 부여하는 리비전 번호
+ * - updatedAt은 flush 시점에야 바뀌므로, 같은 트랜잭션 안에서 규칙을 수정한 뒤 조회하면
+ *   CompiledRecurrenceRuleCache가 이전 규칙을 돌려줄 수 있다. 수정 메서드가 새 리비전을 받아 버전을 구분한다.
+ * - 프로세스 안에서 유일한 값이므로 서로 다른 트랜잭션의 수정이 같은 버전으로 겹치지 않는다.
+ */
+public final class RecurrenceRuleRevision {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private RecurrenceRuleRevision() {
+    }
+
+    public static long next() {
+        return SEQUENCE.incrementAndGet();
+    }
+}
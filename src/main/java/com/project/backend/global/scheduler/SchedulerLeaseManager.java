@@ -0,0 +1,114 @@
+package com.project.backend.global.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 기반 스케줄러 lease
+ * - lease는 SET NX PX로 얻고, 값에는 인스턴스 id를 저장한다.
+ * - 해제/연장은 자신이 가진 lease일 때만 하도록 Lua 스크립트로 비교 후 처리한다.
+ * - runWithRenewal로 실행하는 작업은 끝날 때까지 lease를 주기적으로 연장한다. (작업이 leaseTime보다 길어져도 다른 인스턴스가 가져가지 않음)
+ * - 인스턴스가 죽으면 lease가 만료되어 다른 인스턴스가 가져갈 수 있다.
+ * - Redis 오류는 그대로 던지므로 호출하는 쪽에서 처리 방식을 정한다.
+ */
+@Slf4j
+@Component
+public class SchedulerLeaseManager {
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class
+    );
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String instanceId;
+
+    // 스케줄링 스레드 풀이 작업으로 가득 차도 연장이 밀리지 않도록 별도 스레드 사용
+    private final ScheduledExecutorService renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduler-lease-renewal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SchedulerLeaseManager(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.instanceId = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewalExecutor.shutdownNow();
+    }
+
+    public String instanceId() {
+        return instanceId;
+    }
+
+    public boolean tryAcquire(String key, Duration leaseTime) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, instanceId, leaseTime));
+    }
+
+    /**
+     * 자신이 가진 lease의 만료 시간을 leaseTime으로 다시 설정 (lease를 잃었으면 false)
+     */
+    public boolean renew(String key, Duration leaseTime) {
+        Long result = redisTemplate.execute(RENEW_SCRIPT, List.of(key), instanceId, String.valueOf(leaseTime.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 이미 얻은 lease를 leaseTime의 1/3마다 연장하면서 task 실행
+     */
+    public void runWithRenewal(String key, Duration leaseTime, Runnable task) {
+        long interval = Math.max(leaseTime.toMillis() / 3, 1);
+        ScheduledFuture<?> renewal = renewalExecutor.scheduleAtFixedRate(() -> {
+            try {
+                if (!renew(key, leaseTime)) {
+                    log.warn("[SchedulerLease] lease를 잃음, 다른 인스턴스가 실행할 수 있음 - key: {}", key);
+                }
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도 (예외를 던지면 이후 연장이 모두 취소됨)
+                log.warn("[SchedulerLease] lease 연장 실패 - key: {}", key, e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+
+        try {
+            task.run();
+        } finally {
+            renewal.cancel(false);
+        }
+    }
+
+    public void release(String key) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), instanceId);
+        } catch (Exception e) {
+            // 해제에 실패해도 lease는 만료되므로 로그만 남김
+            log.warn("[SchedulerLease] lease 해제 실패 - key: {}", key, e);
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.project.backend.global.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * 여러 인스턴스에서 실행되는 스케줄 작업 조정
+ * - runExclusively: 한 인스턴스만 실행 (lease를 얻지 못한 인스턴스는 건너뜀)
+ * - runOncePerPeriod: 주기 작업을 주기마다 한 인스턴스에서만 실행 (lease를 해제하지 않고 만료될 때까지 유지)
+ * - runOncePerRun: 실행 단위(runKey, 예: 날짜)마다 한 번만 실행 (성공하면 완료 표시를 남겨 다른 인스턴스가 다시 실행하지 않음)
+ * - runSharded: 회원 id를 SHARD_COUNT개 구간으로 나누고, 각 인스턴스가 구간 lease를 하나씩 가져가 처리한다.
+ *   - 처리한 구간은 실행 단위(runKey)별 완료 표시를 남겨 다른 인스턴스가 다시 처리하지 않는다.
+ *   - 처리 중 실패하거나 인스턴스가 죽어 lease가 만료된 구간은 남은 인스턴스가 다시 가져간다. (구간당 최대 MAX_ATTEMPTS회)
+ *   - MAX_ATTEMPTS회 모두 실패한 구간은 실패 표시를 남기고 다시 실행하지 않으며, 실행 결과는 예외로 완료된다.
+ *   - 다른 인스턴스가 처리 중인 구간은 스레드를 붙잡고 기다리지 않고, POLL_INTERVAL 뒤 taskScheduler에서 다시 확인한다.
+ *   - 인스턴스가 늘어나면 구간이 나뉘어 처리되므로 작업이 중복되지 않고 처리량이 늘어난다.
+ * - 처리 중인 작업의 lease는 끝날 때까지 연장하므로 작업이 leaseTime보다 길어져도 다른 인스턴스가 중복 실행하지 않는다.
+ * - Redis를 사용할 수 없으면 runExclusively/runOncePerPeriod는 단일 인스턴스 환경으로 보고 현재 인스턴스에서 실행하고,
+ *   runOncePerRun/runSharded는 완료 여부를 알 수 없으므로 중복 처리하지 않도록 실행을 실패로 끝낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShardedJobRunner {
+
+    public static final int SHARD_COUNT = 16;
+
+    private static final String LOCK_KEY_PREFIX  = "scheduler:lock:";
+    private static final String RUN_KEY_PREFIX   = "scheduler:run:";
+    private static final String SHARD_KEY_PREFIX = "scheduler:shard:";
+    private static final Duration DONE_TTL       = Duration.ofDays(2);
+    private static final Duration POLL_INTERVAL  = Duration.ofSeconds(15);
+    private static final Duration MAX_WAIT       = Duration.ofHours(2);
+    private static final int MAX_ATTEMPTS        = 3;
+
+    private final SchedulerLeaseManager leaseManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final TaskScheduler taskScheduler;
+
+    /**
+     * lease를 얻은 인스턴스에서만 task 실행
+     * @param leaseTime lease 연장 단위 (인스턴스가 죽으면 이 시간 뒤 다른 인스턴스가 실행할 수 있음)
+     */
+    public void runExclusively(String jobName, Duration leaseTime, Runnable task) {
+        String key = LOCK_KEY_PREFIX + jobName;
+
+        boolean acquired;
+        try {
+            acquired = leaseManager.tryAcquire(key, leaseTime);
+        } catch (Exception e) {
+            log.warn("[ShardedJobRunner] lease 조회 실패, 현재 인스턴스에서 실행 - job: {}", jobName, e);
+            task.run();
+            return;
+        }
+
+        if (!acquired) {
+            log.debug("[ShardedJobRunner] 다른 인스턴스에서 실행 중 - job: {}", jobName);
+            return;
+        }
+
+        try {
+            leaseManager.runWithRenewal(key, leaseTime, task);
+        } finally {
+            leaseManager.release(key);
+        }
+    }
+
+    /**
+     * 주기마다 한 인스턴스에서만 task 실행
+     * - 인스턴스마다 실행 시점이 달라도 period 동안은 다른 인스턴스가 실행하지 않는다.
+     */
+    public void runOncePerPeriod(String jobName, Duration period, Runnable task) {
+        boolean acquired;
+        try {
+            acquired = leaseManager.tryAcquire(LOCK_KEY_PREFIX + jobName, period);
+        } catch (Exception e) {
+            log.warn("[ShardedJobRunner] lease 조회 실패, 현재 인스턴스에서 실행 - job: {}", jobName, e);
+            acquired = true;
+        }
+
+        if (acquired) {
+            task.run();
+        }
+    }
+
+    /**
+     * 실행 단위마다 한 인스턴스에서 한 번만 task 실행
+     * - task가 실패하면 완료 표시를 남기지 않으므로 같은 runKey로 다시 호출하면 다시 실행한다.
+     * @param runKey    실행 단위 (예: 날짜)
+     * @param leaseTime lease 연장 단위 (인스턴스가 죽으면 이 시간 뒤 다른 인스턴스가 실행할 수 있음)
+     */
+    public void runOncePerRun(String jobName, String runKey, Duration leaseTime, Runnable task) {
+        String prefix = RUN_KEY_PREFIX + jobName + ":" + runKey;
+        String doneKey = prefix + ":done";
+        String leaseKey = prefix + ":lease";
+
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(doneKey))) return;
+            if (!leaseManager.tryAcquire(leaseKey, leaseTime)) {
+                log.debug("[ShardedJobRunner] 다른 인스턴스에서 실행 중 - job: {}, runKey: {}", jobName, runKey);
+                return;
+            }
+        } catch (Exception e) {
+            log.error("[ShardedJobRunner] 실행 조정 실패, 실행하지 않음 - job: {}, runKey: {}", jobName, runKey, e);
+            return;
+        }
+
+        try {
+            // lease를 얻는 사이에 다른 인스턴스가 완료했을 수 있음
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(doneKey))) return;
+
+            leaseManager.runWithRenewal(leaseKey, leaseTime, task);
+            redisTemplate.opsForValue().set(doneKey, leaseManager.instanceId(), DONE_TTL);
+        } finally {
+            leaseManager.release(leaseKey);
+        }
+    }
+
+    /**
+     * 구간별로 나눠 실행
+     * - 현재 스레드에서 가져갈 수 있는 구간을 처리하고, 남은 구간(다른 인스턴스가 처리 중이거나 실패한 구간)은
+     *   POLL_INTERVAL마다 taskScheduler에서 다시 확인해 가져간다. (최대 MAX_WAIT)
+     * - Redis 오류로 구간 조정에 실패하면 남은 구간을 현재 인스턴스에서 다시 실행하지 않고 실패로 끝낸다.
+     * @param runKey    실행 단위 (예: 날짜), 같은 runKey에서 완료된 구간은 다시 실행하지 않음
+     * @param leaseTime 구간 lease 연장 단위
+     * @return 모든 구간이 완료되면 완료, 실패한 구간이 있거나 조정에 실패하거나 MAX_WAIT 안에 끝나지 않으면 예외로 완료
+     */
+    public CompletableFuture<Void> runSharded(String jobName, String runKey, Duration leaseTime, IntConsumer shardTask) {
+        ShardedRun run = new ShardedRun(jobName, runKey, leaseTime, shardTask);
+        run.pass();
+        return run.result;
+    }
+
+    // =============== private ===================
+
+    private ShardState processShard(String prefix, int shard, Duration leaseTime, IntConsumer shardTask) {
+        String doneKey = prefix + shard + ":done";
+        String leaseKey = prefix + shard + ":lease";
+        String failedKey = prefix + shard + ":failed";
+
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(doneKey))) {
+            return ShardState.DONE;
+        }
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(failedKey))) {
+            return ShardState.FAILED;
+        }
+        if (!leaseManager.tryAcquire(leaseKey, leaseTime)) {
+            return ShardState.PENDING;
+        }
+
+        try {
+            // lease를 얻는 사이에 다른 인스턴스가 완료했을 수 있음
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(doneKey))) {
+                return ShardState.DONE;
+            }
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(failedKey))) {
+                return ShardState.FAILED;
+            }
+
+            Long attempt = redisTemplate.opsForValue().increment(prefix + shard + ":attempts");
+            redisTemplate.expire(prefix + shard + ":attempts", DONE_TTL);
+
+            try {
+                leaseManager.runWithRenewal(leaseKey, leaseTime, () -> shardTask.accept(shard));
+            } catch (Exception e) {
+                log.error("[ShardedJobRunner] 구간 처리 실패 - key: {}, attempt: {}", leaseKey, attempt, e);
+                if (attempt == null || attempt < MAX_ATTEMPTS) {
+                    return ShardState.PENDING;
+                }
+                // 재시도 횟수를 모두 쓴 구간은 완료로 표시하지 않고 실패로 남김 (다른 인스턴스도 다시 실행하지 않음)
+                redisTemplate.opsForValue().set(failedKey, leaseManager.instanceId(), DONE_TTL);
+                return ShardState.FAILED;
+            }
+
+            redisTemplate.opsForValue().set(doneKey, leaseManager.instanceId(), DONE_TTL);
+            return ShardState.PROCESSED;
+        } finally {
+            leaseManager.release(leaseKey);
+        }
+    }
+
+    private enum ShardState {
+        DONE, PENDING, PROCESSED, FAILED
+    }
+
+    // runSharded 한 번의 실행 상태 (pass마다 남은 구간을 확인하고, 남아 있으면 다음 pass를 예약)
+    private final class ShardedRun {
+
+        private final String jobName;
+        private final String runKey;
+        private final String prefix;
+        private final Duration leaseTime;
+        private final IntConsumer shardTask;
+        private final Instant deadline = Instant.now().plus(MAX_WAIT);
+        private final int offset = ThreadLocalRandom.current().nextInt(SHARD_COUNT);
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private int processed;
+        private int failed;
+
+        private ShardedRun(String jobName, String runKey, Duration leaseTime, IntConsumer shardTask) {
+            this.jobName = jobName;
+            this.runKey = runKey;
+            this.prefix = SHARD_KEY_PREFIX + jobName + ":" + runKey + ":";
+            this.leaseTime = leaseTime;
+            this.shardTask = shardTask;
+        }
+
+        private void pass() {
+            boolean pending = false;
+            failed = 0;
+            try {
+                for (int i = 0; i < SHARD_COUNT; i++) {
+                    int shard = (offset + i) % SHARD_COUNT;
+                    ShardState state = processShard(prefix, shard, leaseTime, shardTask);
+                    if (state == ShardState.PROCESSED) processed++;
+                    if (state == ShardState.PENDING) pending = true;
+                    if (state == ShardState.FAILED) failed++;
+                }
+            } catch (Exception e) {
+                log.error("[ShardedJobRunner] 구간 조정 실패, 실행 중단 - job: {}, runKey: {}", jobName, runKey, e);
+                result.completeExceptionally(e);
+                return;
+            }
+
+            if (!pending && failed > 0) {
+                log.error("[ShardedJobRunner] 실패한 구간 있음 - job: {}, runKey: {}, processedShards: {}, failedShards: {}",
+                        jobName, runKey, processed, failed);
+                result.completeExceptionally(new IllegalStateException(
+                        "구간 작업 실패 - job: " + jobName + ", runKey: " + runKey + ", failedShards: " + failed));
+                return;
+            }
+            if (!pending) {
+                log.info("[ShardedJobRunner] 완료 - job: {}, runKey: {}, instance: {}, processedShards: {}",
+                        jobName, runKey, leaseManager.instanceId(), processed);
+                result.complete(null);
+                return;
+            }
+
+            Instant next = Instant.now().plus(POLL_INTERVAL);
+            if (next.isAfter(deadline)) {
+                log.error("[ShardedJobRunner] 대기 시간 초과, 남은 구간 있음 - job: {}, runKey: {}, processedShards: {}",
+                        jobName, runKey, processed);
+                result.completeExceptionally(new IllegalStateException(
+                        "구간 작업이 제한 시간 안에 끝나지 않음 - job: " + jobName + ", runKey: " + runKey));
+                return;
+            }
+            try {
+                taskScheduler.schedule(this::pass, next);
+            } catch (Exception e) {
+                // 종료 중이라 예약할 수 없는 경우
+                log.warn("[ShardedJobRunner] 다음 확인 예약 실패 - job: {}, runKey: {}", jobName, runKey, e);
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
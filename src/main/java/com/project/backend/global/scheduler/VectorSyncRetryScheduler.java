@@ -12,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -21,14 +22,21 @@ import java.util.List;
 public class VectorSyncRetryScheduler {
 
     private static final int PENDING_TIMEOUT_MINUTES = 5;
+    private static final Duration RETRY_PERIOD = Duration.ofMinutes(5);
 
     private final TodoRepository todoRepository;
     private final EventRepository eventRepository;
     private final TodoVectorSyncService todoVectorSyncService;
     private final ScheduleVectorSyncService scheduleVectorSyncService;
+    private final ShardedJobRunner shardedJobRunner;
 
+    // 여러 인스턴스가 같은 대상을 중복 재시도하지 않도록 주기마다 한 인스턴스에서만 실행
     @Scheduled(fixedDelay = 300_000)
     public void retryFailedSync() {
+        shardedJobRunner.runOncePerPeriod("vector-sync-retry", RETRY_PERIOD, this::retry);
+    }
+
+    private void retry() {
         LocalDateTime cutOff = LocalDateTime.now().minusMinutes(PENDING_TIMEOUT_MINUTES);
 
         List<Todo> failedTodos = todoRepository.findSyncRetryTargets(VectorSyncStatus.FAILED, VectorSyncStatus.PENDING, cutOff);
@@ -0,0 +1,111 @@
+package com.project.backend.domain.chat.service;
+
+import com.project.backend.domain.chat.dto.DateRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KoreanDateRangeParser 규칙 검증
+ * - 기준일은 2026-03-11(수)이며, 이번 주는 3/9(월) ~ 3/15(일)이다.
+ * - 날짜처럼 보이지만 날짜가 아닌 표현("이번 주제", "다음 주문" 등)은 기간을 추출하지 않아야 한다.
+ */
+class KoreanDateRangeParserTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 11);
+
+    private final KoreanDateRangeParser parser = new KoreanDateRangeParser();
+
+    static Stream<DateCase> expressions() {
+        return Stream.of(
+                // 상대 일
+                DateCase.of("오늘 일정 알려줘", "2026-03-11", "2026-03-11"),
+                DateCase.of("내일 회의", "2026-03-12", "2026-03-12"),
+                DateCase.of("모레 저녁 약속", "2026-03-13", "2026-03-13"),
+                DateCase.of("내일모레 출장", "2026-03-13", "2026-03-13"),
+                DateCase.of("어제 뭐 했지", "2026-03-10", "2026-03-10"),
+                // 주
+                DateCase.of("이번 주 일정", "2026-03-09", "2026-03-15"),
+                DateCase.of("다음 주에 뭐 있어", "2026-03-16", "2026-03-22"),
+                DateCase.of("담주 일정", "2026-03-16", "2026-03-22"),
+                DateCase.of("지난주는 바빴어", "2026-03-02", "2026-03-08"),
+                DateCase.of("다다음 주까지", "2026-03-23", "2026-03-29"),
+                DateCase.of("다음 주 화요일 회의", "2026-03-17", "2026-03-17"),
+                DateCase.of("이번 주말 약속", "2026-03-14", "2026-03-15"),
+                DateCase.of("주말에 뭐 해", "2026-03-14", "2026-03-15"),
+                // 달
+                DateCase.of("이번 달 일정", "2026-03-01", "2026-03-31"),
+                DateCase.of("다음 달에 여행", "2026-04-01", "2026-04-30"),
+                DateCase.of("지난달 회고", "2026-02-01", "2026-02-28"),
+                DateCase.of("이달의 일정", "2026-03-01", "2026-03-31"),
+                DateCase.of("4월 일정", "2026-04-01", "2026-04-30"),
+                // 명시적 날짜
+                DateCase.of("3월 15일 점심", "2026-03-15", "2026-03-15"),
+                DateCase.of("2026-04-02 발표", "2026-04-02", "2026-04-02"),
+                DateCase.of("2027년 1월 5일", "2027-01-05", "2027-01-05"),
+                DateCase.of("20일에 마감", "2026-03-20", "2026-03-20"),
+                // 기간
+                DateCase.of("3일 동안 휴가", "2026-03-11", "2026-03-14"),
+                DateCase.of("앞으로 2주", "2026-03-11", "2026-03-25"),
+                DateCase.of("2주 후 발표", "2026-03-25", "2026-03-25"),
+                // 요일, 여러 표현
+                DateCase.of("금요일 회식", "2026-03-13", "2026-03-13"),
+                DateCase.of("수요일 회의", "2026-03-11", "2026-03-11"),
+                DateCase.of("내일부터 금요일까지", "2026-03-12", "2026-03-13")
+        );
+    }
+
+    static Stream<String> lookAlikes() {
+        return Stream.of(
+                "이번 주제로 발표하자",
+                "다음 주문 확인해줘",
+                "다음 달력 디자인 보여줘",
+                "이번 달리기 대회 신청",
+                "상담 주제 정리해줘",
+                "주말농장 예약",
+                "지난 주소로 보내줘",
+                "회의록 정리해줘"
+        );
+    }
+
+    @DisplayName("자주 쓰는 날짜 표현을 기간으로 변환한다")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("expressions")
+    void parsesExpression(DateCase dateCase) {
+        KoreanDateRangeParser.ParseResult result = parser.parse(dateCase.message(), TODAY);
+
+        assertThat(result.confident()).isTrue();
+        assertThat(result.range()).isEqualTo(dateCase.expected());
+    }
+
+    @DisplayName("날짜처럼 보이는 다른 단어는 기간으로 변환하지 않는다")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lookAlikes")
+    void ignoresLookAlike(String message) {
+        KoreanDateRangeParser.ParseResult result = parser.parse(message, TODAY);
+
+        assertThat(result.range()).isNull();
+    }
+
+    // =============== private ===================
+
+    record DateCase(String message, DateRange expected) {
+
+        static DateCase of(String message, String start, String end) {
+            return new DateCase(message, new DateRange(
+                    LocalDate.parse(start).atStartOfDay(),
+                    LocalDate.parse(end).atTime(LocalTime.of(23, 59, 59))));
+        }
+
+        @Override
+        public String toString() {
+            return message;
+        }
+    }
+}
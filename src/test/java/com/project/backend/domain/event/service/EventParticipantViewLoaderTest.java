@@ -0,0 +1,158 @@
+package com.project.backend.domain.event.service;
+
+import com.project.backend.domain.event.converter.EventParticipantConverter;
+import com.project.backend.domain.event.dto.EventParticipantViewContext;
+import com.project.backend.domain.event.entity.Event;
+import com.project.backend.domain.event.entity.EventParticipant;
+import com.project.backend.domain.event.enums.InviteStatus;
+import com.project.backend.domain.event.repository.EventRepository;
+import com.project.backend.domain.friend.converter.FriendConverter;
+import com.project.backend.domain.member.entity.Member;
+import com.project.backend.domain.member.enums.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캘린더 목록 조회의 참여자 context 조회 쿼리 수가 이벤트 수와 관계없이 고정인지 검증 (H2)
+ */
+@DataJpaTest(properties = {
+        "SPRING_PROFILES_ACTIVE=test",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(EventParticipantViewLoader.class)
+class EventParticipantViewLoaderTest {
+
+    private static final int EVENT_COUNT = 10;
+    private static final int PARTICIPANT_COUNT = 3;
+
+    @Autowired
+    private EventParticipantViewLoader eventParticipantViewLoader;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Member owner;
+    private final List<Long> eventIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        owner = persist(member("owner"));
+        Member otherOwner = persist(member("other-owner"));
+
+        List<Member> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANT_COUNT; i++) {
+            Member participant = persist(member("participant-" + i));
+            participants.add(participant);
+            // 일부 참여자만 친구
+            if (i % 2 == 0) {
+                persist(FriendConverter.toFriend(owner, participant));
+            }
+        }
+
+        LocalDateTime start = LocalDateTime.of(2026, 3, 2, 9, 0);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            // 마지막 이벤트는 다른 회원 소유, owner는 참여자 (소유자가 아닌 경로)
+            Member eventOwner = i == EVENT_COUNT - 1 ? otherOwner : owner;
+            Event event = Event.createSingle(eventOwner, "event-" + i,
+                    start.plusDays(i), start.plusDays(i).plusHours(1), 60, false, null);
+            event.markAsShared();
+            persist(event);
+            eventIds.add(event.getId());
+
+            for (Member participant : participants) {
+                persist(EventParticipantConverter.toEventParticipant(
+                        event, participant, eventOwner, InviteStatus.ACCEPTED));
+            }
+            if (eventOwner != owner) {
+                persist(EventParticipantConverter.toEventParticipant(
+                        event, owner, eventOwner, InviteStatus.ACCEPTED));
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("이벤트 1개와 N개의 참여자 context 조회 쿼리 수가 같다")
+    @Test
+    void loadAllUsesSameStatementCountForOneAndManyEvents() {
+        long single = countStatements(eventIds.subList(0, 1));
+        long many = countStatements(eventIds);
+
+        // 참여자(회원 포함) 1회 + 친구 id 1회
+        assertThat(single).isEqualTo(2);
+        assertThat(many).isEqualTo(single);
+    }
+
+    @DisplayName("목록 조회 context는 이벤트별 참여자/소유 여부/친구 id를 구분한다")
+    @Test
+    void loadAllBuildsContextPerEvent() {
+        List<Event> events = eventRepository.findAllById(eventIds);
+
+        Map<Long, EventParticipantViewContext> contexts = eventParticipantViewLoader.loadAll(events, owner.getId());
+
+        assertThat(contexts).hasSize(EVENT_COUNT);
+        for (Event event : events) {
+            EventParticipantViewContext context = contexts.get(event.getId());
+            boolean owned = event.getMember().getId().equals(owner.getId());
+
+            assertThat(context.isOwner()).isEqualTo(owned);
+            assertThat(context.isAcceptedParticipant()).isEqualTo(!owned);
+            assertThat(context.participants()).hasSize(owned ? PARTICIPANT_COUNT : PARTICIPANT_COUNT + 1);
+            // 친구 id는 소유한 이벤트에서만 (짝수 번째 참여자만 친구)
+            assertThat(context.friendIdByMemberId()).hasSize(owned ? (PARTICIPANT_COUNT + 1) / 2 : 0);
+        }
+    }
+
+    // =============== private ===================
+
+    // 이벤트를 새로 조회한 뒤 loadAll과 결과 사용(참여자 회원 정보 접근)에 쓰인 prepared statement 수
+    private long countStatements(List<Long> ids) {
+        entityManager.clear();
+        List<Event> events = eventRepository.findAllById(ids);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Map<Long, EventParticipantViewContext> contexts = eventParticipantViewLoader.loadAll(events, owner.getId());
+        contexts.values().forEach(context -> context.participants().stream()
+                .map(EventParticipant::getMember)
+                .forEach(Member::getNickname));
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Member member(String name) {
+        return Member.builder()
+                .role(Role.ROLE_USER)
+                .nickname(name)
+                .email(name + "@test.com")
+                .build();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
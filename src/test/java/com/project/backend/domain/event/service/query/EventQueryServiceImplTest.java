@@ -0,0 +1,232 @@
+package com.project.backend.domain.event.service.query;
+
+import com.project.backend.domain.common.recurrence.enums.ExceptionType;
+import com.project.backend.domain.common.recurrence.enums.RecurrenceEndType;
+import com.project.backend.domain.common.recurrence.enums.RecurrenceFrequency;
+import com.project.backend.domain.event.converter.EventParticipantConverter;
+import com.project.backend.domain.event.converter.RecurrenceGroupConverter;
+import com.project.backend.domain.event.dto.response.EventResDTO;
+import com.project.backend.domain.event.entity.Event;
+import com.project.backend.domain.event.entity.RecurrenceException;
+import com.project.backend.domain.event.entity.RecurrenceGroup;
+import com.project.backend.domain.event.enums.InviteStatus;
+import com.project.backend.domain.event.factory.EndConditionFactory;
+import com.project.backend.domain.event.factory.GeneratorFactory;
+import com.project.backend.domain.event.service.EventOccurrenceResolver;
+import com.project.backend.domain.event.service.EventParticipantViewLoader;
+import com.project.backend.domain.event.strategy.endcondition.DefaultEndCondition;
+import com.project.backend.domain.event.strategy.endcondition.EndByCountCondition;
+import com.project.backend.domain.event.strategy.endcondition.EndByDateCondition;
+import com.project.backend.domain.event.strategy.endcondition.NeverEndCondition;
+import com.project.backend.domain.event.strategy.generator.DailyGenerator;
+import com.project.backend.domain.event.strategy.generator.DefaultGenerator;
+import com.project.backend.domain.event.strategy.generator.MonthlyGenerator;
+import com.project.backend.domain.event.strategy.generator.WeeklyGenerator;
+import com.project.backend.domain.event.strategy.generator.YearlyGenerator;
+import com.project.backend.domain.event.strategy.generator.monthlyrule.DayOfMonthRule;
+import com.project.backend.domain.event.strategy.generator.monthlyrule.DayOfWeekRule;
+import com.project.backend.domain.event.validator.EventValidator;
+import com.project.backend.domain.friend.converter.FriendConverter;
+import com.project.backend.domain.member.entity.Member;
+import com.project.backend.domain.member.enums.Role;
+import com.project.backend.domain.occurrence.cache.CalendarOccurrenceCache;
+import com.project.backend.domain.occurrence.service.OccurrenceExpansionEngine;
+import com.project.backend.global.recurrence.CompiledRecurrenceRuleCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 캘린더 목록 조회(getEvents)의 쿼리 수가 일정 수와 관계없이 고정인지 검증 (H2)
+ * - 단일 일정, 반복 일정(SKIP/OVERRIDE 예외 포함), 공유받은 반복 일정과 각 일정의 참여자를 회원별로 만든다.
+ * - 월 캐시는 항상 미스로 두어 DB에서 확장하는 경로를 검사한다.
+ */
+@DataJpaTest(properties = {
+        "SPRING_PROFILES_ACTIVE=test",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({
+        EventQueryServiceImpl.class,
+        EventParticipantViewLoader.class,
+        EventOccurrenceResolver.class,
+        EventValidator.class,
+        OccurrenceExpansionEngine.class,
+        CompiledRecurrenceRuleCache.class,
+        GeneratorFactory.class,
+        DefaultGenerator.class,
+        DailyGenerator.class,
+        WeeklyGenerator.class,
+        MonthlyGenerator.class,
+        DayOfMonthRule.class,
+        DayOfWeekRule.class,
+        YearlyGenerator.class,
+        EndConditionFactory.class,
+        DefaultEndCondition.class,
+        NeverEndCondition.class,
+        EndByDateCondition.class,
+        EndByCountCondition.class
+})
+class EventQueryServiceImplTest {
+
+    private static final int MANY = 10;
+    private static final int PARTICIPANT_COUNT = 3;
+    // 2026-03-02(월) 09:00부터 매주 월/수/금
+    private static final LocalDateTime ANCHOR = LocalDateTime.of(2026, 3, 2, 9, 0);
+    private static final LocalDate RANGE_START = LocalDate.of(2026, 3, 1);
+    private static final LocalDate RANGE_END = LocalDate.of(2026, 3, 31);
+
+    @Autowired
+    private EventQueryService eventQueryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private CalendarOccurrenceCache calendarOccurrenceCache;
+
+    private Member single;
+    private Member many;
+
+    @BeforeEach
+    void setUp() {
+        // 캐시 미스: 항상 loader로 DB에서 확장
+        given(calendarOccurrenceCache.getOrLoad(any(), any(), any(), any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+
+        single = persist(member("single"));
+        many = persist(member("many"));
+        seed(single, 1);
+        seed(many, MANY);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("일정 1개와 N개의 목록 조회 쿼리 수가 같다 (참여자, 반복 그룹, 반복 예외 포함)")
+    @Test
+    void getEventsUsesSameStatementCountForOneAndManyEvents() {
+        long one = countStatements(single);
+        long n = countStatements(many);
+
+        assertThat(n).isEqualTo(one);
+    }
+
+    @DisplayName("목록 조회 결과에 반복 예외와 참여자가 반영된다")
+    @Test
+    void getEventsAppliesExceptionsAndParticipants() {
+        List<EventResDTO.DetailRes> details = eventQueryService.getEvents(single.getId(), RANGE_START, RANGE_END).details();
+
+        // SKIP된 3/4는 빠지고, OVERRIDE된 3/6은 이동된 시간과 제목으로 나온다
+        assertThat(details)
+                .noneMatch(detail -> detail.start().equals(ANCHOR.plusDays(2)));
+        assertThat(details)
+                .filteredOn(detail -> "moved".equals(detail.title()))
+                .extracting(EventResDTO.DetailRes::start)
+                .containsOnly(ANCHOR.plusDays(4).withHour(15));
+        assertThat(details)
+                .allMatch(detail -> !detail.eventParticipantInfo().isEmpty());
+    }
+
+    // =============== private ===================
+
+    // 새 영속성 컨텍스트에서 getEvents 한 번에 쓰인 prepared statement 수
+    private long countStatements(Member member) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        EventResDTO.EventsListRes result = eventQueryService.getEvents(member.getId(), RANGE_START, RANGE_END);
+        assertThat(result.details()).isNotEmpty();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 회원마다 count개씩: 단일 일정, 반복 일정, 다른 회원 소유의 공유받은 반복 일정 (모두 참여자 포함)
+    private void seed(Member member, int count) {
+        Member otherOwner = persist(member(member.getNickname() + "-other-owner"));
+        List<Member> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANT_COUNT; i++) {
+            Member participant = persist(member(member.getNickname() + "-participant-" + i));
+            participants.add(participant);
+            if (i % 2 == 0) {
+                persist(FriendConverter.toFriend(member, participant));
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            Event singleEvent = persist(Event.createSingle(member, "single-" + i,
+                    ANCHOR.plusHours(i), ANCHOR.plusHours(i + 1), 60, false, null));
+            share(singleEvent, member, participants);
+
+            Event recurring = recurring(member, "recurring-" + i);
+            share(recurring, member, participants);
+
+            Event shared = recurring(otherOwner, "shared-" + i);
+            share(shared, otherOwner, participants);
+            persist(EventParticipantConverter.toEventParticipant(shared, member, otherOwner, InviteStatus.ACCEPTED));
+        }
+    }
+
+    // 매주 월/수/금 반복 일정 (3/4 SKIP, 3/6 09:00 → 15:00 OVERRIDE)
+    private Event recurring(Member owner, String title) {
+        RecurrenceGroup rg = persist(RecurrenceGroup.create(owner, RecurrenceFrequency.WEEKLY, 1,
+                "MONDAY,WEDNESDAY,FRIDAY", null, null, null, null, null,
+                RecurrenceEndType.NEVER, null, null, 0));
+        Event event = Event.createRecurring(owner, title, ANCHOR, ANCHOR.plusHours(1), 60, false,
+                RecurrenceFrequency.WEEKLY, rg, null);
+        rg.attachEvent(event);
+        persist(event);
+
+        persist(RecurrenceGroupConverter.toRecurrenceExceptionForDelete(rg, ANCHOR.plusDays(2)));
+        persist(RecurrenceException.builder()
+                .exceptionDate(ANCHOR.plusDays(4))
+                .exceptionType(ExceptionType.OVERRIDE)
+                .title("moved")
+                .startTime(ANCHOR.plusDays(4).withHour(15))
+                .endTime(ANCHOR.plusDays(4).withHour(16))
+                .recurrenceGroup(rg)
+                .build());
+        return event;
+    }
+
+    private void share(Event event, Member owner, List<Member> participants) {
+        event.markAsShared();
+        for (Member participant : participants) {
+            persist(EventParticipantConverter.toEventParticipant(event, participant, owner, InviteStatus.ACCEPTED));
+        }
+    }
+
+    private Member member(String name) {
+        return Member.builder()
+                .role(Role.ROLE_USER)
+                .nickname(name)
+                .email(name + "@test.com")
+                .build();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,224 @@
+package com.project.backend.domain.event.strategy.generator;
+
+import com.project.backend.domain.common.recurrence.enums.MonthlyType;
+import com.project.backend.domain.common.recurrence.enums.RecurrenceEndType;
+import com.project.backend.domain.common.recurrence.enums.RecurrenceFrequency;
+import com.project.backend.domain.event.entity.RecurrenceGroup;
+import com.project.backend.domain.event.factory.GeneratorFactory;
+import com.project.backend.domain.event.strategy.endcondition.EndByCountCondition;
+import com.project.backend.domain.event.strategy.endcondition.EndByDateCondition;
+import com.project.backend.domain.event.strategy.endcondition.EndCondition;
+import com.project.backend.domain.event.strategy.generator.monthlyrule.DayOfMonthRule;
+import com.project.backend.domain.event.strategy.generator.monthlyrule.DayOfWeekRule;
+import com.project.backend.global.recurrence.CompiledRecurrenceRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Generator.seek()의 산술 계산이 next()를 순차 호출한 결과와 같은지 검증
+ * - 반복 시간뿐 아니라 몇 번째 반복인지(count)도 같아야 END_BY_COUNT가 올바르게 적용된다.
+ * - 각 반복 시간과 그 전후(1분 전/후, 당일 0시/23:59, 하루 전)를 target으로 사용한다.
+ */
+class GeneratorSeekTest {
+
+    private static final int SEQUENCE_LENGTH = 300;
+    private static final int OCCURRENCE_COUNT = 25;
+
+    private final GeneratorFactory generatorFactory = new GeneratorFactory(
+            new DefaultGenerator(),
+            new DailyGenerator(),
+            new WeeklyGenerator(),
+            new MonthlyGenerator(new DayOfMonthRule(), new DayOfWeekRule()),
+            new YearlyGenerator()
+    );
+
+    static Stream<RuleCase> rules() {
+        return Stream.of(
+                // DAILY
+                RuleCase.daily("매일", 1, LocalDateTime.of(2024, 1, 1, 9, 0)),
+                RuleCase.daily("3일마다", 3, LocalDateTime.of(2024, 1, 31, 9, 30)),
+                // WEEKLY
+                RuleCase.weekly("매주 월/수/금", 1, "MONDAY,WEDNESDAY,FRIDAY", LocalDateTime.of(2024, 1, 3, 9, 0)),
+                RuleCase.weekly("2주마다 화", 2, "TUESDAY", LocalDateTime.of(2024, 1, 2, 9, 0)),
+                RuleCase.weekly("매주 토/일, 목요일 시작", 1, "SATURDAY,SUNDAY", LocalDateTime.of(2024, 1, 4, 22, 0)),
+                RuleCase.weekly("매주 요일 없음", 1, null, LocalDateTime.of(2024, 1, 31, 9, 30)),
+                // MONTHLY - DAY_OF_MONTH
+                RuleCase.dayOfMonth("매월 1/15/31일", 1, "1,15,31", LocalDateTime.of(2024, 1, 1, 9, 0)),
+                RuleCase.dayOfMonth("매월 29/30/31일", 1, "29,30,31", LocalDateTime.of(2024, 1, 29, 9, 0)),
+                RuleCase.dayOfMonth("2달마다 31일", 2, "31", LocalDateTime.of(2024, 1, 31, 9, 30)),
+                RuleCase.dayOfMonth("3달마다 30일", 3, "30", LocalDateTime.of(2023, 11, 30, 8, 0)),
+                RuleCase.dayOfMonth("매월 5/20일, 10일 시작", 1, "5,20", LocalDateTime.of(2024, 1, 10, 9, 0)),
+                RuleCase.dayOfMonth("매월 일자 없음, 31일 시작", 1, null, LocalDateTime.of(2024, 1, 31, 9, 30)),
+                // MONTHLY - DAY_OF_WEEK
+                RuleCase.dayOfWeek("매월 2번째 화/목", 1, 2, "TUESDAY,THURSDAY", LocalDateTime.of(2024, 1, 4, 9, 0)),
+                RuleCase.dayOfWeek("매월 5번째 금", 1, 5, "FRIDAY", LocalDateTime.of(2024, 3, 29, 9, 0)),
+                RuleCase.dayOfWeek("2달마다 5번째 토/일", 2, 5, "SATURDAY,SUNDAY", LocalDateTime.of(2024, 3, 16, 9, 0)),
+                RuleCase.dayOfWeek("3달마다 1번째 월", 3, 1, "MONDAY", LocalDateTime.of(2024, 1, 1, 9, 0)),
+                // YEARLY
+                RuleCase.yearly("매년 3월 10/20일", 1, "10,20", 3, LocalDateTime.of(2024, 3, 10, 9, 0)),
+                RuleCase.yearly("2년마다 3월 10/20일, 1월 시작", 2, "10,20", 3, LocalDateTime.of(2024, 1, 15, 9, 0)),
+                RuleCase.yearly("3년마다 12월 25/31일", 3, "25,31", 12, LocalDateTime.of(2023, 12, 25, 0, 0)),
+                RuleCase.yearly("매년 2월 29일 시작 (할 일)", 1, null, null, LocalDateTime.of(2024, 2, 29, 9, 0)),
+                RuleCase.yearly("4년마다 2월 29일 시작 (할 일)", 4, null, null, LocalDateTime.of(2024, 2, 29, 9, 0)),
+                RuleCase.yearly("2년마다 (할 일)", 2, null, null, LocalDateTime.of(2024, 3, 15, 18, 0))
+        );
+    }
+
+    @DisplayName("seek은 next()를 순차 호출해 찾은 반복 시간/횟수와 같다")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("rules")
+    void seekMatchesSequentialNext(RuleCase ruleCase) {
+        CompiledRecurrenceRule rule = ruleCase.compile(RecurrenceEndType.NEVER, null, null);
+        Generator generator = generatorFactory.getGenerator(rule);
+        List<LocalDateTime> sequence = sequence(generator, rule, ruleCase.anchor());
+
+        for (LocalDateTime target : targets(ruleCase.anchor(), sequence)) {
+            int index = firstIndexNotBefore(sequence, target);
+            SeekResult result = generator.seek(ruleCase.anchor(), target, rule);
+
+            assertThat(result.time()).as("target %s", target).isEqualTo(sequence.get(index));
+            assertThat(result.count()).as("target %s", target).isEqualTo(index + 1);
+        }
+    }
+
+    @DisplayName("END_BY_COUNT: seek 결과는 occurrenceCount번째 반복까지만 포함된다")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("rules")
+    void seekRespectsEndByCount(RuleCase ruleCase) {
+        CompiledRecurrenceRule rule = ruleCase.compile(RecurrenceEndType.END_BY_COUNT, null, OCCURRENCE_COUNT);
+        Generator generator = generatorFactory.getGenerator(rule);
+        EndCondition endCondition = new EndByCountCondition();
+        List<LocalDateTime> sequence = sequence(generator, rule, ruleCase.anchor());
+
+        for (LocalDateTime target : targets(ruleCase.anchor(), sequence)) {
+            int index = firstIndexNotBefore(sequence, target);
+            SeekResult result = generator.seek(ruleCase.anchor(), target, rule);
+
+            assertThat(endCondition.includes(result.time(), result.count(), rule))
+                    .as("target %s", target)
+                    .isEqualTo(index < OCCURRENCE_COUNT);
+        }
+    }
+
+    @DisplayName("END_BY_DATE: seek 결과는 종료일까지만 포함된다")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("rules")
+    void seekRespectsEndByDate(RuleCase ruleCase) {
+        CompiledRecurrenceRule unbounded = ruleCase.compile(RecurrenceEndType.NEVER, null, null);
+        Generator generator = generatorFactory.getGenerator(unbounded);
+        List<LocalDateTime> sequence = sequence(generator, unbounded, ruleCase.anchor());
+
+        // 종료일 = OCCURRENCE_COUNT번째 반복 날짜
+        LocalDate endDate = sequence.get(OCCURRENCE_COUNT - 1).toLocalDate();
+        CompiledRecurrenceRule rule = ruleCase.compile(RecurrenceEndType.END_BY_DATE, endDate, null);
+        EndCondition endCondition = new EndByDateCondition();
+
+        for (LocalDateTime target : targets(ruleCase.anchor(), sequence)) {
+            int index = firstIndexNotBefore(sequence, target);
+            SeekResult result = generator.seek(ruleCase.anchor(), target, rule);
+
+            assertThat(endCondition.includes(result.time(), result.count(), rule))
+                    .as("target %s", target)
+                    .isEqualTo(!sequence.get(index).toLocalDate().isAfter(endDate));
+        }
+    }
+
+    // =============== private ===================
+
+    private static List<LocalDateTime> sequence(Generator generator, CompiledRecurrenceRule rule, LocalDateTime anchor) {
+        List<LocalDateTime> sequence = new ArrayList<>();
+        LocalDateTime current = anchor;
+        for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+            sequence.add(current);
+            current = generator.next(current, rule);
+        }
+        return sequence;
+    }
+
+    // 반복 시간과 그 주변 시간 (마지막 반복 이후는 기대값을 알 수 없으므로 제외)
+    private static List<LocalDateTime> targets(LocalDateTime anchor, List<LocalDateTime> sequence) {
+        LocalDateTime last = sequence.get(sequence.size() - 1);
+        List<LocalDateTime> targets = new ArrayList<>();
+        targets.add(anchor.minusDays(1));
+        for (LocalDateTime occurrence : sequence) {
+            targets.add(occurrence);
+            targets.add(occurrence.minusMinutes(1));
+            targets.add(occurrence.plusMinutes(1));
+            targets.add(occurrence.toLocalDate().atStartOfDay());
+            targets.add(occurrence.toLocalDate().atTime(23, 59));
+            targets.add(occurrence.minusDays(1));
+        }
+        return targets.stream()
+                .filter(target -> !target.isAfter(last))
+                .toList();
+    }
+
+    private static int firstIndexNotBefore(List<LocalDateTime> sequence, LocalDateTime target) {
+        int index = 0;
+        while (sequence.get(index).isBefore(target)) {
+            index++;
+        }
+        return index;
+    }
+
+    record RuleCase(
+            String name,
+            RecurrenceFrequency frequency,
+            int interval,
+            String daysOfWeek,
+            MonthlyType monthlyType,
+            String daysOfMonth,
+            Integer weekOfMonth,
+            String dayOfWeekInMonth,
+            Integer monthOfYear,
+            LocalDateTime anchor
+    ) {
+
+        static RuleCase daily(String name, int interval, LocalDateTime anchor) {
+            return new RuleCase(name, RecurrenceFrequency.DAILY, interval,
+                    null, null, null, null, null, null, anchor);
+        }
+
+        static RuleCase weekly(String name, int interval, String daysOfWeek, LocalDateTime anchor) {
+            return new RuleCase(name, RecurrenceFrequency.WEEKLY, interval,
+                    daysOfWeek, null, null, null, null, null, anchor);
+        }
+
+        static RuleCase dayOfMonth(String name, int interval, String daysOfMonth, LocalDateTime anchor) {
+            return new RuleCase(name, RecurrenceFrequency.MONTHLY, interval,
+                    null, MonthlyType.DAY_OF_MONTH, daysOfMonth, null, null, null, anchor);
+        }
+
+        static RuleCase dayOfWeek(String name, int interval, int weekOfMonth, String dayOfWeekInMonth,
+                                  LocalDateTime anchor) {
+            return new RuleCase(name, RecurrenceFrequency.MONTHLY, interval,
+                    null, MonthlyType.DAY_OF_WEEK, null, weekOfMonth, dayOfWeekInMonth, null, anchor);
+        }
+
+        static RuleCase yearly(String name, int interval, String daysOfMonth, Integer monthOfYear,
+                               LocalDateTime anchor) {
+            return new RuleCase(name, RecurrenceFrequency.YEARLY, interval,
+                    null, null, daysOfMonth, null, null, monthOfYear, anchor);
+        }
+
+        CompiledRecurrenceRule compile(RecurrenceEndType endType, LocalDate endDate, Integer occurrenceCount) {
+            return CompiledRecurrenceRule.compile(RecurrenceGroup.create(
+                    null, frequency, interval, daysOfWeek, monthlyType, daysOfMonth,
+                    weekOfMonth, dayOfWeekInMonth, monthOfYear, endType, endDate, occurrenceCount, 0));
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.project.backend.domain.nlp.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유사 입력 캐시 후보 필터(timeTokens) 검증
+ * - 임베딩이 거의 같아도 시간 표현이 다르면 다른 파싱 결과이므로 후보에서 제외되어야 한다.
+ */
+class NlpParseCacheTest {
+
+    @DisplayName("시간 표현이 다른 입력은 유사 입력 후보가 아니다")
+    @ParameterizedTest(name = "{0} / {1}")
+    @CsvSource({
+            "내일 회의, 모레 회의",
+            "어제 회의, 오늘 회의",
+            "월요일 회의, 화요일 회의",
+            "오전 10시 회의, 오후 10시 회의",
+            "아침 운동, 저녁 운동",
+            "다음 주 회의, 이번 주 회의",
+            "다음 달 여행, 지난달 여행",
+            "3시 회의, 4시 회의",
+            "3시 회의, 3일 회의",
+            "3시 회의, 3시 반 회의",
+            "내년 계획, 올해 계획",
+            "회의 잡아줘, 내일 회의 잡아줘"
+    })
+    void differentTimeExpressions(String first, String second) {
+        assertThat(NlpParseCache.timeTokens(first)).isNotEqualTo(NlpParseCache.timeTokens(second));
+    }
+
+    @DisplayName("시간 표현이 같은 입력은 유사 입력 후보다")
+    @ParameterizedTest(name = "{0} / {1}")
+    @CsvSource({
+            "내일 회의 잡아줘, 내일 회의 좀 잡아줘",
+            "다음 주 월요일 오후 3시 팀 회의, 다음주 월요일 오후 3 시에 팀 미팅",
+            "3시 반 회의, 3시반에 회의",
+            "치과 예약, 치과 예약해줘"
+    })
+    void sameTimeExpressions(String first, String second) {
+        assertThat(NlpParseCache.timeTokens(first)).isEqualTo(NlpParseCache.timeTokens(second));
+    }
+}
@@ -0,0 +1,191 @@
+package com.project.backend.domain.occurrence.listener;
+
+import com.project.backend.domain.common.recurrence.enums.RecurrenceEndType;
+import com.project.backend.domain.common.recurrence.enums.RecurrenceFrequency;
+import com.project.backend.domain.event.entity.Event;
+import com.project.backend.domain.event.entity.RecurrenceGroup;
+import com.project.backend.domain.event.factory.EndConditionFactory;
+import com.project.backend.domain.event.factory.GeneratorFactory;
+import com.project.backend.domain.event.repository.EventRepository;
+import com.project.backend.domain.event.repository.RecurrenceGroupRepository;
+import com.project.backend.domain.event.strategy.endcondition.DefaultEndCondition;
+import com.project.backend.domain.event.strategy.endcondition.EndByCountCondition;
+import com.project.backend.domain.event.strategy.endcondition.EndByDateCondition;
+import com.project.backend.domain.event.strategy.endcondition.NeverEndCondition;
+import com.project.backend.domain.event.strategy.generator.DailyGenerator;
+import com.project.backend.domain.event.strategy.generator.DefaultGenerator;
+import com.project.backend.domain.event.strategy.generator.MonthlyGenerator;
+import com.project.backend.domain.event.strategy.generator.WeeklyGenerator;
+import com.project.backend.domain.event.strategy.generator.YearlyGenerator;
+import com.project.backend.domain.event.strategy.generator.monthlyrule.DayOfMonthRule;
+import com.project.backend.domain.event.strategy.generator.monthlyrule.DayOfWeekRule;
+import com.project.backend.domain.member.entity.Member;
+import com.project.backend.domain.member.enums.Role;
+import com.project.backend.domain.occurrence.service.OccurrenceExpansionEngine;
+import com.project.backend.domain.todo.entity.Todo;
+import com.project.backend.domain.todo.entity.TodoRecurrenceGroup;
+import com.project.backend.domain.todo.enums.Priority;
+import com.project.backend.domain.todo.enums.TodoColor;
+import com.project.backend.domain.todo.repository.TodoRecurrenceGroupRepository;
+import com.project.backend.domain.todo.repository.TodoRepository;
+import com.project.backend.global.recurrence.CompiledRecurrenceRuleCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모객체의 시작 시간을 수정하면 반복 범위(firstStart, lastOccurrenceDate)가 함께 갱신되어
+ * 범위 조회에서 수정된 반복이 빠지지 않는지 검증 (H2)
+ * - 2026-01-05(월)부터 매주 월요일 3회 반복을 2026-03-02(월) 시작으로 옮긴 뒤 3월 범위를 조회한다.
+ */
+@DataJpaTest(properties = "SPRING_PROFILES_ACTIVE=test")
+@Import({
+        OccurrenceExpansionEngine.class,
+        CompiledRecurrenceRuleCache.class,
+        GeneratorFactory.class,
+        DefaultGenerator.class,
+        DailyGenerator.class,
+        WeeklyGenerator.class,
+        MonthlyGenerator.class,
+        DayOfMonthRule.class,
+        DayOfWeekRule.class,
+        YearlyGenerator.class,
+        EndConditionFactory.class,
+        DefaultEndCondition.class,
+        NeverEndCondition.class,
+        EndByDateCondition.class,
+        EndByCountCondition.class
+})
+class RecurrenceHorizonListenerTest {
+
+    private static final LocalDateTime ORIGINAL_START = LocalDateTime.of(2026, 1, 5, 9, 0);
+    private static final LocalDateTime MOVED_START = LocalDateTime.of(2026, 3, 2, 9, 0);
+    private static final LocalDate RANGE_START = LocalDate.of(2026, 3, 1);
+    private static final LocalDate RANGE_END = LocalDate.of(2026, 3, 31);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RecurrenceGroupRepository recurrenceGroupRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoRecurrenceGroupRepository todoRecurrenceGroupRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.builder()
+                .role(Role.ROLE_USER)
+                .nickname("member")
+                .email("member@test.com")
+                .build();
+        entityManager.persist(member);
+    }
+
+    @DisplayName("반복 일정의 시작 시간을 update로 옮기면 옮긴 범위에서 조회된다")
+    @Test
+    void eventUpdateResyncsHorizon() {
+        Long eventId = persistRecurringEvent();
+
+        Event event = eventRepository.findById(eventId).orElseThrow();
+        event.update(null, null, MOVED_START, null, null, null, null, null);
+        flushAndClear();
+
+        assertEventInMarch(eventId);
+    }
+
+    @DisplayName("반복 일정의 시작 시간을 updateTime으로 옮기면 옮긴 범위에서 조회된다")
+    @Test
+    void eventUpdateTimeResyncsHorizon() {
+        Long eventId = persistRecurringEvent();
+
+        Event event = eventRepository.findById(eventId).orElseThrow();
+        event.updateTime(MOVED_START, MOVED_START.plusHours(1));
+        flushAndClear();
+
+        assertEventInMarch(eventId);
+    }
+
+    @DisplayName("반복 할 일의 시작일을 옮기면 옮긴 범위에서 조회된다")
+    @Test
+    void todoUpdateResyncsHorizon() {
+        TodoRecurrenceGroup trg = TodoRecurrenceGroup.create(member, RecurrenceFrequency.WEEKLY, 1,
+                "MONDAY", null, null, null, null, RecurrenceEndType.END_BY_COUNT, null, 3);
+        entityManager.persist(trg);
+        Todo todo = Todo.createRecurring(member, "todo", ORIGINAL_START.toLocalDate(), ORIGINAL_START.toLocalTime(),
+                false, Priority.MEDIUM, TodoColor.BLUE, null, trg);
+        trg.setTodo(todo);
+        entityManager.persist(todo);
+        flushAndClear();
+
+        Todo loaded = todoRepository.findById(todo.getId()).orElseThrow();
+        loaded.update(null, MOVED_START.toLocalDate(), MOVED_START.toLocalTime(), null, null, null, null);
+        flushAndClear();
+
+        TodoRecurrenceGroup updated = todoRecurrenceGroupRepository.findById(trg.getId()).orElseThrow();
+        assertThat(updated.getFirstStart()).isEqualTo(MOVED_START);
+        assertThat(updated.getLastOccurrenceDate()).isEqualTo(LocalDate.of(2026, 3, 16));
+        assertThat(todoRepository.findRecurringInRange(
+                member.getId(), RANGE_START, RANGE_END.plusDays(1).atStartOfDay()))
+                .extracting(Todo::getId)
+                .containsExactly(todo.getId());
+    }
+
+    // =============== private ===================
+
+    // 2026-01-05(월) 09:00부터 매주 월요일 3회
+    private Long persistRecurringEvent() {
+        RecurrenceGroup rg = RecurrenceGroup.create(member, RecurrenceFrequency.WEEKLY, 1,
+                "MONDAY", null, null, null, null, null,
+                RecurrenceEndType.END_BY_COUNT, null, 3, 0);
+        entityManager.persist(rg);
+        Event event = Event.createRecurring(member, "event", ORIGINAL_START, ORIGINAL_START.plusHours(1), 60, false,
+                RecurrenceFrequency.WEEKLY, rg, null);
+        rg.attachEvent(event);
+        entityManager.persist(event);
+        flushAndClear();
+
+        // 수정 전에는 3월 범위에서 제외됨
+        assertThat(findActiveInMarch()).isEmpty();
+        return event.getId();
+    }
+
+    private void assertEventInMarch(Long eventId) {
+        assertThat(findActiveInMarch())
+                .singleElement()
+                .satisfies(rg -> {
+                    assertThat(rg.getEvent().getId()).isEqualTo(eventId);
+                    assertThat(rg.getFirstStart()).isEqualTo(MOVED_START);
+                    assertThat(rg.getLastOccurrenceDate()).isEqualTo(LocalDate.of(2026, 3, 16));
+                });
+    }
+
+    private List<RecurrenceGroup> findActiveInMarch() {
+        return recurrenceGroupRepository.findActiveRecurrenceGroups(
+                member.getId(), RANGE_START, RANGE_END.atTime(LocalTime.MAX));
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}